@@ -13,6 +13,7 @@ import com.daimler.sechub.adapter.AdapterProfiles;
 import com.daimler.sechub.adapter.AdapterRuntimeContext;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxFullScanNecessaryException;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthTokenCache;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxProjectSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxScanReportSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxScanSupport;
@@ -33,6 +34,9 @@ public class CheckmarxAdapterV1 extends AbstractAdapter<CheckmarxAdapterContext,
 
     private static final Logger LOG = LoggerFactory.getLogger(CheckmarxAdapterV1.class);
 
+    /* token cache is shared by all executions of this adapter */
+    private CheckmarxOAuthSupport oAuthSupport = new CheckmarxOAuthSupport(new CheckmarxOAuthTokenCache());
+
     @Override
     public String execute(CheckmarxAdapterConfig config, AdapterRuntimeContext runtimeContext) throws AdapterException {
         try {
@@ -40,8 +44,7 @@ public class CheckmarxAdapterV1 extends AbstractAdapter<CheckmarxAdapterContext,
 
             CheckmarxContext context = new CheckmarxContext(config, this, runtimeContext);
             context.setFullScan(context.isNewProject() || config.isAlwaysFullScanEnabled());
-            CheckmarxOAuthSupport support = new CheckmarxOAuthSupport();
-            support.loginAndGetOAuthToken(context);
+            oAuthSupport.loginAndGetOAuthToken(context);
 
             assertNotInterrupted();
             /* ensure project and get project context */
@@ -5,10 +5,14 @@ import java.io.IOException;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport;
+
 public class CheckmarxClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
 
 	private CheckmarxContext context;
@@ -20,13 +24,36 @@ public class CheckmarxClientHttpRequestInterceptor implements ClientHttpRequestI
 	@Override
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 			throws IOException {
-		if (context.isOAuthenticated()) {
-			/* login done ...*/
-			HttpHeaders headers = request.getHeaders();
-			headers.remove("Authorization");
-			headers.add("Authorization", context.getAuthorizationHeaderValue());
+		if (!context.isOAuthenticated() || isTokenRequest(request)) {
+			return execution.execute(request, body);
+		}
+		/* login done ...*/
+		setAuthorizationHeader(request);
+		ClientHttpResponse response = execution.execute(request, body);
+		if (response.getRawStatusCode() != HttpStatus.UNAUTHORIZED.value()) {
+			return response;
 		}
+		/* token rejected (e.g. expired or revoked) - so login again and retry one time */
+		response.close();
+		try {
+			if (!context.reauthenticate()) {
+				return execution.execute(request, body);
+			}
+		} catch (AdapterException e) {
+			throw new IOException("Re-authentication at checkmarx failed", e);
+		}
+		setAuthorizationHeader(request);
 		return execution.execute(request, body);
 	}
 
+	private boolean isTokenRequest(HttpRequest request) {
+		return request.getURI().getPath().endsWith(CheckmarxOAuthSupport.TOKEN_API_PATH);
+	}
+
+	private void setAuthorizationHeader(HttpRequest request) {
+		HttpHeaders headers = request.getHeaders();
+		headers.remove("Authorization");
+		headers.add("Authorization", context.getAuthorizationHeaderValue());
+	}
+
 }
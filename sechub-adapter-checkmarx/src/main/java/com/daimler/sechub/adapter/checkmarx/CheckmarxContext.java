@@ -4,7 +4,9 @@ package com.daimler.sechub.adapter.checkmarx;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 
 import com.daimler.sechub.adapter.AbstractSpringRestAdapterContext;
+import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.AdapterRuntimeContext;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
 import com.daimler.sechub.adapter.checkmarx.support.QueueDetails;
 import com.daimler.sechub.adapter.checkmarx.support.ReportDetails;
@@ -19,6 +21,7 @@ import com.daimler.sechub.adapter.checkmarx.support.ScanDetails;
 public class CheckmarxContext extends AbstractSpringRestAdapterContext<CheckmarxAdapterConfig, CheckmarxAdapter> implements CheckmarxAdapterContext {
 
     private CheckmarxOAuthData oAuthData;
+    private CheckmarxOAuthSupport oAuthSupport;
     private CheckmarxSessionData sessionData;
     private QueueDetails queueDetails;
     private ScanDetails scanDetails;
@@ -64,6 +67,29 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
         this.oAuthData = data;
     }
 
+    public CheckmarxOAuthData getOAuthDataOrNull() {
+        return oAuthData;
+    }
+
+    public void setOAuthSupport(CheckmarxOAuthSupport oAuthSupport) {
+        this.oAuthSupport = oAuthSupport;
+    }
+
+    /**
+     * Does a new login - necessary when current token was rejected by checkmarx
+     * 
+     * @return <code>true</code> when login was done, <code>false</code> when not
+     *         possible because context was never authenticated
+     * @throws AdapterException
+     */
+    public boolean reauthenticate() throws AdapterException {
+        if (oAuthSupport == null) {
+            return false;
+        }
+        oAuthSupport.reauthenticate(this);
+        return true;
+    }
+
     public boolean isIncrementalScan() {
         return !fullScan;
     }
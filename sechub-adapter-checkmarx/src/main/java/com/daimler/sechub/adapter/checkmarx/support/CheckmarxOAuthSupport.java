@@ -14,18 +14,75 @@ import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxContext;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport.Access;
+import com.daimler.sechub.adapter.support.MessageDigestSupport;
 
 // https://checkmarx.atlassian.net/wiki/spaces/KC/pages/202506366/Token-based+Authentication+v8.6.0+and+up
 // having version 8.8.0 at installation we use the token base auth and no cookie approach
 public class CheckmarxOAuthSupport {
 
+	public static final String TOKEN_API_PATH = "auth/identity/connect/token";
+
+	private static final String CLIENT_ID = "resource_owner_client";
+
+	private CheckmarxOAuthTokenCache tokenCache;
+	private MessageDigestSupport messageDigestSupport = new MessageDigestSupport();
+
+	/**
+	 * Creates support without token cache - every call does a login
+	 */
+	public CheckmarxOAuthSupport() {
+		this(null);
+	}
+
+	/**
+	 * Creates support using given token cache - so tokens are reused as long as
+	 * they are valid
+	 * 
+	 * @param tokenCache cache to use or <code>null</code>
+	 */
+	public CheckmarxOAuthSupport(CheckmarxOAuthTokenCache tokenCache) {
+		this.tokenCache = tokenCache;
+	}
+
 	public void loginAndGetOAuthToken(CheckmarxContext context) throws AdapterException {
+		CheckmarxOAuthData data = null;
+		if (tokenCache == null) {
+			data = login(context);
+		} else {
+			data = tokenCache.getToken(createCacheKey(context.getConfig()), () -> login(context));
+		}
+		context.setOAuthSupport(this);
+		context.markAuthenticated(data);
+	}
+
+	/**
+	 * Current token of context was rejected - so remove it from cache and login
+	 * again
+	 * 
+	 * @param context
+	 * @throws AdapterException
+	 */
+	public void reauthenticate(CheckmarxContext context) throws AdapterException {
+		CheckmarxOAuthData rejected = context.getOAuthDataOrNull();
+		if (tokenCache != null && rejected != null) {
+			tokenCache.invalidate(createCacheKey(context.getConfig()), rejected);
+		}
+		loginAndGetOAuthToken(context);
+	}
+
+	String createCacheKey(CheckmarxAdapterConfig config) {
+		/* password and secret are only contained as hash */
+		String secretHash = messageDigestSupport.createMD5(config.getPasswordOrAPIToken() + ":" + config.getClientSecret());
+		return config.getProductBaseURL() + "|" + config.getUser() + "|" + CLIENT_ID + "|" + secretHash;
+	}
+
+	private CheckmarxOAuthData login(CheckmarxContext context) throws AdapterException {
 		CheckmarxAdapterConfig config = context.getConfig();
 
 		// example:
 		// CxRestAPI/projects?projectId=myProject&teamId=00000000-1111-1111-b111-989c9070eb11
 
-		String url = context.getAPIURL("auth/identity/connect/token");
+		String url = context.getAPIURL(TOKEN_API_PATH);
 
 		RestOperations restTemplate = context.getRestOperations();
 		HttpHeaders headers = new HttpHeaders();
@@ -36,7 +93,7 @@ public class CheckmarxOAuthSupport {
 		map.add("password", config.getPasswordOrAPIToken());
 		map.add("grant_type", "password");
 		map.add("scope", "sast_rest_api");
-		map.add("client_id", "resource_owner_client");
+		map.add("client_id", CLIENT_ID);
 		map.add("client_secret", config.getClientSecret()); 
 
 		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(map, headers);
@@ -46,9 +103,7 @@ public class CheckmarxOAuthSupport {
 		ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
 
 		String json = response.getBody();
-		CheckmarxOAuthData data = extractFromJson(context.json(), json);
-
-		context.markAuthenticated(data);
+		return extractFromJson(context.json(), json);
 	}
 
 	CheckmarxOAuthData extractFromJson(JSONAdapterSupport support, String json)
@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.checkmarx.support;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
+
+/**
+ * Cache for checkmarx OAuth tokens, so tokens can be reused by all adapter
+ * executions for same checkmarx server and user until shortly before expiry.
+ * Tokens near to expiry are refreshed in background. For one key there is
+ * always only one login running at the same time (single flight).
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class CheckmarxOAuthTokenCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckmarxOAuthTokenCache.class);
+
+    /* tokens are not used when they expire within this time */
+    static final long EXPIRY_SAFETY_MILLISECONDS = 30 * 1000;
+
+    /* refresh starts when this percentage of token lifetime is over */
+    static final int REFRESH_AFTER_LIFETIME_PERCENTAGE = 80;
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CheckmarxOAuthData>> logins = new ConcurrentHashMap<>();
+    private final Executor backgroundExecutor;
+
+    /**
+     * Loads a new token - normally a login at checkmarx server
+     */
+    public interface CheckmarxOAuthTokenLoader {
+        public CheckmarxOAuthData load() throws AdapterException;
+    }
+
+    public CheckmarxOAuthTokenCache() {
+        this(Executors.newCachedThreadPool(new RefreshThreadFactory()));
+    }
+
+    CheckmarxOAuthTokenCache(Executor backgroundExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    /**
+     * Resolves token for given key. When no usable token is cached, the loader is
+     * called - but only one time, even when multiple threads ask for same key.
+     *
+     * @param key
+     * @param loader
+     * @return token data, never <code>null</code>
+     * @throws AdapterException when login failed
+     */
+    public CheckmarxOAuthData getToken(String key, CheckmarxOAuthTokenLoader loader) throws AdapterException {
+        long now = getCurrentTimeMillis();
+        CachedToken cached = tokens.get(key);
+        if (cached != null && cached.isUsable(now)) {
+            if (cached.isRefreshNecessary(now)) {
+                LOG.debug("Refresh checkmarx token in background");
+                login(key, loader, backgroundExecutor);
+            }
+            return cached.data;
+        }
+        return await(login(key, loader, Runnable::run));
+    }
+
+    /**
+     * Removes given token from cache - e.g. when token was rejected by server. If
+     * cached token is already another one, nothing happens.
+     *
+     * @param key
+     * @param data
+     */
+    public void invalidate(String key, CheckmarxOAuthData data) {
+        CachedToken cached = tokens.get(key);
+        if (cached != null && cached.data == data) {
+            tokens.remove(key, cached);
+        }
+    }
+
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private CompletableFuture<CheckmarxOAuthData> login(String key, CheckmarxOAuthTokenLoader loader, Executor executor) {
+        CompletableFuture<CheckmarxOAuthData> created = new CompletableFuture<>();
+        CompletableFuture<CheckmarxOAuthData> running = logins.putIfAbsent(key, created);
+        if (running != null) {
+            /* another login for same key is running - we just use its result */
+            return running;
+        }
+        executor.execute(() -> {
+            try {
+                CheckmarxOAuthData data = loader.load();
+                cache(key, data);
+                created.complete(data);
+            } catch (Exception e) {
+                created.completeExceptionally(e);
+            } finally {
+                logins.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    private void cache(String key, CheckmarxOAuthData data) {
+        CachedToken cached = new CachedToken(data, getCurrentTimeMillis());
+        if (!cached.isUsable(cached.created)) {
+            /* lifetime too short - caching makes no sense */
+            tokens.remove(key);
+            return;
+        }
+        tokens.put(key, cached);
+    }
+
+    private CheckmarxOAuthData await(CompletableFuture<CheckmarxOAuthData> future) throws AdapterException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for checkmarx login", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AdapterException) {
+                throw (AdapterException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Checkmarx login failed", cause);
+        }
+    }
+
+    private static class CachedToken {
+        private CheckmarxOAuthData data;
+        private long created;
+        private long usableUntil;
+        private long refreshFrom;
+
+        private CachedToken(CheckmarxOAuthData data, long created) {
+            this.data = data;
+            this.created = created;
+
+            long lifetime = Math.max(0, data.getExpiresIn() * 1000);
+            this.usableUntil = created + lifetime - EXPIRY_SAFETY_MILLISECONDS;
+            this.refreshFrom = created + (lifetime * REFRESH_AFTER_LIFETIME_PERCENTAGE / 100);
+        }
+
+        private boolean isUsable(long now) {
+            return now < usableUntil;
+        }
+
+        private boolean isRefreshNecessary(long now) {
+            return now >= refreshFrom;
+        }
+    }
+
+    private static class RefreshThreadFactory implements ThreadFactory {
+
+        private AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "checkmarx-token-refresh-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
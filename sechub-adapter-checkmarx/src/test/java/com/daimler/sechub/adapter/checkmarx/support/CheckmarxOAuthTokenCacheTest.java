@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.checkmarx.support;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.AdapterLogId;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
+import com.daimler.sechub.adapter.support.JSONAdapterSupport;
+
+public class CheckmarxOAuthTokenCacheTest {
+
+    private static final String KEY = "key1";
+
+    private TestCheckmarxOAuthTokenCache cacheToTest;
+    private List<Runnable> backgroundTasks;
+    private int loginCount;
+
+    @Before
+    public void before() throws Exception {
+        backgroundTasks = new ArrayList<>();
+        cacheToTest = new TestCheckmarxOAuthTokenCache();
+        loginCount = 0;
+    }
+
+    @Test
+    public void token_is_reused_while_valid() throws Exception {
+        /* prepare */
+        CheckmarxOAuthData first = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* execute */
+        cacheToTest.time += 60 * 1000;
+        CheckmarxOAuthData second = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* test */
+        assertSame(first, second);
+        assertEquals(1, loginCount);
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    public void token_near_to_expiry_is_returned_but_refreshed_in_background() throws Exception {
+        /* prepare */
+        CheckmarxOAuthData first = cacheToTest.getToken(KEY, () -> login(3600));
+        cacheToTest.time += 3000 * 1000;
+
+        /* execute */
+        CheckmarxOAuthData second = cacheToTest.getToken(KEY, () -> login(3600));
+        CheckmarxOAuthData third = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* test */
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals("only one refresh (single flight)", 1, backgroundTasks.size());
+
+        backgroundTasks.get(0).run();
+        assertEquals(2, loginCount);
+        assertNotSame(first, cacheToTest.getToken(KEY, () -> login(3600)));
+    }
+
+    @Test
+    public void expired_token_leads_to_new_login() throws Exception {
+        /* prepare */
+        CheckmarxOAuthData first = cacheToTest.getToken(KEY, () -> login(3600));
+        cacheToTest.time += 3600 * 1000;
+
+        /* execute */
+        CheckmarxOAuthData second = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* test */
+        assertNotSame(first, second);
+        assertEquals(2, loginCount);
+    }
+
+    @Test
+    public void short_living_token_is_not_cached() throws Exception {
+        /* execute */
+        cacheToTest.getToken(KEY, () -> login(10));
+        cacheToTest.getToken(KEY, () -> login(10));
+
+        /* test */
+        assertEquals(2, loginCount);
+    }
+
+    @Test
+    public void invalidated_token_leads_to_new_login() throws Exception {
+        /* prepare */
+        CheckmarxOAuthData first = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* execute */
+        cacheToTest.invalidate(KEY, first);
+        CheckmarxOAuthData second = cacheToTest.getToken(KEY, () -> login(3600));
+
+        /* test */
+        assertNotSame(first, second);
+        assertEquals(2, loginCount);
+    }
+
+    @Test(expected = AdapterException.class)
+    public void login_failure_is_thrown() throws Exception {
+        cacheToTest.getToken(KEY, () -> {
+            throw new AdapterException(new AdapterLogId("test", null), "login failed");
+        });
+    }
+
+    private CheckmarxOAuthData login(long expiresIn) throws AdapterException {
+        loginCount++;
+        String json = "{\"access_token\":\"token" + loginCount + "\",\"expires_in\":" + expiresIn + ",\"token_type\":\"Bearer\"}";
+        return new CheckmarxOAuthSupport().extractFromJson(JSONAdapterSupport.FOR_UNKNOWN_ADAPTER, json);
+    }
+
+    private class TestCheckmarxOAuthTokenCache extends CheckmarxOAuthTokenCache {
+        private long time = 1000;
+
+        private TestCheckmarxOAuthTokenCache() {
+            super(task -> backgroundTasks.add(task));
+        }
+
+        @Override
+        long getCurrentTimeMillis() {
+            return time;
+        }
+    }
+}
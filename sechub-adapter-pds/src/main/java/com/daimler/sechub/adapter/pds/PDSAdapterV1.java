@@ -3,6 +3,9 @@ package com.daimler.sechub.adapter.pds;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,7 @@ import com.daimler.sechub.adapter.pds.data.PDSJobData;
 import com.daimler.sechub.adapter.pds.data.PDSJobParameterEntry;
 import com.daimler.sechub.adapter.pds.data.PDSJobStatus;
 import com.daimler.sechub.adapter.pds.data.PDSJobStatus.PDSAdapterJobStatusState;
+import com.daimler.sechub.adapter.support.SharedPollingScheduler;
 
 /**
  * This component is able to handle PDS API V1
@@ -60,6 +64,68 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
     }
 
     private void waitForJobDone(PDSContext context) throws AdapterException {
+        SharedPollingScheduler scheduler = SharedPollingScheduler.getShared();
+        if (!scheduler.isEnabled()) {
+            waitForJobDoneBlocking(context);
+            return;
+        }
+        /* status checks are done by shared scheduler - we resume when job has ended */
+        try {
+            scheduler.await(waitForJobDoneAsync(context));
+        } catch (InterruptedException e) {
+            throw new AdapterException(getAdapterLogId(null), "Execution thread was interrupted");
+        } catch (AdapterException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw asAdapterException("Waiting for PDS job failed", e, context.getConfig());
+        }
+    }
+
+    /**
+     * Registers status checks of PDS job at {@link SharedPollingScheduler}
+     *
+     * @param context
+     * @return future completed with the status of the ended PDS job, or
+     *         exceptionally when a check failed or time out was reached
+     */
+    private CompletableFuture<PDSJobStatus> waitForJobDoneAsync(PDSContext context) {
+        PDSAdapterConfig config = context.getConfig();
+        UUID jobUUID = config.getSecHubJobUUID();
+        UUID uuid = context.getPdsJobUUID();
+
+        AtomicInteger count = new AtomicInteger();
+        AtomicReference<PDSJobStatus> lastJobStatus = new AtomicReference<>();
+
+        long started = getCurrentTimeMilliseconds();
+
+        int timeToWaitForNextCheckOperationInMilliseconds = config.getTimeToWaitForNextCheckOperationInMilliseconds();
+
+        return SharedPollingScheduler.getShared().poll(() -> {
+            if (!isNotTimeout(config, started)) {
+                long elapsedTimeInMilliseconds = calculateElapsedTime(started);
+                throw new IllegalStateException("Even after " + count + " retries, every waiting " + timeToWaitForNextCheckOperationInMilliseconds
+                        + " ms, no job report state acceppted as END was found.!\nElapsed time were" + elapsedTimeInMilliseconds
+                        + " ms.\nLAST fetched jobstatus for " + jobUUID + ", PDS job uuid: " + uuid + " was:\n" + lastJobStatus.get());
+            }
+            /* see PDSJobStatusState.java */
+            PDSJobStatus jobstatus = getJobStatus(context);
+            lastJobStatus.set(jobstatus);
+
+            PDSAdapterJobStatusState state = jobstatus.state;
+            switch (state) {
+            case DONE:
+            case FAILED:
+            case CANCELED:
+                return jobstatus;
+            default:
+                count.incrementAndGet();
+                /* null marks next check necessary */
+                return null;
+            }
+        }, timeToWaitForNextCheckOperationInMilliseconds);
+    }
+
+    private void waitForJobDoneBlocking(PDSContext context) throws AdapterException {
         PDSAdapterConfig config = context.getConfig();
         UUID jobUUID = config.getSecHubJobUUID();
         UUID uuid = context.getPdsJobUUID();
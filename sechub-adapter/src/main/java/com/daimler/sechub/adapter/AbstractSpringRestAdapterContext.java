@@ -1,9 +1,6 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.net.Proxy.Type;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,7 +9,6 @@ import java.util.Set;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -20,7 +16,7 @@ import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import com.daimler.sechub.adapter.springextension.ResourceHttpMessageConverterHandlingInputStreams;
-import com.daimler.sechub.adapter.support.TrustAllSupport;
+import com.daimler.sechub.adapter.support.SharedHttpClientRegistry;
 
 /**
  * Context for REST execution per spring REST templates (per default with a
@@ -37,14 +33,17 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
         super(config, adapter, runtimeContext);
         /* setup dedicated rest template */
 
-        ClientHttpRequestFactory requestFactory = createRequestFactory(config);
+        boolean traceLoggingEnabled = TraceLogClientHTTPRequestInterceptor.isTraceLoggingEnabled();
+        ClientHttpRequestFactory requestFactory = createRequestFactory(config, traceLoggingEnabled);
 
         restTemplate = new RestTemplate(requestFactory);
 
         restTemplate.getMessageConverters().addAll(createMessageConverters());
 
         List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
-        interceptors.add(new TraceLogClientHTTPRequestInterceptor());
+        if (traceLoggingEnabled) {
+            interceptors.add(new TraceLogClientHTTPRequestInterceptor());
+        }
         ClientHttpRequestInterceptor interceptor = createInterceptorOrNull(config);
         if (interceptor != null) {
             interceptors.add(interceptor);
@@ -94,31 +93,22 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
         return false;
     }
 
-    private ClientHttpRequestFactory createRequestFactory(C config) {
-        ClientHttpRequestFactory factory = null;
-        if (!config.isTrustAllCertificatesEnabled()) {
-            factory = createStandardSpringRequestFactory(config);
-        } else {
-            factory = new TrustAllSupport(getAdapter(), config).createTrustAllFactory();
-
+    private ClientHttpRequestFactory createRequestFactory(C config, boolean traceLoggingEnabled) {
+        /*
+         * pooled http client is shared by all contexts for same product endpoint, so
+         * connections and TLS sessions are reused
+         */
+        ClientHttpRequestFactory factory = SharedHttpClientRegistry.getShared().getRequestFactory(getAdapter(), config);
+        if (!traceLoggingEnabled) {
+            return factory;
         }
         /*
-         * we create buffering variant, so we can do trace logging if necessary - see
+         * we create buffering variant only for trace logging - see
          * TraceLogClientHTTPRequestInterceptor
          */
         return new BufferingClientHttpRequestFactory(factory);
     }
 
-    private SimpleClientHttpRequestFactory createStandardSpringRequestFactory(C config) {
-        /* use standard Spring way, so uses configured trusted certificates etc. etc. */
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        if (config.isProxyDefined()) {
-            Proxy proxy = new Proxy(Type.SOCKS, new InetSocketAddress(config.getProxyHostname(), config.getProxyPort()));
-            requestFactory.setProxy(proxy);
-        }
-        return requestFactory;
-    }
-
     private Set<HttpMessageConverter<?>> createMessageConverters() {
         Set<HttpMessageConverter<?>> set = new HashSet<>();
         addClientHttpRequestInterceptors(set);
@@ -1,10 +1,15 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.client.HttpClientErrorException;
 
+import com.daimler.sechub.adapter.support.SharedPollingScheduler;
+
 /**
  * Abstract class to support waiting for given states
  * 
@@ -51,7 +56,10 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 
 	/**
 	 * Waits for OK state or another wellknown state. Does also support time out
-	 * handling depending on context
+	 * handling depending on context. When the {@link SharedPollingScheduler} is
+	 * enabled, the status checks are done by the scheduler and this method resumes
+	 * when the future of {@link #waitForOKAsync(AdapterContext)} is completed.
+	 * Otherwise the calling thread checks and sleeps itself (default).
 	 * 
 	 * @param context
 	 * @throws Exception
@@ -61,15 +69,24 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 		LOG.debug("{} wait for OK", adapter.getAdapterLogId(config));
 		String state = null;
 		try {
-			while (isWaitingForOKWhenInState(state = getCurrentState(context), context)) {
-				if (context.isTimeOut()) {
-					throw adapter.asAdapterException(
-							"Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
+			SharedPollingScheduler scheduler = SharedPollingScheduler.getShared();
+			if (scheduler.isEnabled()) {
+				state = scheduler.await(waitForOKAsync(context));
+			} else {
+				while (isWaitingForOKWhenInState(state = getCurrentState(context), context)) {
+					if (context.isTimeOut()) {
+						throw adapter.asAdapterException(
+								"Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
+					}
+					waitForResult(context);
 				}
-				waitForResult(context);
 			}
 			handleNoLongerWaitingState(state, context);
 			
+		} catch (AdapterException e) {
+			throw e;
+		} catch (InterruptedException e) {
+			throw adapter.asAdapterException("Waiting was interrupted", e, config);
 		} catch (HttpClientErrorException e) {
 			throw adapter.asAdapterException("Waiting for result failed - response body was: "+e.getResponseBodyAsString(), e, config);
 		} catch (Exception e) {
@@ -77,6 +94,45 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 		}
 	}
 
+	/**
+	 * Registers status checks at {@link SharedPollingScheduler}. The returned
+	 * future is completed with the first state where no longer waiting is
+	 * necessary or exceptionally when a check failed or time out was reached.
+	 * Canceling the future stops the status checks.<br>
+	 * <br>
+	 * Remark: {@link #handleNoLongerWaitingState(String, AdapterContext)} is NOT
+	 * called here, only by {@link #waitForOK(AdapterContext)}
+	 * 
+	 * @param context
+	 * @return future, never <code>null</code>
+	 */
+	public final CompletableFuture<String> waitForOKAsync(X context) {
+		AdapterConfig config = context.getConfig();
+		if (config == null) {
+			throw new IllegalStateException("config is null!");
+		}
+		CompletableFuture<Optional<String>> polling = SharedPollingScheduler.getShared().poll(() -> checkState(context),
+				config.getTimeToWaitForNextCheckOperationInMilliseconds());
+		CompletableFuture<String> result = polling.thenApply(state -> state.orElse(null));
+		/* cancel of result must stop polling as well */
+		result.whenComplete((state, failure) -> polling.cancel(false));
+		return result;
+	}
+
+	private Optional<String> checkState(X context) throws Exception {
+		String state = getCurrentState(context);
+		if (!isWaitingForOKWhenInState(state, context)) {
+			return Optional.ofNullable(state);
+		}
+		if (context.isTimeOut()) {
+			AdapterConfig config = context.getConfig();
+			throw adapter.asAdapterException("Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
+		}
+		LOG.trace("{}  wait for result - state:{}", adapter.getAdapterLogId(context.getConfig()), state);
+		/* null marks next check necessary */
+		return null; // NOSONAR
+	}
+
 	private void waitForResult(X context) throws AdapterException {
 		AdapterConfig config = context.getConfig();
 		if (config == null) {
@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterConfig;
+
+/**
+ * Registry for pooled HTTP clients used by adapters. There is one client per
+ * product endpoint (scheme, host and port of product base URL) and connection
+ * variant (trust all, proxy). So connections and TLS sessions are reused over
+ * all adapter executions for the same product instead of creating new ones for
+ * every call.<br>
+ * <br>
+ * Because clients are shared by all jobs and users, cookies and
+ * authentication data are never cached by the clients - adapters must send
+ * their credentials with every request. Waiting for a pooled connection and
+ * reading from a connection are limited by timeouts, so a full pool or a hanging
+ * product endpoint does not block callers forever.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SharedHttpClientRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedHttpClientRegistry.class);
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT = 50;
+    public static final int DEFAULT_IDLE_CONNECTION_EVICTION_SECONDS = 30;
+    public static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT_SECONDS = 60;
+    public static final int DEFAULT_SOCKET_TIMEOUT_SECONDS = 300;
+
+    private static final SharedHttpClientRegistry SHARED = new SharedHttpClientRegistry();
+
+    private final Map<EndpointKey, HttpComponentsClientHttpRequestFactory> factories = new ConcurrentHashMap<>();
+
+    private int maxConnectionsPerEndpoint = DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT;
+    private int idleConnectionEvictionSeconds = DEFAULT_IDLE_CONNECTION_EVICTION_SECONDS;
+    private int connectionRequestTimeoutSeconds = DEFAULT_CONNECTION_REQUEST_TIMEOUT_SECONDS;
+    private int socketTimeoutSeconds = DEFAULT_SOCKET_TIMEOUT_SECONDS;
+
+    /**
+     * @return registry shared by all adapters
+     */
+    public static SharedHttpClientRegistry getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Changes pool setup. Only clients created after this call are affected, so
+     * this should be done before first adapter execution.
+     *
+     * @param maxConnectionsPerEndpoint       maximum amount of connections for
+     *                                        one product endpoint
+     * @param idleConnectionEvictionSeconds   connections idle for this time will
+     *                                        be evicted
+     * @param connectionRequestTimeoutSeconds maximum time to wait for a pooled
+     *                                        connection
+     * @param socketTimeoutSeconds            maximum time to wait for data when
+     *                                        reading from a connection
+     */
+    public void configure(int maxConnectionsPerEndpoint, int idleConnectionEvictionSeconds, int connectionRequestTimeoutSeconds, int socketTimeoutSeconds) {
+        assertAtLeastOne(maxConnectionsPerEndpoint, "max connections per endpoint");
+        assertAtLeastOne(idleConnectionEvictionSeconds, "idle connection eviction seconds");
+        assertAtLeastOne(connectionRequestTimeoutSeconds, "connection request timeout seconds");
+        assertAtLeastOne(socketTimeoutSeconds, "socket timeout seconds");
+
+        this.maxConnectionsPerEndpoint = maxConnectionsPerEndpoint;
+        this.idleConnectionEvictionSeconds = idleConnectionEvictionSeconds;
+        this.connectionRequestTimeoutSeconds = connectionRequestTimeoutSeconds;
+        this.socketTimeoutSeconds = socketTimeoutSeconds;
+    }
+
+    private void assertAtLeastOne(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1, but was:" + value);
+        }
+    }
+
+    /**
+     * Resolves request factory for product endpoint defined inside given
+     * configuration. If not existing, a new one with a pooled HTTP client will be
+     * created.
+     *
+     * @param adapter
+     * @param config
+     * @return request factory, never <code>null</code>
+     */
+    public ClientHttpRequestFactory getRequestFactory(Adapter<?> adapter, AdapterConfig config) {
+        EndpointKey key = new EndpointKey(config);
+        return factories.computeIfAbsent(key, k -> createRequestFactory(adapter, config, k));
+    }
+
+    /**
+     * Closes all pooled clients. Clients requested afterwards will be created
+     * again.
+     */
+    public void closeAll() {
+        for (EndpointKey key : factories.keySet()) {
+            HttpComponentsClientHttpRequestFactory factory = factories.remove(key);
+            if (factory == null) {
+                continue;
+            }
+            try {
+                factory.destroy();
+            } catch (Exception e) {
+                LOG.warn("Was not able to close http client for {}", key, e);
+            }
+        }
+    }
+
+    int getAmountOfClients() {
+        return factories.size();
+    }
+
+    RequestConfig createdRequestConfigFor(Adapter<?> adapter, AdapterConfig config) {
+        HttpComponentsClientHttpRequestFactory factory = (HttpComponentsClientHttpRequestFactory) getRequestFactory(adapter, config);
+        return ((Configurable) factory.getHttpClient()).getConfig();
+    }
+
+    private HttpComponentsClientHttpRequestFactory createRequestFactory(Adapter<?> adapter, AdapterConfig config, EndpointKey key) {
+        PoolingHttpClientConnectionManager connectionManager = new TrustAllSupport(adapter, config).createPoolingConnectionManager();
+        connectionManager.setMaxTotal(maxConnectionsPerEndpoint);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerEndpoint);
+
+        /* @formatter:off */
+        RequestConfig requestConfig = RequestConfig.custom().
+                setConnectionRequestTimeout((int) TimeUnit.SECONDS.toMillis(connectionRequestTimeoutSeconds)).
+                setSocketTimeout((int) TimeUnit.SECONDS.toMillis(socketTimeoutSeconds)).
+                build();
+
+        HttpClientBuilder clientBuilder = HttpClients.custom().
+                setConnectionManager(connectionManager).
+                setDefaultRequestConfig(requestConfig).
+                /* client is shared by all jobs and users - so session data must never be reused */
+                disableCookieManagement().
+                disableAuthCaching().
+                evictExpiredConnections().
+                evictIdleConnections(idleConnectionEvictionSeconds, TimeUnit.SECONDS);
+        /* @formatter:on */
+        if (!config.isProxyDefined()) {
+            /* same as former standard request factory: respect JVM proxy settings */
+            clientBuilder.useSystemProperties();
+        }
+        CloseableHttpClient httpClient = clientBuilder.build();
+
+        LOG.info("Created pooled http client for {}, max connections:{}, idle eviction after {} seconds, connection request timeout:{} seconds, socket timeout:{} seconds",
+                key, maxConnectionsPerEndpoint, idleConnectionEvictionSeconds, connectionRequestTimeoutSeconds, socketTimeoutSeconds);
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private static class EndpointKey {
+        private String endpoint;
+        private boolean trustAll;
+        private String proxy;
+
+        private EndpointKey(AdapterConfig config) {
+            this.endpoint = resolveEndpoint(config.getProductBaseURL());
+            this.trustAll = config.isTrustAllCertificatesEnabled();
+            if (config.isProxyDefined()) {
+                this.proxy = config.getProxyHostname() + ":" + config.getProxyPort();
+            }
+        }
+
+        private static String resolveEndpoint(String productBaseURL) {
+            if (productBaseURL == null) {
+                return null;
+            }
+            try {
+                URI uri = URI.create(productBaseURL);
+                if (uri.getHost() == null) {
+                    return productBaseURL;
+                }
+                return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+            } catch (IllegalArgumentException e) {
+                return productBaseURL;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, proxy, trustAll);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EndpointKey)) {
+                return false;
+            }
+            EndpointKey other = (EndpointKey) obj;
+            return Objects.equals(endpoint, other.endpoint) && Objects.equals(proxy, other.proxy) && trustAll == other.trustAll;
+        }
+
+        @Override
+        public String toString() {
+            return endpoint + (trustAll ? " (trust all)" : "") + (proxy != null ? " via proxy " + proxy : "");
+        }
+    }
+}
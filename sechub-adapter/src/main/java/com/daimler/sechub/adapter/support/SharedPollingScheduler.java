@@ -0,0 +1,194 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Shared scheduler for status polling of adapters. Instead of sleeping inside
+ * an own thread between two status checks, every check is registered as a
+ * timed task. So a small and fixed amount of threads is able to supervise all
+ * running product scans. The result of polling is provided by a future.<br>
+ * <br>
+ * Scheduled polling is disabled by default - adapters then use their former
+ * blocking wait loops, see {@link #isEnabled()}. The checks run with the MDC
+ * of the thread which started the polling, so log output still contains the
+ * job context.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SharedPollingScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedPollingScheduler.class);
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final int DEFAULT_AMOUNT_OF_THREADS = 4;
+
+    private static final SharedPollingScheduler SHARED = new SharedPollingScheduler(DEFAULT_AMOUNT_OF_THREADS);
+
+    private ScheduledThreadPoolExecutor executor;
+    private volatile boolean enabled = DEFAULT_ENABLED;
+
+    /**
+     * A polling check
+     *
+     * @param <T> result type
+     */
+    public interface PollingCheck<T> {
+
+        /**
+         * Checks state
+         *
+         * @return result when polling is done, <code>null</code> when next check is
+         *         necessary
+         * @throws Exception when polling shall fail
+         */
+        public T check() throws Exception;
+    }
+
+    SharedPollingScheduler(int amountOfThreads) {
+        executor = new ScheduledThreadPoolExecutor(amountOfThreads, new PollingThreadFactory());
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * @return scheduler shared by all adapters
+     */
+    public static SharedPollingScheduler getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Configures scheduler
+     *
+     * @param enabled         when <code>true</code> adapters shall poll by this
+     *                        scheduler, otherwise they wait blocking
+     * @param amountOfThreads amount of polling threads
+     */
+    public void configure(boolean enabled, int amountOfThreads) {
+        if (amountOfThreads < 1) {
+            throw new IllegalArgumentException("amount of polling threads must be at least 1, but was:" + amountOfThreads);
+        }
+        executor.setCorePoolSize(amountOfThreads);
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return <code>true</code> when adapters shall use this scheduler for status
+     *         polling, <code>false</code> when adapters shall wait blocking
+     *         inside their own thread (default)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts polling. First check is done immediately, next checks after given
+     * delay - until check returns a result, fails or the returned future is
+     * canceled.
+     *
+     * @param <T>
+     * @param check
+     * @param delayInMilliseconds delay between two checks
+     * @return future containing polling result
+     */
+    public <T> CompletableFuture<T> poll(PollingCheck<T> check, long delayInMilliseconds) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        PollingTask<T> task = new PollingTask<>(check, future, delayInMilliseconds);
+        executor.execute(task);
+        return future;
+    }
+
+    /**
+     * Waits for polling result. When current thread is interrupted, polling will
+     * be canceled.
+     *
+     * @param <T>
+     * @param future
+     * @return result
+     * @throws InterruptedException when waiting was interrupted
+     * @throws Exception            failure of polling check
+     */
+    public <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new InterruptedException("Polling was canceled");
+        }
+    }
+
+    private class PollingTask<T> implements Runnable {
+
+        private PollingCheck<T> check;
+        private CompletableFuture<T> future;
+        private long delayInMilliseconds;
+        private Map<String, String> mdcContext;
+
+        private PollingTask(PollingCheck<T> check, CompletableFuture<T> future, long delayInMilliseconds) {
+            this.check = check;
+            this.future = future;
+            this.delayInMilliseconds = delayInMilliseconds;
+            this.mdcContext = MDC.getCopyOfContextMap();
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                /* canceled or completed - so no more checks */
+                return;
+            }
+            /* runs in shared thread so we set MDC of caller here */
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try {
+                T result = check.check();
+                if (result != null) {
+                    future.complete(result);
+                    return;
+                }
+                executor.schedule(this, delayInMilliseconds, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            } catch (Throwable t) {
+                LOG.error("Polling failed unexpected", t);
+                future.completeExceptionally(t);
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static class PollingThreadFactory implements ThreadFactory {
+
+        private AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "sechub-adapter-polling-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
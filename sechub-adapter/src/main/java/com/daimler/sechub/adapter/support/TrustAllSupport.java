@@ -101,6 +101,40 @@ public class TrustAllSupport {
 		return requestFactory2;
 	}
 
+	/**
+	 * Creates a pooling connection manager which can be shared between multiple
+	 * clients. The SSL context is created only one time here, so TLS sessions can
+	 * be reused by all connections of the pool. When trust all is not enabled,
+	 * system default SSL context and hostname verification are used.
+	 * 
+	 * @return connection manager, never <code>null</code>
+	 */
+	public PoolingHttpClientConnectionManager createPoolingConnectionManager() {
+		SSLContext sslContext = null;
+		HostnameVerifier hostnameVerifier = null;
+		if (config.isTrustAllCertificatesEnabled()) {
+			try {
+				sslContext = createTrustAllSSLContext(adapter);
+			} catch (AdapterException e) {
+				throw new IllegalStateException("Should not happen! See trace", e);
+			}
+			hostnameVerifier = NoopHostnameVerifier.INSTANCE;
+		} else {
+			sslContext = SSLContexts.createSystemDefault();
+			hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+		}
+		if (config.isProxyDefined()) {
+			Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
+					.register("http", new SocksProxyConnectionSocketFactory())
+					.register("https", new SocksProxySSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+			return new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
+		}
+		Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+		return new PoolingHttpClientConnectionManager(reg);
+	}
+
 	private SSLContext createTrustAllSSLContext(Adapter<?> adapter) throws AdapterException {
 		SSLContext sslContext = null;
 		try {
@@ -163,7 +197,11 @@ public class TrustAllSupport {
 
 		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext) {
 			// You may need this verifier if target site's certificate is not secure
-			super(sslContext, NoopHostnameVerifier.INSTANCE);
+			this(sslContext, NoopHostnameVerifier.INSTANCE);
+		}
+
+		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+			super(sslContext, hostnameVerifier);
 		}
 
 		@Override
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.apache.http.client.config.RequestConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterConfig;
+
+public class SharedHttpClientRegistryTest {
+
+    private SharedHttpClientRegistry registryToTest;
+    private Adapter<?> adapter;
+
+    @Before
+    public void before() throws Exception {
+        registryToTest = new SharedHttpClientRegistry();
+        adapter = mock(Adapter.class);
+    }
+
+    @After
+    public void after() {
+        registryToTest.closeAll();
+    }
+
+    @Test
+    public void same_endpoint_with_different_pathes_share_one_request_factory() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://product.example.com:8443/api/v1", false);
+        AdapterConfig config2 = createConfig("https://product.example.com:8443/api/v2", false);
+
+        /* execute */
+        ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config1);
+        ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config2);
+
+        /* test */
+        assertSame(factory1, factory2);
+        assertEquals(1, registryToTest.getAmountOfClients());
+    }
+
+    @Test
+    public void different_ports_have_different_request_factories() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://product.example.com:8443", false);
+        AdapterConfig config2 = createConfig("https://product.example.com:8444", false);
+
+        /* execute */
+        ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config1);
+        ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config2);
+
+        /* test */
+        assertNotSame(factory1, factory2);
+        assertEquals(2, registryToTest.getAmountOfClients());
+    }
+
+    @Test
+    public void trust_all_variant_has_own_request_factory() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://product.example.com", false);
+        AdapterConfig config2 = createConfig("https://product.example.com", true);
+
+        /* execute */
+        ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config1);
+        ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config2);
+
+        /* test */
+        assertNotSame(factory1, factory2);
+    }
+
+    @Test
+    public void proxy_variant_has_own_request_factory() {
+        /* prepare */
+        AdapterConfig config1 = createConfig("https://product.example.com", false);
+        AdapterConfig config2 = createConfig("https://product.example.com", false);
+        when(config2.isProxyDefined()).thenReturn(true);
+        when(config2.getProxyHostname()).thenReturn("proxy.example.com");
+        when(config2.getProxyPort()).thenReturn(1080);
+
+        /* execute */
+        ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config1);
+        ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config2);
+
+        /* test */
+        assertNotSame(factory1, factory2);
+    }
+
+    @Test
+    public void close_all_removes_clients() {
+        /* prepare */
+        registryToTest.getRequestFactory(adapter, createConfig("https://product.example.com", false));
+
+        /* execute */
+        registryToTest.closeAll();
+
+        /* test */
+        assertEquals(0, registryToTest.getAmountOfClients());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void configure_with_zero_max_connections_fails() {
+        registryToTest.configure(0, 10, 10, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void configure_with_zero_socket_timeout_fails() {
+        registryToTest.configure(10, 10, 10, 0);
+    }
+
+    @Test
+    public void created_clients_use_configured_timeouts() {
+        /* prepare */
+        registryToTest.configure(10, 10, 20, 30);
+
+        /* execute */
+        RequestConfig requestConfig = registryToTest.createdRequestConfigFor(adapter, createConfig("https://product.example.com", false));
+
+        /* test */
+        assertEquals(20000, requestConfig.getConnectionRequestTimeout());
+        assertEquals(30000, requestConfig.getSocketTimeout());
+    }
+
+    private AdapterConfig createConfig(String productBaseURL, boolean trustAll) {
+        AdapterConfig config = mock(AdapterConfig.class);
+        when(config.getProductBaseURL()).thenReturn(productBaseURL);
+        when(config.isTrustAllCertificatesEnabled()).thenReturn(trustAll);
+        return config;
+    }
+}
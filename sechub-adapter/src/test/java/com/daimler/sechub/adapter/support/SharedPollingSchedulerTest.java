@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+public class SharedPollingSchedulerTest {
+
+    private SharedPollingScheduler schedulerToTest;
+
+    @Before
+    public void before() throws Exception {
+        schedulerToTest = new SharedPollingScheduler(1);
+    }
+
+    @Test
+    public void polling_is_repeated_until_check_returns_result() throws Exception {
+        /* prepare */
+        AtomicInteger counter = new AtomicInteger();
+
+        /* execute */
+        String result = schedulerToTest.await(schedulerToTest.poll(() -> counter.incrementAndGet() < 3 ? null : "done", 1));
+
+        /* test */
+        assertEquals("done", result);
+        assertEquals(3, counter.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failing_check_is_thrown_by_await() throws Exception {
+        schedulerToTest.await(schedulerToTest.poll(() -> {
+            throw new IllegalStateException("failed");
+        }, 1));
+    }
+
+    @Test
+    public void canceled_polling_does_no_more_checks() throws Exception {
+        /* prepare */
+        AtomicInteger counter = new AtomicInteger();
+        CompletableFuture<String> future = schedulerToTest.poll(() -> {
+            counter.incrementAndGet();
+            return null;
+        }, 10);
+        Thread.sleep(30); // NOSONAR
+
+        /* execute */
+        future.cancel(false);
+        int countAfterCancel = counter.get();
+        Thread.sleep(50); // NOSONAR
+
+        /* test */
+        assertTrue(countAfterCancel > 0);
+        assertTrue(counter.get() <= countAfterCancel + 1);
+    }
+
+    @Test
+    public void checks_run_with_mdc_of_polling_starter() throws Exception {
+        /* prepare */
+        MDC.put("sechub_job_uuid", "job1");
+        try {
+            /* execute */
+            String result = schedulerToTest.await(schedulerToTest.poll(() -> MDC.get("sechub_job_uuid"), 1));
+
+            /* test */
+            assertEquals("job1", result);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Test
+    public void scheduler_is_disabled_by_default_and_can_be_enabled() {
+        /* check precondition */
+        assertFalse(schedulerToTest.isEnabled());
+
+        /* execute */
+        schedulerToTest.configure(true, 2);
+
+        /* test */
+        assertTrue(schedulerToTest.isEnabled());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void configure_zero_threads_fails() {
+        schedulerToTest.configure(true, 0);
+    }
+}
@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Authentication provider which verifies API tokens only when not already
+ * verified successfully before - see {@link AuthUserDetailsCache}
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class AuthAPITokenAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private AuthUserDetailsCache cache;
+
+    AuthAPITokenAuthenticationProvider(AuthUserDetailsCache cache, UserDetailsService userDetailsService) {
+        this.cache = cache;
+        setUserCache(cache);
+        /* users are loaded by cache, so users removed from cache while loading are not cached afterwards */
+        setUserDetailsService(userId -> cache.loadUser(userId, userDetailsService));
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        String apiToken = credentials == null ? null : credentials.toString();
+        if (cache.isApiTokenVerified(userDetails, apiToken)) {
+            return;
+        }
+        /* throws an exception when not valid */
+        super.additionalAuthenticationChecks(userDetails, authentication);
+
+        cache.markApiTokenVerified(userDetails, apiToken);
+    }
+}
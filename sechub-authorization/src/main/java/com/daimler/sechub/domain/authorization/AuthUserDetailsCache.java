@@ -0,0 +1,242 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Bounded and time limited cache for user details and successful API token
+ * verifications. Verifying an API token against its BCrypt hash is expensive,
+ * so for an already verified token (and same hash) the verification is not
+ * done again until the entry expires.<br>
+ * <br>
+ * Entries are removed by {@link AuthMessageHandler} when a user is deleted or
+ * API token or roles have changed. Every removal increases a generation counter
+ * for the user. Users are only cached when they were loaded at the current
+ * generation, so user data loaded before a removal is never cached after it.<br>
+ * <br>
+ * Removals are only done on the cluster node that handled the event. On other
+ * nodes an old API token or old roles are accepted until the entry expires, so
+ * the time to live must be kept short.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class AuthUserDetailsCache implements UserCache {
+
+    private static final boolean DEFAULT_CACHE_ENABLED = false;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_TIME_TO_LIVE_SECONDS = 5;
+
+    @MustBeDocumented("When enabled, user details and successful API token verifications are cached, so the API token hash is not verified again for every request. "
+            + "Cache entries are only removed on the cluster node handling a user change, so other nodes accept an old API token or old roles until the time to live has expired.")
+    @Value("${sechub.config.auth.cache.enabled:" + DEFAULT_CACHE_ENABLED + "}")
+    boolean cacheEnabled = DEFAULT_CACHE_ENABLED;
+
+    @MustBeDocumented("Maximum amount of users inside authentication cache. When exceeded, the least recently used user is removed.")
+    @Value("${sechub.config.auth.cache.max:" + DEFAULT_MAX_ENTRIES + "}")
+    int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    @MustBeDocumented("Time in seconds a user inside authentication cache is valid. After this time user data is loaded and API token is verified again. "
+            + "This is also the maximum time an old API token or old roles are accepted by other cluster nodes after a user change.")
+    @Value("${sechub.config.auth.cache.ttl.seconds:" + DEFAULT_TIME_TO_LIVE_SECONDS + "}")
+    long timeToLiveSeconds = DEFAULT_TIME_TO_LIVE_SECONDS;
+
+    private final Map<String, CachedUser> cachedUsers = new LinkedHashMap<String, CachedUser>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /* guarded by cachedUsers */
+    private final Map<String, Long> generations = new HashMap<>();
+
+    /**
+     * Loads user by given service. The returned user details contain the
+     * generation of the user at load time, so only user details which were not
+     * removed from cache in the meantime can be cached afterwards.
+     *
+     * @param userId
+     * @param userDetailsService
+     * @return loaded user details
+     */
+    public UserDetails loadUser(String userId, UserDetailsService userDetailsService) {
+        long generation = getGeneration(userId);
+        UserDetails loaded = userDetailsService.loadUserByUsername(userId);
+        return new GenerationAwareUser(loaded, generation);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String userId) {
+        if (!cacheEnabled || userId == null) {
+            return null;
+        }
+        CachedUser cached = getValidCachedUser(userId);
+        if (cached == null) {
+            return null;
+        }
+        /* copy - spring security erases credentials of returned user details */
+        return new GenerationAwareUser(cached.user, cached.generation);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (!cacheEnabled || user == null) {
+            return;
+        }
+        synchronized (cachedUsers) {
+            if (!isCurrentGeneration(user)) {
+                return;
+            }
+            CachedUser cached = cachedUsers.get(user.getUsername());
+            if (cached != null && isSameHashedApiToken(cached.user, user)) {
+                /* keep verification and time to live */
+                cached.user = copy(user);
+                return;
+            }
+            cachedUsers.put(user.getUsername(), new CachedUser(copy(user), null, getGeneration(user.getUsername())));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String userId) {
+        synchronized (cachedUsers) {
+            cachedUsers.remove(userId);
+            generations.merge(userId, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Checks if given API token was already verified successfully for given user
+     * and the hashed API token of user has not changed since then.
+     *
+     * @param user
+     * @param apiToken
+     * @return <code>true</code> when verification is not necessary again
+     */
+    public boolean isApiTokenVerified(UserDetails user, String apiToken) {
+        if (!cacheEnabled || user == null || apiToken == null) {
+            return false;
+        }
+        CachedUser cached = getValidCachedUser(user.getUsername());
+        if (cached == null || cached.apiTokenDigest == null) {
+            return false;
+        }
+        if (!isSameHashedApiToken(cached.user, user)) {
+            return false;
+        }
+        return MessageDigest.isEqual(cached.apiTokenDigest, createDigest(apiToken));
+    }
+
+    /**
+     * Marks given API token as successful verified for user
+     *
+     * @param user
+     * @param apiToken
+     */
+    public void markApiTokenVerified(UserDetails user, String apiToken) {
+        if (!cacheEnabled || user == null || apiToken == null) {
+            return;
+        }
+        synchronized (cachedUsers) {
+            if (!isCurrentGeneration(user)) {
+                return;
+            }
+            cachedUsers.put(user.getUsername(), new CachedUser(copy(user), createDigest(apiToken), getGeneration(user.getUsername())));
+        }
+    }
+
+    private long getGeneration(String userId) {
+        synchronized (cachedUsers) {
+            return generations.getOrDefault(userId, 0L);
+        }
+    }
+
+    /*
+     * Only user details loaded by this cache know their generation - others are
+     * never cached, because it is unknown if they were loaded before a removal
+     */
+    private boolean isCurrentGeneration(UserDetails user) {
+        if (!(user instanceof GenerationAwareUser)) {
+            return false;
+        }
+        return ((GenerationAwareUser) user).generation == getGeneration(user.getUsername());
+    }
+
+    private CachedUser getValidCachedUser(String userId) {
+        synchronized (cachedUsers) {
+            CachedUser cached = cachedUsers.get(userId);
+            if (cached == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - cached.created > timeToLiveSeconds * 1000) {
+                cachedUsers.remove(userId);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private boolean isSameHashedApiToken(UserDetails user1, UserDetails user2) {
+        String hashed1 = user1.getPassword();
+        return hashed1 != null && hashed1.equals(user2.getPassword());
+    }
+
+    private UserDetails copy(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+
+    private byte[] createDigest(String apiToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(apiToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class CachedUser {
+        private UserDetails user;
+        private byte[] apiTokenDigest;
+        private long created;
+        private long generation;
+
+        private CachedUser(UserDetails user, byte[] apiTokenDigest, long generation) {
+            this.user = user;
+            this.apiTokenDigest = apiTokenDigest;
+            this.generation = generation;
+            this.created = System.currentTimeMillis();
+        }
+    }
+
+    private static class GenerationAwareUser extends User {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long generation;
+
+        private GenerationAwareUser(UserDetails user, long generation) {
+            super(user.getUsername(), user.getPassword(), user.isEnabled(), user.isAccountNonExpired(), user.isCredentialsNonExpired(), user.isAccountNonLocked(),
+                    user.getAuthorities());
+            this.generation = generation;
+        }
+    }
+}
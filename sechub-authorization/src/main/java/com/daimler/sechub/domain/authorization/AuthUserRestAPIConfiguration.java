@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,6 +28,9 @@ public class AuthUserRestAPIConfiguration {
 	@Autowired
 	PasswordEncoder passwordEncoder;
 
+	@Autowired
+	AuthUserDetailsCache userDetailsCache;
+
 	@Bean
 	public UserDetailsService userDetailsService(final AuthUserRepository repository) {
 		/* @formatter:off */
@@ -37,6 +41,14 @@ public class AuthUserRestAPIConfiguration {
 		/* @formatter:on */
 	}
 
+	@Bean
+	public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
+		/* API token verification is expensive, so provider uses cache */
+		AuthAPITokenAuthenticationProvider provider = new AuthAPITokenAuthenticationProvider(userDetailsCache, userDetailsService);
+		provider.setPasswordEncoder(passwordEncoder);
+		return provider;
+	}
+
 	static UserDetails adoptUser(AuthUser entity) {
 		UserBuilder builder = User.builder();
 		builder.username(entity.getUserId());
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.daimler.sechub.sharedkernel.RoleConstants;
+
+public class AuthAPITokenAuthenticationProviderTest {
+
+    private AuthAPITokenAuthenticationProvider providerToTest;
+    private AuthUserDetailsCache cache;
+    private UserDetailsService userDetailsService;
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Before
+    public void before() throws Exception {
+        /* low strength - test shall be fast */
+        passwordEncoder = new BCryptPasswordEncoder(4);
+
+        cache = new AuthUserDetailsCache();
+        cache.cacheEnabled = true;
+
+        userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("user1")).thenReturn(createUser("user1", "token1"));
+
+        providerToTest = new AuthAPITokenAuthenticationProvider(cache, userDetailsService);
+        providerToTest.setPasswordEncoder(passwordEncoder);
+    }
+
+    @Test
+    public void correct_token_is_accepted_and_second_authentication_uses_cache() {
+        /* execute */
+        Authentication authentication1 = providerToTest.authenticate(createAuthentication("user1", "token1"));
+        Authentication authentication2 = providerToTest.authenticate(createAuthentication("user1", "token1"));
+
+        /* test */
+        assertTrue(authentication1.isAuthenticated());
+        assertTrue(authentication2.isAuthenticated());
+        verify(userDetailsService, times(1)).loadUserByUsername(any());
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void wrong_token_is_rejected_when_user_is_not_cached() {
+        /* execute */
+        providerToTest.authenticate(createAuthentication("user1", "wrong-token"));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void wrong_token_is_rejected_when_cache_is_disabled() {
+        /* prepare */
+        cache.cacheEnabled = false;
+        providerToTest.authenticate(createAuthentication("user1", "token1"));
+
+        /* execute */
+        providerToTest.authenticate(createAuthentication("user1", "wrong-token"));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void wrong_token_is_rejected_when_user_is_cached() {
+        /* prepare */
+        providerToTest.authenticate(createAuthentication("user1", "token1"));
+        assertNotNull(cache.getUserFromCache("user1"));
+
+        /* execute */
+        providerToTest.authenticate(createAuthentication("user1", "wrong-token"));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void old_token_is_rejected_at_first_authentication_after_removal_from_cache() {
+        /* prepare */
+        providerToTest.authenticate(createAuthentication("user1", "token1"));
+
+        /* api token changed */
+        when(userDetailsService.loadUserByUsername("user1")).thenReturn(createUser("user1", "token2"));
+        cache.removeUserFromCache("user1");
+
+        /* execute */
+        providerToTest.authenticate(createAuthentication("user1", "token1"));
+    }
+
+    @Test
+    public void new_token_is_accepted_at_first_authentication_after_removal_from_cache() {
+        /* prepare */
+        providerToTest.authenticate(createAuthentication("user1", "token1"));
+
+        /* api token changed */
+        when(userDetailsService.loadUserByUsername("user1")).thenReturn(createUser("user1", "token2"));
+        cache.removeUserFromCache("user1");
+
+        /* execute */
+        Authentication authentication = providerToTest.authenticate(createAuthentication("user1", "token2"));
+
+        /* test */
+        assertTrue(authentication.isAuthenticated());
+    }
+
+    private UsernamePasswordAuthenticationToken createAuthentication(String userId, String apiToken) {
+        return new UsernamePasswordAuthenticationToken(userId, apiToken);
+    }
+
+    private UserDetails createUser(String userId, String apiToken) {
+        return User.builder().username(userId).password(passwordEncoder.encode(apiToken)).authorities(RoleConstants.ROLE_USER).build();
+    }
+}
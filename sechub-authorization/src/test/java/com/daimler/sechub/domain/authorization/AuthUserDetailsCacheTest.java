@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.daimler.sechub.sharedkernel.RoleConstants;
+
+public class AuthUserDetailsCacheTest {
+
+    private AuthUserDetailsCache cacheToTest;
+
+    @Before
+    public void before() throws Exception {
+        cacheToTest = new AuthUserDetailsCache();
+        cacheToTest.cacheEnabled = true;
+    }
+
+    @Test
+    public void verified_api_token_is_recognized() {
+        /* prepare */
+        UserDetails user = loadUser("user1", "hash1");
+
+        /* execute */
+        cacheToTest.markApiTokenVerified(user, "token1");
+
+        /* test */
+        assertTrue(cacheToTest.isApiTokenVerified(user, "token1"));
+        assertFalse(cacheToTest.isApiTokenVerified(user, "other-token"));
+    }
+
+    @Test
+    public void verification_is_not_used_when_hashed_api_token_has_changed() {
+        /* prepare */
+        cacheToTest.markApiTokenVerified(loadUser("user1", "hash1"), "token1");
+
+        /* execute + test */
+        assertFalse(cacheToTest.isApiTokenVerified(createUser("user1", "hash2"), "token1"));
+    }
+
+    @Test
+    public void removed_user_is_no_longer_cached_or_verified() {
+        /* prepare */
+        UserDetails user = loadUser("user1", "hash1");
+        cacheToTest.markApiTokenVerified(user, "token1");
+
+        /* execute */
+        cacheToTest.removeUserFromCache("user1");
+
+        /* test */
+        assertNull(cacheToTest.getUserFromCache("user1"));
+        assertFalse(cacheToTest.isApiTokenVerified(user, "token1"));
+    }
+
+    @Test
+    public void put_user_in_cache_keeps_verification_for_same_hashed_api_token() {
+        /* prepare */
+        UserDetails user = loadUser("user1", "hash1");
+        cacheToTest.markApiTokenVerified(user, "token1");
+
+        /* execute */
+        cacheToTest.putUserInCache(user);
+
+        /* test */
+        assertTrue(cacheToTest.isApiTokenVerified(user, "token1"));
+    }
+
+    @Test
+    public void cached_user_is_a_copy_so_erased_credentials_do_not_change_cache() {
+        /* prepare */
+        cacheToTest.putUserInCache(loadUser("user1", "hash1"));
+
+        /* execute */
+        User fromCache = (User) cacheToTest.getUserFromCache("user1");
+        fromCache.eraseCredentials();
+
+        /* test */
+        assertEquals("hash1", cacheToTest.getUserFromCache("user1").getPassword());
+    }
+
+    @Test
+    public void expired_entries_are_not_used() {
+        /* prepare */
+        cacheToTest.timeToLiveSeconds = -1;
+        UserDetails user = loadUser("user1", "hash1");
+        cacheToTest.markApiTokenVerified(user, "token1");
+
+        /* execute + test */
+        assertFalse(cacheToTest.isApiTokenVerified(user, "token1"));
+        assertNull(cacheToTest.getUserFromCache("user1"));
+    }
+
+    @Test
+    public void least_recently_used_user_is_removed_when_max_reached() {
+        /* prepare */
+        cacheToTest.maxEntries = 2;
+
+        /* execute */
+        cacheToTest.putUserInCache(loadUser("user1", "hash1"));
+        cacheToTest.putUserInCache(loadUser("user2", "hash2"));
+        cacheToTest.putUserInCache(loadUser("user3", "hash3"));
+
+        /* test */
+        assertNull(cacheToTest.getUserFromCache("user1"));
+        assertNotNull(cacheToTest.getUserFromCache("user2"));
+        assertNotNull(cacheToTest.getUserFromCache("user3"));
+    }
+
+    @Test
+    public void disabled_cache_does_nothing() {
+        /* prepare */
+        cacheToTest.cacheEnabled = false;
+        UserDetails user = loadUser("user1", "hash1");
+
+        /* execute */
+        cacheToTest.markApiTokenVerified(user, "token1");
+        cacheToTest.putUserInCache(user);
+
+        /* test */
+        assertFalse(cacheToTest.isApiTokenVerified(user, "token1"));
+        assertNull(cacheToTest.getUserFromCache("user1"));
+    }
+
+    @Test
+    public void user_loaded_before_removal_is_not_cached_after_removal() {
+        /* prepare */
+        UserDetails loadedBeforeRemoval = loadUser("user1", "hash1");
+        cacheToTest.removeUserFromCache("user1");
+
+        /* execute */
+        cacheToTest.putUserInCache(loadedBeforeRemoval);
+        cacheToTest.markApiTokenVerified(loadedBeforeRemoval, "token1");
+
+        /* test */
+        assertNull(cacheToTest.getUserFromCache("user1"));
+        assertFalse(cacheToTest.isApiTokenVerified(loadedBeforeRemoval, "token1"));
+    }
+
+    @Test
+    public void user_loaded_after_removal_is_cached() {
+        /* prepare */
+        cacheToTest.removeUserFromCache("user1");
+        UserDetails loadedAfterRemoval = loadUser("user1", "hash2");
+
+        /* execute */
+        cacheToTest.putUserInCache(loadedAfterRemoval);
+
+        /* test */
+        assertEquals("hash2", cacheToTest.getUserFromCache("user1").getPassword());
+    }
+
+    @Test
+    public void user_not_loaded_by_cache_is_not_cached() {
+        /* execute */
+        cacheToTest.putUserInCache(createUser("user1", "hash1"));
+
+        /* test */
+        assertNull(cacheToTest.getUserFromCache("user1"));
+    }
+
+    @Test
+    public void user_from_cache_can_be_cached_again() {
+        /* prepare */
+        cacheToTest.putUserInCache(loadUser("user1", "hash1"));
+        UserDetails fromCache = cacheToTest.getUserFromCache("user1");
+
+        /* execute */
+        cacheToTest.markApiTokenVerified(fromCache, "token1");
+
+        /* test */
+        assertTrue(cacheToTest.isApiTokenVerified(fromCache, "token1"));
+    }
+
+    private UserDetails loadUser(String userId, String hashedApiToken) {
+        return cacheToTest.loadUser(userId, id -> createUser(id, hashedApiToken));
+    }
+
+    private UserDetails createUser(String userId, String hashedApiToken) {
+        return User.builder().username(userId).password(hashedApiToken).authorities(RoleConstants.ROLE_USER).build();
+    }
+}
@@ -6,4 +6,12 @@ public class SecHubStorageUtil {
     public static String createStoragePath(String projectId) {
         return "jobstorage/"+projectId;
     }
+
+    public static String createResultStoragePath(String projectId) {
+        return "resultstorage/"+projectId;
+    }
+
+    public static String createReportStoragePath(String projectId) {
+        return "reportstorage/"+projectId;
+    }
 }
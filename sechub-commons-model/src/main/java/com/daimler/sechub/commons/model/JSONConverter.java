@@ -2,6 +2,7 @@
 package com.daimler.sechub.commons.model;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,4 +112,27 @@ public class JSONConverter {
         }
     }
 
+    /**
+     * Reads JSON from given input stream - the content is parsed directly from the
+     * stream and never materialized as one string
+     * 
+     * @param clazz       target class
+     * @param inputStream stream containing JSON, will not be closed
+     * @return object
+     * @throws JSONConverterException
+     */
+    public <T> T fromJSONStream(Class<T> clazz, InputStream inputStream) throws JSONConverterException {
+        if (clazz == null) {
+            throw new IllegalStateException("clazz may not be null!");
+        }
+        if (inputStream == null) {
+            throw new IllegalArgumentException("inputStream may not be null!");
+        }
+        try {
+            return mapper.readerFor(clazz).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(inputStream);
+        } catch (IOException e) {
+            throw new JSONConverterException("Was not able to convert JSON stream to " + clazz + " object", e);
+        }
+    }
+
 }
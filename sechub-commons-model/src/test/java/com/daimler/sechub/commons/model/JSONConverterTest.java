@@ -3,6 +3,9 @@ package com.daimler.sechub.commons.model;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -48,6 +51,29 @@ public class JSONConverterTest {
 		assertEquals("info1", result.getInfo());
 	}
 
+	@Test
+	public void fromJSONStream_correct_json_results_in_expected_object() throws Exception {
+		/* prepare */
+		ByteArrayInputStream inputStream = new ByteArrayInputStream("{'info':'info2'}".getBytes(StandardCharsets.UTF_8));
+
+		/* execute */
+		JSONConverterTestObject result = converterToTest.fromJSONStream(JSONConverterTestObject.class, inputStream);
+
+		/* test */
+		assertNotNull(result);
+		assertEquals("info2", result.getInfo());
+	}
+
+	@Test
+	public void fromJSONStream_invalid_json_throws_JSONConverterException() throws Exception {
+		/* prepare test */
+		expected.expect(JSONConverterException.class);
+		ByteArrayInputStream inputStream = new ByteArrayInputStream("{'info':".getBytes(StandardCharsets.UTF_8));
+
+		/* execute */
+		converterToTest.fromJSONStream(JSONConverterTestObject.class, inputStream);
+	}
+
 	@Test
 	public void fromJSON_when_string_null_throws_JSONConverterException() throws Exception {
 		/* prepare test */
@@ -6,6 +6,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.ArrayList;
@@ -25,16 +26,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.daimler.sechub.commons.model.TrafficLight;
 import com.daimler.sechub.docgen.util.RestDocPathFactory;
 import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
+import com.daimler.sechub.domain.scan.report.ScanReportResultFactory;
 import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReport;
 import com.daimler.sechub.test.ExampleConstants;
@@ -42,7 +47,8 @@ import com.daimler.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
+@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportHTMLCache.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
+@TestPropertySource(properties = "sechub.config.report.html.cache.enabled=false")
 @AutoConfigureRestDocs(uriScheme="https",uriHost=ExampleConstants.URI_SECHUB_SERVER,uriPort=443)
 public class ScanReportRestControllerRestDocTest {
 
@@ -59,6 +65,12 @@ public class ScanReportRestControllerRestDocTest {
 	@MockBean
 	HTMLScanResultReportModelBuilder modelBuilder;
 
+	@MockBean
+	ScanReportResultFactory scanReportResultFactory;
+
+	@Autowired
+	ScanReportHTMLCache htmlCache;
+
 	private UUID randomUUID;
 
 	@UseCaseRestDoc(useCase=UseCaseUserDownloadsJobReport.class,variant="JSON")
@@ -74,10 +86,14 @@ public class ScanReportRestControllerRestDocTest {
 		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
 
 		/* execute + test @formatter:off */
-	    this.mockMvc.perform(
+	    MvcResult mvcResult = this.mockMvc.perform(
 	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON_VALUE).
 	    			contentType(MediaType.APPLICATION_JSON_VALUE)
 	    		).
+	    			andExpect(request().asyncStarted()).
+	    			andReturn();
+
+	    this.mockMvc.perform(asyncDispatch(mvcResult)).
 	    			andExpect(status().isOk()).
 	    			andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"result\":{\"count\":1,\"findings\":[]},\"trafficLight\":\"YELLOW\"}")).
 
@@ -98,13 +114,18 @@ public class ScanReportRestControllerRestDocTest {
 		report.setTrafficLight(TrafficLight.YELLOW);
 
 		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+		when(scanReportResultFactory.create(report)).thenReturn(result1);
+		when(downloadReportService.getScanReportHTML(PROJECT1_ID, randomUUID)).thenAnswer(invocation -> htmlCache.getHTML(report));
 
 		/* execute + test @formatter:off */
-        this.mockMvc.perform(
+        MvcResult mvcResult = this.mockMvc.perform(
         		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_XHTML_XML).
         			contentType(MediaType.APPLICATION_JSON_VALUE)
-        		).  
+        		).
+        			andExpect(request().asyncStarted()).
+        			andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
         			andExpect(status().isOk()).
         			andExpect(content().contentType("text/html;charset=UTF-8")).
         			andExpect(content().encoding("UTF-8")).
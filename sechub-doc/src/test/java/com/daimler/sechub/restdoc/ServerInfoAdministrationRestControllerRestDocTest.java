@@ -5,8 +5,12 @@ import static com.daimler.sechub.test.TestURLBuilder.*;
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,8 +32,12 @@ import com.daimler.sechub.server.core.ServerInfoAdministrationRestController;
 import com.daimler.sechub.sharedkernel.Profiles;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.configuration.AbstractAllowSecHubAPISecurityConfiguration;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutionStatistic;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutors;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
 import com.daimler.sechub.sharedkernel.usecases.admin.status.UseCaseAdministratorChecksServerVersion;
+import com.daimler.sechub.sharedkernel.usecases.admin.status.UseCaseAdministratorFetchesMessagingStatistics;
 import com.daimler.sechub.test.ExampleConstants;
 import com.daimler.sechub.test.TestPortProvider;
 
@@ -52,6 +60,9 @@ public class ServerInfoAdministrationRestControllerRestDocTest {
 	@MockBean
 	InfoService serverInfoService;
 
+	@MockBean
+	AsynchronMessageExecutors asynchronMessageExecutors;
+
 	@Test
 	@UseCaseRestDoc(useCase = UseCaseAdministratorChecksServerVersion.class)
 	public void restdoc_admin_get_server_version() throws Exception {
@@ -70,6 +81,49 @@ public class ServerInfoAdministrationRestControllerRestDocTest {
 		/* @formatter:on */
 	}
 
+	@Test
+	@UseCaseRestDoc(useCase = UseCaseAdministratorFetchesMessagingStatistics.class)
+	public void restdoc_admin_fetches_messaging_statistics() throws Exception {
+		/*  prepare */
+		AsynchronMessageExecutionStatistic statistic = new AsynchronMessageExecutionStatistic();
+		statistic.setMessageId(MessageID.JOB_DONE.name());
+		statistic.setPoolSize(2);
+		statistic.setActiveThreads(1);
+		statistic.setQueueSize(3);
+		statistic.setExecuted(1200);
+		statistic.setRejected(0);
+		statistic.setAverageWaitMillis(12);
+		statistic.setMaxWaitMillis(340);
+		statistic.setAverageExecutionMillis(25);
+		statistic.setMaxExecutionMillis(810);
+
+		List<AsynchronMessageExecutionStatistic> statistics = new ArrayList<>();
+		statistics.add(statistic);
+		when(asynchronMessageExecutors.createStatistics()).thenReturn(statistics);
+
+		/* execute + test @formatter:off */
+		this.mockMvc.perform(
+				get(https(PORT_USED).buildGetServerMessagingStatisticsUrl()).
+					contentType(MediaType.APPLICATION_JSON_VALUE)
+				).
+					andExpect(status().isOk()).
+					andDo(document(RestDocPathFactory.createPath(UseCaseAdministratorFetchesMessagingStatistics.class),
+							responseFields(
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_MESSAGE_ID).description("The message id"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_POOL_SIZE).description("Maximum amount of threads handling this message id"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_ACTIVE_THREADS).description("Amount of threads currently handling messages"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_QUEUE_SIZE).description("Amount of messages currently waiting for execution"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_EXECUTED).description("Amount of handled messages since server start"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_REJECTED).description("Amount of messages which could not be queued because queue was full"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_AVERAGE_WAIT_MILLIS).description("Average time in milliseconds a message was waiting in queue"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_MAX_WAIT_MILLIS).description("Maximum time in milliseconds a message was waiting in queue"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_AVERAGE_EXECUTION_MILLIS).description("Average execution time of message handlers in milliseconds"),
+									fieldWithPath("[]."+AsynchronMessageExecutionStatistic.PROPERTY_MAX_EXECUTION_MILLIS).description("Maximum execution time of message handlers in milliseconds")
+							))
+				);
+		/* @formatter:on */
+	}
+
 	@Profile(Profiles.TEST)
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration extends AbstractAllowSecHubAPISecurityConfiguration {
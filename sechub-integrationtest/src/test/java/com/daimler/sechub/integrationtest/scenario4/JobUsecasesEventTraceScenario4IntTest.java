@@ -104,7 +104,8 @@ public class JobUsecasesEventTraceScenario4IntTest {
            /* 3 */
            asyncEvent(MessageID.JOB_RESTART_TRIGGERED).
                  from("com.daimler.sechub.domain.schedule.SchedulerRestartJobService").
-                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler").
+                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler",
+                    "com.daimler.sechub.domain.scan.ScanMessageHandler").
            /* 4 */
            asyncEvent(MessageID.JOB_STARTED).
                  from("com.daimler.sechub.domain.schedule.ScheduleJobLauncherService").
@@ -114,10 +115,6 @@ public class JobUsecasesEventTraceScenario4IntTest {
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.scan.ScanService").
            /* 6 */
-           syncEvent(MessageID.REQUEST_BATCH_JOB_STATUS).
-                 from("com.daimler.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.daimler.sechub.domain.schedule.batch.SchedulerBatchJobStatusRequestHandler").
-           /* 7 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.administration.job.JobAdministrationMessageHandler").
@@ -161,7 +158,8 @@ public class JobUsecasesEventTraceScenario4IntTest {
            /* 2 */
            asyncEvent(MessageID.JOB_RESTART_TRIGGERED).
                  from("com.daimler.sechub.domain.schedule.SchedulerRestartJobService").
-                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler").
+                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler",
+                    "com.daimler.sechub.domain.scan.ScanMessageHandler").
            /* 3 */
            asyncEvent(MessageID.JOB_STARTED).
                  from("com.daimler.sechub.domain.schedule.ScheduleJobLauncherService").
@@ -171,10 +169,6 @@ public class JobUsecasesEventTraceScenario4IntTest {
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.scan.ScanService").
            /* 5 */
-           syncEvent(MessageID.REQUEST_BATCH_JOB_STATUS).
-                 from("com.daimler.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.daimler.sechub.domain.schedule.batch.SchedulerBatchJobStatusRequestHandler").
-           /* 6 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.administration.job.JobAdministrationMessageHandler").
@@ -253,7 +247,8 @@ public class JobUsecasesEventTraceScenario4IntTest {
            /* 1 */
            asyncEvent(MessageID.JOB_RESTART_TRIGGERED).
                  from("com.daimler.sechub.domain.schedule.SchedulerRestartJobService").
-                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler").
+                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler",
+                    "com.daimler.sechub.domain.scan.ScanMessageHandler").
            /* 2 */
            asyncEvent(MessageID.JOB_STARTED).
                  from("com.daimler.sechub.domain.schedule.ScheduleJobLauncherService").
@@ -263,10 +258,6 @@ public class JobUsecasesEventTraceScenario4IntTest {
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.scan.ScanService").
            /* 4 */
-           syncEvent(MessageID.REQUEST_BATCH_JOB_STATUS).
-                 from("com.daimler.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.daimler.sechub.domain.schedule.batch.SchedulerBatchJobStatusRequestHandler").
-           /* 5 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.administration.job.JobAdministrationMessageHandler").
@@ -307,7 +298,8 @@ public class JobUsecasesEventTraceScenario4IntTest {
            /* 1 */
            asyncEvent(MessageID.JOB_RESTART_TRIGGERED).
                  from("com.daimler.sechub.domain.schedule.SchedulerRestartJobService").
-                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler").
+                 to("com.daimler.sechub.domain.notification.NotificationMessageHandler",
+                    "com.daimler.sechub.domain.scan.ScanMessageHandler").
            /* 2 */
            asyncEvent(MessageID.JOB_STARTED).
                  from("com.daimler.sechub.domain.schedule.ScheduleJobLauncherService").
@@ -317,10 +309,6 @@ public class JobUsecasesEventTraceScenario4IntTest {
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.scan.ScanService").
            /* 4 */
-           syncEvent(MessageID.REQUEST_BATCH_JOB_STATUS).
-                 from("com.daimler.sechub.domain.scan.ScanProgressMonitor").
-                 to("com.daimler.sechub.domain.schedule.batch.SchedulerBatchJobStatusRequestHandler").
-           /* 5 */
            asyncEvent(MessageID.JOB_DONE).
                  from("com.daimler.sechub.domain.schedule.batch.ScanExecutionTasklet").
                  to("com.daimler.sechub.domain.administration.job.JobAdministrationMessageHandler").
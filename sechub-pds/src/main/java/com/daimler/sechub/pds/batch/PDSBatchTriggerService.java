@@ -1,7 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.pds.batch;
 
-import java.util.Optional;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 
@@ -9,13 +9,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.daimler.sechub.pds.PDSJSONConverterException;
 import com.daimler.sechub.pds.PDSMustBeDocumented;
+import com.daimler.sechub.pds.execution.PDSExecutionAdmissionService;
 import com.daimler.sechub.pds.execution.PDSExecutionService;
 import com.daimler.sechub.pds.job.PDSJob;
+import com.daimler.sechub.pds.job.PDSJobConfiguration;
 import com.daimler.sechub.pds.job.PDSJobRepository;
 import com.daimler.sechub.pds.job.PDSJobStatusState;
 
@@ -24,38 +26,50 @@ public class PDSBatchTriggerService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PDSBatchTriggerService.class);
 
-    private static final int DEFAULT_INITIAL_DELAY_MILLIS = 3000;
-    private static final int DEFAULT_FIXED_DELAY_MILLIS = 5000;
+    static final int DEFAULT_INITIAL_DELAY_MILLIS = 3000;
+    static final int DEFAULT_FIXED_DELAY_MILLIS = 5000;
 
     private static final boolean DEFAULT_SCHEDULING_ENABLED = true;
 
+    private static final int DEFAULT_MAX_CANDIDATES = 20;
+
     @Autowired
     PDSExecutionService executionService;
 
+    @Autowired
+    PDSExecutionAdmissionService admissionService;
+
     @Autowired
     PDSJobRepository repository;
 
     @PDSMustBeDocumented(value="initial delay for next job trigger in milliseconds",scope="scheduler")
     @Value("${sechub.pds.config.trigger.nextjob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS + "}")
-    private String infoInitialDelay; // here only for logging - used in scheduler annotation as well!
+    private String infoInitialDelay; // here only for logging - used in scheduler annotation of PDSBatchTriggerWakeUpService as well!
 
     @PDSMustBeDocumented(value="delay for next job trigger in milliseconds",scope="scheduler")
     @Value("${sechub.pds.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
-    private String infoFixedDelay; // here only for logging - used in scheduler annotation as well!
+    private String infoFixedDelay; // here only for logging - used in scheduler annotation of PDSBatchTriggerWakeUpService as well!
 
     @PDSMustBeDocumented(value="Set scheduler enabled state",scope="scheduler")
     @Value("${sechub.pds.config.scheduling.enable:"+DEFAULT_SCHEDULING_ENABLED+"}")
     boolean schedulingEnabled=DEFAULT_SCHEDULING_ENABLED;
 
+    @PDSMustBeDocumented(value="Maximum amount of ready to start jobs inspected on one trigger to find a job which does not exceed product limits",scope="scheduler")
+    @Value("${sechub.pds.config.trigger.nextjob.candidates.max:"+DEFAULT_MAX_CANDIDATES+"}")
+    int maxCandidates=DEFAULT_MAX_CANDIDATES;
+
     @PostConstruct
     protected void postConstruct() {
         // show info about delay values in log (once)
         LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay", infoInitialDelay, infoFixedDelay);
     }
 
-    // default 10 seconds delay and 5 seconds initial
-    @Scheduled(initialDelayString = "${sechub.pds.config.trigger.nextjob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS
-            + "}", fixedDelayString = "${sechub.pds.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
+    /**
+     * Fetches next job which can be executed on this node and adds it to
+     * execution queue. Jobs of products having reached their limits are skipped,
+     * so they do not block jobs of other products. Is called by
+     * {@link PDSBatchTriggerWakeUpService} - either scheduled or on wake up.
+     */
     @Transactional
     public void triggerExecutionOfNextJob() {
         if (!schedulingEnabled) {
@@ -63,25 +77,41 @@ public class PDSBatchTriggerService {
             return;
         }
         LOG.trace("Trigger execution of next job started.");
-        if (executionService.isQueueFull()) {
+        if (!admissionService.isAbleToExecuteNextJob()) {
             LOG.debug("Execution service is not able to execute next job, so cancel here");
             return;
         }
-        /* query does auto increment version here! */
-        Optional<PDSJob> nextJob = repository.findNextJobToExecute();
-        if (!nextJob.isPresent()) {
+        List<PDSJob> nextJobs = repository.findNextJobsToExecute(maxCandidates);
+        if (nextJobs.isEmpty()) {
             LOG.trace("No next job present");
             return;
         }
-        PDSJob pdsJob = nextJob.get();
-        pdsJob.setState(PDSJobStatusState.QUEUED);
-
-        /*
-         * next is done async - so on leave of this methods PDS job version will be
-         * updated + state set to queue, so no other POD will process this job again
-         */
-        executionService.addToExecutionQueueAsynchron(pdsJob.getUUID());
+        for (PDSJob pdsJob : nextJobs) {
+            String productId = resolveProductId(pdsJob);
+            if (!admissionService.isAbleToExecuteJobOfProduct(productId)) {
+                LOG.trace("Job {} skipped, because product {} cannot be executed currently", pdsJob.getUUID(), productId);
+                continue;
+            }
+            pdsJob.setState(PDSJobStatusState.QUEUED);
+
+            /*
+             * next is done async - so on leave of this methods PDS job version will be
+             * updated + state set to queue, so no other POD will process this job again
+             */
+            executionService.addToExecutionQueueAsynchron(pdsJob.getUUID(), productId);
+            return;
+        }
+        LOG.debug("None of {} next jobs can be executed currently", nextJobs.size());
+    }
 
+    private String resolveProductId(PDSJob pdsJob) {
+        try {
+            return PDSJobConfiguration.fromJSON(pdsJob.getJsonConfiguration()).getProductId();
+        } catch (PDSJSONConverterException e) {
+            /* execution will fail and mark the job as failed - we only need no product limits here */
+            LOG.warn("Was not able to resolve product id of job {}", pdsJob.getUUID(), e);
+            return null;
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.batch;
+
+import static com.daimler.sechub.pds.batch.PDSBatchTriggerService.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.daimler.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * Wakes up {@link PDSBatchTriggerService} when a job becomes ready to start or
+ * a running job has ended, so the next job is fetched immediately. The fixed
+ * delay scheduling is also done here and is only a safety net. <br>
+ * <br>
+ * All trigger executions are done by one single thread, so a scheduled and a
+ * wake up execution can never run at the same time on this member - the
+ * transaction of the trigger is always committed before the next one starts.
+ * Multiple wake ups while an execution is pending are collapsed to one.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class PDSBatchTriggerWakeUpService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSBatchTriggerWakeUpService.class);
+
+    private static final boolean DEFAULT_WAKEUP_ENABLED = true;
+
+    @PDSMustBeDocumented(value = "When enabled, next job trigger is done immediately when a job is marked as ready to start or a running job has ended", scope = "scheduler")
+    @Value("${sechub.pds.config.trigger.nextjob.wakeup.enabled:" + DEFAULT_WAKEUP_ENABLED + "}")
+    boolean wakeUpEnabled = DEFAULT_WAKEUP_ENABLED;
+
+    @Autowired
+    @Lazy
+    PDSBatchTriggerService triggerService;
+
+    private final AtomicBoolean triggerPending = new AtomicBoolean();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pds-trigger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Scheduled(initialDelayString = "${sechub.pds.config.trigger.nextjob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS
+            + "}", fixedDelayString = "${sechub.pds.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
+    public void triggerBySchedule() {
+        triggerNow();
+    }
+
+    /**
+     * Wakes up the job trigger. When called inside a transaction, the wake up is
+     * done after the transaction has been committed - so the trigger will see the
+     * changes.
+     */
+    public void wakeUp() {
+        if (!wakeUpEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    triggerNow();
+                }
+            });
+            return;
+        }
+        triggerNow();
+    }
+
+    private void triggerNow() {
+        if (!triggerPending.compareAndSet(false, true)) {
+            LOG.trace("Trigger already pending");
+            return;
+        }
+        executor.execute(this::executeTrigger);
+    }
+
+    void executeTrigger() {
+        triggerPending.set(false);
+        try {
+            triggerService.triggerExecutionOfNextJob();
+        } catch (RuntimeException e) {
+            LOG.error("Trigger execution of next job failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -6,6 +6,10 @@ public class PDSProductSetup {
 
     private static final long DEFAULT_MINUTES_TO_WAIT_FOR_PRODUCRESULT = 120; // 2 hours
 
+    private static final int DEFAULT_MAX_CONCURRENT_JOBS = 0; // unlimited
+
+    private static final int DEFAULT_WEIGHT = 1;
+
     private boolean unzipUploads = DEFAULT_UNZIP_UPLOADS;
 
     private String id;
@@ -16,6 +20,10 @@ public class PDSProductSetup {
 
     private long minutesToWaitForProductResult = DEFAULT_MINUTES_TO_WAIT_FOR_PRODUCRESULT;
 
+    private int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
+    private int weight = DEFAULT_WEIGHT;
+
     /**
      * The description. Will be available at admin UI at configuration time.
      * Contains hints about usage (e.g. which variable must be set etc) - but is
@@ -89,4 +97,31 @@ public class PDSProductSetup {
         this.minutesToWaitForProductResult = minutesToWaitForProductResult;
     }
 
+    /**
+     * @return maximum amount of jobs for this product inside execution queue of
+     *         one PDS node at same time. A value lower than 1 means unlimited.
+     */
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * @return weight of one job for this product inside execution queue - a job
+     *         with weight 3 uses three entries of the queue. Always at least 1.
+     */
+    public int getWeight() {
+        if (weight < 1) {
+            weight = DEFAULT_WEIGHT;
+        }
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
 }
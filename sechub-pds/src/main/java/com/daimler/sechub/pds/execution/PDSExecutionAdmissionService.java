@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * Decides if this PDS node is able to take next job for execution. Checks
+ * execution queue (including weights and maximum concurrent jobs per product)
+ * and current system resources.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class PDSExecutionAdmissionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSExecutionAdmissionService.class);
+
+    private static final int DEFAULT_MAX_CPU_LOAD_PERCENT = 100;
+    private static final int DEFAULT_MIN_FREE_MEMORY_MB = 0;
+
+    @PDSMustBeDocumented(value = "Maximum system cpu load in percent (0-100). When current cpu load is higher, no new job will be started on this node. 100 means no check.", scope = "execution")
+    @Value("${sechub.pds.config.admission.cpu.load.max:" + DEFAULT_MAX_CPU_LOAD_PERCENT + "}")
+    int maxCpuLoadPercent = DEFAULT_MAX_CPU_LOAD_PERCENT;
+
+    @PDSMustBeDocumented(value = "Minimum free physical memory in megabytes. When less memory is free, no new job will be started on this node. 0 means no check.", scope = "execution")
+    @Value("${sechub.pds.config.admission.memory.free.min:" + DEFAULT_MIN_FREE_MEMORY_MB + "}")
+    long minFreeMemoryInMegabytes = DEFAULT_MIN_FREE_MEMORY_MB;
+
+    @Autowired
+    PDSExecutionService executionService;
+
+    @Autowired
+    PDSSystemResourceInspector resourceInspector;
+
+    /**
+     * Checks if queue has space and system resources are available to start any
+     * new job.
+     * 
+     * @return <code>true</code> when a new job can be started on this node
+     */
+    public boolean isAbleToExecuteNextJob() {
+        if (executionService.isQueueFull()) {
+            LOG.debug("Execution queue is full");
+            return false;
+        }
+        if (maxCpuLoadPercent < 100) {
+            double cpuLoad = resourceInspector.getSystemCpuLoadInPercent();
+            if (cpuLoad > maxCpuLoadPercent) {
+                LOG.debug("Cpu load {}% is higher than {}%", cpuLoad, maxCpuLoadPercent);
+                return false;
+            }
+        }
+        if (minFreeMemoryInMegabytes > 0) {
+            long freeMemory = resourceInspector.getFreePhysicalMemoryInMegabytes();
+            if (freeMemory >= 0 && freeMemory < minFreeMemoryInMegabytes) {
+                LOG.debug("Free memory {} MB is lower than {} MB", freeMemory, minFreeMemoryInMegabytes);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a job for given product can be started without exceeding
+     * product limits. Resources must be checked before by
+     * {@link #isAbleToExecuteNextJob()}.
+     * 
+     * @param productId product identifier, can be <code>null</code>
+     * @return <code>true</code> when a job of the product can be started
+     */
+    public boolean isAbleToExecuteJobOfProduct(String productId) {
+        return executionService.isQueueAbleToAddJobOfProduct(productId);
+    }
+
+}
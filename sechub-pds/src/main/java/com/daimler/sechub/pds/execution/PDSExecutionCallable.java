@@ -21,6 +21,7 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import com.daimler.sechub.pds.PDSJSONConverterException;
 import com.daimler.sechub.pds.job.PDSJobConfiguration;
 import com.daimler.sechub.pds.job.PDSJobTransactionService;
+import com.daimler.sechub.pds.job.PDSResultStorageService;
 import com.daimler.sechub.pds.job.PDSWorkspaceService;
 import com.daimler.sechub.pds.job.WorkspaceLocationData;
 import com.daimler.sechub.pds.usecase.PDSStep;
@@ -44,18 +45,22 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
 
     private PDSExecutionEnvironmentService environmentService;
 
+    private PDSResultStorageService resultStorageService;
+
     private UUID jobUUID;
 
     public PDSExecutionCallable(UUID jobUUID, PDSJobTransactionService jobTransactionService, PDSWorkspaceService workspaceService,
-            PDSExecutionEnvironmentService environmentService) {
+            PDSExecutionEnvironmentService environmentService, PDSResultStorageService resultStorageService) {
         notNull(jobUUID, "jobUUID may not be null!");
         notNull(jobTransactionService, "jobTransactionService may not be null!");
         notNull(workspaceService, "workspaceService may not be null!");
+        notNull(resultStorageService, "resultStorageService may not be null!");
 
         this.jobUUID = jobUUID;
         this.jobTransactionService = jobTransactionService;
         this.workspaceService = workspaceService;
         this.environmentService = environmentService;
+        this.resultStorageService = resultStorageService;
     }
 
     @Override
@@ -154,7 +159,13 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
         File file = workspaceService.getResultFile(jobUUID);
         String encoding = workspaceService.getFileEncoding(jobUUID);
 
-        if (file.exists()) {
+        if (file.exists() && resultStorageService.isResultStorageEnabled()) {
+            LOG.debug("Result file found - will stream data into result storage");
+            result.resultSize = file.length();
+            result.resultStorageName = resultStorageService.storeResultFile(jobUUID, file);
+            result.result = null;
+
+        } else if (file.exists()) {
             LOG.debug("Result file found - will read data and set as result");
             result.result = FileUtils.readFileToString(file, encoding);
         } else {
@@ -268,6 +279,8 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
     }
 
     private void cleanUpWorkspace(UUID jobUUID, PDSJobConfiguration config) {
+        workspaceService.releaseCachedUploads(jobUUID);
+
         if (workspaceService.isWorkspaceAutoCleanDisabled()) {
             LOG.info("Auto cleanup is disabled, so keep files at {}", workspaceService.getWorkspaceFolder(jobUUID));
             return;
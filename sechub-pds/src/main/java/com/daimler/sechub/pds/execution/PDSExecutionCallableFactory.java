@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.pds.job.PDSJobTransactionService;
+import com.daimler.sechub.pds.job.PDSResultStorageService;
 import com.daimler.sechub.pds.job.PDSWorkspaceService;
 
 @Component
@@ -21,7 +22,10 @@ public class PDSExecutionCallableFactory {
     @Autowired
     PDSExecutionEnvironmentService environmentService;
 
+    @Autowired
+    PDSResultStorageService resultStorageService;
+
     public PDSExecutionCallable createCallable(UUID jobUUID) {
-        return new PDSExecutionCallable(jobUUID, updateJobTransactionService, workspaceService,environmentService);
+        return new PDSExecutionCallable(jobUUID, updateJobTransactionService, workspaceService,environmentService, resultStorageService);
     }
 }
@@ -7,4 +7,8 @@ public class PDSExecutionResult {
     boolean failed;
     
     String result;
+
+    /* only set when result was written to result storage - result is null then */
+    String resultStorageName;
+    long resultSize;
 }
@@ -5,19 +5,20 @@ import static com.daimler.sechub.pds.util.PDSAssert.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PostConstruct;
 
@@ -25,11 +26,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.pds.PDSMustBeDocumented;
+import com.daimler.sechub.pds.batch.PDSBatchTriggerWakeUpService;
+import com.daimler.sechub.pds.config.PDSProductSetup;
+import com.daimler.sechub.pds.config.PDSServerConfigurationService;
 import com.daimler.sechub.pds.job.PDSJob;
+import com.daimler.sechub.pds.job.PDSJobEndData;
 import com.daimler.sechub.pds.job.PDSJobRepository;
 import com.daimler.sechub.pds.job.PDSJobStatusState;
 import com.daimler.sechub.pds.job.PDSJobTransactionService;
@@ -45,9 +51,13 @@ import com.daimler.sechub.pds.usecase.UseCaseUserCancelsJob;
  * 
  * <u>Details:</u><br>
  * A defined thread pool is used for execution queuing, an overload of the queue
- * must be checked by callers via {@link #isQueueFull()}. Execution itself is
+ * must be checked by callers via {@link #isQueueFull()}. Every queue entry has
+ * the weight of its product (see {@link PDSProductSetup#getWeight()}), so heavy
+ * products fill the queue faster. Execution itself is
  * done inside {@link PDSExecutionCallable} - execution state checks and changes
- * to database are done inside {@link PDSExecutionWatcher}
+ * to database are done inside {@link PDSExecutionWatcher}. The queue is
+ * lock free, changes for all jobs done are written to database in one
+ * transaction.
  * 
  * @author Albert Tregnaghi
  *
@@ -62,7 +72,8 @@ public class PDSExecutionService {
 
     final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private final PDSExecutionWatcher watcher = new PDSExecutionWatcher();
-    private final Map<UUID, Future<PDSExecutionResult>> jobsInQueue = new LinkedHashMap<>();
+    private final Map<UUID, PDSExecutionQueueEntry> jobsInQueue = new ConcurrentHashMap<>();
+    private final AtomicLong queueSequence = new AtomicLong();
 
     @PDSMustBeDocumented(value="Set amount of worker threads used for exeuctions", scope="execution")
     @Value("${sechub.pds.config.execute.worker.thread.count:" + DEFAULT_WORKER_THREAD_COUNT + "}")
@@ -84,6 +95,13 @@ public class PDSExecutionService {
     @Autowired
     PDSJobRepository repository;
 
+    @Autowired
+    @Lazy
+    PDSBatchTriggerWakeUpService triggerWakeUpService;
+
+    @Autowired
+    PDSServerConfigurationService serverConfigService;
+
     @PostConstruct
     protected void postConstruct() {
         workers = Executors.newFixedThreadPool(workerThreadCount);
@@ -95,94 +113,185 @@ public class PDSExecutionService {
     public boolean cancel(UUID jobUUID) {
         notNull(jobUUID, "job uuid may not be null!");
 
-        synchronized (jobsInQueue) {
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                if (jobUUID.equals(entry.getKey())) {
-                    Future<PDSExecutionResult> future = entry.getValue();
-                    if (future.isDone()) {
-                        /* already done or canceled */
-                        LOG.info("cancelation of job with uuid:{} skipped, because already done", jobUUID);
-                        return false;
-                    }
-                    boolean canceled = future.cancel(true);
-                    if (canceled) {
-                        LOG.info("canceled job with uuid:{}", jobUUID);
-                    } else {
-                        LOG.warn("cancelation of not done job with uuid:{} returned false - this should not happen");
-                    }
-                    return canceled;
-                }
-            }
+        PDSExecutionQueueEntry entry = jobsInQueue.get(jobUUID);
+        if (entry == null) {
             /*
              * job not found - either never existed or already canceled/done and removed by
              * watcher
              */
             return false;
         }
+        Future<PDSExecutionResult> future = entry.future;
+        if (future.isDone()) {
+            /* already done or canceled */
+            LOG.info("cancelation of job with uuid:{} skipped, because already done", jobUUID);
+            return false;
+        }
+        boolean canceled = future.cancel(true);
+        if (canceled) {
+            LOG.info("canceled job with uuid:{}", jobUUID);
+        } else {
+            LOG.warn("cancelation of not done job with uuid:{} returned false - this should not happen", jobUUID);
+        }
+        return canceled;
     }
 
     public boolean isQueueFull() {
-        synchronized (jobsInQueue) {
-            return jobsInQueue.size() >= queueMax;
+        return getWeightOfJobsInQueue() >= queueMax;
+    }
+
+    /**
+     * Checks if a job for given product can be added to queue without exceeding
+     * the maximum amount of concurrent jobs for the product or the queue
+     * maximum. When the queue is empty, every job fits - so products having a
+     * weight bigger than queue maximum are still executed.
+     * 
+     * @param productId product identifier, can be <code>null</code>
+     * @return <code>true</code> when a job for this product can be added
+     */
+    public boolean isQueueAbleToAddJobOfProduct(String productId) {
+        PDSProductSetup setup = getProductSetupOrNull(productId);
+        if (setup == null) {
+            return !isQueueFull();
+        }
+        int maxConcurrentJobs = setup.getMaxConcurrentJobs();
+        if (maxConcurrentJobs > 0 && countJobsOfProductInQueue(productId) >= maxConcurrentJobs) {
+            LOG.debug("product {} has already {} jobs in queue", productId, maxConcurrentJobs);
+            return false;
+        }
+        int weightInQueue = getWeightOfJobsInQueue();
+        if (weightInQueue == 0) {
+            return true;
         }
+        return weightInQueue + setup.getWeight() <= queueMax;
+    }
+
+    /**
+     * @return sum of weights for all jobs in queue
+     */
+    public int getWeightOfJobsInQueue() {
+        int weight = 0;
+        for (PDSExecutionQueueEntry entry : jobsInQueue.values()) {
+            weight += entry.weight;
+        }
+        return weight;
+    }
+
+    public int countJobsOfProductInQueue(String productId) {
+        int count = 0;
+        for (PDSExecutionQueueEntry entry : jobsInQueue.values()) {
+            if (productId != null && productId.equals(entry.productId)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     @Async
     public void addToExecutionQueueAsynchron(UUID jobUUID) {
-        Future<?> former = null;
-        synchronized (jobsInQueue) {
-            LOG.debug("add job to execution queue:{}", jobUUID);
-            int size = jobsInQueue.size();
-            if (size >= queueMax) {
-                LOG.warn("execution queue overload:{}/{}", size, queueMax);
-            }
-            PDSExecutionFutureTask task = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID));
-            workers.execute(task);
+        addToExecutionQueueAsynchron(jobUUID, null);
+    }
 
-            former = jobsInQueue.put(jobUUID, task);
+    @Async
+    public void addToExecutionQueueAsynchron(UUID jobUUID, String productId) {
+        LOG.debug("add job to execution queue:{}, product:{}", jobUUID, productId);
+        int weightInQueue = getWeightOfJobsInQueue();
+        if (weightInQueue >= queueMax) {
+            LOG.warn("execution queue overload:{}/{}", weightInQueue, queueMax);
         }
+        PDSProductSetup setup = getProductSetupOrNull(productId);
+        int weight = setup == null ? 1 : setup.getWeight();
+
+        PDSExecutionFutureTask task = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID));
+        PDSExecutionQueueEntry former = jobsInQueue.put(jobUUID, new PDSExecutionQueueEntry(jobUUID, productId, weight, queueSequence.incrementAndGet(), task));
+
+        workers.execute(task);
+
         handleFormerJob(jobUUID, former);
     }
 
+    /**
+     * Creates execution status. Queue information is taken from memory, job data
+     * for all queued jobs is fetched with one query - no lock is held, so
+     * status requests do never block queue or watcher.
+     * 
+     * @return status
+     */
     @UseCaseAdminFetchesMonitoringStatus(@PDSStep(name="db lookup",description = "service fetches all execution state",number=2))
     public PDSExecutionStatus getExecutionStatus() {
+        List<PDSExecutionQueueEntry> snapshot = createQueueSnapshot();
+
         PDSExecutionStatus status = new PDSExecutionStatus();
-        synchronized (jobsInQueue) {
-            status.queueMax = queueMax;
-            status.jobsInQueue = jobsInQueue.size();
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                Future<PDSExecutionResult> future = entry.getValue();
-                PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
-                statusEntry.done = future.isDone();
-                statusEntry.canceled = future.isCancelled();
-                statusEntry.jobUUID = entry.getKey();
-
-                Optional<PDSJob> jobOption = repository.findById(entry.getKey());
-                if (jobOption.isPresent()) {
-                    statusEntry.job = jobOption.get();
-                }
-                status.entries.add(statusEntry);
-            }
+        status.queueMax = queueMax;
+        status.jobsInQueue = snapshot.size();
+
+        if (snapshot.isEmpty()) {
+            return status;
+        }
+        List<UUID> jobUUIDs = new ArrayList<>(snapshot.size());
+        for (PDSExecutionQueueEntry entry : snapshot) {
+            jobUUIDs.add(entry.jobUUID);
+        }
+        Map<UUID, PDSJob> jobs = new HashMap<>();
+        for (PDSJob job : repository.findAllById(jobUUIDs)) {
+            jobs.put(job.getUUID(), job);
+        }
+
+        for (PDSExecutionQueueEntry entry : snapshot) {
+            Future<PDSExecutionResult> future = entry.future;
+            PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
+            statusEntry.done = future.isDone();
+            statusEntry.canceled = future.isCancelled();
+            statusEntry.jobUUID = entry.jobUUID;
+            statusEntry.job = jobs.get(entry.jobUUID);
+
+            status.entries.add(statusEntry);
         }
         return status;
     }
 
-    private void handleFormerJob(UUID jobUUID, Future<?> former) {
+    /**
+     * @return entries of queue, ordered by time of adding
+     */
+    private List<PDSExecutionQueueEntry> createQueueSnapshot() {
+        List<PDSExecutionQueueEntry> snapshot = new ArrayList<>(jobsInQueue.values());
+        snapshot.sort(Comparator.comparingLong(entry -> entry.sequence));
+        return snapshot;
+    }
+
+    private PDSProductSetup getProductSetupOrNull(String productId) {
+        if (productId == null || serverConfigService.getServerConfiguration() == null) {
+            return null;
+        }
+        return serverConfigService.getProductSetupOrNull(productId);
+    }
+
+    private void handleFormerJob(UUID jobUUID, PDSExecutionQueueEntry former) {
         if (former == null) {
             return;
         }
         LOG.error("Did found former job in queue with same job UUID:{}", jobUUID);
-        former.cancel(true);
+        former.future.cancel(true);
         LOG.info("Canceled former job {}", jobUUID);
 
     }
 
+    private static class PDSExecutionQueueEntry {
+        private final UUID jobUUID;
+        private final String productId;
+        private final int weight;
+        private final long sequence;
+        private final Future<PDSExecutionResult> future;
+
+        private PDSExecutionQueueEntry(UUID jobUUID, String productId, int weight, long sequence, Future<PDSExecutionResult> future) {
+            this.jobUUID = jobUUID;
+            this.productId = productId;
+            this.weight = weight;
+            this.sequence = sequence;
+            this.future = future;
+        }
+    }
+
     private class PDSExecutionWatcher implements Runnable {
 
         @Override
@@ -195,86 +304,86 @@ public class PDSExecutionService {
         }
 
         private void inspectJobsInQueue() {
-            synchronized (jobsInQueue) {
-                List<UUID> doneAndDatabaseChangesApplied = new ArrayList<>(0);
-                Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-
-                while (it.hasNext()) {
-
-                    Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                    Future<PDSExecutionResult> future = entry.getValue();
-
-                    if (future.isDone()) {
-                        if (isFutureDoneAndChangesToDatabaseCanBeApplied(entry, future)) {
-                            doneAndDatabaseChangesApplied.add(entry.getKey());
-                        }
-                    }
+            // we use this moment of time for all, currently the easiest and central way
+            LocalDateTime ended = LocalDateTime.now();
+
+            List<PDSExecutionQueueEntry> doneEntries = new ArrayList<>(0);
+            List<PDSJobEndData> endDataList = new ArrayList<>(0);
+            for (PDSExecutionQueueEntry entry : createQueueSnapshot()) {
+                if (entry.future.isDone()) {
+                    doneEntries.add(entry);
+                    endDataList.add(createEndData(entry, ended));
                 }
+            }
+            if (doneEntries.isEmpty()) {
+                return;
+            }
+            List<PDSExecutionQueueEntry> doneAndDatabaseChangesApplied = applyChangesToDatabase(doneEntries, endDataList);
 
-                for (UUID uuid : doneAndDatabaseChangesApplied) {
-                    jobsInQueue.remove(uuid);
-                }
+            for (PDSExecutionQueueEntry entry : doneAndDatabaseChangesApplied) {
+                /* remove only this entry - a job with same uuid could have been added meanwhile */
+                jobsInQueue.remove(entry.jobUUID, entry);
+            }
+            if (!doneAndDatabaseChangesApplied.isEmpty()) {
+                /* queue has space again */
+                triggerWakeUpService.wakeUp();
             }
         }
 
         /**
-         * Handles work being done - all done parts are marked automatically in database
+         * Writes end data of all done jobs in one transaction. When this fails, end
+         * data is written job by job, so one failing job cannot block all others.
          * 
-         * @param entry
-         * @param future
-         * @return <code>true</code> when work can be removed from jobsInQueue
+         * @return entries where database changes were applied and which can be
+         *         removed from jobsInQueue
          */
         @UseCaseUserCancelsJob(@PDSStep(name="queue work",description = "canceled job will be marked as CANCELED in db",number=5))
-        private boolean isFutureDoneAndChangesToDatabaseCanBeApplied(Entry<UUID, Future<PDSExecutionResult>> entry, Future<PDSExecutionResult> future) {
-            UUID jobUUID = entry.getKey();
+        private List<PDSExecutionQueueEntry> applyChangesToDatabase(List<PDSExecutionQueueEntry> doneEntries, List<PDSJobEndData> endDataList) {
+            try {
+                updateService.markJobsAsEndedInOwnTransaction(endDataList);
+                return doneEntries;
 
-            Optional<PDSJob> jobOption = repository.findById(jobUUID);
-            if (!jobOption.isPresent()) {
-                LOG.error("pds job with uuid:{} does no longer exist, but result available! So remove from queue", jobUUID);
-                return true;
+            } catch (Exception e) {
+                LOG.warn("Was not able to mark {} done jobs as ended in one transaction, will try one by one", doneEntries.size(), e);
             }
+            List<PDSExecutionQueueEntry> applied = new ArrayList<>();
+            for (int i = 0; i < doneEntries.size(); i++) {
+                PDSExecutionQueueEntry entry = doneEntries.get(i);
+                try {
+                    updateService.markJobsAsEndedInOwnTransaction(Collections.singletonList(endDataList.get(i)));
+                    applied.add(entry);
+                } catch (Exception e) {
+                    LOG.error("Was not able to handle work for job with uuid:{}", entry.jobUUID, e);
+                }
+            }
+            return applied;
+        }
 
+        private PDSJobEndData createEndData(PDSExecutionQueueEntry entry, LocalDateTime ended) {
+            UUID jobUUID = entry.jobUUID;
+            Future<PDSExecutionResult> future = entry.future;
+
+            if (future.isCancelled()) {
+                return new PDSJobEndData(jobUUID, PDSJobStatusState.CANCELED, null, ended);
+            }
             try {
-                PDSJob job = jobOption.get();
-                // we use this moment of time for all, currently the easiest and central way 
-                job.setEnded(LocalDateTime.now());
-                
-                if (future.isCancelled()) {
-                    job.setState(PDSJobStatusState.CANCELED);
-                } else {
-                    PDSExecutionResult callResult;
-                    try {
-                        callResult = future.get();
-                        LOG.debug("Fetch job result from future, pds job uuid={}, state={}",job.getUUID(),job.getState());
-                        job.setResult(callResult.result);
-                        
-                        if (callResult.failed) {
-                            job.setState(PDSJobStatusState.FAILED);
-                        } else {
-                            job.setState(PDSJobStatusState.DONE);
-                        }
-                        
-                    } catch (InterruptedException e) {
-                        LOG.error("Job with uuid:{} was interrupted", jobUUID, e);
-                        job.setState(PDSJobStatusState.FAILED);
-                        job.setResult("Job interrupted");
-                    } catch (ExecutionException e) {
-                        LOG.error("Job with uuid:{} failed in execution", jobUUID, e);
-                        job.setState(PDSJobStatusState.FAILED);
-                        job.setResult("Job execution failed");
-                    }
-                    LOG.debug("Handled job result and state job uuid={}, state={}",job.getUUID(),job.getState());
+                PDSExecutionResult callResult = future.get();
+                LOG.debug("Fetch job result from future, pds job uuid={}", jobUUID);
+
+                PDSJobStatusState state = callResult.failed ? PDSJobStatusState.FAILED : PDSJobStatusState.DONE;
+                if (callResult.resultStorageName != null) {
+                    return new PDSJobEndData(jobUUID, state, callResult.resultStorageName, callResult.resultSize, ended);
                 }
-                repository.save(job);
-                LOG.debug("Stored job pds uuid={}, state={}",job.getUUID(),job.getState());
+                return new PDSJobEndData(jobUUID, state, callResult.result, ended);
 
-                return true;
+            } catch (InterruptedException e) {
+                LOG.error("Job with uuid:{} was interrupted", jobUUID, e);
+                return new PDSJobEndData(jobUUID, PDSJobStatusState.FAILED, "Job interrupted", ended);
 
-            } catch (Exception e) {
-                LOG.error("Was not able to handle work for job with uuid:{}", jobUUID, e);
-                return false;
+            } catch (ExecutionException e) {
+                LOG.error("Job with uuid:{} failed in execution", jobUUID, e);
+                return new PDSJobEndData(jobUUID, PDSJobStatusState.FAILED, "Job execution failed", ended);
             }
-
         }
 
     }
@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.execution;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Inspects current system resources of the machine (or container) where this
+ * PDS node is running.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class PDSSystemResourceInspector {
+
+    private OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+
+    /**
+     * @return current cpu load of the whole system in percent (0-100) or a
+     *         negative value when not available
+     */
+    public double getSystemCpuLoadInPercent() {
+        if (!(operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean)) {
+            return -1;
+        }
+        double load = ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getSystemCpuLoad();
+        if (load < 0) {
+            return -1;
+        }
+        return load * 100;
+    }
+
+    /**
+     * @return free physical memory of the system in megabytes or a negative value
+     *         when not available
+     */
+    public long getFreePhysicalMemoryInMegabytes() {
+        if (!(operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean)) {
+            return -1;
+        }
+        long freeBytes = ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getFreePhysicalMemorySize();
+        return freeBytes / (1024 * 1024);
+    }
+}
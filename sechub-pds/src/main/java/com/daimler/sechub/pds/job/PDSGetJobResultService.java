@@ -4,12 +4,17 @@ package com.daimler.sechub.pds.job;
 import static com.daimler.sechub.pds.job.PDSJobAssert.*;
 import static com.daimler.sechub.pds.util.PDSAssert.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 
 import com.daimler.sechub.pds.security.PDSRoleConstants;
 import com.daimler.sechub.pds.usecase.PDSStep;
@@ -23,12 +28,33 @@ public class PDSGetJobResultService {
     @Autowired
     PDSJobRepository repository;
 
-    @UseCaseUserFetchesJobResult(@PDSStep(name="service call",description = "job result fetch from database, when not done a failure will be shown",number=2))
+    @Autowired
+    PDSResultStorageService resultStorageService;
+
     @RolesAllowed({PDSRoleConstants.ROLE_SUPERADMIN, PDSRoleConstants.ROLE_USER})
     public String getJobResult(UUID jobUUID) {
         return getJobResult(jobUUID, true);
     }
 
+    /**
+     * Writes result of given job to output stream - result is streamed and not
+     * loaded into memory when it is inside result storage. The output stream is
+     * not closed.
+     * 
+     * @param jobUUID
+     * @param outputStream
+     * @throws IOException
+     */
+    @UseCaseUserFetchesJobResult(@PDSStep(name="service call",description = "job result fetch from database or result storage, when not done a failure will be shown",number=2))
+    @RolesAllowed({PDSRoleConstants.ROLE_SUPERADMIN, PDSRoleConstants.ROLE_USER})
+    public void writeJobResult(UUID jobUUID, OutputStream outputStream) throws IOException {
+        PDSJob job = assertJobDone(jobUUID);
+
+        try (InputStream inputStream = resultStorageService.openResultStream(job)) {
+            StreamUtils.copy(inputStream, outputStream);
+        }
+    }
+
     @RolesAllowed(PDSRoleConstants.ROLE_SUPERADMIN)
     @UseCaseAdminFetchesJobResultOrFailureText(@PDSStep(name="service call",description = "result data will be returned - can be empty or even a failure text from job execution.",number=2))
     public String getJobResultOrFailureText(UUID jobUUID) {
@@ -36,13 +62,29 @@ public class PDSGetJobResultService {
     }
 
     private String getJobResult(UUID jobUUID, boolean onlyWhenDone) {
+        PDSJob job;
+        if (onlyWhenDone) {
+            job = assertJobDone(jobUUID);
+        } else {
+            notNull(jobUUID, "job uuid may not be null!");
+            job = assertJobFound(jobUUID, repository);
+        }
+        if (!job.isResultStoredInStorage()) {
+            return job.getResult();
+        }
+        try (InputStream inputStream = resultStorageService.openResultStream(job)) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to fetch result of job " + jobUUID + " from result storage", e);
+        }
+    }
+
+    private PDSJob assertJobDone(UUID jobUUID) {
         notNull(jobUUID, "job uuid may not be null!");
 
         PDSJob job = assertJobFound(jobUUID, repository);
-        if (onlyWhenDone) {
-            assertJobIsInState(job, PDSJobStatusState.DONE);
-        }
-        return job.getResult();
+        assertJobIsInState(job, PDSJobStatusState.DONE);
+        return job;
     }
 
 }
@@ -54,6 +54,8 @@ public class PDSJob {
     public static final String COLUMN_CONFIGURATION = "CONFIGURATION";
 
     public static final String COLUMN_RESULT = "RESULT";
+    public static final String COLUMN_RESULT_STORAGE_NAME = "RESULT_STORAGE_NAME";
+    public static final String COLUMN_RESULT_SIZE = "RESULT_SIZE";
 
     /* +-----------------------------------------------------------------------+ */
     /* +............................ JPQL .....................................+ */
@@ -73,6 +75,8 @@ public class PDSJob {
 
     public static final String PROPERTY_CONFIGURATION = "configuration";
     public static final String PROPERTY_RESULT = "result";
+    public static final String PROPERTY_RESULT_STORAGE_NAME = "resultStorageName";
+    public static final String PROPERTY_RESULT_SIZE = "resultSize";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -114,6 +118,16 @@ public class PDSJob {
     // https://stackoverflow.com/questions/25094410/hibernate-error-while-persisting-text-datatype?noredirect=1#comment39048566_25094410
     String result;
 
+    /**
+     * Name of result inside result storage - when set, result is not stored
+     * inside database
+     */
+    @Column(name = COLUMN_RESULT_STORAGE_NAME)
+    String resultStorageName;
+
+    @Column(name = COLUMN_RESULT_SIZE)
+    Long resultSize;
+
     @Enumerated(STRING)
     @Column(name = COLUMN_STATE, nullable = false)
     PDSJobStatusState state = PDSJobStatusState.CREATED;
@@ -182,6 +196,30 @@ public class PDSJob {
         return result;
     }
 
+    public void setResultStorageName(String resultStorageName) {
+        this.resultStorageName = resultStorageName;
+    }
+
+    public String getResultStorageName() {
+        return resultStorageName;
+    }
+
+    public void setResultSize(Long resultSize) {
+        this.resultSize = resultSize;
+    }
+
+    public Long getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * @return <code>true</code> when result is not inside database but inside
+     *         result storage
+     */
+    public boolean isResultStoredInStorage() {
+        return resultStorageName != null;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.job;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data to apply to a job when its execution has ended
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class PDSJobEndData {
+
+    private UUID jobUUID;
+    private PDSJobStatusState state;
+    private String result;
+    private LocalDateTime ended;
+    private String resultStorageName;
+    private long resultSize;
+
+    public PDSJobEndData(UUID jobUUID, PDSJobStatusState state, String result, LocalDateTime ended) {
+        this.jobUUID = jobUUID;
+        this.state = state;
+        this.result = result;
+        this.ended = ended;
+    }
+
+    /**
+     * Creates end data for a job where result was written to result storage
+     */
+    public PDSJobEndData(UUID jobUUID, PDSJobStatusState state, String resultStorageName, long resultSize, LocalDateTime ended) {
+        this(jobUUID, state, null, ended);
+        this.resultStorageName = resultStorageName;
+        this.resultSize = resultSize;
+    }
+
+    public UUID getJobUUID() {
+        return jobUUID;
+    }
+
+    public PDSJobStatusState getState() {
+        return state;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public LocalDateTime getEnded() {
+        return ended;
+    }
+
+    /**
+     * @return name of result inside result storage or <code>null</code> when
+     *         result is not stored there
+     */
+    public String getResultStorageName() {
+        return resultStorageName;
+    }
+
+    public long getResultSize() {
+        return resultSize;
+    }
+}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.pds.job;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PDSJobRepositoryCustom {
@@ -10,6 +11,16 @@ public interface PDSJobRepositoryCustom {
 	 *         necessary
 	 */
 	Optional<PDSJob> findNextJobToExecute();
+
+	/**
+	 * Fetches next executable jobs, ordered by creation time. The jobs are NOT
+	 * locked - a caller must change the chosen job inside a transaction, so the
+	 * version increment ensures only one POD will execute the job.
+	 * 
+	 * @param maxResults maximum amount of jobs
+	 * @return list of jobs, never <code>null</code>
+	 */
+	List<PDSJob> findNextJobsToExecute(int maxResults);
 	
 	long countJobsOfServerInState(String serverId, PDSJobStatusState state);
 }
@@ -58,6 +58,17 @@ public class PDSJobRepositoryImpl implements PDSJobRepositoryCustom {
         return Optional.ofNullable((PDSJob) singleResult);
     }
     
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PDSJob> findNextJobsToExecute(int maxResults) {
+        Query query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE);
+        query.setParameter(PROPERTY_SERVER_ID, serverConfigService.getServerId());
+        query.setParameter(PROPERTY_STATE, READY_TO_START);
+        query.setMaxResults(maxResults);
+
+        return query.getResultList();
+    }
+
     public long countJobsOfServerInState(String serverId, PDSJobStatusState state) {
         Query query = em.createQuery(JPQL_STRING_SELECT_COUNT_BY_STATUS_AND_SERVER_ID);
         query.setParameter(PROPERTY_SERVER_ID, serverConfigService.getServerId());
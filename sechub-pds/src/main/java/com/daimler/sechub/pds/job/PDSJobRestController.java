@@ -1,12 +1,16 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.pds.job;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -117,11 +121,16 @@ public class PDSJobRestController {
     @Validated
     @RequestMapping(path = "{jobUUID}/result", method = RequestMethod.GET)
     @UseCaseUserFetchesJobResult(@PDSStep(name="rest call",description = "a user wants to get result of job",number=1))
-    public String getJobResult(
-            @PathVariable("jobUUID") UUID jobUUID
-            ) {
+    public void getJobResult(
+            @PathVariable("jobUUID") UUID jobUUID,
+            HttpServletResponse response
+            ) throws IOException {
         /* @formatter:on */
-        return jobResultService.getJobResult(jobUUID);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        /* no content length set - so result is sent with chunked transfer encoding */
+        jobResultService.writeJobResult(jobUUID, response.getOutputStream());
     }
 	
 
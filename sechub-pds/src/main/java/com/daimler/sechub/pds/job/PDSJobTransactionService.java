@@ -5,6 +5,11 @@ import static com.daimler.sechub.pds.job.PDSJobAssert.*;
 import static com.daimler.sechub.pds.util.PDSAssert.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
@@ -12,10 +17,12 @@ import javax.annotation.security.RolesAllowed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.daimler.sechub.pds.batch.PDSBatchTriggerWakeUpService;
 import com.daimler.sechub.pds.security.PDSRoleConstants;
 
 @Service
@@ -27,6 +34,10 @@ public class PDSJobTransactionService {
     @Autowired
     PDSJobRepository repository;
 
+    @Autowired
+    @Lazy
+    PDSBatchTriggerWakeUpService triggerWakeUpService;
+
     public PDSJobTransactionService() {
         //
     }
@@ -36,6 +47,9 @@ public class PDSJobTransactionService {
     public void markReadyToStartInOwnTransaction(UUID jobUUID) {
         LOG.info("Mark job {} as ready to start", jobUUID);
         updateJobInOwnTransaction(jobUUID, null, null, null, PDSJobStatusState.READY_TO_START, PDSJobStatusState.CREATED);
+
+        /* done after commit */
+        triggerWakeUpService.wakeUp();
     }
 
     /**
@@ -47,6 +61,45 @@ public class PDSJobTransactionService {
         updateJobInOwnTransaction(uuid, null, LocalDateTime.now(), null, PDSJobStatusState.RUNNING, PDSJobStatusState.values());
     }
 
+    /**
+     * Marks all given jobs as ended - all jobs are updated inside one
+     * transaction
+     * 
+     * @param endDataList
+     */
+    public void markJobsAsEndedInOwnTransaction(List<PDSJobEndData> endDataList) {
+        notNull(endDataList, "end data list may not be null!");
+
+        Map<UUID, PDSJobEndData> endDataMap = new LinkedHashMap<>();
+        for (PDSJobEndData endData : endDataList) {
+            endDataMap.put(endData.getJobUUID(), endData);
+        }
+        List<PDSJob> jobs = repository.findAllById(endDataMap.keySet());
+        for (PDSJob job : jobs) {
+            PDSJobEndData endData = endDataMap.get(job.getUUID());
+
+            job.setEnded(endData.getEnded());
+            job.setState(endData.getState());
+            if (endData.getResult() != null) {
+                job.setResult(endData.getResult());
+            }
+            if (endData.getResultStorageName() != null) {
+                job.setResultStorageName(endData.getResultStorageName());
+                job.setResultSize(endData.getResultSize());
+            }
+        }
+        repository.saveAll(jobs);
+
+        if (jobs.size() != endDataMap.size()) {
+            Set<UUID> notFound = new LinkedHashSet<>(endDataMap.keySet());
+            for (PDSJob job : jobs) {
+                notFound.remove(job.getUUID());
+            }
+            LOG.error("pds jobs with uuids:{} do no longer exist, but results available! So results are ignored", notFound);
+        }
+        LOG.debug("Marked {} jobs as ended in own transaction", jobs.size());
+    }
+
     private void updateJobInOwnTransaction(UUID jobUUID, String result, LocalDateTime started, LocalDateTime ended, PDSJobStatusState newState,
             PDSJobStatusState... acceptedStatesBefore) {
         notNull(jobUUID, "job uuid may not be null!");
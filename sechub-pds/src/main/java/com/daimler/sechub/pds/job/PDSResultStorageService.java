@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.job;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.pds.PDSMustBeDocumented;
+import com.daimler.sechub.pds.config.PDSServerConfigurationService;
+import com.daimler.sechub.pds.storage.PDSMultiStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Service to store and fetch PDS job results. When result storage is enabled,
+ * result files are streamed into result storage (shared volume or S3) and the
+ * job contains only a reference and the size. Results are never read
+ * completely into memory in this mode.<br>
+ * <br>
+ * Result storage uses an own storage path, so it is not touched by the
+ * workspace cleanup which deletes the job upload storage.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class PDSResultStorageService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSResultStorageService.class);
+
+    static final String RESULT_STORAGE_NAME = "result.txt";
+    static final String RESULT_STORAGE_PATH_POSTFIX = "/resultstorage";
+
+    private static final boolean DEFAULT_RESULT_STORAGE_ENABLED = false;
+
+    @PDSMustBeDocumented(value = "When enabled, result files of jobs are streamed into result storage (shared volume or S3) and the database contains only a reference. Otherwise results are stored inside database.", scope = "execution")
+    @Value("${sechub.pds.config.result.storage.enabled:" + DEFAULT_RESULT_STORAGE_ENABLED + "}")
+    boolean resultStorageEnabled = DEFAULT_RESULT_STORAGE_ENABLED;
+
+    @Autowired
+    PDSMultiStorageService storageService;
+
+    @Autowired
+    PDSServerConfigurationService serverConfigService;
+
+    public boolean isResultStorageEnabled() {
+        return resultStorageEnabled;
+    }
+
+    /**
+     * Streams given result file into result storage
+     * 
+     * @param jobUUID
+     * @param resultFile
+     * @return name of result inside result storage
+     * @throws IOException
+     */
+    public String storeResultFile(UUID jobUUID, File resultFile) throws IOException {
+        JobStorage storage = getResultStorage(jobUUID);
+        try (InputStream inputStream = new FileInputStream(resultFile)) {
+            storage.store(RESULT_STORAGE_NAME, inputStream);
+        }
+        LOG.debug("Stored result file for job {} inside result storage, size:{}", jobUUID, resultFile.length());
+        return RESULT_STORAGE_NAME;
+    }
+
+    /**
+     * Opens a stream to result of given job - caller must close the stream.
+     * 
+     * @param job
+     * @return input stream (UTF-8), never <code>null</code>
+     * @throws IOException
+     */
+    public InputStream openResultStream(PDSJob job) throws IOException {
+        if (!job.isResultStoredInStorage()) {
+            String result = job.getResult();
+            if (result == null) {
+                result = "";
+            }
+            return new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8));
+        }
+        return getResultStorage(job.getUUID()).fetch(job.getResultStorageName());
+    }
+
+    private JobStorage getResultStorage(UUID jobUUID) {
+        return storageService.getJobStorage(serverConfigService.getStorageId() + RESULT_STORAGE_PATH_POSTFIX, jobUUID);
+    }
+}
@@ -0,0 +1,333 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.job;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * Node local cache for extracted uploads. Trees are identified by the SHA-256
+ * checksum of the uploaded file, so jobs of different products for the same
+ * sechub job - or scans of same content again - extract an upload only once.
+ * <br>
+ * <br>
+ * Jobs get views of a cached tree: files are hard linked into the workspace,
+ * when hard links are not possible files are copied. Hard linked files share
+ * their content with the cache and with views of other jobs. The files are
+ * marked as not writable, but this does NOT protect the content: a product
+ * running as file owner can change the permissions and modify the files. So
+ * the cache must only be used for trusted products.<br>
+ * <br>
+ * Every view holds a reference to its tree until {@link #release(UUID)} is
+ * called for the job. Trees without references are evicted in least recently
+ * used order when cache size exceeds the configured maximum - trees in use are
+ * never removed. Every load of a tree uses its own folder
+ * (<code>checksum-uuid</code>), so deleting an evicted tree never touches a
+ * folder of a tree loaded again for the same checksum. Because views are hard
+ * links, removing a tree from cache does not change existing views.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class PDSWorkspaceCacheService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSWorkspaceCacheService.class);
+
+    private static final String WORKSPACE_PARENT_FOLDER_PATH = "./";
+    private static final String CACHE_FOLDER_NAME = "workspace-cache";
+
+    private static final boolean DEFAULT_CACHE_ENABLED = false;
+    private static final long DEFAULT_CACHE_MAX_SIZE_IN_MEGABYTES = 10240;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static final Pattern SHA256_CHECKSUM_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    @PDSMustBeDocumented(value = "When enabled, extracted uploads are cached on this node by their SHA-256 checksum and jobs get hard linked views of the cached files. The zip file itself is not available for launcher scripts when the cache is used. Hard linked files share their content with the cache and other jobs: they are marked as not writable, but a product running as file owner is still able to change them. So enable the cache only for trusted products which do not modify uploaded files.", scope = "execution")
+    @Value("${sechub.pds.workspace.cache.enabled:" + DEFAULT_CACHE_ENABLED + "}")
+    boolean cacheEnabled = DEFAULT_CACHE_ENABLED;
+
+    @PDSMustBeDocumented(value = "Maximum size in megabytes of extracted uploads inside workspace cache. When exceeded, cached uploads not used by any job are removed (least recently used first).", scope = "execution")
+    @Value("${sechub.pds.workspace.cache.max.size.mb:" + DEFAULT_CACHE_MAX_SIZE_IN_MEGABYTES + "}")
+    long maxSizeInMegabytes = DEFAULT_CACHE_MAX_SIZE_IN_MEGABYTES;
+
+    @Value("${sechub.pds.workspace.rootfolder:" + WORKSPACE_PARENT_FOLDER_PATH + "}")
+    String workspaceRootFolder = WORKSPACE_PARENT_FOLDER_PATH;
+
+    /* access ordered, so iteration starts with least recently used tree - guarded by this */
+    private final Map<String, CachedTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+
+    /* trees referenced by jobs - guarded by this */
+    private final Map<UUID, List<CachedTree>> jobReferences = new HashMap<>();
+
+    private long cachedSizeInBytes;
+
+    /**
+     * Loads content of a cached tree into given (empty) folder
+     */
+    public interface CachedTreeLoader {
+        void load(File folder) throws IOException;
+    }
+
+    @PostConstruct
+    protected void postConstruct() {
+        if (!cacheEnabled) {
+            return;
+        }
+        /* cache index is only in memory, so former cache content is unknown and removed */
+        try {
+            FileUtils.deleteDirectory(getCacheFolder());
+        } catch (IOException e) {
+            LOG.error("Was not able to remove former workspace cache {}", getCacheFolder(), e);
+        }
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * @param checksum
+     * @return <code>true</code> when given checksum can be used as cache key
+     */
+    public boolean isValidChecksum(String checksum) {
+        return checksum != null && SHA256_CHECKSUM_PATTERN.matcher(checksum).matches();
+    }
+
+    /**
+     * Creates a read-only view of the cached tree for given checksum inside
+     * target folder. When the tree is not cached, it is loaded by given loader
+     * before. The job holds a reference to the tree until
+     * {@link #release(UUID)} is called.
+     *
+     * @param jobUUID      job using the view
+     * @param checksum     SHA-256 checksum of uploaded file
+     * @param loader       loader used when tree is not cached
+     * @param targetFolder folder where view is created
+     * @throws IOException
+     */
+    public void createView(UUID jobUUID, String checksum, CachedTreeLoader loader, File targetFolder) throws IOException {
+        if (!isValidChecksum(checksum)) {
+            throw new IllegalArgumentException("Not a valid SHA-256 checksum:" + checksum);
+        }
+        CachedTree tree = acquire(jobUUID, checksum);
+        try {
+            tree.ensureLoaded(loader);
+            linkOrCopy(tree.folder.toPath(), targetFolder.toPath());
+
+        } catch (IOException | RuntimeException e) {
+            releaseTree(jobUUID, tree);
+            throw e;
+        }
+        LOG.debug("Created view of cached tree {} for job {} at {}", checksum, jobUUID, targetFolder);
+
+        evictIfNecessary();
+    }
+
+    /**
+     * Releases all cached trees referenced by given job
+     *
+     * @param jobUUID
+     */
+    public void release(UUID jobUUID) {
+        synchronized (this) {
+            List<CachedTree> referenced = jobReferences.remove(jobUUID);
+            if (referenced == null) {
+                return;
+            }
+            for (CachedTree tree : referenced) {
+                tree.references--;
+            }
+        }
+        evictIfNecessary();
+    }
+
+    synchronized long getCachedSizeInBytes() {
+        return cachedSizeInBytes;
+    }
+
+    synchronized boolean isCached(String checksum) {
+        CachedTree tree = trees.get(checksum);
+        return tree != null && tree.loaded;
+    }
+
+    private synchronized CachedTree acquire(UUID jobUUID, String checksum) {
+        CachedTree tree = trees.get(checksum);
+        if (tree == null) {
+            tree = new CachedTree(checksum);
+            trees.put(checksum, tree);
+        }
+        tree.references++;
+        jobReferences.computeIfAbsent(jobUUID, uuid -> new ArrayList<>()).add(tree);
+        return tree;
+    }
+
+    private synchronized void releaseTree(UUID jobUUID, CachedTree tree) {
+        List<CachedTree> referenced = jobReferences.get(jobUUID);
+        if (referenced != null && referenced.remove(tree)) {
+            tree.references--;
+            if (referenced.isEmpty()) {
+                jobReferences.remove(jobUUID);
+            }
+        }
+        if (!tree.loaded && tree.references == 0) {
+            /* loading failed - next acquire will try again */
+            trees.remove(tree.checksum);
+        }
+    }
+
+    private synchronized void treeLoaded(CachedTree tree) {
+        cachedSizeInBytes += tree.sizeInBytes;
+    }
+
+    private void evictIfNecessary() {
+        List<CachedTree> evicted = new ArrayList<>();
+        synchronized (this) {
+            long maxSizeInBytes = maxSizeInMegabytes * BYTES_PER_MEGABYTE;
+            Iterator<CachedTree> it = trees.values().iterator();
+            while (cachedSizeInBytes > maxSizeInBytes && it.hasNext()) {
+                CachedTree tree = it.next();
+                if (tree.references > 0 || !tree.loaded) {
+                    /* in use or currently loading */
+                    continue;
+                }
+                it.remove();
+                cachedSizeInBytes -= tree.sizeInBytes;
+                evicted.add(tree);
+            }
+        }
+        /*
+         * delete outside of lock - every load uses its own folder, so a tree loaded
+         * again meanwhile for same checksum is not affected
+         */
+        for (CachedTree tree : evicted) {
+            try {
+                FileUtils.deleteDirectory(tree.folder);
+                LOG.debug("Evicted cached tree {} from workspace cache", tree.checksum);
+            } catch (IOException e) {
+                LOG.error("Was not able to delete evicted cached tree {}", tree.folder, e);
+            }
+        }
+    }
+
+    private File getCacheFolder() {
+        return Paths.get(workspaceRootFolder, CACHE_FOLDER_NAME).toFile();
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        AtomicLong linked = new AtomicLong();
+        AtomicLong copied = new AtomicLong();
+
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+
+            private boolean hardLinksSupported = true;
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Path targetFile = target.resolve(source.relativize(file));
+                if (hardLinksSupported) {
+                    try {
+                        Files.createLink(targetFile, file);
+                        linked.incrementAndGet();
+                        return FileVisitResult.CONTINUE;
+
+                    } catch (UnsupportedOperationException | FileSystemException e) {
+                        LOG.debug("Hard links not possible for {} - will copy files instead", target, e);
+                        hardLinksSupported = false;
+                    }
+                }
+                Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+                copied.incrementAndGet();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        LOG.debug("View {} created: {} files linked, {} files copied", target, linked, copied);
+    }
+
+    private class CachedTree {
+
+        private final String checksum;
+
+        /* unique per load - written inside synchronized ensureLoaded before loaded is set */
+        private File folder;
+
+        /* guarded by service */
+        private int references;
+
+        /* written inside synchronized ensureLoaded, read by service under its lock */
+        private volatile boolean loaded;
+        private long sizeInBytes;
+
+        private CachedTree(String checksum) {
+            this.checksum = checksum;
+        }
+
+        private synchronized void ensureLoaded(CachedTreeLoader loader) throws IOException {
+            if (loaded) {
+                return;
+            }
+            File loadFolder = new File(getCacheFolder(), checksum + "-" + UUID.randomUUID());
+            Files.createDirectories(loadFolder.toPath());
+            try {
+                loader.load(loadFolder);
+                sizeInBytes = makeReadOnlyAndCalculateSize(loadFolder.toPath());
+
+            } catch (IOException | RuntimeException e) {
+                FileUtils.deleteQuietly(loadFolder);
+                throw e;
+            }
+            folder = loadFolder;
+            loaded = true;
+            treeLoaded(this);
+
+            LOG.info("Cached tree {} loaded, size: {} bytes", checksum, sizeInBytes);
+        }
+
+        private long makeReadOnlyAndCalculateSize(Path path) throws IOException {
+            AtomicLong size = new AtomicLong();
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    size.addAndGet(attrs.size());
+                    /* views are hard links - only a hint for products, file owner can still change permissions */
+                    file.toFile().setWritable(false, false);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return size.get();
+        }
+    }
+
+}
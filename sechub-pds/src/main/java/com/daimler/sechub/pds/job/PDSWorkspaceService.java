@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,6 +14,7 @@ import java.util.UUID;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +27,7 @@ import com.daimler.sechub.pds.config.PDSProductSetup;
 import com.daimler.sechub.pds.config.PDSServerConfigurationService;
 import com.daimler.sechub.pds.storage.PDSMultiStorageService;
 import com.daimler.sechub.pds.storage.PDSStorageInfoCollector;
+import com.daimler.sechub.pds.util.PDSFileChecksumSHA256Service;
 import com.daimler.sechub.pds.util.PDSFileUnzipSupport;
 import com.daimler.sechub.pds.util.PDSFileUnzipSupport.UnzipResult;
 import com.daimler.sechub.storage.core.JobStorage;
@@ -38,6 +41,8 @@ public class PDSWorkspaceService {
     public static final String SYSTEM_ERROR_LOG = "system-error.log";
 
     private static final String UPLOAD = "upload";
+    private static final String UNZIPPED = "unzipped";
+    private static final String CHECKSUM_FILE_ENDING = ".checksum";
 
     private static final Logger LOG = LoggerFactory.getLogger(PDSWorkspaceService.class);
     private static final String WORKSPACE_PARENT_FOLDER_PATH = "./";
@@ -58,14 +63,28 @@ public class PDSWorkspaceService {
     @Autowired
     PDSStorageInfoCollector storageInfoCollector;
 
+    @Autowired
+    PDSWorkspaceCacheService workspaceCacheService;
+
+    @Autowired
+    PDSFileChecksumSHA256Service checksumService;
+
     @PDSMustBeDocumented(value = "Defines if workspace is automatically cleaned when no longer necessary - means launcher script has been executed and finished (failed or done)", scope = "execution")
     @Value("${sechub.pds.workspace.autoclean.disabled:false}")
     private boolean workspaceAutoCleanDisabled;
 
+    @PDSMustBeDocumented(value = "When enabled, zip files of products with enabled unzip are extracted directly from storage without copying the zip file into the workspace. The zip file itself is not available for launcher scripts in this mode and zip entries are extracted sequentially.", scope = "execution")
+    @Value("${sechub.pds.workspace.unzip.fromstorage.enabled:false}")
+    boolean unzipDirectlyFromStorage;
+
     /**
      * Prepares workspace:
      * <ol>
      * <li><Fetch data from storage and copy to local workspace</li>
+     * <li>When workspace cache is enabled, zip files having a checksum are not
+     * copied but linked from the extracted and cached content</li>
+     * <li>When unzip from storage is enabled, zip files are not copied but
+     * extracted directly</li>
      * </ol>
      * 
      * @param config
@@ -78,7 +97,17 @@ public class PDSWorkspaceService {
 
         LOG.debug("For jobUUID={} following names are found in storage:{}", jobUUID, names);
 
+        boolean useCache = workspaceCacheService.isCacheEnabled() && isUnzipUploadsEnabled(config);
+        boolean unzipFromStorage = unzipDirectlyFromStorage && isUnzipUploadsEnabled(config);
+
         for (String name : names) {
+            if (useCache && isZipFileName(name) && createViewFromCache(jobUUID, storage, names, name)) {
+                continue;
+            }
+            if (unzipFromStorage && isZipFileName(name)) {
+                unzipFromStorage(jobUUID, storage, name);
+                continue;
+            }
 
             InputStream fetchedInputStream = storage.fetch(name);
             File uploadFile = new File(jobFolder, name);
@@ -95,6 +124,80 @@ public class PDSWorkspaceService {
 
     }
 
+    private void unzipFromStorage(UUID jobUUID, JobStorage storage, String name) throws IOException {
+        File destDir = new File(new File(getUploadFolder(jobUUID), UNZIPPED), FilenameUtils.getBaseName(name));
+
+        try (InputStream fetchedInputStream = storage.fetch(name)) {
+            UnzipResult unzipResult = fileUnzipSupport.unzipArchive(fetchedInputStream, name, destDir);
+
+            LOG.info("Unzipped {} files from storage to {}", unzipResult.getExtractedFilesCount(), unzipResult.getTargetLocation());
+        }
+    }
+
+    private boolean createViewFromCache(UUID jobUUID, JobStorage storage, Set<String> names, String name) {
+        String checksum = fetchChecksumOrNull(storage, names, name);
+        if (!workspaceCacheService.isValidChecksum(checksum)) {
+            LOG.debug("No usable checksum found for {} of job {} - workspace cache not used", name, jobUUID);
+            return false;
+        }
+        File destDir = new File(new File(getUploadFolder(jobUUID), UNZIPPED), FilenameUtils.getBaseName(name));
+        try {
+            workspaceCacheService.createView(jobUUID, checksum, folder -> loadIntoCache(storage, name, checksum, folder), destDir);
+            LOG.info("Created view of cached {} for job {} at {}", name, jobUUID, destDir);
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Was not able to use workspace cache for {} of job {} - will fetch from storage", name, jobUUID, e);
+            try {
+                FileUtils.deleteDirectory(destDir);
+            } catch (IOException e2) {
+                LOG.error("Was not able to remove partial view {}", destDir, e2);
+            }
+            return false;
+        }
+    }
+
+    private String fetchChecksumOrNull(JobStorage storage, Set<String> names, String name) {
+        String checksumName = name + CHECKSUM_FILE_ENDING;
+        if (!names.contains(checksumName)) {
+            return null;
+        }
+        try (InputStream checksumInputStream = storage.fetch(checksumName)) {
+            return IOUtils.toString(checksumInputStream, StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            LOG.warn("Was not able to fetch checksum {}", checksumName, e);
+            return null;
+        }
+    }
+
+    private void loadIntoCache(JobStorage storage, String name, String checksum, File folder) throws IOException {
+        File zipFile = new File(folder.getParentFile(), checksum + ".zip");
+        try {
+            try (InputStream fetchedInputStream = storage.fetch(name)) {
+                FileUtils.copyInputStreamToFile(fetchedInputStream, zipFile);
+            }
+            /* cached content is shared with other jobs - so ensure it really has the expected checksum */
+            if (!checksumService.hasCorrectChecksum(checksum, zipFile.getAbsolutePath())) {
+                throw new IOException("Checksum of " + name + " does not match " + checksum);
+            }
+            UnzipResult unzipResult = fileUnzipSupport.unzipArchive(zipFile, folder);
+
+            LOG.info("Unzipped {} files into workspace cache {}", unzipResult.getExtractedFilesCount(), unzipResult.getTargetLocation());
+        } finally {
+            Files.deleteIfExists(zipFile.toPath());
+        }
+    }
+
+    private boolean isUnzipUploadsEnabled(PDSJobConfiguration config) {
+        PDSProductSetup product = serverConfigService.getProductSetupOrNull(config.getProductId());
+        /* when product does not exist, unzipUploadsWhenConfigured() will fail later */
+        return product != null && product.isUnzipUploads();
+    }
+
+    private boolean isZipFileName(String name) {
+        return name.endsWith(".zip");
+    }
+
     private JobStorage fetchStorage(UUID pdsJobUUID, PDSJobConfiguration config) {
 
         UUID jobUUID;
@@ -171,7 +274,7 @@ public class PDSWorkspaceService {
 
             @Override
             public boolean accept(File pathname) {
-                return pathname.getName().endsWith(".zip");
+                return isZipFileName(pathname.getName());
             }
         });
         int amountOfFiles = zipFiles.length;
@@ -179,7 +282,7 @@ public class PDSWorkspaceService {
         if (amountOfFiles == 0) {
             return;
         }
-        File unzipFolder = new File(uploadFolder, "unzipped");
+        File unzipFolder = new File(uploadFolder, UNZIPPED);
         for (File zipFile : zipFiles) {
 
             File destDir = new File(unzipFolder, FilenameUtils.getBaseName(zipFile.getName()));
@@ -195,6 +298,17 @@ public class PDSWorkspaceService {
 
     }
 
+    /**
+     * Releases workspace cache content used by given job. Must be called even
+     * when workspace auto clean is disabled - otherwise the content can never be
+     * evicted from cache.
+     * 
+     * @param jobUUID
+     */
+    public void releaseCachedUploads(UUID jobUUID) {
+        workspaceCacheService.release(jobUUID);
+    }
+
     public void cleanup(UUID jobUUID, PDSJobConfiguration config) throws IOException {
         FileUtils.deleteDirectory(getWorkspaceFolder(jobUUID));
         LOG.info("Removed workspace folder for job {}", jobUUID);
@@ -2,24 +2,79 @@
 package com.daimler.sechub.pds.util;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
-import org.apache.commons.io.IOUtils;
+import javax.annotation.PreDestroy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.daimler.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * Support to unzip archives into PDS workspaces. Zip files are opened with
+ * random access ({@link ZipFile}) and entries are extracted in parallel by a
+ * bounded thread pool shared by all jobs. Every job has at most as many
+ * extractions in flight as the pool has threads, so a big zip file does not
+ * block extractions of other jobs until it is done - the jobs interleave. Zip
+ * streams (e.g. directly from storage) are extracted sequentially.<br>
+ * <br>
+ * For both variants entries outside of target folder (zip slip) are rejected
+ * and the amount of entries and the extracted size are limited - the size is
+ * counted while writing, so wrong sizes inside zip headers do not matter.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 @Component
 public class PDSFileUnzipSupport {
 
     private static final Logger LOG = LoggerFactory.getLogger(PDSFileUnzipSupport.class);
 
+    private static final int DEFAULT_THREAD_COUNT = 4;
+    private static final int DEFAULT_MAX_ENTRIES = 500000;
+    private static final long DEFAULT_MAX_SIZE_IN_MEGABYTES = 10240;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    @PDSMustBeDocumented(value = "Amount of threads used to extract entries of zip files in parallel. Threads are shared by all jobs on this node.", scope = "execution")
+    @Value("${sechub.pds.config.unzip.thread.count:" + DEFAULT_THREAD_COUNT + "}")
+    int threadCount = DEFAULT_THREAD_COUNT;
+
+    @PDSMustBeDocumented(value = "Maximum amount of entries inside one zip file. Zip files having more entries are not extracted.", scope = "execution")
+    @Value("${sechub.pds.config.unzip.max.entries:" + DEFAULT_MAX_ENTRIES + "}")
+    int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    @PDSMustBeDocumented(value = "Maximum size in megabytes of all extracted files of one zip file. Extraction is stopped when the limit is reached.", scope = "execution")
+    @Value("${sechub.pds.config.unzip.max.size.mb:" + DEFAULT_MAX_SIZE_IN_MEGABYTES + "}")
+    long maxSizeInMegabytes = DEFAULT_MAX_SIZE_IN_MEGABYTES;
+
+    private ExecutorService unzipExecutorService;
+
     public class UnzipResult {
         private int extractedFilesCount;
         private int createdFoldersCount;
@@ -44,47 +99,187 @@ public class PDSFileUnzipSupport {
         }
     }
 
+    /**
+     * Extracts given zip file into destination folder. Entries are extracted in
+     * parallel.
+     *
+     * @param file
+     * @param destDir
+     * @return result
+     * @throws IOException when zip cannot be read, contains entries outside of
+     *                     destination folder or exceeds limits
+     */
     public UnzipResult unzipArchive(File file, File destDir) throws IOException {
         UnzipResult result = new UnzipResult();
         if (!file.exists()) {
             LOG.error("cannot unzip {} because zip file does not exist!", file.getAbsolutePath());
             return result;
         }
+        prepareDestination(result, destDir, file.getAbsolutePath());
+
+        try (ZipFile zipFile = new ZipFile(file)) {
+            if (zipFile.size() > maxEntries) {
+                throw new IOException("Zip file contains " + zipFile.size() + " entries, but maximum is " + maxEntries);
+            }
+            /* last entry wins - same as on sequential extraction */
+            Map<File, ZipEntry> filesToExtract = new LinkedHashMap<>();
+            long announcedSize = 0;
+
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                File newFile = newFile(result, destDir, zipEntry);
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                if (zipEntry.getSize() > 0) {
+                    announcedSize += zipEntry.getSize();
+                }
+                filesToExtract.put(newFile, zipEntry);
+            }
+            assertSizeNotExceeded(announcedSize);
+
+            extractInParallel(zipFile, filesToExtract);
+        }
+        return result;
+    }
+
+    /**
+     * Extracts given zip stream into destination folder. Entries are extracted
+     * sequentially - but no zip file is necessary, so data can be streamed
+     * directly e.g. from storage. The stream is not closed.
+     *
+     * @param zipInputStream
+     * @param sourceLocation
+     * @param destDir
+     * @return result
+     * @throws IOException when zip cannot be read, contains entries outside of
+     *                     destination folder or exceeds limits
+     */
+    public UnzipResult unzipArchive(InputStream zipInputStream, String sourceLocation, File destDir) throws IOException {
+        UnzipResult result = new UnzipResult();
+        prepareDestination(result, destDir, sourceLocation);
+
+        AtomicLong extractedSize = new AtomicLong();
+        int entryCount = 0;
+
+        /* zip input stream is not closed, because this would close given stream */
+        ZipInputStream zis = new ZipInputStream(zipInputStream);
+        ZipEntry zipEntry = zis.getNextEntry();
+        while (zipEntry != null) {
+            entryCount++;
+            if (entryCount > maxEntries) {
+                throw new IOException("Zip stream contains more than " + maxEntries + " entries");
+            }
+            File newFile = newFile(result, destDir, zipEntry);
+            if (!zipEntry.isDirectory()) {
+                copy(zis, newFile, extractedSize);
+            }
+            zipEntry = zis.getNextEntry();
+        }
+        return result;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (unzipExecutorService != null) {
+            unzipExecutorService.shutdownNow();
+        }
+    }
+
+    private void prepareDestination(UnzipResult result, File destDir, String sourceLocation) {
         if (!destDir.exists()) {
             destDir.mkdirs();
         }
         result.targetLocation = destDir.getAbsolutePath();
-        result.sourceLocation = file.getAbsolutePath();
+        result.sourceLocation = sourceLocation;
 
         LOG.debug("start unzipping of {} into {}", result.sourceLocation, result.targetLocation);
+    }
 
-        try (ZipInputStream zis = new ZipInputStream(new FileInputStream(file))) {
+    private void extractInParallel(ZipFile zipFile, Map<File, ZipEntry> filesToExtract) throws IOException {
+        AtomicLong extractedSize = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executorService = getUnzipExecutorService();
 
-            ZipEntry zipEntry = zis.getNextEntry();
-            while (zipEntry != null) {
-                File newFile = newFile(result, destDir, zipEntry);
-                copy(zis, newFile);
-                zipEntry = zis.getNextEntry();
+        /*
+         * bound in-flight extractions of this job - next entry is submitted only
+         * when one of this job is done, so it is queued behind the entries of
+         * other jobs
+         */
+        Semaphore inFlight = new Semaphore(Math.max(1, threadCount));
+
+        List<Future<?>> futures = new ArrayList<>(filesToExtract.size());
+        try {
+            for (Map.Entry<File, ZipEntry> entry : filesToExtract.entrySet()) {
+                File newFile = entry.getKey();
+                ZipEntry zipEntry = entry.getValue();
+
+                inFlight.acquire();
+                if (failed.get()) {
+                    /* no further submits - failure is thrown when futures are inspected */
+                    inFlight.release();
+                    break;
+                }
+                futures.add(executorService.submit(() -> {
+                    try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                        copy(inputStream, newFile, extractedSize);
+                    } catch (IOException | RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IOException("Unzip was interrupted", e);
+
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
-            zis.closeEntry();
+            throw new IOException("Unzip failed", cause);
         }
-        return result;
     }
 
-    private void copy(ZipInputStream zis, File newFile) throws FileNotFoundException, IOException {
-        LOG.trace("Handle", newFile);
+    private void cancelAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
 
-        if (newFile.isDirectory()) {
-            /* we do not copy directory streams... */
-            LOG.trace("Skipped, because directory:{}", newFile);
-            return;
+    private synchronized ExecutorService getUnzipExecutorService() {
+        if (unzipExecutorService == null) {
+            unzipExecutorService = Executors.newFixedThreadPool(Math.max(1, threadCount), new UnzipThreadFactory());
         }
+        return unzipExecutorService;
+    }
+
+    private void copy(InputStream inputStream, File newFile, AtomicLong extractedSize) throws IOException {
+        LOG.trace("Create:{}", newFile);
 
-        /* create/copy file from zip content */
-        try (FileOutputStream fos = new FileOutputStream(newFile)) {
-            LOG.trace("Create:{}", newFile);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (OutputStream outputStream = new FileOutputStream(newFile)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                assertSizeNotExceeded(extractedSize.addAndGet(read));
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
 
-            IOUtils.copy(zis, fos);
+    private void assertSizeNotExceeded(long size) throws IOException {
+        if (size > maxSizeInMegabytes * BYTES_PER_MEGABYTE) {
+            throw new IOException("Extracted size exceeds maximum of " + maxSizeInMegabytes + " MB");
         }
     }
 
@@ -107,8 +302,23 @@ public class PDSFileUnzipSupport {
         } else {
 
             unzipResult.extractedFilesCount++;
+
+            /* parent folder may be not contained as own entry */
+            Files.createDirectories(destFile.getParentFile().toPath());
         }
 
         return destFile;
     }
+
+    private static class UnzipThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pds-unzip-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
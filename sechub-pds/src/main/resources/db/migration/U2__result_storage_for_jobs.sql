@@ -0,0 +1,2 @@
+ALTER TABLE pds_job DROP COLUMN result_storage_name;
+ALTER TABLE pds_job DROP COLUMN result_size;
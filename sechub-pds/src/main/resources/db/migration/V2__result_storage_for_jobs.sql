@@ -0,0 +1,2 @@
+ALTER TABLE pds_job ADD COLUMN result_storage_name varchar(255); -- name of result inside result storage, null when result is inside result column
+ALTER TABLE pds_job ADD COLUMN result_size bigint; -- size of stored result in bytes
@@ -2,14 +2,17 @@
 package com.daimler.sechub.pds.batch;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import com.daimler.sechub.pds.execution.PDSExecutionAdmissionService;
 import com.daimler.sechub.pds.execution.PDSExecutionService;
 import com.daimler.sechub.pds.job.PDSJob;
 import com.daimler.sechub.pds.job.PDSJobRepository;
@@ -20,16 +23,22 @@ public class PDSBatchTriggerServiceTest {
     private PDSBatchTriggerService serviceToTest;
     private PDSExecutionService executionService;
     private PDSJobRepository repository;
+    private PDSExecutionAdmissionService admissionService;
 
     @Before
     public void before() throws Exception {
         executionService = mock(PDSExecutionService.class);
         repository = mock(PDSJobRepository.class);
+        admissionService = mock(PDSExecutionAdmissionService.class);
+
+        when(admissionService.isAbleToExecuteNextJob()).thenReturn(true);
+        when(admissionService.isAbleToExecuteJobOfProduct(any())).thenReturn(true);
 
         serviceToTest = new PDSBatchTriggerService();
 
         serviceToTest.executionService = executionService;
         serviceToTest.repository = repository;
+        serviceToTest.admissionService = admissionService;
     }
 
     @Test
@@ -38,7 +47,7 @@ public class PDSBatchTriggerServiceTest {
         PDSJob job = new PDSJob();
         job.setState(PDSJobStatusState.READY_TO_START);
 
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        when(repository.findNextJobsToExecute(anyInt())).thenReturn(Collections.singletonList(job));
 
         /* check precondition */
         assertEquals(PDSJobStatusState.READY_TO_START, job.getState());
@@ -57,7 +66,7 @@ public class PDSBatchTriggerServiceTest {
         PDSJob job = new PDSJob();
         job.setState(PDSJobStatusState.READY_TO_START);
 
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        when(repository.findNextJobsToExecute(anyInt())).thenReturn(Collections.singletonList(job));
 
         /* check precondition */
         assertEquals(PDSJobStatusState.READY_TO_START, job.getState());
@@ -76,28 +85,67 @@ public class PDSBatchTriggerServiceTest {
         UUID uuid = UUID.randomUUID();
         PDSJob job = mock(PDSJob.class);
         when(job.getUUID()).thenReturn(uuid);
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        when(repository.findNextJobsToExecute(anyInt())).thenReturn(Collections.singletonList(job));
         
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
         
         /* test */
-        verify(executionService,never()).addToExecutionQueueAsynchron(uuid);
+        verify(executionService,never()).addToExecutionQueueAsynchron(eq(uuid), any());
     }
     
     @Test
     public void a_job_found_for_next_execution_executor_service_called() {
         /* prepare */
         UUID uuid = UUID.randomUUID();
-        PDSJob job = mock(PDSJob.class);
-        when(job.getUUID()).thenReturn(uuid);
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        PDSJob job = mockJob(uuid, "PRODUCT_1");
+        when(repository.findNextJobsToExecute(anyInt())).thenReturn(Collections.singletonList(job));
         
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
         
         /* test */
-        verify(executionService).addToExecutionQueueAsynchron(uuid);
+        verify(executionService).addToExecutionQueueAsynchron(uuid, "PRODUCT_1");
+    }
+
+    @Test
+    public void admission_service_not_able_to_execute_next_job_no_jobs_fetched_and_executor_service_not_called() {
+        /* prepare */
+        when(admissionService.isAbleToExecuteNextJob()).thenReturn(false);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(repository, never()).findNextJobsToExecute(anyInt());
+        verify(executionService, never()).addToExecutionQueueAsynchron(any(), any());
+    }
+
+    @Test
+    public void older_job_of_product_at_limit_is_skipped_and_newer_job_of_other_product_is_queued() {
+        /* prepare */
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        PDSJob job1 = mockJob(uuid1, "PRODUCT_SAST");
+        PDSJob job2 = mockJob(uuid2, "PRODUCT_SECRETS");
+        when(repository.findNextJobsToExecute(anyInt())).thenReturn(Arrays.asList(job1, job2));
+        when(admissionService.isAbleToExecuteJobOfProduct("PRODUCT_SAST")).thenReturn(false);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(job1, never()).setState(any());
+        verify(job2).setState(PDSJobStatusState.QUEUED);
+        verify(executionService, never()).addToExecutionQueueAsynchron(eq(uuid1), any());
+        verify(executionService).addToExecutionQueueAsynchron(uuid2, "PRODUCT_SECRETS");
+    }
+
+    private PDSJob mockJob(UUID uuid, String productId) {
+        PDSJob job = mock(PDSJob.class);
+        when(job.getUUID()).thenReturn(uuid);
+        when(job.getJsonConfiguration()).thenReturn("{\"productId\":\"" + productId + "\"}");
+        return job;
     }
 
 }
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.batch;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PDSBatchTriggerWakeUpServiceTest {
+
+    private PDSBatchTriggerWakeUpService serviceToTest;
+    private PDSBatchTriggerService triggerService;
+
+    @Before
+    public void before() throws Exception {
+        triggerService = mock(PDSBatchTriggerService.class);
+
+        serviceToTest = new PDSBatchTriggerWakeUpService();
+        serviceToTest.triggerService = triggerService;
+    }
+
+    @After
+    public void after() {
+        serviceToTest.shutdown();
+    }
+
+    @Test
+    public void wake_up_calls_trigger_service() {
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(triggerService, timeout(2000)).triggerExecutionOfNextJob();
+    }
+
+    @Test
+    public void scheduled_trigger_calls_trigger_service_even_when_wake_up_disabled() {
+        /* prepare */
+        serviceToTest.wakeUpEnabled = false;
+
+        /* execute */
+        serviceToTest.triggerBySchedule();
+
+        /* test */
+        verify(triggerService, timeout(2000)).triggerExecutionOfNextJob();
+    }
+
+    @Test
+    public void wake_up_disabled_does_not_call_trigger_service() throws Exception {
+        /* prepare */
+        serviceToTest.wakeUpEnabled = false;
+
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        Thread.sleep(100);
+        verify(triggerService, never()).triggerExecutionOfNextJob();
+    }
+
+}
@@ -84,6 +84,12 @@ public class PDSServerConfigurationServiceTest {
         assertEquals("PRODUCT_2",product2.getId());
         assertEquals(PDSScanType.INFRA_SCAN,product2.getScanType());
         assertEquals("/srv/security/scanner2.sh",product2.getPath());
+        assertEquals(2,product2.getMaxConcurrentJobs());
+        assertEquals(3,product2.getWeight());
+        
+        /* defaults */
+        assertEquals(0,product1.getMaxConcurrentJobs());
+        assertEquals(1,product1.getWeight());
         
     }
     
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.execution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PDSExecutionAdmissionServiceTest {
+
+    private PDSExecutionAdmissionService serviceToTest;
+    private PDSExecutionService executionService;
+    private PDSSystemResourceInspector resourceInspector;
+
+    @Before
+    public void before() throws Exception {
+        executionService = mock(PDSExecutionService.class);
+        resourceInspector = mock(PDSSystemResourceInspector.class);
+
+        serviceToTest = new PDSExecutionAdmissionService();
+        serviceToTest.executionService = executionService;
+        serviceToTest.resourceInspector = resourceInspector;
+    }
+
+    @Test
+    public void queue_full_not_able_to_execute_next_job() {
+        /* prepare */
+        when(executionService.isQueueFull()).thenReturn(true);
+
+        /* execute + test */
+        assertFalse(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void queue_not_full_and_no_resource_limits_defined_able_to_execute_next_job_without_inspecting_resources() {
+        /* execute */
+        boolean result = serviceToTest.isAbleToExecuteNextJob();
+
+        /* test */
+        assertTrue(result);
+        verifyNoInteractions(resourceInspector);
+    }
+
+    @Test
+    public void cpu_load_higher_than_max_not_able_to_execute_next_job() {
+        /* prepare */
+        serviceToTest.maxCpuLoadPercent = 80;
+        when(resourceInspector.getSystemCpuLoadInPercent()).thenReturn(85.0);
+
+        /* execute + test */
+        assertFalse(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void cpu_load_lower_than_max_able_to_execute_next_job() {
+        /* prepare */
+        serviceToTest.maxCpuLoadPercent = 80;
+        when(resourceInspector.getSystemCpuLoadInPercent()).thenReturn(75.0);
+
+        /* execute + test */
+        assertTrue(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void cpu_load_not_available_able_to_execute_next_job() {
+        /* prepare */
+        serviceToTest.maxCpuLoadPercent = 80;
+        when(resourceInspector.getSystemCpuLoadInPercent()).thenReturn(-1.0);
+
+        /* execute + test */
+        assertTrue(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void free_memory_lower_than_min_not_able_to_execute_next_job() {
+        /* prepare */
+        serviceToTest.minFreeMemoryInMegabytes = 1024;
+        when(resourceInspector.getFreePhysicalMemoryInMegabytes()).thenReturn(1000L);
+
+        /* execute + test */
+        assertFalse(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void free_memory_higher_than_min_able_to_execute_next_job() {
+        /* prepare */
+        serviceToTest.minFreeMemoryInMegabytes = 1024;
+        when(resourceInspector.getFreePhysicalMemoryInMegabytes()).thenReturn(2048L);
+
+        /* execute + test */
+        assertTrue(serviceToTest.isAbleToExecuteNextJob());
+    }
+
+    @Test
+    public void job_of_product_admission_is_delegated_to_execution_service() {
+        /* prepare */
+        when(executionService.isQueueAbleToAddJobOfProduct("PRODUCT_1")).thenReturn(true);
+
+        /* execute + test */
+        assertTrue(serviceToTest.isAbleToExecuteJobOfProduct("PRODUCT_1"));
+        assertFalse(serviceToTest.isAbleToExecuteJobOfProduct("PRODUCT_2"));
+    }
+
+}
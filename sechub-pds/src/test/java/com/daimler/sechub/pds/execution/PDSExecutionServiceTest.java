@@ -2,22 +2,32 @@
 package com.daimler.sechub.pds.execution;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.daimler.sechub.pds.batch.PDSBatchTriggerWakeUpService;
+import com.daimler.sechub.pds.config.PDSProductSetup;
+import com.daimler.sechub.pds.config.PDSServerConfiguration;
+import com.daimler.sechub.pds.config.PDSServerConfigurationService;
 import com.daimler.sechub.pds.job.PDSJob;
+import com.daimler.sechub.pds.job.PDSJobEndData;
 import com.daimler.sechub.pds.job.PDSJobRepository;
+import com.daimler.sechub.pds.job.PDSJobStatusState;
 import com.daimler.sechub.pds.job.PDSJobTestHelper;
 import com.daimler.sechub.pds.job.PDSJobTransactionService;
+import com.daimler.sechub.pds.job.PDSResultStorageService;
 import com.daimler.sechub.pds.job.PDSWorkspaceService;
 
 public class PDSExecutionServiceTest {
@@ -31,6 +41,8 @@ public class PDSExecutionServiceTest {
 
     private PDSJobTransactionService updateService;
 
+    private PDSServerConfigurationService serverConfigService;
+
     @Before
     public void before() throws Exception {
         repository = mock(PDSJobRepository.class);
@@ -44,6 +56,11 @@ public class PDSExecutionServiceTest {
         serviceToTest.repository = repository;
         serviceToTest.executionCallableFactory = executionCallableFactory;
         serviceToTest.updateService=updateService;
+        serviceToTest.triggerWakeUpService=mock(PDSBatchTriggerWakeUpService.class);
+
+        serverConfigService = mock(PDSServerConfigurationService.class);
+        when(serverConfigService.getServerConfiguration()).thenReturn(new PDSServerConfiguration());
+        serviceToTest.serverConfigService = serverConfigService;
     }
 
     @After
@@ -62,7 +79,8 @@ public class PDSExecutionServiceTest {
         private PDSExecutionResult result;
 
         public TestPDSExecutionCallable(UUID jobUUID, long waitMillis, PDSExecutionResult result) {
-            super(jobUUID, mock(PDSJobTransactionService.class), mock(PDSWorkspaceService.class), mock(PDSExecutionEnvironmentService.class));
+            super(jobUUID, mock(PDSJobTransactionService.class), mock(PDSWorkspaceService.class), mock(PDSExecutionEnvironmentService.class),
+                    mock(PDSResultStorageService.class));
             this.waitMillis = waitMillis;
             this.result = result;
         }
@@ -102,6 +120,67 @@ public class PDSExecutionServiceTest {
         assertFalse(serviceToTest.isQueueFull());
     }
 
+    @Test
+    public void job_of_product_with_weight_3_uses_3_entries_of_queue() {
+        /* prepare */
+        serviceToTest.queueMax = 4;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        defineProductSetup("PRODUCT_HEAVY", 0, 3);
+        UUID uuid1 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(new TestPDSExecutionCallable(uuid1, 1000, result1));
+
+        /* execute */
+        serviceToTest.addToExecutionQueueAsynchron(uuid1, "PRODUCT_HEAVY");
+
+        /* test */
+        assertEquals(3, serviceToTest.getWeightOfJobsInQueue());
+        assertFalse(serviceToTest.isQueueFull());
+        assertFalse(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_HEAVY"));
+        assertTrue(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_UNKNOWN"));
+    }
+
+    @Test
+    public void job_of_product_with_weight_bigger_than_queuemax_can_be_added_when_queue_is_empty() {
+        /* prepare */
+        serviceToTest.queueMax = 2;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        defineProductSetup("PRODUCT_HEAVY", 0, 5);
+
+        /* execute + test */
+        assertTrue(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_HEAVY"));
+    }
+
+    @Test
+    public void product_with_max_concurrent_jobs_2_cannot_add_third_job_but_other_product_can() {
+        /* prepare */
+        serviceToTest.queueMax = 10;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        defineProductSetup("PRODUCT_SAST", 2, 1);
+        defineProductSetup("PRODUCT_SECRETS", 0, 1);
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(new TestPDSExecutionCallable(uuid1, 1000, result1));
+        when(executionCallableFactory.createCallable(uuid2)).thenReturn(new TestPDSExecutionCallable(uuid2, 1000, result1));
+
+        /* execute */
+        serviceToTest.addToExecutionQueueAsynchron(uuid1, "PRODUCT_SAST");
+        assertTrue(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_SAST"));
+        serviceToTest.addToExecutionQueueAsynchron(uuid2, "PRODUCT_SAST");
+
+        /* test */
+        assertEquals(2, serviceToTest.countJobsOfProductInQueue("PRODUCT_SAST"));
+        assertFalse(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_SAST"));
+        assertTrue(serviceToTest.isQueueAbleToAddJobOfProduct("PRODUCT_SECRETS"));
+    }
+
+    private void defineProductSetup(String productId, int maxConcurrentJobs, int weight) {
+        PDSProductSetup setup = new PDSProductSetup();
+        setup.setId(productId);
+        setup.setMaxConcurrentJobs(maxConcurrentJobs);
+        setup.setWeight(weight);
+        when(serverConfigService.getProductSetupOrNull(productId)).thenReturn(setup);
+    }
+
     @Test
     public void when_service_queuemax_is_1_queue_having_one_entry_is_full_after_work_is_done_queue_no_longer_full() throws Exception {
         /* prepare */
@@ -138,9 +217,7 @@ public class PDSExecutionServiceTest {
         PDSJob job3 = PDSJobTestHelper.createTestJob(uuid3);
         when(executionCallableFactory.createCallable(uuid3)).thenReturn(new TestPDSExecutionCallable(uuid3,500, result1));
 
-        when(repository.findById(uuid1)).thenReturn(Optional.of(job1));
-        when(repository.findById(uuid2)).thenReturn(Optional.of(job2));
-        when(repository.findById(uuid3)).thenReturn(Optional.of(job3));
+        when(repository.findAllById(any())).thenReturn(Arrays.asList(job3, job1, job2));
         
         serviceToTest.addToExecutionQueueAsynchron(uuid1);
         serviceToTest.addToExecutionQueueAsynchron(uuid2);
@@ -179,6 +256,75 @@ public class PDSExecutionServiceTest {
 
     }
 
+    @Test
+    public void done_jobs_are_marked_as_ended_in_one_transaction_and_removed_from_queue() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 2;
+        serviceToTest.watcherDisabled = false; // enable watcher
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        result1.result = "result1";
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(new TestPDSExecutionCallable(uuid1, 0, result1));
+        when(executionCallableFactory.createCallable(uuid2)).thenReturn(new TestPDSExecutionCallable(uuid2, 0, result1));
+
+        /* execute */
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+        serviceToTest.addToExecutionQueueAsynchron(uuid2);
+
+        /* test */
+        assertQueueNoLongerAndNotTimedOut(10, 300);
+        assertEquals(0, serviceToTest.getExecutionStatus().jobsInQueue);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PDSJobEndData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateService, atLeastOnce()).markJobsAsEndedInOwnTransaction(captor.capture());
+        int amountOfEndedJobs = 0;
+        for (List<PDSJobEndData> endDataList : captor.getAllValues()) {
+            for (PDSJobEndData endData : endDataList) {
+                assertEquals(PDSJobStatusState.DONE, endData.getState());
+                assertEquals("result1", endData.getResult());
+                amountOfEndedJobs++;
+            }
+        }
+        assertEquals(2, amountOfEndedJobs);
+    }
+
+    @Test
+    public void when_batched_database_update_fails_done_jobs_are_marked_one_by_one() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 2;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(new TestPDSExecutionCallable(uuid1, 0, result1));
+        when(executionCallableFactory.createCallable(uuid2)).thenReturn(new TestPDSExecutionCallable(uuid2, 0, result1));
+        doThrow(new IllegalStateException("batch failed")).when(updateService).markJobsAsEndedInOwnTransaction(argThat(list -> list.size() > 1));
+
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+        serviceToTest.addToExecutionQueueAsynchron(uuid2);
+        Thread.sleep(100); // both jobs are done
+
+        /* execute */
+        serviceToTest.watcherDisabled = false; // enable watcher
+        waitUntilQueueEmpty(10, 300);
+
+        /* test */
+        verify(updateService, times(2)).markJobsAsEndedInOwnTransaction(argThat(list -> list.size() == 1));
+    }
+
+    private void waitUntilQueueEmpty(int maxLoops, long timeToWaitInMillisPerLoop) throws InterruptedException {
+        int count = 0;
+
+        while (serviceToTest.getExecutionStatus().jobsInQueue > 0) {
+            count++;
+            if (count > maxLoops) {
+                fail("Waited " + timeToWaitInMillisPerLoop * count + " so timed out - queue is not empty!");
+            }
+            Thread.sleep(timeToWaitInMillisPerLoop);
+        }
+    }
+
     private void assertQueueNoLongerAndNotTimedOut(int maxLoops, long timeToWaitInMillisPerLoop) throws InterruptedException {
         int count = 0;
 
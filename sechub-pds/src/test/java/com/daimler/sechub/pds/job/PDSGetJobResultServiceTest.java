@@ -2,8 +2,12 @@
 package com.daimler.sechub.pds.job;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +28,7 @@ public class PDSGetJobResultServiceTest {
     private UUID jobUUID;
     private PDSJobRepository repository;
     private PDSJob job;
+    private PDSResultStorageService resultStorageService;
 
 
     @Before
@@ -38,6 +43,9 @@ public class PDSGetJobResultServiceTest {
         
         serviceToTest = new PDSGetJobResultService();
         serviceToTest.repository=repository;
+        
+        resultStorageService = mock(PDSResultStorageService.class);
+        serviceToTest.resultStorageService=resultStorageService;
     }
 
     @Test
@@ -75,6 +83,50 @@ public class PDSGetJobResultServiceTest {
         assertEquals("the result", result);
     }
     
+    @Test
+    public void job_done_result_inside_result_storage_is_fetched_from_storage() throws Exception {
+        /* prepare */
+        job.state=PDSJobStatusState.DONE;
+        job.resultStorageName="result.txt";
+        when(resultStorageService.openResultStream(job)).thenReturn(new ByteArrayInputStream("stored result".getBytes(StandardCharsets.UTF_8)));
+        
+        /* execute */
+        String result = serviceToTest.getJobResult(jobUUID);
+        
+        /* test */
+        assertEquals("stored result", result);
+    }
+    
+    @Test
+    public void write_job_result_writes_stream_from_result_storage_service_to_output() throws Exception {
+        /* prepare */
+        job.state=PDSJobStatusState.DONE;
+        job.resultStorageName="result.txt";
+        when(resultStorageService.openResultStream(job)).thenReturn(new ByteArrayInputStream("stored result".getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        /* execute */
+        serviceToTest.writeJobResult(jobUUID, outputStream);
+        
+        /* test */
+        assertEquals("stored result", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void write_job_result_for_job_not_done_throws_not_acceptable_and_does_not_open_result() throws Exception {
+        /* prepare */
+        job.state=PDSJobStatusState.RUNNING;
+        
+        /* execute */
+        try {
+            serviceToTest.writeJobResult(jobUUID, new ByteArrayOutputStream());
+            fail("no exception thrown");
+        }catch(PDSNotAcceptableException e) {
+            /* test */
+            verify(resultStorageService,never()).openResultStream(any());
+        }
+    }
+    
     private void assertFailsWithNotAcceptableFor(PDSJobStatusState state) {
         /* prepare */
         job.setState(state);
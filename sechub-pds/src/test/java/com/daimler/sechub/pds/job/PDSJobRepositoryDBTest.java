@@ -4,6 +4,7 @@ package com.daimler.sechub.pds.job;
 import static org.junit.Assert.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -173,6 +174,24 @@ public class PDSJobRepositoryDBTest {
 
     }
 	
+	@Test
+    public void when_three_jobs_ready_to_start_and_one_running_findNextJobsToExecute_with_max_2_returns_two_oldest_ready_ones() {
+        /* prepare */
+        createJob(PDSJobStatusState.RUNNING, 4);
+        PDSJob job1 = createJob(PDSJobStatusState.READY_TO_START, 3);
+        PDSJob job2 = createJob(PDSJobStatusState.READY_TO_START, 2);
+        createJob(PDSJobStatusState.READY_TO_START, 1);
+
+        /* execute */
+        List<PDSJob> nextJobs = repositoryToTest.findNextJobsToExecute(2);
+
+        /* test */
+        assertEquals(2, nextJobs.size());
+        assertEquals(job1, nextJobs.get(0));
+        assertEquals(job2, nextJobs.get(1));
+
+    }
+
 	@Test
     public void when_two_jobs_exist_but_older_is_already_running_findNextJobToExecute_returns_new_ready_to_start() {
         /* prepare */
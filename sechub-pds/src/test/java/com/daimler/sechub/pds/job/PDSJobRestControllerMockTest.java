@@ -3,10 +3,13 @@ package com.daimler.sechub.pds.job;
 
 import static com.daimler.sechub.test.TestURLBuilder.*;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.junit.Test;
@@ -131,7 +134,11 @@ public class PDSJobRestControllerMockTest {
         UUID jobUUID = UUID.randomUUID();
         
         String result = "result string";
-        when(mockedJobResultService.getJobResult(jobUUID)).thenReturn(result);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(result.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(mockedJobResultService).writeJobResult(eq(jobUUID), any());
         
         /* execute + test */
         /* @formatter:off */
@@ -139,6 +146,7 @@ public class PDSJobRestControllerMockTest {
                 get(https(PORT_USED).pds().buildGetJobResult(jobUUID))
                 ).
                     andExpect(status().isOk()).
+                    andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN)).
                     andExpect(content().string(result)
                 );
 
@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.job;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.pds.config.PDSServerConfigurationService;
+import com.daimler.sechub.pds.storage.PDSMultiStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+public class PDSResultStorageServiceTest {
+
+    private PDSResultStorageService serviceToTest;
+    private PDSMultiStorageService storageService;
+    private JobStorage resultStorage;
+    private UUID jobUUID;
+
+    @Before
+    public void before() throws Exception {
+        jobUUID = UUID.randomUUID();
+
+        storageService = mock(PDSMultiStorageService.class);
+        resultStorage = mock(JobStorage.class);
+        when(storageService.getJobStorage("pds/server1/resultstorage", jobUUID)).thenReturn(resultStorage);
+
+        PDSServerConfigurationService serverConfigService = mock(PDSServerConfigurationService.class);
+        when(serverConfigService.getStorageId()).thenReturn("pds/server1");
+
+        serviceToTest = new PDSResultStorageService();
+        serviceToTest.storageService = storageService;
+        serviceToTest.serverConfigService = serverConfigService;
+    }
+
+    @Test
+    public void result_storage_is_disabled_by_default() {
+        assertFalse(new PDSResultStorageService().isResultStorageEnabled());
+    }
+
+    @Test
+    public void store_result_file_streams_file_content_into_result_storage_of_job() throws Exception {
+        /* prepare */
+        Path tempFile = Files.createTempFile("pds_result", ".txt");
+        Files.write(tempFile, "a long result".getBytes(StandardCharsets.UTF_8));
+        File file = tempFile.toFile();
+        file.deleteOnExit();
+
+        doAnswer(invocation -> {
+            /* stream is closed after store - so we must read it inside the call */
+            InputStream inputStream = invocation.getArgument(1);
+            assertEquals("a long result", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+            return null;
+        }).when(resultStorage).store(eq(PDSResultStorageService.RESULT_STORAGE_NAME), any());
+
+        /* execute */
+        String storageName = serviceToTest.storeResultFile(jobUUID, file);
+
+        /* test */
+        assertEquals(PDSResultStorageService.RESULT_STORAGE_NAME, storageName);
+        verify(resultStorage).store(eq(PDSResultStorageService.RESULT_STORAGE_NAME), any());
+    }
+
+    @Test
+    public void open_result_stream_for_job_with_result_in_database_does_not_use_storage() throws Exception {
+        /* prepare */
+        PDSJob job = new PDSJob();
+        job.uUID = jobUUID;
+        job.result = "from-db";
+
+        /* execute */
+        try (InputStream inputStream = serviceToTest.openResultStream(job)) {
+
+            /* test */
+            assertEquals("from-db", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        }
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    public void open_result_stream_for_job_with_result_in_storage_fetches_from_result_storage() throws Exception {
+        /* prepare */
+        PDSJob job = new PDSJob();
+        job.uUID = jobUUID;
+        job.resultStorageName = PDSResultStorageService.RESULT_STORAGE_NAME;
+        when(resultStorage.fetch(PDSResultStorageService.RESULT_STORAGE_NAME)).thenReturn(new ByteArrayInputStream("from-storage".getBytes(StandardCharsets.UTF_8)));
+
+        /* execute */
+        try (InputStream inputStream = serviceToTest.openResultStream(job)) {
+
+            /* test */
+            assertEquals("from-storage", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+}
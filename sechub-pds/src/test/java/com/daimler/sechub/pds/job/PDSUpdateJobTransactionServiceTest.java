@@ -2,8 +2,13 @@
 package com.daimler.sechub.pds.job;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 
 import com.daimler.sechub.pds.PDSNotAcceptableException;
 import com.daimler.sechub.pds.PDSNotFoundException;
+import com.daimler.sechub.pds.batch.PDSBatchTriggerWakeUpService;
 import com.daimler.sechub.test.junit4.ExpectedExceptionFactory;
 
 public class PDSUpdateJobTransactionServiceTest {
@@ -39,6 +45,7 @@ public class PDSUpdateJobTransactionServiceTest {
         
         serviceToTest = new PDSJobTransactionService();
         serviceToTest.repository=repository;
+        serviceToTest.triggerWakeUpService=mock(PDSBatchTriggerWakeUpService.class);
     }
     
     @Test
@@ -99,4 +106,52 @@ public class PDSUpdateJobTransactionServiceTest {
         
     }
 
+    @Test
+    public void markJobsAsEnded_updates_all_jobs_with_one_load_and_one_save() {
+        /* prepare */
+        UUID jobUUID2 = UUID.randomUUID();
+        PDSJob job2 = new PDSJob();
+        job2.uUID = jobUUID2;
+        when(repository.findAllById(any())).thenReturn(Arrays.asList(job, job2));
+        LocalDateTime ended = LocalDateTime.now();
+
+        List<PDSJobEndData> endDataList = new ArrayList<>();
+        endDataList.add(new PDSJobEndData(jobUUID, PDSJobStatusState.DONE, "result1", ended));
+        endDataList.add(new PDSJobEndData(jobUUID2, PDSJobStatusState.CANCELED, null, ended));
+        endDataList.add(new PDSJobEndData(UUID.randomUUID(), PDSJobStatusState.FAILED, "no longer existing", ended));
+
+        /* execute */
+        serviceToTest.markJobsAsEndedInOwnTransaction(endDataList);
+
+        /* test */
+        verify(repository, times(1)).findAllById(any());
+        verify(repository, times(1)).saveAll(Arrays.asList(job, job2));
+        verify(repository, never()).save(any());
+
+        assertEquals(PDSJobStatusState.DONE, job.getState());
+        assertEquals("result1", job.getResult());
+        assertEquals(ended, job.getEnded());
+
+        assertEquals(PDSJobStatusState.CANCELED, job2.getState());
+        assertNull(job2.getResult());
+        assertEquals(ended, job2.getEnded());
+    }
+
+    @Test
+    public void markJobsAsEnded_with_result_in_result_storage_sets_storage_name_and_size_but_no_result() {
+        /* prepare */
+        when(repository.findAllById(any())).thenReturn(Arrays.asList(job));
+        LocalDateTime ended = LocalDateTime.now();
+
+        /* execute */
+        serviceToTest.markJobsAsEndedInOwnTransaction(Arrays.asList(new PDSJobEndData(jobUUID, PDSJobStatusState.DONE, "result.txt", 4711, ended)));
+
+        /* test */
+        assertEquals(PDSJobStatusState.DONE, job.getState());
+        assertNull(job.getResult());
+        assertEquals("result.txt", job.getResultStorageName());
+        assertEquals(Long.valueOf(4711), job.getResultSize());
+        assertTrue(job.isResultStoredInStorage());
+    }
+
 }
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.pds.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.daimler.sechub.pds.job.PDSWorkspaceCacheService.CachedTreeLoader;
+
+class PDSWorkspaceCacheServiceTest {
+
+    private static final String CHECKSUM1 = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private PDSWorkspaceCacheService serviceToTest;
+    private File rootFolder;
+    private AtomicInteger loadCount;
+    private CachedTreeLoader loader;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        rootFolder = Files.createTempDirectory("pds_ws_cache_test").toFile();
+
+        serviceToTest = new PDSWorkspaceCacheService();
+        serviceToTest.cacheEnabled = true;
+        serviceToTest.workspaceRootFolder = rootFolder.getAbsolutePath();
+
+        loadCount = new AtomicInteger();
+        loader = folder -> {
+            loadCount.incrementAndGet();
+            File file = new File(folder, "src/Test.java");
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), "class Test{}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void tree_is_loaded_only_once_for_views_of_different_jobs() throws Exception {
+        /* prepare */
+        File view1 = new File(rootFolder, "view1");
+        File view2 = new File(rootFolder, "view2");
+
+        /* execute */
+        serviceToTest.createView(UUID.randomUUID(), CHECKSUM1, loader, view1);
+        serviceToTest.createView(UUID.randomUUID(), CHECKSUM1, loader, view2);
+
+        /* test */
+        assertEquals(1, loadCount.get());
+        assertEquals("class Test{}", read(new File(view1, "src/Test.java")));
+        assertEquals("class Test{}", read(new File(view2, "src/Test.java")));
+        assertTrue(serviceToTest.isCached(CHECKSUM1));
+        assertEquals(12, serviceToTest.getCachedSizeInBytes());
+    }
+
+    @Test
+    void view_files_are_hard_links_to_not_writable_cached_tree() throws Exception {
+        /* prepare */
+        File view = new File(rootFolder, "view");
+
+        /* execute */
+        serviceToTest.createView(UUID.randomUUID(), CHECKSUM1, loader, view);
+
+        /* test */
+        File viewFile = new File(view, "src/Test.java");
+        File cachedFile = new File(fetchCachedTreeFolder(), "src/Test.java");
+        assertTrue(Files.isSameFile(viewFile.toPath(), cachedFile.toPath()));
+        assertFalse(cachedFile.canWrite());
+    }
+
+    @Test
+    void tree_in_use_is_not_evicted_but_evicted_after_release() throws Exception {
+        /* prepare */
+        serviceToTest.maxSizeInMegabytes = 0;
+        UUID jobUUID = UUID.randomUUID();
+        File view = new File(rootFolder, "view");
+
+        /* execute */
+        serviceToTest.createView(jobUUID, CHECKSUM1, loader, view);
+
+        /* test */
+        assertTrue(serviceToTest.isCached(CHECKSUM1));
+
+        /* execute */
+        serviceToTest.release(jobUUID);
+
+        /* test */
+        assertFalse(serviceToTest.isCached(CHECKSUM1));
+        assertEquals(0, serviceToTest.getCachedSizeInBytes());
+        assertTrue(findCachedTreeFolders().isEmpty());
+        assertEquals("class Test{}", read(new File(view, "src/Test.java"))); // view still usable
+    }
+
+    @Test
+    void tree_is_not_evicted_while_another_job_still_uses_it() throws Exception {
+        /* prepare */
+        serviceToTest.maxSizeInMegabytes = 0;
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+        serviceToTest.createView(jobUUID1, CHECKSUM1, loader, new File(rootFolder, "view1"));
+        serviceToTest.createView(jobUUID2, CHECKSUM1, loader, new File(rootFolder, "view2"));
+
+        /* execute */
+        serviceToTest.release(jobUUID1);
+
+        /* test */
+        assertTrue(serviceToTest.isCached(CHECKSUM1));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void tree_loaded_again_after_eviction_uses_new_folder() throws Exception {
+        /* prepare */
+        serviceToTest.maxSizeInMegabytes = 0;
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+        serviceToTest.createView(jobUUID1, CHECKSUM1, loader, new File(rootFolder, "view1"));
+        File firstFolder = fetchCachedTreeFolder();
+        serviceToTest.release(jobUUID1);
+
+        /* execute */
+        serviceToTest.createView(jobUUID2, CHECKSUM1, loader, new File(rootFolder, "view2"));
+
+        /* test */
+        assertEquals(2, loadCount.get());
+        File secondFolder = fetchCachedTreeFolder();
+        assertNotEquals(firstFolder, secondFolder);
+        assertTrue(secondFolder.getName().startsWith(CHECKSUM1 + "-"));
+        assertEquals("class Test{}", read(new File(secondFolder, "src/Test.java")));
+    }
+
+    @Test
+    void failing_loader_does_not_cache_tree_and_next_view_loads_again() throws Exception {
+        /* prepare */
+        CachedTreeLoader failingLoader = folder -> {
+            throw new IOException("failed");
+        };
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> serviceToTest.createView(UUID.randomUUID(), CHECKSUM1, failingLoader, new File(rootFolder, "view1")));
+        assertFalse(serviceToTest.isCached(CHECKSUM1));
+
+        serviceToTest.createView(UUID.randomUUID(), CHECKSUM1, loader, new File(rootFolder, "view2"));
+        assertEquals(1, loadCount.get());
+        assertTrue(serviceToTest.isCached(CHECKSUM1));
+    }
+
+    @Test
+    void checksum_which_is_not_sha256_is_rejected() {
+        assertFalse(serviceToTest.isValidChecksum(null));
+        assertFalse(serviceToTest.isValidChecksum("../../etc"));
+        assertTrue(serviceToTest.isValidChecksum(CHECKSUM1));
+
+        assertThrows(IllegalArgumentException.class, () -> serviceToTest.createView(UUID.randomUUID(), "../x", loader, new File(rootFolder, "view")));
+    }
+
+    private File fetchCachedTreeFolder() {
+        List<File> folders = findCachedTreeFolders();
+        assertEquals(1, folders.size(), "Exactly one cached tree folder expected, but found:" + folders);
+        return folders.get(0);
+    }
+
+    private List<File> findCachedTreeFolders() {
+        List<File> result = new ArrayList<>();
+        File[] children = new File(rootFolder, "workspace-cache").listFiles();
+        if (children == null) {
+            return result;
+        }
+        for (File child : children) {
+            if (child.getName().startsWith(CHECKSUM1)) {
+                result.add(child);
+            }
+        }
+        return result;
+    }
+
+    private String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -7,17 +7,28 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.daimler.sechub.pds.config.PDSProductSetup;
+import com.daimler.sechub.pds.config.PDSServerConfigurationService;
 import com.daimler.sechub.pds.execution.PDSExecutionParameterEntry;
 import com.daimler.sechub.pds.storage.PDSMultiStorageService;
 import com.daimler.sechub.pds.storage.PDSStorageInfoCollector;
+import com.daimler.sechub.pds.util.PDSFileChecksumSHA256Service;
+import com.daimler.sechub.pds.util.PDSFileUnzipSupport;
 import com.daimler.sechub.storage.core.JobStorage;
 
 class PDSWorkspaceServiceTest {
@@ -39,6 +50,7 @@ class PDSWorkspaceServiceTest {
         serviceToTest = new PDSWorkspaceService();
         serviceToTest.storageService=storageService;
         serviceToTest.storageInfoCollector=storageInfoCollector;
+        serviceToTest.workspaceCacheService=mock(PDSWorkspaceCacheService.class);
     }
 
     @Test
@@ -85,6 +97,94 @@ class PDSWorkspaceServiceTest {
         verify(storageService).getJobStorage("xyz/abc/project1",secHubJobUUID);
     }
     
+    @Test
+    void when_unzip_from_storage_enabled_zip_is_extracted_directly_and_not_copied_to_workspace() throws Exception {
+        /* prepare */
+        serviceToTest.uploadBasePath = Files.createTempDirectory("pds_ws_unzip_test").toAbsolutePath().toString();
+        serviceToTest.unzipDirectlyFromStorage = true;
+        serviceToTest.fileUnzipSupport = new PDSFileUnzipSupport();
+        serviceToTest.serverConfigService = mock(PDSServerConfigurationService.class);
+
+        PDSProductSetup setup = new PDSProductSetup();
+        setup.setId("PRODUCT_1");
+        when(serviceToTest.serverConfigService.getProductSetupOrNull("PRODUCT_1")).thenReturn(setup);
+
+        UUID jobUUID = UUID.randomUUID();
+        PDSJobConfiguration config = new PDSJobConfiguration();
+        config.setProductId("PRODUCT_1");
+
+        when(storage.listNames()).thenReturn(Collections.singleton("sourcecode.zip"));
+        when(storage.fetch("sourcecode.zip")).thenReturn(new ByteArrayInputStream(createZipWithEntry("src/Test.java", "class Test{}")));
+
+        /* execute */
+        serviceToTest.prepareWorkspace(jobUUID, config);
+
+        /* test */
+        File uploadFolder = serviceToTest.getUploadFolder(jobUUID);
+        assertFalse(new File(uploadFolder, "sourcecode.zip").exists());
+        File extracted = new File(uploadFolder, "unzipped/sourcecode/src/Test.java");
+        assertTrue(extracted.exists());
+        assertEquals("class Test{}", new String(Files.readAllBytes(extracted.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void when_workspace_cache_enabled_zip_is_extracted_once_and_linked_into_workspaces_of_both_jobs() throws Exception {
+        /* prepare */
+        String rootFolder = Files.createTempDirectory("pds_ws_cache_test").toAbsolutePath().toString();
+        serviceToTest.uploadBasePath = rootFolder;
+        serviceToTest.fileUnzipSupport = new PDSFileUnzipSupport();
+        serviceToTest.checksumService = new PDSFileChecksumSHA256Service();
+        serviceToTest.serverConfigService = mock(PDSServerConfigurationService.class);
+
+        PDSWorkspaceCacheService cacheService = new PDSWorkspaceCacheService();
+        cacheService.cacheEnabled = true;
+        cacheService.workspaceRootFolder = rootFolder;
+        serviceToTest.workspaceCacheService = cacheService;
+
+        PDSProductSetup setup = new PDSProductSetup();
+        setup.setId("PRODUCT_1");
+        setup.setUnzipUploads(true);
+        when(serviceToTest.serverConfigService.getProductSetupOrNull("PRODUCT_1")).thenReturn(setup);
+
+        PDSJobConfiguration config = new PDSJobConfiguration();
+        config.setProductId("PRODUCT_1");
+
+        byte[] zip = createZipWithEntry("src/Test.java", "class Test{}");
+        File zipFile = new File(rootFolder, "origin.zip");
+        Files.write(zipFile.toPath(), zip);
+        String checksum = serviceToTest.checksumService.createChecksum(zipFile.getAbsolutePath());
+
+        when(storage.listNames()).thenReturn(new HashSet<>(Arrays.asList("sourcecode.zip", "sourcecode.zip.checksum")));
+        when(storage.fetch("sourcecode.zip")).thenAnswer(invocation -> new ByteArrayInputStream(zip));
+        when(storage.fetch("sourcecode.zip.checksum")).thenAnswer(invocation -> new ByteArrayInputStream(checksum.getBytes(StandardCharsets.UTF_8)));
+
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+
+        /* execute */
+        serviceToTest.prepareWorkspace(jobUUID1, config);
+        serviceToTest.prepareWorkspace(jobUUID2, config);
+
+        /* test */
+        verify(storage, times(1)).fetch("sourcecode.zip");
+        for (UUID jobUUID : Arrays.asList(jobUUID1, jobUUID2)) {
+            File uploadFolder = serviceToTest.getUploadFolder(jobUUID);
+            assertFalse(new File(uploadFolder, "sourcecode.zip").exists());
+            File extracted = new File(uploadFolder, "unzipped/sourcecode/src/Test.java");
+            assertEquals("class Test{}", new String(Files.readAllBytes(extracted.toPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    private byte[] createZipWithEntry(String name, String content) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+            zos.putNextEntry(new ZipEntry(name));
+            zos.write(content.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        return outputStream.toByteArray();
+    }
+
     private PDSExecutionParameterEntry createEntry(String key, String value) {
         PDSExecutionParameterEntry entry = new PDSExecutionParameterEntry();
         entry.setKey(key);
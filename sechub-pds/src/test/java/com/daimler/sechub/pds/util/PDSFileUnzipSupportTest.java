@@ -4,10 +4,22 @@ package com.daimler.sechub.pds.util;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +34,11 @@ class PDSFileUnzipSupportTest {
         supportToTest = new PDSFileUnzipSupport();
     }
 
+    @AfterEach
+    void afterEach() {
+        supportToTest.shutdown();
+    }
+
     @Test
     void single_file_zip_can_be_extracted() throws Exception {
         /* prepare */
@@ -81,6 +98,152 @@ class PDSFileUnzipSupportTest {
         assertEquals(3,result.getCreatedFoldersCount());
     }
 
+    @Test
+    void hierarchical_files_zip_streamed__contained_folders_and_files_can_be_extracted() throws Exception {
+        /* prepare */
+        File abcZipfile = resolveTestFile("zipfiles/hierarchical_files.zip");
+
+        File targetFolder = Files.createTempDirectory("pds_abczip_stream_test").toFile();
+
+        /* execute */
+        UnzipResult result = null;
+        try (InputStream inputStream = new FileInputStream(abcZipfile)) {
+            result = supportToTest.unzipArchive(inputStream, "hierarchical_files.zip", targetFolder);
+        }
+
+        /* test */
+        File abcFolder = assertFolderExists(targetFolder, "abc");
+        assertContainsFiles(abcFolder, "def", "hardcoded_password.go", "sql_injection.go");
+
+        File ghiFolder = assertFolderExists(assertFolderExists(abcFolder, "def"), "ghi");
+        assertContainsFiles(ghiFolder, "README-ghi.md");
+
+        assertEquals(4,result.getExtractedFilesCount());
+        assertEquals(3,result.getCreatedFoldersCount());
+        assertEquals("hierarchical_files.zip",result.getSourceLocation());
+    }
+
+    @Test
+    void many_files_without_folder_entries_are_extracted_in_parallel_with_parent_folders() throws Exception {
+        /* prepare */
+        supportToTest.threadCount = 3;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            names.add("folder" + (i % 5) + "/sub/file" + i + ".txt");
+        }
+        File zipFile = createZipFile(names.toArray(new String[names.size()]));
+        File targetFolder = Files.createTempDirectory("pds_parallel_test").toFile();
+
+        /* execute */
+        UnzipResult result = supportToTest.unzipArchive(zipFile, targetFolder);
+
+        /* test */
+        assertEquals(50,result.getExtractedFilesCount());
+        assertEquals(0,result.getCreatedFoldersCount());
+        for (String name : names) {
+            File file = new File(targetFolder, name);
+            assertTrue(file.exists(), "File must exist:" + file);
+            assertEquals(name, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void zip_files_of_concurrent_jobs_are_extracted_with_shared_threads() throws Exception {
+        /* prepare */
+        supportToTest.threadCount = 2;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            names.add("file" + i + ".txt");
+        }
+        File zipFile = createZipFile(names.toArray(new String[names.size()]));
+        File targetFolder1 = Files.createTempDirectory("pds_concurrent_test1").toFile();
+        File targetFolder2 = Files.createTempDirectory("pds_concurrent_test2").toFile();
+
+        ExecutorService jobs = Executors.newFixedThreadPool(2);
+
+        /* execute */
+        UnzipResult result1;
+        UnzipResult result2;
+        try {
+            Future<UnzipResult> job1 = jobs.submit(() -> supportToTest.unzipArchive(zipFile, targetFolder1));
+            Future<UnzipResult> job2 = jobs.submit(() -> supportToTest.unzipArchive(zipFile, targetFolder2));
+
+            result1 = job1.get(30, TimeUnit.SECONDS);
+            result2 = job2.get(30, TimeUnit.SECONDS);
+        } finally {
+            jobs.shutdownNow();
+        }
+
+        /* test */
+        assertEquals(30, result1.getExtractedFilesCount());
+        assertEquals(30, result2.getExtractedFilesCount());
+        for (String name : names) {
+            assertTrue(new File(targetFolder1, name).exists());
+            assertTrue(new File(targetFolder2, name).exists());
+        }
+    }
+
+    @Test
+    void zip_with_entry_outside_target_folder_is_rejected() throws Exception {
+        /* prepare */
+        File zipFile = createZipFile("ok.txt", "../zipslip.txt");
+        File targetFolder = Files.createTempDirectory("pds_zipslip_test").toFile();
+
+        /* execute + test */
+        IOException exception = assertThrows(IOException.class, () -> supportToTest.unzipArchive(zipFile, targetFolder));
+        assertTrue(exception.getMessage().contains("outside of the target dir"));
+        assertFalse(new File(targetFolder.getParentFile(), "zipslip.txt").exists());
+    }
+
+    @Test
+    void zip_stream_with_entry_outside_target_folder_is_rejected() throws Exception {
+        /* prepare */
+        File zipFile = createZipFile("ok.txt", "../zipslip.txt");
+        File targetFolder = Files.createTempDirectory("pds_zipslip_stream_test").toFile();
+
+        /* execute + test */
+        try (InputStream inputStream = new FileInputStream(zipFile)) {
+            assertThrows(IOException.class, () -> supportToTest.unzipArchive(inputStream, "zipslip.zip", targetFolder));
+        }
+    }
+
+    @Test
+    void zip_with_more_entries_than_maximum_is_rejected() throws Exception {
+        /* prepare */
+        supportToTest.maxEntries = 1;
+        File twoFilesZipfile = resolveTestFile("zipfiles/two_files.zip");
+        File targetFolder = Files.createTempDirectory("pds_maxentries_test").toFile();
+
+        /* execute + test */
+        IOException exception = assertThrows(IOException.class, () -> supportToTest.unzipArchive(twoFilesZipfile, targetFolder));
+        assertTrue(exception.getMessage().contains("maximum is 1"));
+    }
+
+    @Test
+    void zip_exceeding_maximum_size_is_rejected() throws Exception {
+        /* prepare */
+        supportToTest.maxSizeInMegabytes = 0;
+        File singleZipfile = resolveTestFile("zipfiles/single_file.zip");
+        File targetFolder = Files.createTempDirectory("pds_maxsize_test").toFile();
+
+        /* execute + test */
+        IOException exception = assertThrows(IOException.class, () -> supportToTest.unzipArchive(singleZipfile, targetFolder));
+        assertTrue(exception.getMessage().contains("exceeds maximum"));
+    }
+
+    @Test
+    void zip_stream_exceeding_maximum_size_is_rejected() throws Exception {
+        /* prepare */
+        supportToTest.maxSizeInMegabytes = 0;
+        File singleZipfile = resolveTestFile("zipfiles/single_file.zip");
+        File targetFolder = Files.createTempDirectory("pds_maxsize_stream_test").toFile();
+
+        /* execute + test */
+        try (InputStream inputStream = new FileInputStream(singleZipfile)) {
+            assertThrows(IOException.class, () -> supportToTest.unzipArchive(inputStream, "single_file.zip", targetFolder));
+        }
+    }
+
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
     /* + ............... Helpers .......................... + */
     /* ++++++++++++++++++++++++++++++++++++++++++++++++++++ */
@@ -120,6 +283,19 @@ class PDSFileUnzipSupportTest {
 
     }
 
+    private File createZipFile(String... entryNames) throws IOException {
+        File zipFile = Files.createTempFile("pds_unzip_test", ".zip").toFile();
+        zipFile.deleteOnExit();
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipFile))) {
+            for (String entryName : entryNames) {
+                zos.putNextEntry(new ZipEntry(entryName));
+                zos.write(entryName.getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+
     private File resolveTestFile(String relativePath) {
         File file = new File("./src/test/resources/" + relativePath);
         assertTrue(file.exists(), "File must exist:" + file);
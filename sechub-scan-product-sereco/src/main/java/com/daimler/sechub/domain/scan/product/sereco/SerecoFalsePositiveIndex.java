@@ -0,0 +1,152 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.sereco;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.daimler.sechub.commons.model.ScanType;
+import com.daimler.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.daimler.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.daimler.sechub.domain.scan.project.FalsePositiveEntry;
+import com.daimler.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoClassification;
+import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * Index for false positive entries of one project. Code scan entries are
+ * indexed by CWE id and location of first code element - so only entries
+ * having a chance to match a vulnerability must be inspected by
+ * {@link SerecoFalsePositiveFinder}. Entries which cannot be indexed are
+ * inspected for every vulnerability of same scan type.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SerecoFalsePositiveIndex {
+
+    private Map<String, List<IndexedEntry>> indexedEntries = new HashMap<>();
+    private Map<ScanType, List<IndexedEntry>> notIndexedEntries = new EnumMap<>(ScanType.class);
+
+    public SerecoFalsePositiveIndex(List<FalsePositiveEntry> falsePositives) {
+        int position = 0;
+        for (FalsePositiveEntry entry : falsePositives) {
+            add(new IndexedEntry(position++, entry));
+        }
+    }
+
+    /**
+     * Resolves all false positive entries having a chance to match given
+     * vulnerability.
+     *
+     * @param vulnerability
+     * @return candidates - sorted in same order as defined inside false positive
+     *         configuration, never <code>null</code>
+     */
+    public List<FalsePositiveEntry> getCandidates(SerecoVulnerability vulnerability) {
+        if (vulnerability == null || vulnerability.getScanType() == null) {
+            return Collections.emptyList();
+        }
+        List<IndexedEntry> indexed = null;
+        String key = createKey(vulnerability);
+        if (key != null) {
+            indexed = indexedEntries.get(key);
+        }
+        List<IndexedEntry> notIndexed = notIndexedEntries.get(vulnerability.getScanType());
+        return merge(indexed, notIndexed);
+    }
+
+    private void add(IndexedEntry indexedEntry) {
+        FalsePositiveMetaData metaData = indexedEntry.entry.getMetaData();
+        if (metaData == null || metaData.getScanType() == null) {
+            /* can never match */
+            return;
+        }
+        String key = createKey(metaData);
+        if (key == null) {
+            notIndexedEntries.computeIfAbsent(metaData.getScanType(), scanType -> new ArrayList<>()).add(indexedEntry);
+        } else {
+            indexedEntries.computeIfAbsent(key, k -> new ArrayList<>()).add(indexedEntry);
+        }
+    }
+
+    private String createKey(FalsePositiveMetaData metaData) {
+        if (metaData.getScanType() != ScanType.CODE_SCAN) {
+            return null;
+        }
+        Integer cweId = metaData.getCweId();
+        FalsePositiveCodeMetaData code = metaData.getCode();
+        if (cweId == null || code == null) {
+            return null;
+        }
+        FalsePositiveCodePartMetaData start = code.getStart();
+        if (start == null || start.getLocation() == null) {
+            return null;
+        }
+        return createCodeScanKey(cweId.intValue(), start.getLocation());
+    }
+
+    private String createKey(SerecoVulnerability vulnerability) {
+        if (vulnerability.getScanType() != ScanType.CODE_SCAN) {
+            return null;
+        }
+        SerecoClassification classification = vulnerability.getClassification();
+        SerecoCodeCallStackElement code = vulnerability.getCode();
+        if (classification == null || code == null || code.getLocation() == null) {
+            return null;
+        }
+        String cwe = classification.getCwe();
+        if (cwe == null || cwe.isEmpty()) {
+            return null;
+        }
+        try {
+            return createCodeScanKey(Integer.parseInt(cwe), code.getLocation());
+        } catch (NumberFormatException e) {
+            /* cannot be matched by indexed entries */
+            return null;
+        }
+    }
+
+    private String createCodeScanKey(int cweId, String location) {
+        return cweId + ":" + location;
+    }
+
+    private List<FalsePositiveEntry> merge(List<IndexedEntry> list1, List<IndexedEntry> list2) {
+        if (list1 == null && list2 == null) {
+            return Collections.emptyList();
+        }
+        List<FalsePositiveEntry> result = new ArrayList<>();
+        if (list1 == null || list2 == null) {
+            for (IndexedEntry indexedEntry : (list1 == null ? list2 : list1)) {
+                result.add(indexedEntry.entry);
+            }
+            return result;
+        }
+        /* both lists are sorted by position, so keep configuration order */
+        int index1 = 0;
+        int index2 = 0;
+        while (index1 < list1.size() || index2 < list2.size()) {
+            if (index2 >= list2.size() || (index1 < list1.size() && list1.get(index1).position < list2.get(index2).position)) {
+                result.add(list1.get(index1++).entry);
+            } else {
+                result.add(list2.get(index2++).entry);
+            }
+        }
+        return result;
+    }
+
+    private static class IndexedEntry {
+
+        private final int position;
+        private final FalsePositiveEntry entry;
+
+        private IndexedEntry(int position, FalsePositiveEntry entry) {
+            this.position = position;
+            this.entry = entry;
+        }
+    }
+}
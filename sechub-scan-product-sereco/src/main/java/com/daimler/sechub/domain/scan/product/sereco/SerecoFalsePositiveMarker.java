@@ -3,11 +3,14 @@ package com.daimler.sechub.domain.scan.product.sereco;
 
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.commons.model.ScanType;
@@ -19,10 +22,14 @@ import com.daimler.sechub.domain.scan.project.ScanProjectConfig;
 import com.daimler.sechub.domain.scan.project.ScanProjectConfigID;
 import com.daimler.sechub.domain.scan.project.ScanProjectConfigService;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 
 /**
  * Marks given vulnerabilities as false positives, if identifieable by false positive configuration
- * data for the project. will only mark and add hints about reason
+ * data for the project. will only mark and add hints about reason.<br>
+ * <br>
+ * The false positive configuration of a project is parsed only once and kept as
+ * {@link SerecoFalsePositiveIndex} until the configuration data changes.
  * @author Albert Tregnaghi
  *
  */
@@ -30,7 +37,23 @@ import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 public class SerecoFalsePositiveMarker {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerecoFalsePositiveMarker.class);
-    
+
+    private static final int DEFAULT_MAX_CACHED_INDEXES = 100;
+
+    @MustBeDocumented("Maximum amount of projects where the false positive index is cached. When exceeded, the index of the least recently used project is removed.")
+    @Value("${sechub.config.scan.falsepositive.index.cache.max:" + DEFAULT_MAX_CACHED_INDEXES + "}")
+    int maxCachedIndexes = DEFAULT_MAX_CACHED_INDEXES;
+
+    private final Map<String, CachedIndex> cachedIndexes = new LinkedHashMap<String, CachedIndex>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedIndex> eldest) {
+            return size() > maxCachedIndexes;
+        }
+    };
+
     @Autowired
     SerecoFalsePositiveFinder falsePositiveCodeFinder;
     
@@ -50,17 +73,32 @@ public class SerecoFalsePositiveMarker {
             return;
         }
         
-        String data = config.getData();
-        FalsePositiveProjectConfiguration falsePositiveConfig = FalsePositiveProjectConfiguration.fromJSONString(data);
-        List<FalsePositiveEntry> falsePositives = falsePositiveConfig.getFalsePositives();
+        SerecoFalsePositiveIndex index = resolveIndex(projectId, config.getData());
         
         for (SerecoVulnerability vulnerability: all) {
             
-            handleVulnereability(falsePositives, vulnerability);
+            handleVulnereability(index.getCandidates(vulnerability), vulnerability);
         }
         
     }
 
+    SerecoFalsePositiveIndex resolveIndex(String projectId, String data) {
+        synchronized (cachedIndexes) {
+            CachedIndex cached = cachedIndexes.get(projectId);
+            if (cached != null && cached.data.equals(data)) {
+                return cached.index;
+            }
+        }
+        LOG.debug("Create false positive index for project {}", projectId);
+        FalsePositiveProjectConfiguration falsePositiveConfig = FalsePositiveProjectConfiguration.fromJSONString(data);
+        SerecoFalsePositiveIndex index = new SerecoFalsePositiveIndex(falsePositiveConfig.getFalsePositives());
+
+        synchronized (cachedIndexes) {
+            cachedIndexes.put(projectId, new CachedIndex(data, index));
+        }
+        return index;
+    }
+
     private void handleVulnereability(List<FalsePositiveEntry> falsePositives, SerecoVulnerability vulnerability) {
         for (FalsePositiveEntry entry: falsePositives) {
             if (isFalsePositive(vulnerability, entry)) {
@@ -92,5 +130,15 @@ public class SerecoFalsePositiveMarker {
         }
     }
 
-    
+    private static class CachedIndex {
+
+        private final String data;
+        private final SerecoFalsePositiveIndex index;
+
+        private CachedIndex(String data, SerecoFalsePositiveIndex index) {
+            this.data = data;
+            this.index = index;
+        }
+    }
+
 }
@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.sereco;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sharedkernel.TypedKey;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+
+/**
+ * Hands over SERECO report meta data from {@link SerecoReportProductExecutor}
+ * to {@link SerecoReportToSecHubResultTransformer} inside execution context of
+ * a job. So the transformer needs not to parse the JSON of the product result
+ * created some milliseconds before. Meta data is identified by the product
+ * executor configuration of the product result - there is only one SERECO
+ * result per configuration and job.<br>
+ * <br>
+ * There is no global lock: meta data is kept in a concurrent map per execution
+ * context and only the creation of the handover inside a context is
+ * synchronized on the context itself - so different jobs never wait for each
+ * other.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class SerecoReportMetaDataHandover {
+
+    private static final TypedKey<SerecoReportMetaDataHandover> KEY = new SerecoReportMetaDataHandoverKey();
+
+    /* concurrent map does not support null keys - used for results without executor configuration */
+    private static final UUID WITHOUT_EXECUTOR_CONFIG_UUID = new UUID(0, 0);
+
+    private Map<UUID, SerecoMetaData> metaDataByExecutorConfigUUID = new ConcurrentHashMap<>();
+
+    private SerecoReportMetaDataHandover() {
+    }
+
+    /**
+     * Hands over meta data for given product result
+     *
+     * @param context
+     * @param productResult
+     * @param metaData
+     */
+    static void handover(SecHubExecutionContext context, ProductResult productResult, SerecoMetaData metaData) {
+        if (metaData == null) {
+            /* nothing to hand over - transformer will parse product result JSON */
+            return;
+        }
+        SerecoReportMetaDataHandover handover;
+        synchronized (context) {
+            handover = context.getData(KEY);
+            if (handover == null) {
+                handover = new SerecoReportMetaDataHandover();
+                context.putData(KEY, handover);
+            }
+        }
+        handover.metaDataByExecutorConfigUUID.put(createKey(productResult), metaData);
+    }
+
+    /**
+     * Takes over meta data for given product result. Meta data can only be taken
+     * over one time.
+     *
+     * @param context
+     * @param productResult
+     * @return meta data or <code>null</code> when no meta data was handed over for
+     *         the product result
+     */
+    static SerecoMetaData takeover(SecHubExecutionContext context, ProductResult productResult) {
+        if (context == null || productResult == null) {
+            return null;
+        }
+        SerecoReportMetaDataHandover handover = context.getData(KEY);
+        if (handover == null) {
+            return null;
+        }
+        return handover.metaDataByExecutorConfigUUID.remove(createKey(productResult));
+    }
+
+    private static UUID createKey(ProductResult productResult) {
+        UUID productExecutorConfigUUID = productResult.getProductExecutorConfigUUID();
+        if (productExecutorConfigUUID == null) {
+            return WITHOUT_EXECUTOR_CONFIG_UUID;
+        }
+        return productExecutorConfigUUID;
+    }
+
+    private static class SerecoReportMetaDataHandoverKey implements TypedKey<SerecoReportMetaDataHandover> {
+
+        @Override
+        public String getId() {
+            return "sereco.report.metadata.handover";
+        }
+
+        @Override
+        public Class<SerecoReportMetaDataHandover> getValueClass() {
+            return SerecoReportMetaDataHandover.class;
+        }
+    }
+}
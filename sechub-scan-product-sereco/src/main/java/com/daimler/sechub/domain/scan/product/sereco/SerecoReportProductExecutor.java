@@ -11,16 +11,20 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.commons.model.SecHubRuntimeException;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.product.ProductExecutorContext;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportProductExecutor;
+import com.daimler.sechub.sereco.ImportParameter.ImportParamBuilder;
 import com.daimler.sechub.sereco.Sereco;
 import com.daimler.sechub.sereco.Workspace;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
@@ -30,12 +34,21 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SerecoReportProductExecutor.class);
 
+	private static final boolean DEFAULT_HANDOVER_ENABLED = true;
+
 	@Autowired
 	ProductResultRepository productResultRepository;
 
 	@Autowired
 	Sereco sechubReportCollector;
 
+	@Autowired
+	ScanResultStorageService resultStorageService;
+
+	@MustBeDocumented("When enabled, SERECO report data is handed over directly to the transformation into the sechub result of the same job, instead of parsing the stored SERECO JSON again. The SERECO JSON is still stored as product result.")
+	@Value("${sechub.config.report.sereco.handover.enabled:" + DEFAULT_HANDOVER_ENABLED + "}")
+	boolean handoverEnabled = DEFAULT_HANDOVER_ENABLED;
+
 	/* @formatter:off */
     private static ProductIdentifier[] supportedProductIdentifiers = new ProductIdentifier[] { 
             ProductIdentifier.NESSUS, 
@@ -79,10 +92,10 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 			return new ProductResult(secHubJobUUID, projectId, executorContext.getExecutorConfig(), "{}");
 		}
 
-		return createReport(projectId, secHubJobUUID, traceLogId, executorContext, foundProductResults);
+		return createReport(context, projectId, secHubJobUUID, traceLogId, executorContext, foundProductResults);
 	}
 
-	private ProductResult createReport(String projectId, UUID secHubJobUUID, UUIDTraceLogID traceLogId,
+	private ProductResult createReport(SecHubExecutionContext context, String projectId, UUID secHubJobUUID, UUIDTraceLogID traceLogId,
 			ProductExecutorContext executorContext, List<ProductResult> foundProductResults) {
 		Workspace workspace = sechubReportCollector.createWorkspace(projectId);
 
@@ -91,11 +104,15 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 		}
 		String json = workspace.createReport();
 		/* fetch + return all vulnerabilities as JSON */
-		return new ProductResult(secHubJobUUID, projectId, executorContext.getExecutorConfig(), json);
+		ProductResult productResult = new ProductResult(secHubJobUUID, projectId, executorContext.getExecutorConfig(), json);
+		if (handoverEnabled) {
+			/* JSON is still stored, but transformation for this job can use the meta data directly */
+			SerecoReportMetaDataHandover.handover(context, productResult, workspace.createReportMetaData());
+		}
+		return productResult;
 	}
 
 	private void importProductResult(UUIDTraceLogID traceLogId, Workspace workspace, ProductResult productResult) {
-		String importData = productResult.getResult();
 		String productId = productResult.getProductIdentifier().name();
 
 		LOG.debug("{} found product result for '{}'", traceLogId, productId);
@@ -104,13 +121,20 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 		String docId = uuid.toString();
 		LOG.debug("{} start to import result '{}' from product '{}' , config:{}", traceLogId, docId, productId, productResult.getProductExecutorConfigUUID());
 
+		/* @formatter:off */
+		ImportParamBuilder paramBuilder = builder().
+					productId(productId).
+					importId(docId);
+		/* @formatter:on */
+		if (productResult.isResultStoredInStorage()) {
+			/* streaming importers read the result directly from result storage - so it is never completely inside memory */
+			paramBuilder.importDataProvider(() -> resultStorageService.openResultStream(productResult));
+		} else {
+			paramBuilder.importData(productResult.getResult());
+		}
 		/* @formatter:off */
 		try {
-			workspace.doImport(builder().
-						productId(productId).
-						importData(importData).
-						importId(docId)
-					.build());
+			workspace.doImport(paramBuilder.build());
 		} catch (IOException e) {
 			throw new SecHubRuntimeException("Import into workspace failed:" + docId, e);
 		}
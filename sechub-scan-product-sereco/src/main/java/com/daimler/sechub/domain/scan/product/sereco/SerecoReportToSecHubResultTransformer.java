@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.sereco;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +17,7 @@ import com.daimler.sechub.commons.model.SecHubCodeCallStack;
 import com.daimler.sechub.commons.model.SecHubFinding;
 import com.daimler.sechub.commons.model.SecHubResult;
 import com.daimler.sechub.commons.model.Severity;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.report.ScanReportToSecHubResultTransformer;
@@ -23,6 +26,7 @@ import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
 @Component
@@ -31,6 +35,9 @@ public class SerecoReportToSecHubResultTransformer implements ScanReportToSecHub
     @Autowired
     SerecoFalsePositiveMarker falsePositiveMarker;
 
+    @Autowired
+    ScanResultStorageService resultStorageService;
+
     @Value("${sechub.feature.showProductResultLink:false}")
     @MustBeDocumented(scope = "administration", value = "Administrators can turn on this mode to allow product links in json and HTML output")
     boolean showProductLineResultLink;
@@ -39,10 +46,22 @@ public class SerecoReportToSecHubResultTransformer implements ScanReportToSecHub
 
     @Override
     public SecHubResult transform(ProductResult productResult) throws SecHubExecutionException {
-        String origin = productResult.getResult();
-        String projectId = productResult.getProjectId();
+        return transformMetaData(productResult, readMetaData(productResult));
+    }
 
-        SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, origin);
+    @Override
+    public SecHubResult transform(ProductResult productResult, SecHubExecutionContext context) throws SecHubExecutionException {
+        SerecoMetaData data = SerecoReportMetaDataHandover.takeover(context, productResult);
+        if (data == null) {
+            data = readMetaData(productResult);
+        } else {
+            LOG.debug("Use SERECO meta data handed over by report product executor for job {}", productResult.getSecHubJobUUID());
+        }
+        return transformMetaData(productResult, data);
+    }
+
+    private SecHubResult transformMetaData(ProductResult productResult, SerecoMetaData data) {
+        String projectId = productResult.getProjectId();
 
         falsePositiveMarker.markFalsePositives(projectId, data.getVulnerabilities());
 
@@ -81,6 +100,18 @@ public class SerecoReportToSecHubResultTransformer implements ScanReportToSecHub
         return result;
     }
 
+    private SerecoMetaData readMetaData(ProductResult productResult) throws SecHubExecutionException {
+        if (!productResult.isResultStoredInStorage()) {
+            return JSONConverter.get().fromJSON(SerecoMetaData.class, productResult.getResult());
+        }
+        /* read directly from stream - so no string representation necessary */
+        try (InputStream inputStream = resultStorageService.openResultStream(productResult)) {
+            return JSONConverter.get().fromJSONStream(SerecoMetaData.class, inputStream);
+        } catch (IOException e) {
+            throw new SecHubExecutionException("Was not able to read stored SERECO result for job " + productResult.getSecHubJobUUID(), e);
+        }
+    }
+
     private void handleClassifications(SecHubFinding finding, SerecoVulnerability v, UUID jobUUID) {
         SerecoClassification clazz = v.getClassification();
         String cwe = clazz.getCwe();
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.sereco;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.commons.model.ScanType;
+import com.daimler.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.daimler.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.daimler.sechub.domain.scan.project.FalsePositiveEntry;
+import com.daimler.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+public class SerecoFalsePositiveIndexTest {
+
+    private List<FalsePositiveEntry> falsePositives;
+
+    @Before
+    public void before() throws Exception {
+        falsePositives = new ArrayList<>();
+    }
+
+    @Test
+    public void code_scan_entry_is_candidate_for_vulnerability_with_same_cwe_and_location() {
+        /* prepare */
+        FalsePositiveEntry entry = addCodeScanEntry(79, "Example.java");
+        SerecoVulnerability vulnerability = createCodeScanVulnerability(79, "Example.java");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(falsePositives).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(1, result.size());
+        assertSame(entry, result.get(0));
+    }
+
+    @Test
+    public void code_scan_entry_is_NOT_candidate_for_vulnerability_with_other_cwe() {
+        /* prepare */
+        addCodeScanEntry(79, "Example.java");
+        SerecoVulnerability vulnerability = createCodeScanVulnerability(89, "Example.java");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(falsePositives).getCandidates(vulnerability);
+
+        /* test */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void code_scan_entry_is_NOT_candidate_for_vulnerability_with_other_location() {
+        /* prepare */
+        addCodeScanEntry(79, "Example.java");
+        SerecoVulnerability vulnerability = createCodeScanVulnerability(79, "Other.java");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(falsePositives).getCandidates(vulnerability);
+
+        /* test */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void entries_not_indexable_are_candidates_for_every_vulnerability_of_same_scan_type_and_order_is_kept() {
+        /* prepare */
+        FalsePositiveEntry notIndexed1 = addEntry(ScanType.CODE_SCAN);
+        FalsePositiveEntry indexed = addCodeScanEntry(79, "Example.java");
+        FalsePositiveEntry notIndexed2 = addEntry(ScanType.CODE_SCAN);
+        addEntry(ScanType.WEB_SCAN);
+        SerecoVulnerability vulnerability = createCodeScanVulnerability(79, "Example.java");
+
+        /* execute */
+        List<FalsePositiveEntry> result = new SerecoFalsePositiveIndex(falsePositives).getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(3, result.size());
+        assertSame(notIndexed1, result.get(0));
+        assertSame(indexed, result.get(1));
+        assertSame(notIndexed2, result.get(2));
+    }
+
+    private SerecoVulnerability createCodeScanVulnerability(int cwe, String location) {
+        return TestSerecoVulnerabilityBuilder.builder().name("type1").cwe(cwe).codeScan().location(location).end().build();
+    }
+
+    private FalsePositiveEntry addCodeScanEntry(int cweId, String location) {
+        FalsePositiveEntry entry = addEntry(ScanType.CODE_SCAN);
+        FalsePositiveMetaData metaData = entry.getMetaData();
+        metaData.setCweId(cweId);
+
+        FalsePositiveCodePartMetaData start = new FalsePositiveCodePartMetaData();
+        start.setLocation(location);
+        FalsePositiveCodeMetaData code = new FalsePositiveCodeMetaData();
+        code.setStart(start);
+        metaData.setCode(code);
+        return entry;
+    }
+
+    private FalsePositiveEntry addEntry(ScanType scanType) {
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+        metaData.setScanType(scanType);
+        entry.setMetaData(metaData);
+        falsePositives.add(entry);
+        return entry;
+    }
+}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.sereco;
 
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -76,6 +77,41 @@ public class SerecoFalsePositiveMarkerTest {
         verify(falsePositiveCodeFinder,never()).isFound(v1, metaData);
     }
 
+    @Test
+    public void index_is_reused_for_same_project_until_configuration_data_changes() {
+
+        /* prepare */
+        addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
+        String data1 = projectConfig.toJSON();
+        addEntryAndReturnMetaData(projectConfig, ScanType.WEB_SCAN);
+        String data2 = projectConfig.toJSON();
+
+        /* execute */
+        SerecoFalsePositiveIndex index1 = markerToTest.resolveIndex(PROJECT_ID, data1);
+        SerecoFalsePositiveIndex index2 = markerToTest.resolveIndex(PROJECT_ID, new String(data1));
+        SerecoFalsePositiveIndex index3 = markerToTest.resolveIndex(PROJECT_ID, data2);
+
+        /* test */
+        assertSame(index1, index2);
+        assertNotSame(index1, index3);
+    }
+
+    @Test
+    public void least_recently_used_index_is_removed_when_cache_max_reached() {
+
+        /* prepare */
+        markerToTest.maxCachedIndexes = 1;
+        String data = projectConfig.toJSON();
+        SerecoFalsePositiveIndex index1 = markerToTest.resolveIndex(PROJECT_ID, data);
+
+        /* execute */
+        markerToTest.resolveIndex("project2", data);
+        SerecoFalsePositiveIndex index2 = markerToTest.resolveIndex(PROJECT_ID, data);
+
+        /* test */
+        assertNotSame(index1, index2);
+    }
+
     private SerecoVulnerability addVulnerability(List<SerecoVulnerability> all, ScanType scanType) {
         SerecoVulnerability v1 = new SerecoVulnerability();
         v1.setScanType(scanType);
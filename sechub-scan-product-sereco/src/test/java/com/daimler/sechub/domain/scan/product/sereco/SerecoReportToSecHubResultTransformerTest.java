@@ -24,6 +24,7 @@ import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 
 public class SerecoReportToSecHubResultTransformerTest {
 
@@ -107,6 +108,41 @@ public class SerecoReportToSecHubResultTransformerTest {
 		/* @formatter:on */
     }
 
+    @Test
+    public void handed_over_meta_data_is_used_one_time_instead_of_product_result_json() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("{}");
+        SecHubExecutionContext context = new SecHubExecutionContext(productResult.getSecHubJobUUID(), null, "user1");
+        SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, createMetaDataWithOneVulnerabilityFound());
+        SerecoReportMetaDataHandover.handover(context, productResult, data);
+
+        /* execute */
+        SecHubResult result1 = transformerToTest.transform(productResult, context);
+        SecHubResult result2 = transformerToTest.transform(productResult, context);
+
+        /* test */
+        AssertSecHubResult.assertSecHubResult(result1).hasFindings(1);
+        AssertSecHubResult.assertSecHubResult(result2).hasFindings(0);
+    }
+
+    @Test
+    public void handed_over_meta_data_is_not_used_by_other_execution_context() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("{}");
+        SecHubExecutionContext context = new SecHubExecutionContext(productResult.getSecHubJobUUID(), null, "user1");
+        SecHubExecutionContext otherContext = new SecHubExecutionContext(UUID.randomUUID(), null, "user1");
+        SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, createMetaDataWithOneVulnerabilityFound());
+        SerecoReportMetaDataHandover.handover(context, productResult, data);
+
+        /* execute */
+        SecHubResult otherResult = transformerToTest.transform(productResult, otherContext);
+        SecHubResult result = transformerToTest.transform(productResult, context);
+
+        /* test */
+        AssertSecHubResult.assertSecHubResult(otherResult).hasFindings(0);
+        AssertSecHubResult.assertSecHubResult(result).hasFindings(1);
+    }
+
     private String createMetaDataWithOneVulnerabilityFound() {
         SerecoMetaData data = new SerecoMetaData();
         List<SerecoVulnerability> vulnerabilities = data.getVulnerabilities();
@@ -77,6 +77,9 @@ public class IntegrationTestScanRestController {
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ScanResultStorageService resultStorageService;
+
     @Autowired
     ProductExecutionProfileRepository profileRepository;
 
@@ -114,7 +117,7 @@ public class IntegrationTestScanRestController {
         List<ProductResult> originResults = productResultService.fetchAllResultsInProject(projectId);
         List<ProductResult> shrinkedResults = new ArrayList<ProductResult>();
         for (ProductResult originProductResult : originResults) {
-            String result = originProductResult.getResult();
+            String result = resultStorageService.fetchResult(originProductResult);
             if (result.length() > maxLength) {
                 result = result.substring(0, maxLength - 3) + "...";
             }
@@ -152,6 +155,7 @@ public class IntegrationTestScanRestController {
 
         }
         resultToPersist.setResult(body);
+        resultStorageService.storeResultIfNecessary(resultToPersist);
         productResultRepository.save(resultToPersist);
     }
 
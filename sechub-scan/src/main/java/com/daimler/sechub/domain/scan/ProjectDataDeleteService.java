@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan;
 
+import java.util.UUID;
+
 import javax.transaction.Transactional;
 
 import org.slf4j.Logger;
@@ -12,6 +14,7 @@ import com.daimler.sechub.domain.scan.log.ProjectScanLogRepository;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutionProfileRepository;
 import com.daimler.sechub.domain.scan.project.ScanProjectConfigRepository;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.logging.LogSanitizer;
@@ -50,19 +53,38 @@ public class ProjectDataDeleteService {
 	@Autowired
 	LogSanitizer logSanitizer;
 
+	@Autowired
+	ScanResultStorageService resultStorageService;
+
+	@Autowired
+	ScanReportHTMLCache reportHTMLCache;
+
 	@Transactional
 	@UseCaseAdministratorDeleteProject(@Step(number=8,name="delete all project scan data"))
 	public void deleteAllDataForProject(String projectId) {
 		assertion.isValidProjectId(projectId);
 
+		deleteStoredResults(projectId);
+
 		productResultRepository.deleteAllResultsForProject(projectId);
 		scanReportRepository.deleteAllReportsForProject(projectId);
 		scanLogRepository.deleteAllLogDataForProject(projectId);
 		scanProjectConfigRepository.deleteAllConfigurationsForProject(projectId);
 		profileRepository.deleteAllProfileRelationsToProject(projectId);
 		
+		reportHTMLCache.evictProject(projectId);
+		
 		LOG.info("Deleted all data (results,reports, scanlogs,profile-relations) for project:{}",logSanitizer.sanitize(projectId, 30));
 	}
 
+	private void deleteStoredResults(String projectId) {
+		for (UUID jobUUID : productResultRepository.findJobUUIDsHavingResultsInStorageForProject(projectId)) {
+			resultStorageService.deleteStoredProductResults(projectId, jobUUID);
+		}
+		for (UUID jobUUID : scanReportRepository.findJobUUIDsHavingReportsInStorageForProject(projectId)) {
+			resultStorageService.deleteStoredReport(projectId, jobUUID);
+		}
+	}
+
 
 }
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+@Service
+public class ScanJobCancellationCheckTriggerService {
+
+    private static final int DEFAULT_INITIAL_DELAY_MILLIS = 1000;
+    private static final int DEFAULT_FIXED_DELAY_MILLIS = 10000;
+
+    @MustBeDocumented("Define initial delay (in milliseconds) for job cancelation check of all jobs running on this node.")
+    @Value("${sechub.config.check.canceljob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS + "}")
+    private String initialDelay; // here only for logging - used in scheduler annotation as well!
+
+    @MustBeDocumented("Define delay in milliseconds, for before next job cancelation check will be executed. The check is done for all jobs running on this node in one step. Cancel and restart events are handled immediately and do not wait for this check.")
+    @Value("${sechub.config.check.canceljob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
+    private String fixedDelay; // here only for logging - used in scheduler annotation as well!
+
+    @Autowired
+    ScanJobCancellationRegistry cancellationRegistry;
+
+    @Scheduled(initialDelayString = "${sechub.config.check.canceljob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS
+            + "}", fixedDelayString = "${sechub.config.check.canceljob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
+    public void triggerCancelCheck() {
+        cancellationRegistry.checkRunningJobs();
+    }
+}
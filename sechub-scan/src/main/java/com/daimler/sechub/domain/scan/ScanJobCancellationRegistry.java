@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.messaging.BatchJobMessage;
+import com.daimler.sechub.sharedkernel.messaging.BatchJobStatusListMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.daimler.sechub.sharedkernel.messaging.IsSendingSyncMessage;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
+
+/**
+ * Registry for all batch jobs running scans on this node. Instead of every
+ * running scan asking for its own batch job status, the registry checks the
+ * status of all registered batch jobs with one request. The check is done
+ * periodically (see {@link ScanJobCancellationCheckTriggerService}) and
+ * immediately when this node is informed about a canceled or restarted job.
+ * Running scans only read the last fetched state, which is cheap.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanJobCancellationRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanJobCancellationRegistry.class);
+
+    @Autowired
+    @Lazy
+    DomainMessageService eventBus;
+
+    private Map<Long, ScanJobCancellationState> states = new ConcurrentHashMap<>();
+
+    void register(long batchJobId, UUID sechubJobUUID) {
+        states.put(batchJobId, new ScanJobCancellationState(sechubJobUUID));
+    }
+
+    void unregister(long batchJobId) {
+        states.remove(batchJobId);
+    }
+
+    boolean isCanceled(long batchJobId) {
+        ScanJobCancellationState state = states.get(batchJobId);
+        return state != null && state.canceled;
+    }
+
+    boolean isAbandoned(long batchJobId) {
+        ScanJobCancellationState state = states.get(batchJobId);
+        return state != null && state.abandoned;
+    }
+
+    /**
+     * Checks state of given sechub job immediately - but only when the job is
+     * running on this node.
+     *
+     * @param sechubJobUUID
+     */
+    public void checkRunningJob(UUID sechubJobUUID) {
+        if (sechubJobUUID == null) {
+            return;
+        }
+        for (ScanJobCancellationState state : states.values()) {
+            if (sechubJobUUID.equals(state.sechubJobUUID)) {
+                checkRunningJobs();
+                return;
+            }
+        }
+        LOG.debug("Job {} not running on this node, so no cancel check necessary", sechubJobUUID);
+    }
+
+    /**
+     * Checks state of all batch jobs running on this node with one request
+     */
+    public synchronized void checkRunningJobs() {
+        if (states.isEmpty()) {
+            return;
+        }
+        BatchJobStatusListMessage statusRequestMessage = new BatchJobStatusListMessage();
+        for (Map.Entry<Long, ScanJobCancellationState> entry : states.entrySet()) {
+            BatchJobMessage batchJobMessage = new BatchJobMessage();
+            batchJobMessage.setBatchJobId(entry.getKey());
+            batchJobMessage.setSechubJobUUID(entry.getValue().sechubJobUUID);
+
+            statusRequestMessage.getBatchJobs().add(batchJobMessage);
+        }
+        LOG.debug("Check state of {} running batch jobs", statusRequestMessage.getBatchJobs().size());
+
+        BatchJobStatusListMessage statusResponseMessage = sendRequestBatchJobStatusListRequestSynchron(statusRequestMessage);
+        if (statusResponseMessage == null) {
+            LOG.warn("Did not receive batch job status - so cancel state not updated");
+            return;
+        }
+        for (BatchJobMessage status : statusResponseMessage.getBatchJobs()) {
+            ScanJobCancellationState state = states.get(status.getBatchJobId());
+            if (state == null || !status.isExisting()) {
+                /* already ended or not (yet) visible */
+                continue;
+            }
+            state.canceled = status.isCanceled();
+            state.abandoned = status.isAbandoned();
+        }
+    }
+
+    int getAmountOfRegisteredJobs() {
+        return states.size();
+    }
+
+    @IsSendingSyncMessage(MessageID.REQUEST_BATCH_JOB_STATUS_LIST)
+    private BatchJobStatusListMessage sendRequestBatchJobStatusListRequestSynchron(BatchJobStatusListMessage statusRequestMessage) {
+        DomainMessage request = new DomainMessage(MessageID.REQUEST_BATCH_JOB_STATUS_LIST);
+        request.set(MessageDataKeys.BATCH_JOB_STATUS_LIST, statusRequestMessage);
+
+        DomainMessageSynchronousResult response = eventBus.sendSynchron(request);
+        return response.get(MessageDataKeys.BATCH_JOB_STATUS_LIST);
+    }
+
+    private static class ScanJobCancellationState {
+        private final UUID sechubJobUUID;
+        private volatile boolean canceled;
+        private volatile boolean abandoned;
+
+        private ScanJobCancellationState(UUID sechubJobUUID) {
+            this.sechubJobUUID = sechubJobUUID;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelSupport.ProductExecutionTask;
 import com.daimler.sechub.sharedkernel.Abandonable;
 import com.daimler.sechub.sharedkernel.LogConstants;
 import com.daimler.sechub.sharedkernel.NullProgressMonitor;
@@ -56,7 +59,7 @@ class ScanJobExecutor {
             /* wait for job runnable - except when canceled */
             while (canceableJobThread.isAlive()) {
                 try {
-                    LOG.debug("will wait max {} milliseconds before cancel checks - job thread is:{}", millisecondsToWaitBeforeCancelCheck, canceableJobThread.getName());
+                    LOG.trace("will wait max {} milliseconds before cancel checks - job thread is:{}", millisecondsToWaitBeforeCancelCheck, canceableJobThread.getName());
                     /* we simply join scan thread until we do next cancel check */
                     canceableJobThread.join(millisecondsToWaitBeforeCancelCheck);
 
@@ -142,9 +145,18 @@ class ScanJobExecutor {
                 MDC.clear();
                 MDC.put(LogConstants.MDC_SECHUB_JOB_UUID, sechubJobUUID);
 
-                scanService.codeScanProductExecutionService.executeProductsAndStoreResults(context);
-                scanService.webScanProductExecutionService.executeProductsAndStoreResults(context);
-                scanService.infraScanProductExecutionService.executeProductsAndStoreResults(context);
+                if (scanService.parallelSupport.isEnabled()) {
+                    /* scan types are independent, so we can execute them in parallel */
+                    List<ProductExecutionTask> tasks = Arrays.asList(
+                            () -> scanService.codeScanProductExecutionService.executeProductsAndStoreResults(context),
+                            () -> scanService.webScanProductExecutionService.executeProductsAndStoreResults(context),
+                            () -> scanService.infraScanProductExecutionService.executeProductsAndStoreResults(context));
+                    scanService.parallelSupport.executeInJobThreads(context, tasks);
+                } else {
+                    scanService.codeScanProductExecutionService.executeProductsAndStoreResults(context);
+                    scanService.webScanProductExecutionService.executeProductsAndStoreResults(context);
+                    scanService.infraScanProductExecutionService.executeProductsAndStoreResults(context);
+                }
 
             } catch (SecHubExecutionException e) {
                 this.exception = e;
@@ -23,6 +23,7 @@ import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
 import com.daimler.sechub.sharedkernel.messaging.IsReceivingAsyncMessage;
 import com.daimler.sechub.sharedkernel.messaging.IsRecevingSyncMessage;
 import com.daimler.sechub.sharedkernel.messaging.IsSendingSyncMessageAnswer;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
 import com.daimler.sechub.sharedkernel.messaging.MappingMessage;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
@@ -57,6 +58,9 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
     @Autowired
     ProductResultService productResultService;
 
+    @Autowired
+    ScanJobCancellationRegistry cancellationRegistry;
+
     @Override
     public void receiveAsyncMessage(DomainMessage request) {
         MessageID messageId = request.getMessageId();
@@ -78,6 +82,12 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
         case MAPPING_CONFIGURATION_CHANGED:
             handleMappingConfigurationChanged(request);
             break;
+        case JOB_CANCELED:
+            handleJobCanceled(request);
+            break;
+        case JOB_RESTART_TRIGGERED:
+            handleJobRestartTriggered(request);
+            break;
         default:
             throw new IllegalStateException("unhandled message id:" + messageId);
         }
@@ -144,6 +154,20 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
         updateScanMappingService.updateScanMapping(mappingId, data.getMappingData());
     }
 
+    @IsReceivingAsyncMessage(MessageID.JOB_CANCELED)
+    private void handleJobCanceled(DomainMessage request) {
+        JobMessage data = request.get(MessageDataKeys.JOB_CANCEL_DATA);
+        /* check immediately - so cancellation must not wait for next periodic check */
+        cancellationRegistry.checkRunningJob(data.getJobUUID());
+    }
+
+    @IsReceivingAsyncMessage(MessageID.JOB_RESTART_TRIGGERED)
+    private void handleJobRestartTriggered(DomainMessage request) {
+        JobMessage data = request.get(MessageDataKeys.JOB_RESTART_DATA);
+        /* former batch jobs are abandoned on restart - check immediately */
+        cancellationRegistry.checkRunningJob(data.getJobUUID());
+    }
+
     @IsReceivingAsyncMessage(MessageID.USER_ADDED_TO_PROJECT)
     private void handleUserAddedToProject(DomainMessage request) {
         UserMessage data = request.get(MessageDataKeys.PROJECT_TO_USER_DATA);
@@ -3,53 +3,38 @@ package com.daimler.sechub.domain.scan;
 
 import com.daimler.sechub.sharedkernel.Abandonable;
 import com.daimler.sechub.sharedkernel.ProgressMonitor;
-import com.daimler.sechub.sharedkernel.messaging.BatchJobMessage;
-import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
-import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
-import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
-import com.daimler.sechub.sharedkernel.messaging.IsSendingSyncMessage;
-import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
-import com.daimler.sechub.sharedkernel.messaging.MessageID;
 
+/**
+ * Progress monitor for a running scan. Cancel and abandon state are not
+ * fetched by the monitor itself but read from {@link ScanJobCancellationRegistry}
+ * which checks all running batch jobs of this node in one step.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 public class ScanProgressMonitor implements ProgressMonitor, Abandonable {
-    
-    private DomainMessageService eventBus;
+
+    private ScanJobCancellationRegistry cancellationRegistry;
     private long batchJobId;
 
-    ScanProgressMonitor(DomainMessageService eventBus, long batchJobId) {
-        this.eventBus = eventBus;
-        this.batchJobId=batchJobId;
+    ScanProgressMonitor(ScanJobCancellationRegistry cancellationRegistry, long batchJobId) {
+        this.cancellationRegistry = cancellationRegistry;
+        this.batchJobId = batchJobId;
     }
 
     @Override
     public boolean isCanceled() {
-        BatchJobMessage jobStatusRepsonse = sendRequestBatchJobStatusRequestSynchron();
-        return jobStatusRepsonse.isCanceled();
+        return cancellationRegistry.isCanceled(batchJobId);
     }
-    
+
     @Override
     public boolean isAbandoned() {
-        BatchJobMessage jobStatusRepsonse = sendRequestBatchJobStatusRequestSynchron();
-        return jobStatusRepsonse.isAbandoned();
+        return cancellationRegistry.isAbandoned(batchJobId);
     }
 
-    @IsSendingSyncMessage(MessageID.REQUEST_BATCH_JOB_STATUS)
-    protected BatchJobMessage sendRequestBatchJobStatusRequestSynchron() {
-        DomainMessage request = new DomainMessage(MessageID.REQUEST_BATCH_JOB_STATUS);
-        BatchJobMessage statusRequestMessage = new BatchJobMessage();
-        statusRequestMessage.setBatchJobId(batchJobId);
-        request.set(MessageDataKeys.BATCH_JOB_STATUS, statusRequestMessage);
-        
-        /* ask for status */
-        DomainMessageSynchronousResult response = eventBus.sendSynchron(request);
-        BatchJobMessage jobStatusRepsonse = response.get(MessageDataKeys.BATCH_JOB_STATUS);
-        return jobStatusRepsonse;
-    }
-    
     @Override
     public String getId() {
-        return ""+batchJobId;
+        return "" + batchJobId;
     }
 
-
 }
@@ -4,24 +4,21 @@ package com.daimler.sechub.domain.scan;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sharedkernel.ProgressMonitor;
-import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
 
 @Component
 public class ScanProgressMonitorFactory {
-    
+
     @Autowired
-    @Lazy
-    DomainMessageService eventBus;
-    
+    ScanJobCancellationRegistry cancellationRegistry;
+
     public ProgressMonitor createProgressMonitor(Long batchJobId) {
         notNull(batchJobId, "batchjob id must be not null!");
-        
-        return new ScanProgressMonitor(eventBus, batchJobId);
+
+        return new ScanProgressMonitor(cancellationRegistry, batchJobId);
     }
-    
-    
+
+
 }
@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.storage.MultiStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Service to store and fetch result content of {@link StorableScanResult}
+ * objects. When result storage is enabled, big results are written to result
+ * storage (shared volume or S3) and database contains only a reference. Results
+ * can always be accessed by streams, so callers must not care about the
+ * persistence mode.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScanResultStorageService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanResultStorageService.class);
+
+    static final String REPORT_STORAGE_NAME = "sechub-report.json";
+    static final String PRODUCT_RESULT_STORAGE_NAME_PREFIX = "product-result-";
+
+    private static final boolean DEFAULT_RESULT_STORAGE_ENABLED = false;
+    private static final int DEFAULT_RESULT_STORAGE_MINIMUM_LENGTH = 10240;
+
+    @MustBeDocumented("When enabled, product results and reports bigger than defined minimum length are stored inside result storage (shared volume or S3) instead of database.")
+    @Value("${sechub.config.scan.result.storage.enabled:" + DEFAULT_RESULT_STORAGE_ENABLED + "}")
+    boolean resultStorageEnabled = DEFAULT_RESULT_STORAGE_ENABLED;
+
+    @MustBeDocumented("Minimum length (characters) of a product result or report to be stored inside result storage. Smaller results are always kept inside database.")
+    @Value("${sechub.config.scan.result.storage.minimum.length:" + DEFAULT_RESULT_STORAGE_MINIMUM_LENGTH + "}")
+    int resultStorageMinimumLength = DEFAULT_RESULT_STORAGE_MINIMUM_LENGTH;
+
+    @Autowired
+    MultiStorageService storageService;
+
+    /**
+     * Moves result of given product result into result storage - but only when
+     * result storage is enabled and the result is big enough. If moved, the
+     * result inside the object is set to <code>null</code>.
+     *
+     * @param productResult
+     */
+    public void storeResultIfNecessary(ProductResult productResult) {
+        String storageName = productResult.getResultStorageName();
+        if (storageName == null) {
+            storageName = PRODUCT_RESULT_STORAGE_NAME_PREFIX + UUID.randomUUID();
+        }
+        storeResultIfNecessary(productResult, storageName);
+    }
+
+    /**
+     * Moves result of given report into result storage - but only when result
+     * storage is enabled and the result is big enough. If moved, the result inside
+     * the object is set to <code>null</code>.
+     *
+     * @param report
+     */
+    public void storeResultIfNecessary(ScanReport report) {
+        storeResultIfNecessary(report, REPORT_STORAGE_NAME);
+    }
+
+    /**
+     * Opens a stream to result content - caller must close the stream.
+     *
+     * @param result
+     * @return input stream (UTF-8), never <code>null</code>
+     * @throws IOException
+     */
+    public InputStream openResultStream(StorableScanResult result) throws IOException {
+        if (!result.isResultStoredInStorage()) {
+            return new StringUTF8InputStream(result.getResult());
+        }
+        return getResultStorage(result).fetch(result.getResultStorageName());
+    }
+
+    /**
+     * Resolves result content as string - the complete result is loaded into
+     * memory. Should only be used when a string is really necessary (e.g. for
+     * admin downloads), otherwise use
+     * {@link #openResultStream(StorableScanResult)}
+     *
+     * @param result
+     * @return result content or <code>null</code>
+     * @throws IllegalStateException when result storage cannot be read
+     */
+    public String fetchResult(StorableScanResult result) {
+        if (!result.isResultStoredInStorage()) {
+            return result.getResult();
+        }
+        try (InputStream inputStream = openResultStream(result)) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to fetch result " + result.getResultStorageName() + " for job " + result.getSecHubJobUUID(), e);
+        }
+    }
+
+    /**
+     * Deletes all stored product results for given job. Failures are only logged.
+     *
+     * @param projectId
+     * @param jobUUID
+     */
+    public void deleteStoredProductResults(String projectId, UUID jobUUID) {
+        deleteAll(storageService.getResultStorage(projectId, jobUUID), jobUUID);
+    }
+
+    /**
+     * Deletes stored report for given job. Failures are only logged.
+     *
+     * @param projectId
+     * @param jobUUID
+     */
+    public void deleteStoredReport(String projectId, UUID jobUUID) {
+        deleteAll(storageService.getReportStorage(projectId, jobUUID), jobUUID);
+    }
+
+    private void storeResultIfNecessary(StorableScanResult result, String storageName) {
+        String content = result.getResult();
+        if (content == null) {
+            /* no new content - already stored or no result available */
+            return;
+        }
+        if (!resultStorageEnabled || content.length() < resultStorageMinimumLength) {
+            /* content is kept inside database, so a former stored result is outdated */
+            result.setResultStorageName(null);
+            return;
+        }
+        JobStorage storage = getResultStorage(result);
+        try {
+            /* encoded while storage reads - so no second copy of the result is created */
+            storage.store(storageName, new StringUTF8InputStream(content));
+        } catch (IOException e) {
+            /* we keep result inside database - so nothing is lost */
+            LOG.error("Was not able to store result {} for job {} inside result storage, so keep it in database", storageName, result.getSecHubJobUUID(), e);
+            result.setResultStorageName(null);
+            return;
+        }
+        LOG.debug("Stored result {} for job {} inside result storage, length:{}", storageName, result.getSecHubJobUUID(), content.length());
+
+        result.setResultStorageName(storageName);
+        result.setResult(null);
+    }
+
+    private void deleteAll(JobStorage storage, UUID jobUUID) {
+        try {
+            storage.deleteAll();
+        } catch (IOException e) {
+            LOG.error("Was not able to delete stored results for job {}", jobUUID, e);
+        }
+    }
+
+    private JobStorage getResultStorage(StorableScanResult result) {
+        if (result instanceof ScanReport) {
+            return storageService.getReportStorage(result.getProjectId(), result.getSecHubJobUUID());
+        }
+        return storageService.getResultStorage(result.getProjectId(), result.getSecHubJobUUID());
+    }
+
+}
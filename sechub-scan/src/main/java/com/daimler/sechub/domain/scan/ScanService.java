@@ -11,13 +11,13 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.commons.model.JSONConverterException;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.daimler.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelSupport;
 import com.daimler.sechub.domain.scan.product.ProductResultService;
 import com.daimler.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.daimler.sechub.domain.scan.project.ScanProjectConfig;
@@ -27,7 +27,6 @@ import com.daimler.sechub.domain.scan.project.ScanProjectMockDataConfiguration;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
 import com.daimler.sechub.domain.scan.report.ScanReportException;
-import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.ProgressMonitor;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionAbandonedException;
@@ -57,9 +56,11 @@ public class ScanService implements SynchronMessageHandler {
     private static final Logger LOG = LoggerFactory.getLogger(ScanService.class);
 
     /**
-     * Default time out is one minute (60 * 1000 milliseconds)
+     * Time between checks of cancel state. The check only reads state fetched
+     * by {@link ScanJobCancellationRegistry} for all running jobs, so it can be
+     * done very often.
      */
-    private static final int DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS = 60000;
+    private static final int CANCEL_STATE_CHECK_MILLIS = 200;
 
     @Autowired
     StorageService storageService;
@@ -91,9 +92,11 @@ public class ScanService implements SynchronMessageHandler {
     @Autowired
     ScanProgressMonitorFactory monitorFactory;
 
-    @MustBeDocumented("Define delay in milliseconds, for before next job cancelation check will be executed.")
-    @Value("${sechub.config.check.canceljob.delay:" + DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS + "}")
-    private int millisecondsToWaitBeforeCancelCheck = DEFAULT_CHECK_CANCELJOB_DELAY_MILLIS;
+    @Autowired
+    ProductExecutionParallelSupport parallelSupport;
+
+    @Autowired
+    ScanJobCancellationRegistry cancellationRegistry;
 
     @IsSendingSyncMessageAnswer(value = MessageID.SCAN_DONE, answeringTo = MessageID.START_SCAN, branchName = "success")
     @IsSendingSyncMessageAnswer(value = MessageID.SCAN_FAILED, answeringTo = MessageID.START_SCAN, branchName = "failure")
@@ -150,9 +153,14 @@ public class ScanService implements SynchronMessageHandler {
 
             ProgressMonitor progressMonitor = monitorFactory.createProgressMonitor(batchJobId);
 
-            /* delegate execution : */
-            ScanJobExecutor executor = new ScanJobExecutor(this, context, progressMonitor, millisecondsToWaitBeforeCancelCheck);
-            executor.execute();
+            cancellationRegistry.register(batchJobId, context.getSechubJobUUID());
+            try {
+                /* delegate execution : */
+                ScanJobExecutor executor = new ScanJobExecutor(this, context, progressMonitor, CANCEL_STATE_CHECK_MILLIS);
+                executor.execute();
+            } finally {
+                cancellationRegistry.unregister(batchJobId);
+            }
 
             scanLogService.logScanEnded(logUUID);
 
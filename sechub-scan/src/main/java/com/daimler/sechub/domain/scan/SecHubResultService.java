@@ -52,10 +52,14 @@ public class SecHubResultService {
 		notNull(context, "Context may not be null!");
 
 		UUID secHubJobUUID = context.getSechubJobUUID();
-		return createResult(secHubJobUUID);
+		return createResult(secHubJobUUID, context);
 	}
 
     public SecHubResult createResult(UUID secHubJobUUID) throws SecHubExecutionException {
+        return createResult(secHubJobUUID, null);
+    }
+
+    private SecHubResult createResult(UUID secHubJobUUID, SecHubExecutionContext context) throws SecHubExecutionException {
         notNull(secHubJobUUID, "secHubJobUUID may not be null!");
         List<ProductResult> productResults = productResultRepository.findAllProductResults(secHubJobUUID, SERECO);
 
@@ -71,7 +75,7 @@ public class SecHubResultService {
 			for (ScanReportToSecHubResultTransformer transformer : transformers) {
 				if (transformer.canTransform(productResult.getProductIdentifier())) {
 					LOG.info("Transformer {} is used to transform result", transformer.getClass().getSimpleName());
-					 SecHubResult transformedResult = transformer.transform(productResult);
+					 SecHubResult transformedResult = transform(transformer, productResult, context);
 					 mergedResult=resultMerger.merge(mergedResult, transformedResult);
 				}
 			}
@@ -81,4 +85,13 @@ public class SecHubResultService {
 		}
 		return mergedResult;
     }
+
+    private SecHubResult transform(ScanReportToSecHubResultTransformer transformer, ProductResult productResult, SecHubExecutionContext context)
+            throws SecHubExecutionException {
+        if (context == null) {
+            return transformer.transform(productResult);
+        }
+        /* inside job execution - transformer can use data from report product executors directly */
+        return transformer.transform(productResult, context);
+    }
 }
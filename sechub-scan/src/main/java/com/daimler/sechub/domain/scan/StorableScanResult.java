@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.util.UUID;
+
+/**
+ * A persisted scan result whose result body can either be kept inside database
+ * or inside result storage. When stored inside result storage, only the storage
+ * name is kept inside database and the result itself is <code>null</code>.
+ * Access to result content should always be done by
+ * {@link ScanResultStorageService}.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+public interface StorableScanResult {
+
+    public String getProjectId();
+
+    public UUID getSecHubJobUUID();
+
+    /**
+     * @return result when stored inside database, otherwise <code>null</code>
+     */
+    public String getResult();
+
+    public void setResult(String result);
+
+    /**
+     * @return name of result inside result storage or <code>null</code> when
+     *         result is stored inside database
+     */
+    public String getResultStorageName();
+
+    public void setResultStorageName(String resultStorageName);
+
+    public default boolean isResultStoredInStorage() {
+        return getResultStorageName() != null;
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input stream providing UTF-8 bytes of a string. The string is encoded chunk
+ * by chunk while reading, so no byte array copy of the complete string is
+ * created.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class StringUTF8InputStream extends InputStream {
+
+    static final int CHUNK_SIZE = 8192;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String content;
+    private int position;
+
+    private byte[] chunk = EMPTY;
+    private int chunkPosition;
+
+    StringUTF8InputStream(String content) {
+        this.content = content == null ? "" : content;
+    }
+
+    @Override
+    public int read() {
+        if (!ensureChunkAvailable()) {
+            return -1;
+        }
+        return chunk[chunkPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureChunkAvailable()) {
+            return -1;
+        }
+        int count = Math.min(length, chunk.length - chunkPosition);
+        System.arraycopy(chunk, chunkPosition, buffer, offset, count);
+        chunkPosition += count;
+        return count;
+    }
+
+    private boolean ensureChunkAvailable() {
+        while (chunkPosition >= chunk.length) {
+            if (position >= content.length()) {
+                return false;
+            }
+            int end = Math.min(content.length(), position + CHUNK_SIZE);
+            if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+                /* surrogate pairs must be encoded together */
+                end--;
+            }
+            chunk = content.substring(position, end).getBytes(StandardCharsets.UTF_8);
+            chunkPosition = 0;
+            position = end;
+        }
+        return true;
+    }
+}
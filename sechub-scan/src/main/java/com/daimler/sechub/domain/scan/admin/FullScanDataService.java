@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.log.ProjectScanLog;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.ProductResult;
@@ -35,6 +36,9 @@ public class FullScanDataService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	ScanResultStorageService resultStorageService;
+
 	@UseCaseAdministratorDownloadsFullScanDataForJob(@Step(number=2, name="Collect all scan data"))
 	public FullScanData getFullScanData(UUID sechubJobUUID) {
 		assertion.isValidJobUUID(sechubJobUUID);
@@ -53,7 +57,7 @@ public class FullScanDataService {
 			scanData.productId=result.getProductIdentifier().toString();
 			scanData.executorConfigUUID=result.getProductExecutorConfigUUID();
 			
-			scanData.result=result.getResult();
+			scanData.result=resultStorageService.fetchResult(result);
 			
 			scanData.metaData=result.getMetaData();
 			
@@ -1,8 +1,10 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.config;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
 
 import org.slf4j.Logger;
@@ -25,7 +27,9 @@ public class ScanConfigService {
     private static final Logger LOG = LoggerFactory.getLogger(ScanConfigService.class);
 
     private NamePatternIdprovider fallbackProvider = new NamePatternIdprovider(null);
-    private Map<String, NamePatternIdprovider> providers = new TreeMap<>();
+
+    /* immutable snapshot - replaced as a whole on changes, so reading needs no lock */
+    private volatile ScanConfigSnapshot snapshot = new ScanConfigSnapshot(null, Collections.emptyMap());
 
     @Autowired
     ScanMappingToScanConfigTransformer transformer;
@@ -33,14 +37,24 @@ public class ScanConfigService {
     @Autowired
     ScanMappingRepository repository;
 
-    ScanConfig config;
+    @Autowired
+    ScanMappingChangeStampRepository changeStampRepository;
+
+    private Long loadedChangeStamp;
 
     @UseCaseAdministratorUpdatesMappingConfiguration(@Step(number = 6, name = "Service call", description = "Checks if current mappings in DB lead to a new scan configuration."))
-    public void refreshScanConfigIfNecessary() {
+    public synchronized void refreshScanConfigIfNecessary() {
+        /* change stamp must be read before mappings - so changes done meanwhile are loaded on next refresh */
+        Long changeStamp = fetchChangeStamp();
+        if (snapshot.config != null && Objects.equals(changeStamp, loadedChangeStamp)) {
+            LOG.trace("scan mappings not changed");
+            return;
+        }
         List<ScanMapping> all = repository.findAll();
         ScanConfig scanConfig = transformer.transform(all);
         switchConfigurationIfChanged(scanConfig);
 
+        loadedChangeStamp = changeStamp;
     }
 
     /**
@@ -62,20 +76,18 @@ public class ScanConfigService {
      */
     @Deprecated
     public NamePatternIdprovider getNamePatternIdProvider(String namePatternMappingId) {
-        synchronized (providers) {
-            NamePatternIdprovider provider = providers.get(namePatternMappingId);
-            if (provider != null) {
-                return provider;
-            }
-            return fallbackProvider;
+        NamePatternIdprovider provider = snapshot.providers.get(namePatternMappingId);
+        if (provider != null) {
+            return provider;
         }
+        return fallbackProvider;
     }
 
     void switchConfigurationIfChanged(ScanConfig config) {
         if (config == null) {
             return;
         }
-        if (config.equals(this.config)) {
+        if (config.equals(snapshot.config)) {
             LOG.trace("same scan configuration detected");
             return;
         }
@@ -83,38 +95,51 @@ public class ScanConfigService {
 
     }
 
+    private Long fetchChangeStamp() {
+        return changeStampRepository.findById(ScanMappingChangeStamp.ID).map(ScanMappingChangeStamp::getValue).orElse(null);
+    }
+
     private void switchToNewConfiguration(ScanConfig config) {
-        synchronized (providers) {
-            this.config = config;
-            LOG.info("rebuilding providers");
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("scan configuration rebuild json: {}", config.toJSON());
+        LOG.info("rebuilding providers");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("scan configuration rebuild json: {}", config.toJSON());
+        }
+        Map<String, NamePatternIdprovider> providers = new TreeMap<>();
+
+        /* build providers */
+        Map<String, List<NamePatternToIdEntry>> configMappings = config.getNamePatternMappings();
+        for (String key : configMappings.keySet()) {
+            if (key == null) {
+                /* We have a tree map - so null is not allowed here. */
+                LOG.warn("scan config contains null key - is ignored");
+                continue;
+            }
+            String providerId = key.trim();
+            if (providerId.isEmpty()) {
+                /* We do also not accept empty name patterns */
+                LOG.warn("scan config contains empty key - is ignored");
+                continue;
             }
-            providers.clear();
-
-            /* build providers */
-            Map<String, List<NamePatternToIdEntry>> configMappings = config.getNamePatternMappings();
-            for (String key : configMappings.keySet()) {
-                if (key == null) {
-                    /* We have a tree map - so null is not allowed here. */
-                    LOG.warn("scan config contains null key - is ignored");
-                    continue;
-                }
-                String providerId = key.trim();
-                if (providerId.isEmpty()) {
-                    /* We do also not accept empty name patterns */
-                    LOG.warn("scan config contains empty key - is ignored");
-                    continue;
-                }
-                NamePatternIdprovider provider = new NamePatternIdprovider(providerId);
-                LOG.debug("Created NamePatternIdprovider:{}", provider.getProviderId());
-
-                List<NamePatternToIdEntry> data = configMappings.get(key);
-                for (NamePatternToIdEntry entry : data) {
-                    provider.add(entry);
-                }
-                providers.put(providerId, provider);
+            NamePatternIdprovider provider = new NamePatternIdprovider(providerId);
+            LOG.debug("Created NamePatternIdprovider:{}", provider.getProviderId());
+
+            List<NamePatternToIdEntry> data = configMappings.get(key);
+            for (NamePatternToIdEntry entry : data) {
+                provider.add(entry);
             }
+            providers.put(providerId, provider);
+        }
+        /* providers are complete - so switch in one step */
+        snapshot = new ScanConfigSnapshot(config, Collections.unmodifiableMap(providers));
+    }
+
+    private static class ScanConfigSnapshot {
+        private final ScanConfig config;
+        private final Map<String, NamePatternIdprovider> providers;
+
+        private ScanConfigSnapshot(ScanConfig config, Map<String, NamePatternIdprovider> providers) {
+            this.config = config;
+            this.providers = providers;
         }
     }
 
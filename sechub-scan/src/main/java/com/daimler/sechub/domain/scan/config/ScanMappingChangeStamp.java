@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.config;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Change stamp for scan mappings inside database. Contains only ONE row! see
+ * {@link #ID}. The stamp value is increased on every scan mapping change, so
+ * other cluster members can check for changes without loading all mappings.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ScanMappingChangeStamp.TABLE_NAME)
+public class ScanMappingChangeStamp {
+
+	/**
+	 * We got only ONE change stamp entry inside table. So we use always only the first one here!
+	 */
+	public static final Integer ID = Integer.valueOf(0);
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCAN_MAPPING_CHANGE_STAMP";
+
+	public static final String COLUMN_ID = "STAMP_ID";
+
+	public static final String COLUMN_VALUE = "STAMP_VALUE";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String CLASS_NAME = ScanMappingChangeStamp.class.getSimpleName();
+
+	public static final String PROPERTY_ID = "id";
+
+	public static final String PROPERTY_VALUE = "value";
+
+	@Id
+	@Column(name = COLUMN_ID, unique = true, nullable = false)
+	Integer id = ID;
+
+	@Column(name = COLUMN_VALUE, nullable = false)
+	long value;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public long getValue() {
+		return value;
+	}
+
+	/**
+	 * Marks scan mappings as changed
+	 */
+	public void increase() {
+		value++;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		ScanMappingChangeStamp other = (ScanMappingChangeStamp) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id)) {
+			return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,23 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.config;
+
+import static com.daimler.sechub.domain.scan.config.ScanMappingChangeStamp.*;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ScanMappingChangeStampRepository extends JpaRepository<ScanMappingChangeStamp, Integer>{
+
+    /**
+     * Increases stamp value inside database - atomic, so concurrent updates
+     * (also from other cluster members) are never lost.
+     * 
+     * @param id stamp id
+     * @return amount of updated rows - <code>0</code> when stamp row does not
+     *         exist
+     */
+    @Modifying
+    @Query(value = "update " + CLASS_NAME + " s set s." + PROPERTY_VALUE + " = s." + PROPERTY_VALUE + " + 1 where s." + PROPERTY_ID + " = ?1")
+    int increaseStamp(Integer id);
+}
@@ -5,6 +5,8 @@ import static com.daimler.sechub.sharedkernel.validation.AssertValidResult.*;
 
 import java.util.Optional;
 
+import javax.transaction.Transactional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +28,9 @@ public class UpdateScanConfigService {
     @Autowired
     ScanMappingRepository repository;
 
+    @Autowired
+    ScanMappingChangeStampRepository changeStampRepository;
+
     @Autowired
     ScanConfigService scanConfigService;
     
@@ -40,13 +45,14 @@ public class UpdateScanConfigService {
     DomainMessageService eventBus;
 
     @UseCaseAdministratorUpdatesMappingConfiguration(@Step(number=4,name="Service call",description="Updates scan mapping in DB"))
+    @Transactional
     public void updateScanMapping(String mappingId, MappingData mappingData) {
         assertValid(mappingIdValidation.validate(mappingId), "Mapping ID invalid");
         assertValid(mappingDataValidation.validate(mappingData), "Mapping Data invalid");
 
         updateInDatabase(mappingId, mappingData);
         
-        /* that's all - refresh is done by ScanConfigRefreshTriggerService - but only when something has changed ...*/
+        /* that's all - refresh is done by ScanConfigRefreshTriggerService - but only when change stamp has changed ...*/
     }
     
     private void updateInDatabase(String mappingId, MappingData mappingData) {
@@ -63,6 +69,22 @@ public class UpdateScanConfigService {
         repository.save(mappingObj);
         LOG.info("Updated scan mapping in database. Id:{} ws updated to:{}", mappingId, json);
         
+        markScanMappingsChanged();
+    }
+
+    private void markScanMappingsChanged() {
+        /*
+         * done in same transaction as mapping update - so a refresh seeing the new
+         * stamp will also see the new mapping. Increase is done atomic inside
+         * database, so concurrent updates cannot get lost.
+         */
+        if (changeStampRepository.increaseStamp(ScanMappingChangeStamp.ID) > 0) {
+            return;
+        }
+        /* stamp row not existing - normally created by database migration */
+        ScanMappingChangeStamp changeStamp = new ScanMappingChangeStamp();
+        changeStamp.increase();
+        changeStampRepository.save(changeStamp);
     }
 
 }
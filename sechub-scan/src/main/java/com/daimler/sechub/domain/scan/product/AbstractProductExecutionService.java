@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelSupport.ProductExecutionTask;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutorConfig;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutorConfigRepository;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutorConfigSetup;
@@ -44,6 +45,9 @@ public abstract class AbstractProductExecutionService implements ProductExection
     @Autowired
     ProductExecutorContextFactory productExecutorContextFactory;
 
+    @Autowired
+    ProductExecutionParallelSupport parallelSupport;
+
     /**
      * Executes product executors and stores results. If a result of an executor is
      * <code>null</code> an error will be logged but
@@ -127,6 +131,9 @@ public abstract class AbstractProductExecutionService implements ProductExection
         int countOfReports = 0;
         ProductExecutor serecoProductExecutor = null;
 
+        /* reports must wait for all other results, so only other executions are done in parallel */
+        List<ProductExecutionTask> parallelTasks = new ArrayList<>();
+
         for (ProductExecutor productExecutor : executors) {
             if (context.isCanceledOrAbandonded()) {
                 return;
@@ -148,14 +155,22 @@ public abstract class AbstractProductExecutionService implements ProductExection
                     continue;
                 }
                 for (ProductExecutorConfig executorConfiguration : executorConfigurations) {
-                    runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
                     if (productExecutor instanceof ScanReportProductExecutor) {
+                        runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
                         countOfReports++;
+                    } else if (parallelSupport.isEnabled()) {
+                        parallelTasks.add(() -> runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID));
+                    } else {
+                        runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
                     }
                 }
 
             }
         }
+        if (!parallelTasks.isEmpty()) {
+            LOG.debug("start {} product executions in parallel {}", parallelTasks.size(), traceLogID);
+            parallelSupport.executeOnNode(context, parallelTasks);
+        }
 
         if (serecoProductExecutor != null && countOfReports == 0) {
             LOG.debug("no dedicated configuration for report execution was executed before, so fallback to sereco default behaviour");
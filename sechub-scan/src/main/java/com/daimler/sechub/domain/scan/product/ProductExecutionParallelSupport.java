@@ -0,0 +1,276 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.TypedKey;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+
+/**
+ * Support for parallel product execution. When enabled, the scan type
+ * execution services (code scan, web scan, infrastructure scan) of one job are
+ * executed in own job threads and their product executions are done in a
+ * thread pool shared by all jobs of this cluster member. <br>
+ * <br>
+ * Amount of parallel product executions is bounded per job and per cluster
+ * member. Cancellation is done by interrupting the waiting thread: all
+ * remaining executions will be canceled (interrupted) as well.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ProductExecutionParallelSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProductExecutionParallelSupport.class);
+
+    private static final boolean DEFAULT_PARALLEL_ENABLED = false;
+    private static final int DEFAULT_MAX_NODE_EXECUTIONS = 10;
+    private static final int DEFAULT_MAX_JOB_EXECUTIONS = 4;
+
+    private static final TypedKey<Semaphore> JOB_PERMITS = new JobPermitsKey();
+
+    @MustBeDocumented("When enabled, independent product executions of one job are done in parallel - e.g. code scan and web scan, or different product executor configurations for code scans. "
+            + "Report creation (SERECO) is always done after all product executions have finished.")
+    @Value("${sechub.config.scan.parallel.enabled:" + DEFAULT_PARALLEL_ENABLED + "}")
+    boolean enabled = DEFAULT_PARALLEL_ENABLED;
+
+    @MustBeDocumented("Maximum amount of product executions done in parallel on this cluster member (for all jobs). Only used when parallel execution is enabled.")
+    @Value("${sechub.config.scan.parallel.node.max:" + DEFAULT_MAX_NODE_EXECUTIONS + "}")
+    int maxNodeExecutions = DEFAULT_MAX_NODE_EXECUTIONS;
+
+    @MustBeDocumented("Maximum amount of product executions done in parallel for one job. Only used when parallel execution is enabled.")
+    @Value("${sechub.config.scan.parallel.job.max:" + DEFAULT_MAX_JOB_EXECUTIONS + "}")
+    int maxJobExecutions = DEFAULT_MAX_JOB_EXECUTIONS;
+
+    private ExecutorService nodeExecutor;
+
+    @PostConstruct
+    protected void postConstruct() {
+        if (!enabled) {
+            return;
+        }
+        LOG.info("Parallel product execution enabled, max executions for node: {}, for job: {}", maxNodeExecutions, maxJobExecutions);
+        nodeExecutor = Executors.newFixedThreadPool(Math.max(1, maxNodeExecutions), new NamedThreadFactory("SecHub-product-exec-"));
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (nodeExecutor != null) {
+            nodeExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Executes given tasks in own threads of the job and waits until all tasks are
+     * done. Also prepares the given context, so product executions done inside the
+     * tasks by {@link #executeOnNode(SecHubExecutionContext, List)} are limited for
+     * the job.
+     *
+     * @param context execution context of the job
+     * @param tasks   tasks to execute
+     * @throws SecHubExecutionException when one of the tasks failed. When multiple
+     *                                  failed, the first one is thrown
+     */
+    public void executeInJobThreads(SecHubExecutionContext context, List<ProductExecutionTask> tasks) throws SecHubExecutionException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        context.putData(JOB_PERMITS, new Semaphore(Math.max(1, maxJobExecutions)));
+
+        ExecutorService jobExecutor = Executors.newFixedThreadPool(tasks.size(), new NamedThreadFactory("SecHub-exec-" + context.getSechubJobUUID() + "-"));
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (ProductExecutionTask task : tasks) {
+                futures.add(jobExecutor.submit(new MDCAwareCallable(task)));
+            }
+            Throwable failure = waitForAll(futures);
+            if (failure == null) {
+                return;
+            }
+            if (failure instanceof SecHubExecutionException) {
+                throw (SecHubExecutionException) failure;
+            }
+            throw new SecHubExecutionException("Parallel product execution failed", failure);
+        } finally {
+            jobExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes given tasks inside the thread pool of this cluster member and waits
+     * until all tasks are done. The amount of running tasks of one job is limited
+     * - when the limit is reached, this method waits before next task is started.
+     *
+     * @param context execution context of the job
+     * @param tasks   tasks to execute
+     * @throws RuntimeException when one of the tasks failed with a runtime
+     *                          exception. When multiple failed, the first one is
+     *                          thrown
+     */
+    public void executeOnNode(SecHubExecutionContext context, List<ProductExecutionTask> tasks) {
+        Semaphore permits = context.getData(JOB_PERMITS);
+        if (permits == null) {
+            permits = new Semaphore(Math.max(1, maxJobExecutions));
+        }
+        List<Future<Void>> futures = new ArrayList<>();
+        for (ProductExecutionTask task : tasks) {
+            if (context.isCanceledOrAbandonded()) {
+                break;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for execution permit of {}", context.getTraceLogId());
+                cancelAll(futures);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Semaphore jobPermits = permits;
+            try {
+                futures.add(nodeExecutor.submit(new MDCAwareCallable(() -> {
+                    try {
+                        task.execute();
+                    } finally {
+                        jobPermits.release();
+                    }
+                })));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                cancelAll(futures);
+                throw e;
+            }
+        }
+        Throwable failure = waitForAll(futures);
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new IllegalStateException("Product execution failed", failure);
+    }
+
+    /**
+     * Waits for all futures. When interrupted, all futures are canceled.
+     *
+     * @return first failure or <code>null</code>
+     */
+    private Throwable waitForAll(List<Future<Void>> futures) {
+        Throwable firstFailure = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for parallel executions - cancel all");
+                cancelAll(futures);
+                Thread.currentThread().interrupt();
+                return firstFailure;
+            } catch (CancellationException e) {
+                /* canceled - ignore */
+            } catch (ExecutionException e) {
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
+                } else {
+                    LOG.error("Another parallel product execution failed as well", e.getCause());
+                }
+            }
+        }
+        return firstFailure;
+    }
+
+    private void cancelAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * A task for (parallel) product execution
+     */
+    @FunctionalInterface
+    public interface ProductExecutionTask {
+
+        public void execute() throws SecHubExecutionException;
+    }
+
+    private static class MDCAwareCallable implements Callable<Void> {
+
+        private ProductExecutionTask task;
+        private Map<String, String> mdcContext;
+
+        private MDCAwareCallable(ProductExecutionTask task) {
+            this.task = task;
+            this.mdcContext = MDC.getCopyOfContextMap();
+        }
+
+        @Override
+        public Void call() throws Exception {
+            /* runs in own thread so we set MDC of caller here */
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try {
+                task.execute();
+                return null;
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private String prefix;
+        private AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, prefix + count.incrementAndGet());
+        }
+    }
+
+    private static class JobPermitsKey implements TypedKey<Semaphore> {
+
+        @Override
+        public String getId() {
+            return "product.execution.parallel.jobpermits";
+        }
+
+        @Override
+        public Class<Semaphore> getValueClass() {
+            return Semaphore.class;
+        }
+    }
+}
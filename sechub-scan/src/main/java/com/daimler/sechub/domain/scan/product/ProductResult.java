@@ -17,6 +17,7 @@ import javax.persistence.Version;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
+import com.daimler.sechub.domain.scan.StorableScanResult;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutorConfigInfo;
 
 /**
@@ -27,7 +28,7 @@ import com.daimler.sechub.domain.scan.product.config.ProductExecutorConfigInfo;
  */
 @Entity
 @Table(name = ProductResult.TABLE_NAME)
-public class ProductResult {
+public class ProductResult implements StorableScanResult {
 
     /* +-----------------------------------------------------------------------+ */
     /* +............................ SQL ......................................+ */
@@ -39,6 +40,7 @@ public class ProductResult {
     public static final String COLUMN_PRODUCT_IDENTIFIER = "PRODUCT_ID";
 
     public static final String COLUMN_RESULT = "RESULT";
+    public static final String COLUMN_RESULT_STORAGE_NAME = "RESULT_STORAGE_NAME";
 
     public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
 
@@ -56,6 +58,8 @@ public class ProductResult {
     public static final String PROPERTY_SECHUB_JOB_UUID = "secHubJobUUID";
     public static final String PROPERTY_PRODUCT_IDENTIFIER = "productIdentifier";
     public static final String PROPERTY_PRODUCT_CONFIG_UUID = "productExecutorConfigUUID";
+    public static final String PROPERTY_PROJECT_ID = "projectId";
+    public static final String PROPERTY_RESULT_STORAGE_NAME = "resultStorageName";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -79,6 +83,9 @@ public class ProductResult {
     @Column(name = COLUMN_RESULT)
     private String result;
 
+    @Column(name = COLUMN_RESULT_STORAGE_NAME, nullable = true) // when null, result is stored inside database
+    private String resultStorageName;
+
     @Column(name = COLUMN_SECHUB_JOB_UUID, updatable = false, nullable = false)
     UUID secHubJobUUID;
 
@@ -134,10 +141,22 @@ public class ProductResult {
 
     }
 
+    @Override
     public void setResult(String result) {
         this.result = result;
     }
 
+    @Override
+    public String getResultStorageName() {
+        return resultStorageName;
+    }
+
+    @Override
+    public void setResultStorageName(String resultStorageName) {
+        this.resultStorageName = resultStorageName;
+    }
+
+    @Override
     public String getProjectId() {
         return projectId;
     }
@@ -146,10 +165,12 @@ public class ProductResult {
         return productIdentifier;
     }
 
+    @Override
     public UUID getSecHubJobUUID() {
         return secHubJobUUID;
     }
 
+    @Override
     public String getResult() {
         return result;
     }
@@ -3,6 +3,7 @@ package com.daimler.sechub.domain.scan.product;
 
 import static com.daimler.sechub.domain.scan.product.ProductResult.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,4 +16,8 @@ public interface ProductResultRepository extends JpaRepository<ProductResult, UU
 	@Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery=true)
 	void deleteAllResultsForProject(String projectId);
 
+	@Query(value = "select distinct r." + PROPERTY_SECHUB_JOB_UUID + " from " + CLASS_NAME + " r where r." + PROPERTY_PROJECT_ID + " = ?1 and r."
+			+ PROPERTY_RESULT_STORAGE_NAME + " is not null")
+	List<UUID> findJobUUIDsHavingResultsInStorageForProject(String projectId);
+
 }
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.SecHubEnvironment;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
@@ -33,6 +34,9 @@ public class ProductResultService {
     @Autowired
     SecHubEnvironment sechubEnvironment;
 
+    @Autowired
+    ScanResultStorageService resultStorageService;
+
     @RolesAllowed(RoleConstants.ROLE_SUPERADMIN)
     public List<ProductResult> fetchAllResultsForJob(UUID sechubJobUUID) {
         ProductResult probe = new ProductResult();
@@ -49,10 +53,17 @@ public class ProductResultService {
 
         List<ProductResult> existingResults = repository.findAll(Example.of(probe));
         boolean purged=false;
+        String projectIdWithStoredResults = null;
         for (ProductResult result : existingResults) {
+            if (result.isResultStoredInStorage()) {
+                projectIdWithStoredResults = result.getProjectId();
+            }
             repository.delete(result);
             purged=true;
         }
+        if (projectIdWithStoredResults != null) {
+            resultStorageService.deleteStoredProductResults(projectIdWithStoredResults, sechubJobUUID);
+        }
 
         if (purged) {
             /* we only send purged event - when something existed before and was really removed */
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 
 @Service
@@ -18,6 +19,9 @@ public class ProductResultTransactionService {
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ScanResultStorageService resultStorageService;
+
     /**
      * Persists the result. This will ALWAYS start a new transaction. So former
      * results will NOT get lost if this persistence fails. Necessary for debugging
@@ -38,6 +42,7 @@ public class ProductResultTransactionService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public ProductResult persistResult(UUIDTraceLogID traceLogID, ProductResult productResult) {
         LOG.debug("persisting result of product {}  , config uuid {} - traceLogId:{}",productResult.getProductIdentifier(), productResult.getProductExecutorConfigUUID(), productResult);
+        resultStorageService.storeResultIfNecessary(productResult);
         return productResultRepository.save(productResult);
     }
     
@@ -14,6 +14,7 @@ import com.daimler.sechub.domain.scan.ScanAssertService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
+import com.daimler.sechub.domain.scan.report.ScanReportResultFactory;
 import com.daimler.sechub.sharedkernel.UserContextService;
 import com.daimler.sechub.sharedkernel.error.NotFoundException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
@@ -48,6 +49,9 @@ public class FalsePositiveJobDataService {
     @Autowired
     AuditLogService auditLogService;
 
+    @Autowired
+    ScanReportResultFactory scanReportResultFactory;
+
     public void addFalsePositives(String projectId, FalsePositiveJobDataList data) {
         validateUserInputAndProjectAccess(projectId, data);
 
@@ -116,7 +120,7 @@ public class FalsePositiveJobDataService {
                 if (report == null) {
                     throw new NotFoundException("No report found for job " + jobUUID);
                 }
-                scanReportResult = new ScanReportResult(report);
+                scanReportResult = scanReportResultFactory.create(report);
             }
             merger.addJobDataWithMetaDataToConfig(scanReportResult, config, data, userContextService.getUserId());
         }
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.commons.model.SecHubResult;
 import com.daimler.sechub.commons.model.TrafficLight;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.SecHubResultService;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -36,6 +37,12 @@ public class CreateScanReportService {
 	@Autowired
 	ScanReportRepository reportRepository;
 
+	@Autowired
+	ScanResultStorageService resultStorageService;
+
+	@Autowired
+	ScanReportHTMLCache reportHTMLCache;
+
 	/**
 	 * Creates a report based on product results. There is no security check because its only called internally from system.
 	 *
@@ -83,7 +90,12 @@ public class CreateScanReportService {
 		report.setEnded(LocalDateTime.now());
 
 		/* persist */
-		return reportRepository.save(report);
+		resultStorageService.storeResultIfNecessary(report);
+		ScanReport savedReport = reportRepository.save(report);
+
+		/* former rendered reports are outdated - inside a transaction evicted after commit */
+		reportHTMLCache.evictJob(sechubJobUUID);
+		return savedReport;
 	}
 
 }
@@ -4,10 +4,13 @@ package com.daimler.sechub.domain.scan.report;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.scan.ScanAssertService;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.SecHubResultService;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.error.NotFoundException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
@@ -17,6 +20,8 @@ import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
 @Service
 public class DownloadScanReportService {
 
+	private static final boolean DEFAULT_PASS_THROUGH_ENABLED = false;
+
 	@Autowired
 	ScanAssertService scanAssertService;
 
@@ -32,6 +37,28 @@ public class DownloadScanReportService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	ScanReportResultFactory scanReportResultFactory;
+
+	@Autowired
+	ScanResultStorageService resultStorageService;
+
+	@Autowired
+	ScanReportHTMLCache htmlCache;
+
+	@MustBeDocumented("When enabled, JSON reports are downloaded by writing stored report JSON directly to response (supporting gzip and ETag) instead of parsing and serializing it again. "
+			+ "Stored report content is NOT validated in this mode.")
+	@Value("${sechub.config.report.download.passthrough.enabled:" + DEFAULT_PASS_THROUGH_ENABLED + "}")
+	boolean passThroughEnabled = DEFAULT_PASS_THROUGH_ENABLED;
+
+	/**
+	 * @return <code>true</code> when JSON reports shall be downloaded by
+	 *         {@link #getScanReportJSONDownload(String, UUID)}
+	 */
+	public boolean isPassThroughEnabled() {
+		return passThroughEnabled;
+	}
+
 	/**
 	 * There must be a a security check because useable from outside
 	 * @param projectId
@@ -40,6 +67,42 @@ public class DownloadScanReportService {
 	 */
 	@UseCaseUserDownloadsJobReport(@Step(number=3, name="Resolve scan report result"))
 	public ScanReportResult getScanReportResult(String projectId, UUID jobUUID) {
+		ScanReport report = resolveReport(projectId, jobUUID);
+
+		return scanReportResultFactory.create(report);
+	}
+
+	/**
+	 * Resolves download for JSON report - the report result is not parsed but
+	 * written directly. There must be a a security check because useable from
+	 * outside
+	 * 
+	 * @param projectId
+	 * @param jobUUID
+	 * @return download
+	 */
+	public ScanReportJSONDownload getScanReportJSONDownload(String projectId, UUID jobUUID) {
+		ScanReport report = resolveReport(projectId, jobUUID);
+
+		return new ScanReportJSONDownload(report, resultStorageService);
+	}
+
+	/**
+	 * Resolves rendered HTML report - when already rendered for current report
+	 * version and cache is enabled, the cached one is used. There must be a a
+	 * security check because useable from outside
+	 * 
+	 * @param projectId
+	 * @param jobUUID
+	 * @return rendered HTML report
+	 */
+	public ScanReportHTML getScanReportHTML(String projectId, UUID jobUUID) {
+		ScanReport report = resolveReport(projectId, jobUUID);
+
+		return htmlCache.getHTML(report);
+	}
+
+	private ScanReport resolveReport(String projectId, UUID jobUUID) {
 		assertion.isValidProjectId(projectId);
 		assertion.isValidJobUUID(jobUUID);
 
@@ -53,8 +116,7 @@ public class DownloadScanReportService {
 			throw new NotFoundException("Report not found or you have no access to report!");
 		}
 		scanAssertService.assertUserHasAccessToReport(report);
-
-		return new ScanReportResult(report);
+		return report;
 	}
 
 }
@@ -18,10 +18,11 @@ import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 import com.daimler.sechub.commons.model.TrafficLight;
+import com.daimler.sechub.domain.scan.StorableScanResult;
 
 @Entity
 @Table(name = ScanReport.TABLE_NAME)
-public class ScanReport {
+public class ScanReport implements StorableScanResult {
 
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ SQL ......................................+ */
@@ -32,6 +33,7 @@ public class ScanReport {
 	public static final String COLUMN_SECHUB_JOB_UUID = "SECHUB_JOB_UUID";
 
 	public static final String COLUMN_RESULT = "RESULT";
+	public static final String COLUMN_RESULT_STORAGE_NAME = "RESULT_STORAGE_NAME";
 	public static final String COLUMN_TRAFFIC_LIGHT = "TRAFFIC_LIGHT";
 	public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
 
@@ -43,6 +45,10 @@ public class ScanReport {
 	/* +-----------------------------------------------------------------------+ */
 	public static final String CLASS_NAME = ScanReport.class.getSimpleName();
 
+	public static final String PROPERTY_SECHUB_JOB_UUID = "secHubJobUUID";
+	public static final String PROPERTY_PROJECT_ID = "projectId";
+	public static final String PROPERTY_RESULT_STORAGE_NAME = "resultStorageName";
+
 	@Id
 	@GeneratedValue(generator = "UUID")
 	@GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
@@ -58,6 +64,8 @@ public class ScanReport {
 	@Column(name = COLUMN_RESULT)
 	private String result;
 
+	@Column(name = COLUMN_RESULT_STORAGE_NAME, nullable = true) // when null, result is stored inside database
+	private String resultStorageName;
 
 	@Enumerated(STRING)
 	@Column(name = COLUMN_TRAFFIC_LIGHT, nullable = true)
@@ -84,14 +92,17 @@ public class ScanReport {
 		this.projectId = projectId;
 	}
 
+	@Override
 	public UUID getSecHubJobUUID() {
 		return secHubJobUUID;
 	}
 
+	@Override
 	public String getResult() {
 		return result;
 	}
 
+	@Override
 	public String getProjectId() {
 		return projectId;
 	}
@@ -107,14 +118,29 @@ public class ScanReport {
 		return trafficLight.name();
 	}
 
+	public Integer getVersion() {
+		return version;
+	}
+
 	public UUID getUUID() {
 		return uUID;
 	}
 
+	@Override
 	public void setResult(String result) {
 		this.result = result;
 	}
 
+	@Override
+	public String getResultStorageName() {
+		return resultStorageName;
+	}
+
+	@Override
+	public void setResultStorageName(String resultStorageName) {
+		this.resultStorageName = resultStorageName;
+	}
+
 	public void setStarted(LocalDateTime started) {
 		this.started = started;
 	}
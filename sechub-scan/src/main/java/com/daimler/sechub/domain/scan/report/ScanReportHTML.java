@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.UUID;
+
+/**
+ * A rendered HTML scan report - optional also pre-compressed (gzip).
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportHTML {
+
+    private UUID reportUUID;
+    private UUID jobUUID;
+    private String projectId;
+    private Integer version;
+    private byte[] html;
+    private byte[] gzippedHTML;
+
+    public ScanReportHTML(UUID reportUUID, UUID jobUUID, String projectId, Integer version, byte[] html, byte[] gzippedHTML) {
+        this.reportUUID = reportUUID;
+        this.jobUUID = jobUUID;
+        this.projectId = projectId;
+        this.version = version;
+        this.html = html;
+        this.gzippedHTML = gzippedHTML;
+    }
+
+    public UUID getReportUUID() {
+        return reportUUID;
+    }
+
+    /**
+     * @return weak entity tag for this rendered report. Changes when the report
+     *         is changed (report version) or created again (report UUID)
+     */
+    public String getETag() {
+        return "W/\"" + reportUUID + "-" + (version == null ? 0 : version) + "-html\"";
+    }
+
+    public UUID getJobUUID() {
+        return jobUUID;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * @return rendered HTML as UTF-8 bytes
+     */
+    public byte[] getHTML() {
+        return html;
+    }
+
+    /**
+     * @return gzip compressed HTML or <code>null</code> when not pre-compressed
+     */
+    public byte[] getGzippedHTMLOrNull() {
+        return gzippedHTML;
+    }
+
+    /**
+     * @return amount of bytes used by this rendered report
+     */
+    public long getSize() {
+        return html.length + (gzippedHTML == null ? 0 : gzippedHTML.length);
+    }
+}
@@ -0,0 +1,237 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static com.daimler.sechub.sharedkernel.UUIDTraceLogID.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Size bounded cache for rendered HTML reports. Reports are rendered lazily on
+ * first access and identified by report UUID and report version, so a changed
+ * or created again report is always rendered again. When the cache size is
+ * exceeded, the least recently used reports are removed.<br>
+ * <br>
+ * Reports of a job are evicted when the report is created again (job restart)
+ * and when project data is deleted. Inside a transaction eviction is done after
+ * commit.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanReportHTMLCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanReportHTMLCache.class);
+
+    static final String TEMPLATE_NAME = "report/html/scanresult";
+
+    private static final boolean DEFAULT_CACHE_ENABLED = true;
+    private static final long DEFAULT_MAX_BYTES = 50 * 1024 * 1024;
+    private static final boolean DEFAULT_GZIP_ENABLED = true;
+
+    @MustBeDocumented("When enabled, rendered HTML reports are cached, so report model is not built and template not rendered again for every download.")
+    @Value("${sechub.config.report.html.cache.enabled:" + DEFAULT_CACHE_ENABLED + "}")
+    boolean cacheEnabled = DEFAULT_CACHE_ENABLED;
+
+    @MustBeDocumented("Maximum amount of bytes used by cached HTML reports. When exceeded, least recently used reports are removed.")
+    @Value("${sechub.config.report.html.cache.max.bytes:" + DEFAULT_MAX_BYTES + "}")
+    long maxBytes = DEFAULT_MAX_BYTES;
+
+    @MustBeDocumented("When enabled, cached HTML reports are also kept gzip compressed, so clients accepting gzip get them without compressing again.")
+    @Value("${sechub.config.report.html.cache.gzip.enabled:" + DEFAULT_GZIP_ENABLED + "}")
+    boolean gzipEnabled = DEFAULT_GZIP_ENABLED;
+
+    @Autowired
+    HTMLScanResultReportModelBuilder htmlModelBuilder;
+
+    @Autowired
+    ScanReportResultFactory scanReportResultFactory;
+
+    @Autowired
+    ITemplateEngine templateEngine;
+
+    private final Map<CacheKey, ScanReportHTML> cachedReports = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    /**
+     * Resolves rendered HTML for given report. If not cached, the report will be
+     * rendered and cached.
+     *
+     * @param report
+     * @return rendered report, never <code>null</code>
+     */
+    public ScanReportHTML getHTML(ScanReport report) {
+        CacheKey key = new CacheKey(report.getUUID(), report.getVersion());
+        synchronized (cachedReports) {
+            ScanReportHTML cached = cachedReports.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        /* render outside lock - other reports can be accessed meanwhile */
+        ScanReportHTML html = render(report);
+        if (cacheEnabled) {
+            cache(key, html);
+        }
+        return html;
+    }
+
+    /**
+     * Removes all rendered reports for given job. When called inside a
+     * transaction, the reports are removed after commit.
+     *
+     * @param jobUUID
+     */
+    public void evictJob(UUID jobUUID) {
+        afterCommit(() -> evictJobNow(jobUUID));
+    }
+
+    /**
+     * Removes all rendered reports for given project. When called inside a
+     * transaction, the reports are removed after commit.
+     *
+     * @param projectId
+     */
+    public void evictProject(String projectId) {
+        afterCommit(() -> evictProjectNow(projectId));
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+        runnable.run();
+    }
+
+    private void evictJobNow(UUID jobUUID) {
+        synchronized (cachedReports) {
+            Iterator<ScanReportHTML> it = cachedReports.values().iterator();
+            while (it.hasNext()) {
+                ScanReportHTML html = it.next();
+                if (Objects.equals(jobUUID, html.getJobUUID())) {
+                    currentBytes -= html.getSize();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void evictProjectNow(String projectId) {
+        synchronized (cachedReports) {
+            Iterator<ScanReportHTML> it = cachedReports.values().iterator();
+            while (it.hasNext()) {
+                ScanReportHTML html = it.next();
+                if (Objects.equals(projectId, html.getProjectId())) {
+                    currentBytes -= html.getSize();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    long getCurrentBytes() {
+        synchronized (cachedReports) {
+            return currentBytes;
+        }
+    }
+
+    private void cache(CacheKey key, ScanReportHTML html) {
+        if (html.getSize() > maxBytes) {
+            LOG.debug("Rendered HTML report for {} is bigger than cache, so not cached", traceLogID(html.getJobUUID()));
+            return;
+        }
+        synchronized (cachedReports) {
+            ScanReportHTML former = cachedReports.put(key, html);
+            if (former != null) {
+                currentBytes -= former.getSize();
+            }
+            currentBytes += html.getSize();
+
+            Iterator<ScanReportHTML> it = cachedReports.values().iterator();
+            while (currentBytes > maxBytes && it.hasNext()) {
+                ScanReportHTML eldest = it.next();
+                currentBytes -= eldest.getSize();
+                it.remove();
+            }
+        }
+    }
+
+    private ScanReportHTML render(ScanReport report) {
+        ScanReportResult scanResult = scanReportResultFactory.create(report);
+        Map<String, Object> model = htmlModelBuilder.build(scanResult);
+
+        String rendered = templateEngine.process(TEMPLATE_NAME, new Context(Locale.getDefault(), model));
+        byte[] html = rendered.getBytes(StandardCharsets.UTF_8);
+
+        byte[] gzippedHTML = null;
+        if (cacheEnabled && gzipEnabled) {
+            gzippedHTML = gzip(html);
+        }
+        return new ScanReportHTML(report.getUUID(), report.getSecHubJobUUID(), report.getProjectId(), report.getVersion(), html, gzippedHTML);
+    }
+
+    private byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to compress HTML report", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static class CacheKey {
+        private UUID reportUUID;
+        private Integer version;
+
+        private CacheKey(UUID reportUUID, Integer version) {
+            this.reportUUID = reportUUID;
+            this.version = version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(reportUUID, version);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return Objects.equals(reportUUID, other.reportUUID) && Objects.equals(version, other.version);
+        }
+    }
+}
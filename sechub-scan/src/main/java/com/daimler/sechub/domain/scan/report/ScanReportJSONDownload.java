@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static com.daimler.sechub.sharedkernel.util.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
+
+/**
+ * Download of a scan report as JSON without parsing the stored report result.
+ * The stored result JSON is written directly to the output - only wrapped with
+ * job UUID and traffic light. So the output has the same structure as a
+ * serialized {@link ScanReportResult}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportJSONDownload {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private ScanReport report;
+    private ScanResultStorageService resultStorageService;
+
+    public ScanReportJSONDownload(ScanReport report, ScanResultStorageService resultStorageService) {
+        notNull(report, "Report may not be null!");
+        notNull(resultStorageService, "Result storage service may not be null!");
+        this.report = report;
+        this.resultStorageService = resultStorageService;
+    }
+
+    /**
+     * @return weak entity tag for this report. Changes when the report is
+     *         changed (report version) or created again (report UUID)
+     */
+    public String getETag() {
+        Integer version = report.getVersion();
+        return "W/\"" + report.getUUID() + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * Writes report JSON to given output stream. The stream is not closed.
+     *
+     * @param outputStream
+     * @throws IOException
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        write(outputStream, "{\"" + ScanReportResult.PROPERTY_JOBUUID + "\":");
+        write(outputStream, quoteOrNull(report.getSecHubJobUUID()));
+        write(outputStream, ",\"" + ScanReportResult.PROPERTY_TRAFFICLIGHT + "\":");
+        write(outputStream, quoteOrNull(report.getTrafficLightAsString()));
+
+        if (hasResult()) {
+            write(outputStream, ",\"" + ScanReportResult.PROPERTY_RESULT + "\":");
+            try (InputStream resultInputStream = resultStorageService.openResultStream(report)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = resultInputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        } else {
+            /* same as for ScanReportResult having no origin data */
+            write(outputStream, ",\"" + ScanReportResult.PROPERTY_RESULT + "\":null");
+            write(outputStream, ",\"" + ScanReportResult.PROPERTY_INFO + "\":\"Origin result data problems! Please inform administrators about this problem.\"");
+        }
+        write(outputStream, "}");
+    }
+
+    private boolean hasResult() {
+        if (report.isResultStoredInStorage()) {
+            return true;
+        }
+        String result = report.getResult();
+        return result != null && !result.trim().isEmpty();
+    }
+
+    private String quoteOrNull(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        /* only UUIDs and enum names - so no escaping necessary */
+        return "\"" + value + "\"";
+    }
+
+    private void write(OutputStream outputStream, String text) throws IOException {
+        outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,6 +3,7 @@ package com.daimler.sechub.domain.scan.report;
 
 import static com.daimler.sechub.domain.scan.report.ScanReport.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +17,10 @@ public interface ScanReportRepository extends JpaRepository<ScanReport, UUID> {
 	@Modifying
 	@Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
 	void deleteAllReportsForProject(String projectId);
+
+	@Query(value = "select distinct r." + PROPERTY_SECHUB_JOB_UUID + " from " + CLASS_NAME + " r where r." + PROPERTY_PROJECT_ID + " = ?1 and r."
+			+ PROPERTY_RESULT_STORAGE_NAME + " is not null")
+	List<UUID> findJobUUIDsHavingReportsInStorageForProject(String projectId);
 	
 	@Modifying
 	@Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_SECHUB_JOB_UUID + " = ?1", nativeQuery = true)
@@ -1,22 +1,27 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.report;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
 import com.daimler.sechub.sharedkernel.APIConstants;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
@@ -36,8 +41,9 @@ import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserStartsSy
 @RolesAllowed({RoleConstants.ROLE_USER, RoleConstants.ROLE_SUPERADMIN})
 public class ScanReportRestController {
 
-	@Autowired
-	private HTMLScanResultReportModelBuilder htmlModelBuilder;
+	private static final String GZIP = "gzip";
+	private static final int GZIP_BUFFER_SIZE = 8192;
+	private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
 
 	@Autowired
 	private DownloadScanReportService downloadReportService;
@@ -47,28 +53,79 @@ public class ScanReportRestController {
 	@UseCaseUserDownloadsJobReport(@Step(number=1,next= {3},name="REST API call to get JSON report",needsRestDoc=true))
 	@UseCaseUserStartsSynchronousScanByClient(@Step(number=4, name="download job report and traffic light"))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_VALUE})
-	public ScanReportResult getScanReportResultJSON(
+	public ResponseEntity<StreamingResponseBody> getScanReportResultJSON(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			ServletWebRequest webRequest
 			) {
 		/* @formatter:on */
-		return fetchScanReportResult(projectId, jobUUID);
-
+		if (!downloadReportService.isPassThroughEnabled()) {
+			/* serialized inside request thread - so failures are handled as usual */
+			String json = fetchScanReportResult(projectId, jobUUID).toJSON();
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(outputStream -> write(outputStream, json));
+		}
+		ScanReportJSONDownload download = downloadReportService.getScanReportJSONDownload(projectId, jobUUID);
+		String eTag = download.getETag();
+		if (webRequest.checkNotModified(eTag)) {
+			/* 304 - client has already current report */
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		/* @formatter:off */
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().
+				contentType(MediaType.APPLICATION_JSON).
+				eTag(eTag).
+				header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		/* @formatter:on */
+		if (!isGzipAccepted(webRequest)) {
+			return builder.body(download::writeTo);
+		}
+		return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(outputStream -> writeGzipped(download, outputStream));
 	}
 
 	/* @formatter:off */
 	@UseCaseUserDownloadsJobReport(@Step(number=2,next= {3},name="REST API call to get HTML report",needsRestDoc=true))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {"application/xhtml+xml", "text/html","text/html;charset=UTF-8"})
-	@ResponseBody
-	public ModelAndView getScanReportResultHTML(
+	public ResponseEntity<StreamingResponseBody> getScanReportResultHTML(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			ServletWebRequest webRequest
 			) {
 		/* @formatter:on */
-		ScanReportResult scanResult = fetchScanReportResult(projectId, jobUUID);
+		/* when cache is disabled, the report is rendered but not cached */
+		ScanReportHTML html = downloadReportService.getScanReportHTML(projectId, jobUUID);
+		String eTag = html.getETag();
+		if (webRequest.checkNotModified(eTag)) {
+			/* 304 - client has already current report */
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		/* @formatter:off */
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().
+				contentType(TEXT_HTML_UTF8).
+				eTag(eTag).
+				header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		/* @formatter:on */
+		byte[] gzippedHTML = html.getGzippedHTMLOrNull();
+		if (gzippedHTML != null && isGzipAccepted(webRequest)) {
+			return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).contentLength(gzippedHTML.length).body(outputStream -> outputStream.write(gzippedHTML));
+		}
+		byte[] plainHTML = html.getHTML();
+		return builder.contentLength(plainHTML.length).body(outputStream -> outputStream.write(plainHTML));
+	}
+
+	private void writeGzipped(ScanReportJSONDownload download, OutputStream outputStream) throws IOException {
+		GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+		download.writeTo(gzipOutputStream);
+		/* finish only - response stream is closed by spring */
+		gzipOutputStream.finish();
+	}
+
+	private void write(OutputStream outputStream, String text) throws IOException {
+		outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+	}
 
-		Map<String, Object> model = htmlModelBuilder.build(scanResult);
-		return new ModelAndView("report/html/scanresult", model);
+	private boolean isGzipAccepted(ServletWebRequest webRequest) {
+		String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
 	}
 
 	private ScanReportResult fetchScanReportResult(String projectId, UUID jobUUID) {
@@ -3,11 +3,13 @@ package com.daimler.sechub.domain.scan.report;
 
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.daimler.sechub.commons.model.JSONConverter;
 import com.daimler.sechub.commons.model.JSONConverterException;
 import com.daimler.sechub.commons.model.JSONable;
 import com.daimler.sechub.commons.model.SecHubResult;
@@ -39,6 +41,7 @@ public class ScanReportResult implements JSONable<ScanReportResult>{
 		return jobUUID;
 	}
 
+	@JsonInclude(Include.ALWAYS) // always include result - so pass through download (writes null) has same structure
 	SecHubResult result;
 
 	public SecHubResult getResult() {
@@ -78,6 +81,28 @@ public class ScanReportResult implements JSONable<ScanReportResult>{
 		}
 	}
 
+	/**
+	 * Creates a scan report result by reading the result of given report from
+	 * given input stream - used when report result is not stored inside database.
+	 * 
+	 * @param report
+	 * @param resultInputStream stream containing report result JSON, will not be
+	 *                          closed
+	 */
+	public ScanReportResult(ScanReport report, InputStream resultInputStream) {
+		notNull(report, "Report may not be null!");
+		notNull(resultInputStream, "Result input stream may not be null!");
+		jobUUID = report.getSecHubJobUUID();
+		trafficLight = report.getTrafficLightAsString();
+		try {
+			result = JSONConverter.get().fromJSONStream(SecHubResult.class, resultInputStream);
+		} catch (JSONConverterException e) {
+			/* same as for results stored in database - see other constructor */
+			LOG.error("{} FATAL PROBLEM! Failed to create sechub result for origin stored as:{}",UUIDTraceLogID.traceLogID(jobUUID), report.getResultStorageName(), e);
+			info="Origin result data problems! Please inform administrators about this problem.";
+		}
+	}
+
 	@Override
 	public Class<ScanReportResult> getJSONTargetClass() {
 		return ScanReportResult.class;
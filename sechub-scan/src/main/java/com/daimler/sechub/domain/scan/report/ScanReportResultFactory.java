@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
+
+/**
+ * Creates {@link ScanReportResult} objects for reports. When the report result
+ * is inside result storage, it is read directly from storage stream.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanReportResultFactory {
+
+    @Autowired
+    ScanResultStorageService resultStorageService;
+
+    public ScanReportResult create(ScanReport report) {
+        if (!report.isResultStoredInStorage()) {
+            return new ScanReportResult(report);
+        }
+        try (InputStream inputStream = resultStorageService.openResultStream(report)) {
+            return new ScanReportResult(report, inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Was not able to read stored report result for job " + report.getSecHubJobUUID(), e);
+        }
+    }
+}
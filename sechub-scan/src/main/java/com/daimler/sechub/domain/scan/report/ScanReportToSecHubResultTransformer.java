@@ -4,13 +4,29 @@ package com.daimler.sechub.domain.scan.report;
 import com.daimler.sechub.commons.model.SecHubResult;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
 public interface ScanReportToSecHubResultTransformer {
 
 	SecHubResult transform(ProductResult result) throws SecHubExecutionException;
 
+	/**
+	 * Transforms product result inside given execution context. Transformers can
+	 * use data provided by report product executors of same job (e.g. already
+	 * available objects), so result content must not be read again. Per default
+	 * same as {@link #transform(ProductResult)}
+	 *
+	 * @param result
+	 * @param context
+	 * @return sechub result
+	 * @throws SecHubExecutionException
+	 */
+	default SecHubResult transform(ProductResult result, SecHubExecutionContext context) throws SecHubExecutionException {
+		return transform(result);
+	}
+
 	boolean canTransform(ProductIdentifier productIdentifier);
-	
 
-}
\ No newline at end of file
+
+}
@@ -3,6 +3,9 @@ package com.daimler.sechub.domain.scan;
 
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
+import java.util.UUID;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -10,6 +13,7 @@ import com.daimler.sechub.domain.scan.log.ProjectScanLogRepository;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.product.config.ProductExecutionProfileRepository;
 import com.daimler.sechub.domain.scan.project.ScanProjectConfigRepository;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.sharedkernel.logging.LogSanitizer;
 import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
@@ -22,6 +26,8 @@ public class ProjectDataDeleteServiceTest {
 	private ScanReportRepository scanReportRepository;
 	private ScanProjectConfigRepository scanProjectConfigRepository;
     private ProductExecutionProfileRepository profileRepository;
+	private ScanResultStorageService resultStorageService;
+	private ScanReportHTMLCache reportHTMLCache;
 
 	@Before
 	public void before() {
@@ -30,6 +36,8 @@ public class ProjectDataDeleteServiceTest {
 		scanReportRepository = mock(ScanReportRepository.class);
 		scanProjectConfigRepository = mock(ScanProjectConfigRepository.class);
 		profileRepository=mock(ProductExecutionProfileRepository.class);
+		resultStorageService=mock(ScanResultStorageService.class);
+		reportHTMLCache=mock(ScanReportHTMLCache.class);
 		
 		serviceToTest = new ProjectDataDeleteService();
 		serviceToTest.logSanitizer=mock(LogSanitizer.class);
@@ -40,6 +48,18 @@ public class ProjectDataDeleteServiceTest {
 		serviceToTest.scanReportRepository=scanReportRepository;
 		serviceToTest.scanProjectConfigRepository=scanProjectConfigRepository;
         serviceToTest.profileRepository=profileRepository;
+		serviceToTest.resultStorageService=resultStorageService;
+		serviceToTest.reportHTMLCache=reportHTMLCache;
+	}
+
+	@Test
+	public void deleteAllDataForProject_evicts_cached_html_reports_of_project() {
+		/* execute */
+		serviceToTest.deleteAllDataForProject("project-1");
+
+		/* test */
+		verify(reportHTMLCache).evictProject("project-1");
+
 	}
 
 	@Test
@@ -82,4 +102,22 @@ public class ProjectDataDeleteServiceTest {
 
 	}
 
+	@Test
+	public void deleteAllDataForProject_deletes_stored_results_and_reports_of_jobs() {
+		/* prepare */
+		UUID jobUUID1 = UUID.randomUUID();
+		UUID jobUUID2 = UUID.randomUUID();
+		when(productResultRepository.findJobUUIDsHavingResultsInStorageForProject("project-1")).thenReturn(Collections.singletonList(jobUUID1));
+		when(scanReportRepository.findJobUUIDsHavingReportsInStorageForProject("project-1")).thenReturn(Collections.singletonList(jobUUID2));
+
+		/* execute */
+		serviceToTest.deleteAllDataForProject("project-1");
+
+		/* test */
+		verify(resultStorageService).deleteStoredProductResults("project-1", jobUUID1);
+		verify(resultStorageService).deleteStoredReport("project-1", jobUUID2);
+		verify(resultStorageService, never()).deleteStoredReport("project-1", jobUUID1);
+
+	}
+
 }
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.daimler.sechub.sharedkernel.messaging.BatchJobMessage;
+import com.daimler.sechub.sharedkernel.messaging.BatchJobStatusListMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
+
+public class ScanJobCancellationRegistryTest {
+
+    private ScanJobCancellationRegistry registryToTest;
+    private DomainMessageService eventBus;
+
+    @Before
+    public void before() {
+        eventBus = mock(DomainMessageService.class);
+
+        registryToTest = new ScanJobCancellationRegistry();
+        registryToTest.eventBus = eventBus;
+    }
+
+    @Test
+    public void no_registered_jobs_means_no_status_request() {
+        /* execute */
+        registryToTest.checkRunningJobs();
+
+        /* test */
+        verify(eventBus, never()).sendSynchron(any());
+    }
+
+    @Test
+    public void all_registered_jobs_are_checked_with_one_request_and_state_is_updated() {
+        /* prepare */
+        registryToTest.register(1, UUID.randomUUID());
+        registryToTest.register(2, UUID.randomUUID());
+        registryToTest.register(3, UUID.randomUUID());
+        BatchJobStatusListMessage response = new BatchJobStatusListMessage();
+        response.getBatchJobs().add(createStatus(1, false, false));
+        response.getBatchJobs().add(createStatus(2, true, false));
+        response.getBatchJobs().add(createStatus(3, true, true));
+        mockResponse(response);
+
+        /* execute */
+        registryToTest.checkRunningJobs();
+
+        /* test */
+        ArgumentCaptor<DomainMessage> captor = ArgumentCaptor.forClass(DomainMessage.class);
+        verify(eventBus, times(1)).sendSynchron(captor.capture());
+        DomainMessage request = captor.getValue();
+        assertTrue(request.hasID(MessageID.REQUEST_BATCH_JOB_STATUS_LIST));
+        assertEquals(3, request.get(MessageDataKeys.BATCH_JOB_STATUS_LIST).getBatchJobs().size());
+
+        assertFalse(registryToTest.isCanceled(1));
+        assertFalse(registryToTest.isAbandoned(1));
+        assertTrue(registryToTest.isCanceled(2));
+        assertFalse(registryToTest.isAbandoned(2));
+        assertTrue(registryToTest.isCanceled(3));
+        assertTrue(registryToTest.isAbandoned(3));
+    }
+
+    @Test
+    public void unregistered_job_is_no_longer_checked() {
+        /* prepare */
+        registryToTest.register(1, UUID.randomUUID());
+        registryToTest.unregister(1);
+
+        /* execute */
+        registryToTest.checkRunningJobs();
+
+        /* test */
+        verify(eventBus, never()).sendSynchron(any());
+        assertEquals(0, registryToTest.getAmountOfRegisteredJobs());
+        assertFalse(registryToTest.isCanceled(1));
+    }
+
+    @Test
+    public void check_running_job_does_only_send_request_when_job_is_running_on_this_node() {
+        /* prepare */
+        UUID runningJobUUID = UUID.randomUUID();
+        registryToTest.register(1, runningJobUUID);
+        BatchJobStatusListMessage response = new BatchJobStatusListMessage();
+        response.getBatchJobs().add(createStatus(1, true, false));
+        mockResponse(response);
+
+        /* execute */
+        registryToTest.checkRunningJob(UUID.randomUUID());
+
+        /* test */
+        verify(eventBus, never()).sendSynchron(any());
+        assertFalse(registryToTest.isCanceled(1));
+
+        /* execute */
+        registryToTest.checkRunningJob(runningJobUUID);
+
+        /* test */
+        verify(eventBus, times(1)).sendSynchron(any());
+        assertTrue(registryToTest.isCanceled(1));
+    }
+
+    private void mockResponse(BatchJobStatusListMessage response) {
+        DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.BATCH_JOB_STATUS_LIST);
+        result.set(MessageDataKeys.BATCH_JOB_STATUS_LIST, response);
+        when(eventBus.sendSynchron(any())).thenReturn(result);
+    }
+
+    private BatchJobMessage createStatus(long batchJobId, boolean canceled, boolean abandoned) {
+        BatchJobMessage status = new BatchJobMessage();
+        status.setBatchJobId(batchJobId);
+        status.setExisting(true);
+        status.setCanceled(canceled);
+        status.setAbandoned(abandoned);
+        return status;
+    }
+}
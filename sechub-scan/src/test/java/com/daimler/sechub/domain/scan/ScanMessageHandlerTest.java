@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -14,10 +15,12 @@ import com.daimler.sechub.domain.scan.access.ScanDeleteAnyAccessToProjectAtAllSe
 import com.daimler.sechub.domain.scan.access.ScanGrantUserAccessToProjectService;
 import com.daimler.sechub.domain.scan.access.ScanRevokeUserAccessAtAllService;
 import com.daimler.sechub.domain.scan.access.ScanRevokeUserAccessFromProjectService;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutors;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
 import com.daimler.sechub.sharedkernel.messaging.DummyEventInspector;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.messaging.ProjectMessage;
@@ -43,6 +46,7 @@ public class ScanMessageHandlerTest {
 		scheduleHandlerToTest.revokeUserService=mock(ScanRevokeUserAccessAtAllService.class);
 		scheduleHandlerToTest.deleteAllProjectAccessService=mock(ScanDeleteAnyAccessToProjectAtAllService.class);
 		scheduleHandlerToTest.projectDataDeleteService=mock(ProjectDataDeleteService.class);
+		scheduleHandlerToTest.cancellationRegistry=mock(ScanJobCancellationRegistry.class);
 
 
 		List<AsynchronMessageHandler> injectedAsynchronousHandlers = new ArrayList<>();
@@ -87,6 +91,40 @@ public class ScanMessageHandlerTest {
 
 	}
 
+	@Test
+	public void when_sending_message_id_JOB_CANCELED_the_cancellation_registry_checks_job_immediately() {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		DomainMessage request = new DomainMessage(MessageID.JOB_CANCELED);
+		JobMessage content = new JobMessage();
+		content.setJobUUID(jobUUID);
+		request.set(MessageDataKeys.JOB_CANCEL_DATA, content);
+
+		/* execute */
+		simulateEventSend(request, scheduleHandlerToTest);
+
+		/* test */
+		verify(scheduleHandlerToTest.cancellationRegistry).checkRunningJob(jobUUID);
+
+	}
+
+	@Test
+	public void when_sending_message_id_JOB_RESTART_TRIGGERED_the_cancellation_registry_checks_job_immediately() {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		DomainMessage request = new DomainMessage(MessageID.JOB_RESTART_TRIGGERED);
+		JobMessage content = new JobMessage();
+		content.setJobUUID(jobUUID);
+		request.set(MessageDataKeys.JOB_RESTART_DATA, content);
+
+		/* execute */
+		simulateEventSend(request, scheduleHandlerToTest);
+
+		/* test */
+		verify(scheduleHandlerToTest.cancellationRegistry).checkRunningJob(jobUUID);
+
+	}
+
 	private void simulateEventSend(DomainMessage request,  AsynchronMessageHandler handler) {
 		fakeDomainMessageService.sendAsynchron(request);
 	}
@@ -98,6 +136,7 @@ public class ScanMessageHandlerTest {
 			super(injectedSynchronousHandlers, injectedAsynchronousHandlers);
 			this.taskExecutor=new TestTaskExecutor();
 			this.eventInspector=new DummyEventInspector();
+			this.asynchronExecutors = new AsynchronMessageExecutors(); // disabled by default
 		}
 
 	}
@@ -3,17 +3,22 @@ package com.daimler.sechub.domain.scan;
 
 import static com.daimler.sechub.test.TestURLBuilder.*;
 import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -26,8 +31,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.StreamUtils;
 
 import com.daimler.sechub.commons.model.SecHubFinding;
 import com.daimler.sechub.commons.model.TrafficLight;
@@ -35,15 +43,21 @@ import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportHTML;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
+import com.daimler.sechub.domain.scan.report.ScanReportJSONDownload;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
+import com.daimler.sechub.domain.scan.report.ScanReportResultFactory;
 import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
 import com.daimler.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
+@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportHTMLCache.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
+/* HTML reports are rendered by real cache, but not cached - so every test renders its own model */
+@TestPropertySource(properties = "sechub.config.report.html.cache.enabled=false")
 public class ScanReportRestControllerMockTest {
 
     private static final String PROJECT1_ID = "project1";
@@ -74,6 +88,12 @@ public class ScanReportRestControllerMockTest {
     @MockBean
     HTMLScanResultReportModelBuilder modelBuilder;
 
+    @MockBean
+    ScanReportResultFactory scanReportResultFactory;
+
+    @Autowired
+    ScanReportHTMLCache htmlCache;
+
     private UUID randomUUID;
 
     @Test
@@ -141,10 +161,14 @@ public class ScanReportRestControllerMockTest {
         when(modelBuilder.build(any())).thenReturn(map);
 
         /* execute + test @formatter:off */
-        this.mockMvc.perform(
+        MvcResult mvcResult = this.mockMvc.perform(
                 get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
                     contentType(MediaType.APPLICATION_JSON_VALUE)
-                ).  andDo(print()).
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).  andDo(print()).
                     andExpect(status().isOk()).
                     andExpect(content().contentType("text/html;charset=UTF-8")).
                     andExpect(content().encoding("UTF-8")).
@@ -176,10 +200,14 @@ public class ScanReportRestControllerMockTest {
         when(modelBuilder.build(any())).thenReturn(map);
 
         /* execute + test @formatter:off */
-        this.mockMvc.perform(
+        MvcResult mvcResult = this.mockMvc.perform(
                 get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
                     contentType(MediaType.APPLICATION_JSON_VALUE)
-                ).  andDo(print()).
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).  andDo(print()).
                     andExpect(status().isOk()).
                     andExpect(content().contentType("text/html;charset=UTF-8")).
                     andExpect(content().encoding("UTF-8")).
@@ -190,6 +218,190 @@ public class ScanReportRestControllerMockTest {
         /* @formatter:on */
     }
 
+    @Test
+    @WithMockUser
+    public void get_report_in_pass_through_mode_returns_stored_json_with_etag() throws Exception {
+        /* prepare */
+        ScanReportJSONDownload download = createPassThroughDownload();
+
+        /* execute + test @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+                    contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(header().string("ETag", download.getETag())).
+                    andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"result\":{\"count\":1,\"findings\":[]},\"trafficLight\":\"YELLOW\"}")
+                );
+
+        /* @formatter:on */
+        verify(downloadReportService, never()).getScanReportResult(any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    public void get_report_in_pass_through_mode_returns_304_when_etag_matches() throws Exception {
+        /* prepare */
+        ScanReportJSONDownload download = createPassThroughDownload();
+
+        /* execute + test @formatter:off */
+        this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+                    header("If-None-Match", download.getETag()).
+                    contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).
+                    andExpect(status().isNotModified()).
+                    andExpect(content().string(""));
+        /* @formatter:on */
+    }
+
+    @Test
+    @WithMockUser
+    public void get_report_with_pass_through_disabled_does_not_use_stored_json() throws Exception {
+        /* prepare */
+        ScanReport report = new ScanReport(randomUUID, PROJECT1_ID);
+        report.setResult("{'count':'1'}");
+        report.setTrafficLight(TrafficLight.GREEN);
+        when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(new ScanReportResult(report));
+
+        /* execute + test @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+                    header("Accept-Encoding", "gzip")
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(header().doesNotExist("ETag")).
+                    andExpect(header().doesNotExist("Content-Encoding")).
+                    andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"trafficLight\":\"GREEN\"}"));
+
+        /* @formatter:on */
+    }
+
+    @Test
+    @WithMockUser
+    public void get_report_in_pass_through_mode_returns_gzip_when_accepted() throws Exception {
+        /* prepare */
+        createPassThroughDownload();
+
+        /* execute */
+        /* @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+                    header("Accept-Encoding", "gzip, deflate").
+                    contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        byte[] body = this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(header().string("Content-Encoding", "gzip")).
+                    andReturn().getResponse().getContentAsByteArray();
+        /* @formatter:on */
+
+        /* test */
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = StreamUtils.copyToString(gzipInputStream, StandardCharsets.UTF_8);
+            assertEquals("{\"jobUUID\":\"" + randomUUID.toString() + "\",\"trafficLight\":\"YELLOW\",\"result\":{\"count\":1,\"findings\":[]}}", json);
+        }
+    }
+
+    @Test
+    @WithMockUser
+    public void get_html_report_with_enabled_cache_returns_cached_html() throws Exception {
+        /* prepare */
+        byte[] html = "<html><body>cached-report</body></html>".getBytes(StandardCharsets.UTF_8);
+        ScanReportHTML reportHTML = new ScanReportHTML(UUID.randomUUID(), randomUUID, PROJECT1_ID, 0, html, null);
+        when(downloadReportService.getScanReportHTML(PROJECT1_ID, randomUUID)).thenReturn(reportHTML);
+
+        /* execute + test @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+                    header("Accept-Encoding", "gzip, deflate")
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(header().string("ETag", reportHTML.getETag())).
+                    andExpect(content().contentType("text/html;charset=UTF-8")).
+                    andExpect(header().doesNotExist("Content-Encoding")).
+                    andExpect(content().string("<html><body>cached-report</body></html>")
+                );
+
+        /* @formatter:on */
+        verify(modelBuilder, never()).build(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void get_html_report_with_enabled_cache_returns_precompressed_html_when_gzip_accepted() throws Exception {
+        /* prepare */
+        byte[] html = "<html/>".getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = { 31, -117, 8, 0 };
+        when(downloadReportService.getScanReportHTML(PROJECT1_ID, randomUUID)).thenReturn(new ScanReportHTML(UUID.randomUUID(), randomUUID, PROJECT1_ID, 0, html, gzipped));
+
+        /* execute */
+        /* @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+                    header("Accept-Encoding", "gzip")
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        byte[] body = this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(header().string("Content-Encoding", "gzip")).
+                    andReturn().getResponse().getContentAsByteArray();
+        /* @formatter:on */
+
+        /* test */
+        assertArrayEquals(gzipped, body);
+    }
+
+    @Test
+    @WithMockUser
+    public void get_html_report_returns_304_when_etag_matches() throws Exception {
+        /* prepare */
+        byte[] html = "<html/>".getBytes(StandardCharsets.UTF_8);
+        ScanReportHTML reportHTML = new ScanReportHTML(UUID.randomUUID(), randomUUID, PROJECT1_ID, 0, html, null);
+        when(downloadReportService.getScanReportHTML(PROJECT1_ID, randomUUID)).thenReturn(reportHTML);
+
+        /* execute + test @formatter:off */
+        this.mockMvc.perform(
+                get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+                    header("If-None-Match", reportHTML.getETag())
+                ).
+                    andExpect(status().isNotModified()).
+                    andExpect(content().string(""));
+
+        /* @formatter:on */
+    }
+
+    private ScanReportJSONDownload createPassThroughDownload() throws Exception {
+        ScanReport report = new ScanReport(randomUUID, PROJECT1_ID);
+        report.setResult("{\"count\":1,\"findings\":[]}");
+        report.setTrafficLight(TrafficLight.YELLOW);
+
+        ScanResultStorageService storageService = mock(ScanResultStorageService.class);
+        when(storageService.openResultStream(report)).thenAnswer(invocation -> new ByteArrayInputStream(report.getResult().getBytes(StandardCharsets.UTF_8)));
+
+        ScanReportJSONDownload download = new ScanReportJSONDownload(report, storageService);
+        when(downloadReportService.isPassThroughEnabled()).thenReturn(true);
+        when(downloadReportService.getScanReportJSONDownload(PROJECT1_ID, randomUUID)).thenReturn(download);
+        return download;
+    }
+
     private void internalTestAcceptedAndReturnsJSON(MediaType acceptedType) throws Exception {
         /* prepare */
         ScanReport report = new ScanReport(randomUUID, PROJECT1_ID);
@@ -200,10 +412,14 @@ public class ScanReportRestControllerMockTest {
         when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
 
         /* execute + test @formatter:off */
-	    this.mockMvc.perform(
+	    MvcResult mvcResult = this.mockMvc.perform(
 	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(acceptedType).
 	    			contentType(MediaType.APPLICATION_JSON_VALUE)
 	    		).
+	    			andExpect(request().asyncStarted()).
+	    			andReturn();
+
+	    this.mockMvc.perform(asyncDispatch(mvcResult)).
 	    			andExpect(status().isOk()).
 	    			andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"result\":{\"count\":1,\"findings\":[]},\"trafficLight\":\"YELLOW\"}")
 	    		);
@@ -218,13 +434,17 @@ public class ScanReportRestControllerMockTest {
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanReportResult result1 = new ScanReportResult(report);
-        when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+        when(scanReportResultFactory.create(any())).thenReturn(result1);
 
         /* execute + test @formatter:off */
-        this.mockMvc.perform(
+        MvcResult mvcResult = this.mockMvc.perform(
         		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(acceptedType).
         			contentType(MediaType.APPLICATION_JSON_VALUE)
-        		).  andDo(print()).
+        		).
+        			andExpect(request().asyncStarted()).
+        			andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).  andDo(print()).
         			andExpect(status().isOk()).
         			andExpect(content().contentType("text/html;charset=UTF-8")).
         			andExpect(content().encoding("UTF-8")).
@@ -255,6 +475,10 @@ public class ScanReportRestControllerMockTest {
         map.put("greenList", new ArrayList<>());
         map.put("isWebDesignMode", false);
         when(modelBuilder.build(any())).thenReturn(map);
+
+        ScanReport report = new ScanReport(randomUUID, PROJECT1_ID);
+        report.setTrafficLight(TrafficLight.GREEN);
+        when(downloadReportService.getScanReportHTML(PROJECT1_ID, randomUUID)).thenAnswer(invocation -> htmlCache.getHTML(report));
     }
 
 }
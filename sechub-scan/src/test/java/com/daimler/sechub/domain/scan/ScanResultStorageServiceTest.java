@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.domain.scan.product.ProductIdentifier;
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.config.WithoutProductExecutorConfigInfo;
+import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.sharedkernel.storage.MultiStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+public class ScanResultStorageServiceTest {
+
+    private static final String PROJECT_ID = "project1";
+    private ScanResultStorageService serviceToTest;
+    private MultiStorageService storageService;
+    private JobStorage resultStorage;
+    private JobStorage reportStorage;
+    private UUID jobUUID;
+
+    @Before
+    public void before() throws Exception {
+        jobUUID = UUID.randomUUID();
+        storageService = mock(MultiStorageService.class);
+        resultStorage = mock(JobStorage.class);
+        reportStorage = mock(JobStorage.class);
+        when(storageService.getResultStorage(PROJECT_ID, jobUUID)).thenReturn(resultStorage);
+        when(storageService.getReportStorage(PROJECT_ID, jobUUID)).thenReturn(reportStorage);
+
+        serviceToTest = new ScanResultStorageService();
+        serviceToTest.storageService = storageService;
+        serviceToTest.resultStorageEnabled = true;
+        serviceToTest.resultStorageMinimumLength = 5;
+    }
+
+    @Test
+    public void disabled_result_storage_keeps_result_in_entity() throws Exception {
+        /* prepare */
+        serviceToTest.resultStorageEnabled = false;
+        ProductResult productResult = createProductResult("a long result");
+
+        /* execute */
+        serviceToTest.storeResultIfNecessary(productResult);
+
+        /* test */
+        assertEquals("a long result", productResult.getResult());
+        assertNull(productResult.getResultStorageName());
+        verifyNoInteractions(resultStorage);
+    }
+
+    @Test
+    public void result_smaller_than_minimum_length_is_kept_in_entity() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("tiny");
+
+        /* execute */
+        serviceToTest.storeResultIfNecessary(productResult);
+
+        /* test */
+        assertEquals("tiny", productResult.getResult());
+        assertFalse(productResult.isResultStoredInStorage());
+        verifyNoInteractions(resultStorage);
+    }
+
+    @Test
+    public void big_product_result_is_stored_in_result_storage_and_removed_from_entity() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("a long result");
+
+        /* execute */
+        serviceToTest.storeResultIfNecessary(productResult);
+
+        /* test */
+        assertNull(productResult.getResult());
+        assertTrue(productResult.isResultStoredInStorage());
+
+        ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(resultStorage).store(eq(productResult.getResultStorageName()), captor.capture());
+        assertEquals("a long result", StreamUtils.copyToString(captor.getValue(), StandardCharsets.UTF_8));
+        verifyNoInteractions(reportStorage);
+    }
+
+    @Test
+    public void big_report_is_stored_in_report_storage() throws Exception {
+        /* prepare */
+        ScanReport report = new ScanReport(jobUUID, PROJECT_ID);
+        report.setResult("{'result':'long'}");
+
+        /* execute */
+        serviceToTest.storeResultIfNecessary(report);
+
+        /* test */
+        assertNull(report.getResult());
+        assertEquals(ScanResultStorageService.REPORT_STORAGE_NAME, report.getResultStorageName());
+        verify(reportStorage).store(eq(ScanResultStorageService.REPORT_STORAGE_NAME), any());
+        verifyNoInteractions(resultStorage);
+    }
+
+    @Test
+    public void stored_result_replaced_by_small_result_is_no_longer_marked_as_stored() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("a long result");
+        serviceToTest.storeResultIfNecessary(productResult);
+        productResult.setResult("");
+
+        /* execute */
+        serviceToTest.storeResultIfNecessary(productResult);
+
+        /* test */
+        assertEquals("", productResult.getResult());
+        assertFalse(productResult.isResultStoredInStorage());
+    }
+
+    @Test
+    public void fetch_result_reads_from_result_storage_when_stored() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult(null);
+        productResult.setResultStorageName("stored1");
+        when(resultStorage.fetch("stored1")).thenReturn(new ByteArrayInputStream("from-storage".getBytes(StandardCharsets.UTF_8)));
+
+        /* execute */
+        String result = serviceToTest.fetchResult(productResult);
+
+        /* test */
+        assertEquals("from-storage", result);
+    }
+
+    @Test
+    public void open_result_stream_reads_entity_result_when_not_stored() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("from-db");
+
+        /* execute */
+        InputStream inputStream = serviceToTest.openResultStream(productResult);
+
+        /* test */
+        assertEquals("from-db", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        verifyNoInteractions(storageService);
+    }
+
+    private ProductResult createProductResult(String result) {
+        return new ProductResult(jobUUID, PROJECT_ID, new WithoutProductExecutorConfigInfo(ProductIdentifier.CHECKMARX), result);
+    }
+}
@@ -30,6 +30,7 @@ import com.daimler.sechub.sharedkernel.ProgressMonitor;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutors;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.BatchJobMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
@@ -95,6 +96,7 @@ public class ScanServiceTest {
 		serviceToTest.scanProjectConfigService = scanProjectConfigService;
 		serviceToTest.scanJobListener=scanJobRegistry;
 		serviceToTest.monitorFactory=monitorFactory;
+		serviceToTest.cancellationRegistry=mock(ScanJobCancellationRegistry.class);
 	}
 
 	@Test
@@ -332,6 +334,7 @@ public class ScanServiceTest {
 			super(injectedSynchronousHandlers, injectedAsynchronousHandlers);
 			this.taskExecutor = new TestTaskExecutor();
 			this.eventInspector=new DummyEventInspector();
+			this.asynchronExecutors = new AsynchronMessageExecutors(); // disabled by default
 		}
 
 	}
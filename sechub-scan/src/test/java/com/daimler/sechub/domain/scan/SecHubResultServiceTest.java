@@ -90,7 +90,7 @@ public class SecHubResultServiceTest {
 		SecHubResult secHubResult = new SecHubResult();
 		ProductResult scanResult = new ProductResult(secHubJobUUID, "project1",  new WithoutProductExecutorConfigInfo(ProductIdentifier.SERECO), "scan-result");
 		when(reportTransformer.canTransform(ProductIdentifier.SERECO)).thenReturn(true);
-		when(reportTransformer.transform(scanResult)).thenReturn(secHubResult);
+		when(reportTransformer.transform(scanResult, context)).thenReturn(secHubResult);
 
 		when(productResultRepository.findAllProductResults(eq(secHubJobUUID), any()))
 				.thenReturn(Arrays.asList(scanResult));
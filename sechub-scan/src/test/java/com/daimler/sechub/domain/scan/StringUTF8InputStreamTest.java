@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+public class StringUTF8InputStreamTest {
+
+    @Test
+    public void null_content_results_in_empty_stream() throws Exception {
+        /* execute */
+        StringUTF8InputStream streamToTest = new StringUTF8InputStream(null);
+
+        /* test */
+        assertEquals(-1, streamToTest.read());
+    }
+
+    @Test
+    public void content_bigger_than_chunk_size_with_surrogate_pair_on_chunk_border_is_encoded_correctly() throws Exception {
+        /* prepare */
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < StringUTF8InputStream.CHUNK_SIZE - 1; i++) {
+            sb.append('a');
+        }
+        sb.append("😀"); // emoji - surrogate pair at chunk border
+        sb.append("äöü end");
+        String content = sb.toString();
+
+        /* execute */
+        byte[] bytes = StreamUtils.copyToByteArray(new StringUTF8InputStream(content));
+
+        /* test */
+        assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), bytes);
+    }
+
+    @Test
+    public void single_byte_read_returns_unsigned_values() throws Exception {
+        /* prepare */
+        StringUTF8InputStream streamToTest = new StringUTF8InputStream("ä");
+
+        /* execute + test */
+        assertEquals(0xC3, streamToTest.read());
+        assertEquals(0xA4, streamToTest.read());
+        assertEquals(-1, streamToTest.read());
+    }
+}
@@ -2,6 +2,11 @@
 package com.daimler.sechub.domain.scan.config;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -18,6 +23,38 @@ public class ScanConfigServiceTest {
 		serviceToTest = new ScanConfigService();
 	}
 
+	@Test
+	public void refresh_loads_mappings_only_when_change_stamp_has_changed() {
+		/* prepare */
+		ScanMappingChangeStamp stamp = new ScanMappingChangeStamp();
+		List<ScanMapping> mappings = new ArrayList<>();
+		initRefreshMocks(stamp, mappings);
+
+		/* execute */
+		serviceToTest.refreshScanConfigIfNecessary();
+		serviceToTest.refreshScanConfigIfNecessary();
+		stamp.increase();
+		serviceToTest.refreshScanConfigIfNecessary();
+
+		/* test */
+		verify(serviceToTest.repository, times(2)).findAll();
+		verify(serviceToTest.transformer, times(2)).transform(mappings);
+	}
+
+	@Test
+	public void refresh_without_change_stamp_loads_mappings_only_one_time() {
+		/* prepare */
+		List<ScanMapping> mappings = new ArrayList<>();
+		initRefreshMocks(null, mappings);
+
+		/* execute */
+		serviceToTest.refreshScanConfigIfNecessary();
+		serviceToTest.refreshScanConfigIfNecessary();
+
+		/* test */
+		verify(serviceToTest.repository, times(1)).findAll();
+	}
+
 	@Test
 	public void not_initialized_returns_fallback_provider() {
 		/* execute */
@@ -73,4 +110,14 @@ public class ScanConfigServiceTest {
 
 	}
 
+	private void initRefreshMocks(ScanMappingChangeStamp stamp, List<ScanMapping> mappings) {
+		serviceToTest.repository = mock(ScanMappingRepository.class);
+		serviceToTest.transformer = mock(ScanMappingToScanConfigTransformer.class);
+		serviceToTest.changeStampRepository = mock(ScanMappingChangeStampRepository.class);
+
+		when(serviceToTest.changeStampRepository.findById(ScanMappingChangeStamp.ID)).thenAnswer(invocation -> Optional.ofNullable(stamp));
+		when(serviceToTest.repository.findAll()).thenReturn(mappings);
+		when(serviceToTest.transformer.transform(mappings)).thenReturn(ScanConfig.createFromJSON(ScanDomainTestFileSupport.getTestfileSupport().loadTestFile("scan_config/test_scan_config1.json")));
+	}
+
 }
@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.config;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+/* no test transaction - concurrent increases must be committed to be visible for each other */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ContextConfiguration(classes = { ScanMappingChangeStampRepository.class, ScanMappingChangeStampRepositoryDBTest.SimpleTestConfiguration.class })
+public class ScanMappingChangeStampRepositoryDBTest {
+
+    @Autowired
+    private ScanMappingChangeStampRepository repositoryToTest;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void before() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        repositoryToTest.deleteAll();
+        repositoryToTest.save(new ScanMappingChangeStamp());
+    }
+
+    @After
+    public void after() {
+        repositoryToTest.deleteAll();
+    }
+
+    @Test
+    public void increase_stamp_increases_value_by_one() {
+        /* execute */
+        int updated = transactionTemplate.execute(status -> repositoryToTest.increaseStamp(ScanMappingChangeStamp.ID));
+
+        /* test */
+        assertEquals(1, updated);
+        assertEquals(1, fetchStampValue());
+    }
+
+    @Test
+    public void increase_stamp_for_not_existing_stamp_updates_nothing() {
+        /* prepare */
+        repositoryToTest.deleteAll();
+
+        /* execute */
+        int updated = transactionTemplate.execute(status -> repositoryToTest.increaseStamp(ScanMappingChangeStamp.ID));
+
+        /* test */
+        assertEquals(0, updated);
+        assertFalse(repositoryToTest.findById(ScanMappingChangeStamp.ID).isPresent());
+    }
+
+    @Test
+    public void concurrent_increases_in_own_transactions_are_not_lost() throws Exception {
+        /* prepare */
+        int threads = 4;
+        int increasesPerThread = 25;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        /* execute */
+        try {
+            for (int i = 0; i < threads; i++) {
+                Callable<Void> increaser = () -> {
+                    for (int n = 0; n < increasesPerThread; n++) {
+                        transactionTemplate.execute(status -> repositoryToTest.increaseStamp(ScanMappingChangeStamp.ID));
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(increaser));
+            }
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        /* test */
+        assertEquals(threads * increasesPerThread, fetchStampValue());
+    }
+
+    private long fetchStampValue() {
+        return repositoryToTest.findById(ScanMappingChangeStamp.ID).get().getValue();
+    }
+
+    @TestConfiguration
+    @EnableAutoConfiguration
+    public static class SimpleTestConfiguration {
+
+    }
+
+}
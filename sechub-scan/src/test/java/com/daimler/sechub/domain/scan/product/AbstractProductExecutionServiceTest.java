@@ -49,6 +49,8 @@ public class AbstractProductExecutionServiceTest {
 
     private ProductExecutorConfig config1;
 
+    private ProductExecutionParallelSupport parallelSupport;
+
 	@Before
 	public void before() throws Exception {
 		SecHubConfiguration configuration = new SecHubConfiguration();
@@ -81,6 +83,9 @@ public class AbstractProductExecutionServiceTest {
 		productExecutorContextFactory=mock(ProductExecutorContextFactory.class);
 		serviceToTest.productExecutorContextFactory=productExecutorContextFactory;
 		
+		parallelSupport=mock(ProductExecutionParallelSupport.class);
+		serviceToTest.parallelSupport=parallelSupport;
+		
 		productExecutorContext= mock(ProductExecutorContext.class);
 		when(productExecutorContextFactory.create(any(),any(), any(), any())).thenReturn(productExecutorContext);
 	}
@@ -98,6 +103,33 @@ public class AbstractProductExecutionServiceTest {
 		verify(logger).error(any(), eq(USED_PRODUCT_IDENTIFIER), eq(traceLogID));
 	}
 
+	@Test
+	public void executeAndPersistResults_parallel_enabled_results_of_all_configurations_are_saved() throws Exception{
+	    /* prepare */
+	    ProductExecutionParallelSupport realParallelSupport = new ProductExecutionParallelSupport();
+	    realParallelSupport.enabled=true;
+	    realParallelSupport.postConstruct();
+	    serviceToTest.parallelSupport=realParallelSupport;
+
+	    ProductExecutorConfig config2 = new ProductExecutorConfig(USED_PRODUCT_IDENTIFIER, 0, new ProductExecutorConfigSetup());
+	    when(serviceToTest.productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(USED_PRODUCT_IDENTIFIER), eq(USED_PRODUCT_EXECUTOR_VERSION))).thenReturn(Arrays.asList(config1, config2));
+
+	    ProductResult result = mock(ProductResult.class);
+	    when(executor.execute(eq(context),any())).thenReturn(Collections.singletonList(result));
+
+	    try {
+	        /* execute */
+	        serviceToTest.runOnAllAvailableExecutors(executors, context, traceLogID);
+	    } finally {
+	        realParallelSupport.shutdown();
+	    }
+
+	    /* test */
+	    verify(productResultRepository).findProductResults(sechubJobUUID,config1);
+	    verify(productResultRepository).findProductResults(sechubJobUUID,config2);
+	    verify(productExecutorContext, times(2)).persist(result);
+	}
+
 	@Test
 	public void executeAndPersistResults_a_non_null_result_saves_the_result_no_error_logging() throws Exception{
 	    /* prepare */
@@ -81,6 +81,7 @@ public class InfrastructureScanProductExecutionServiceImplTest {
 		serviceToTest.productResultRepository = productResultRepository;
 		productExecutorContextFactory = mock(ProductExecutorContextFactory.class);
 		serviceToTest.productExecutorContextFactory = productExecutorContextFactory;
+		serviceToTest.parallelSupport = mock(ProductExecutionParallelSupport.class);
 		serviceToTest.productExecutorConfigRepository=productExecutorConfigRepository;
 
 		when(productExecutorContextFactory.create(any(),any(), any(), any())).thenReturn(productExecutorContext);
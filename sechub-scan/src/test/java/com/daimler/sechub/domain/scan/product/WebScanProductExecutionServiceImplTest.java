@@ -78,6 +78,7 @@ public class WebScanProductExecutionServiceImplTest {
 
         productExecutorContextFactory = mock(ProductExecutorContextFactory.class);
         serviceToTest.productExecutorContextFactory = productExecutorContextFactory;
+        serviceToTest.parallelSupport = mock(ProductExecutionParallelSupport.class);
         serviceToTest.productExecutorConfigRepository = productExecutorConfigRepository;
 
         when(productExecutorContextFactory.create(any(), any(), any(), any())).thenReturn(productExecutorContext);
@@ -14,6 +14,7 @@ import org.mockito.stubbing.Answer;
 
 import com.daimler.sechub.commons.model.SecHubResult;
 import com.daimler.sechub.commons.model.TrafficLight;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
 import com.daimler.sechub.domain.scan.SecHubResultService;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
@@ -63,6 +64,8 @@ public class ReportServiceTest {
 		serviceToTest.secHubResultService = secHubResultService;
 		serviceToTest.trafficLightCalculator = trafficLightCalculator;
 		serviceToTest.reportRepository = reportRepository;
+		serviceToTest.resultStorageService = mock(ScanResultStorageService.class);
+		serviceToTest.reportHTMLCache = mock(ScanReportHTMLCache.class);
 
 	}
 
@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+
+public class ScanReportHTMLCacheTest {
+
+    private ScanReportHTMLCache cacheToTest;
+    private ITemplateEngine templateEngine;
+
+    @Before
+    public void before() {
+        templateEngine = mock(ITemplateEngine.class);
+        when(templateEngine.process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class))).thenReturn("0123456789");
+
+        cacheToTest = new ScanReportHTMLCache();
+        cacheToTest.templateEngine = templateEngine;
+        cacheToTest.htmlModelBuilder = mock(HTMLScanResultReportModelBuilder.class);
+        cacheToTest.scanReportResultFactory = mock(ScanReportResultFactory.class);
+        cacheToTest.gzipEnabled = false;
+    }
+
+    @Test
+    public void same_report_version_is_rendered_only_one_time() {
+        /* prepare */
+        ScanReport report = createReport(UUID.randomUUID(), "project1", 1);
+
+        /* execute */
+        ScanReportHTML html1 = cacheToTest.getHTML(report);
+        ScanReportHTML html2 = cacheToTest.getHTML(report);
+
+        /* test */
+        assertSame(html1, html2);
+        assertEquals("0123456789", new String(html1.getHTML(), StandardCharsets.UTF_8));
+        verify(templateEngine, times(1)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+    }
+
+    @Test
+    public void changed_report_version_is_rendered_again() {
+        /* prepare */
+        ScanReport report = createReport(UUID.randomUUID(), "project1", 1);
+        cacheToTest.getHTML(report);
+
+        /* execute */
+        report.version = 2;
+        cacheToTest.getHTML(report);
+
+        /* test */
+        verify(templateEngine, times(2)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+    }
+
+    @Test
+    public void report_created_again_with_same_version_is_rendered_again() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        cacheToTest.getHTML(createReport(jobUUID, "project1", 0));
+
+        /* execute */
+        cacheToTest.getHTML(createReport(jobUUID, "project1", 0));
+
+        /* test */
+        verify(templateEngine, times(2)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+    }
+
+    @Test
+    public void disabled_cache_renders_always() {
+        /* prepare */
+        cacheToTest.cacheEnabled = false;
+        ScanReport report = createReport(UUID.randomUUID(), "project1", 1);
+
+        /* execute */
+        cacheToTest.getHTML(report);
+        cacheToTest.getHTML(report);
+
+        /* test */
+        verify(templateEngine, times(2)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+        assertEquals(0, cacheToTest.getCurrentBytes());
+    }
+
+    @Test
+    public void least_recently_used_report_is_removed_when_max_bytes_exceeded() {
+        /* prepare */
+        cacheToTest.maxBytes = 25; // space for two reports with 10 bytes
+        ScanReport report1 = createReport(UUID.randomUUID(), "project1", 1);
+        ScanReport report2 = createReport(UUID.randomUUID(), "project1", 1);
+        ScanReport report3 = createReport(UUID.randomUUID(), "project1", 1);
+        cacheToTest.getHTML(report1);
+        cacheToTest.getHTML(report2);
+        cacheToTest.getHTML(report1); // report 2 is now least recently used
+
+        /* execute */
+        cacheToTest.getHTML(report3);
+
+        /* test */
+        assertEquals(20, cacheToTest.getCurrentBytes());
+        cacheToTest.getHTML(report1);
+        verify(templateEngine, times(3)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+        cacheToTest.getHTML(report2);
+        verify(templateEngine, times(4)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+    }
+
+    @Test
+    public void evict_job_removes_rendered_report() {
+        /* prepare */
+        ScanReport report = createReport(UUID.randomUUID(), "project1", 1);
+        cacheToTest.getHTML(report);
+
+        /* execute */
+        cacheToTest.evictJob(report.getSecHubJobUUID());
+
+        /* test */
+        assertEquals(0, cacheToTest.getCurrentBytes());
+        cacheToTest.getHTML(report);
+        verify(templateEngine, times(2)).process(eq(ScanReportHTMLCache.TEMPLATE_NAME), any(IContext.class));
+    }
+
+    @Test
+    public void evict_job_inside_transaction_removes_rendered_report_after_commit() {
+        /* prepare */
+        ScanReport report = createReport(UUID.randomUUID(), "project1", 1);
+        cacheToTest.getHTML(report);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* execute */
+            cacheToTest.evictJob(report.getSecHubJobUUID());
+
+            /* test */
+            assertEquals(10, cacheToTest.getCurrentBytes());
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            assertEquals(0, cacheToTest.getCurrentBytes());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void evict_project_removes_only_rendered_reports_of_project() {
+        /* prepare */
+        cacheToTest.getHTML(createReport(UUID.randomUUID(), "project1", 1));
+        cacheToTest.getHTML(createReport(UUID.randomUUID(), "project2", 1));
+
+        /* execute */
+        cacheToTest.evictProject("project1");
+
+        /* test */
+        assertEquals(10, cacheToTest.getCurrentBytes());
+    }
+
+    @Test
+    public void gzip_enabled_provides_compressed_html() throws Exception {
+        /* prepare */
+        cacheToTest.gzipEnabled = true;
+
+        /* execute */
+        ScanReportHTML html = cacheToTest.getHTML(createReport(UUID.randomUUID(), "project1", 1));
+
+        /* test */
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(html.getGzippedHTMLOrNull()))) {
+            assertEquals("0123456789", StreamUtils.copyToString(gzipInputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    private ScanReport createReport(UUID jobUUID, String projectId, int version) {
+        ScanReport report = new ScanReport(jobUUID, projectId);
+        report.uUID = UUID.randomUUID();
+        report.version = version;
+        return report;
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.commons.model.TrafficLight;
+import com.daimler.sechub.domain.scan.ScanResultStorageService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ScanReportJSONDownloadTest {
+
+    private ScanResultStorageService storageService;
+    private ObjectMapper mapper;
+
+    @Before
+    public void before() {
+        storageService = mock(ScanResultStorageService.class);
+        mapper = new ObjectMapper();
+    }
+
+    @Test
+    public void report_without_result_is_written_same_as_scan_report_result() throws Exception {
+        /* prepare */
+        ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+        report.setTrafficLight(TrafficLight.RED);
+
+        /* execute */
+        String streamed = writeDownload(report);
+        String serialized = new ScanReportResult(report).toJSON();
+
+        /* test */
+        JsonNode streamedNode = mapper.readTree(streamed);
+        assertTrue(streamedNode.has(ScanReportResult.PROPERTY_RESULT));
+        assertTrue(streamedNode.get(ScanReportResult.PROPERTY_RESULT).isNull());
+        assertEquals(mapper.readTree(serialized), streamedNode);
+    }
+
+    @Test
+    public void report_with_result_is_written_same_as_scan_report_result() throws Exception {
+        /* prepare */
+        ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+        report.setResult("{\"count\":1,\"findings\":[]}");
+        report.setTrafficLight(TrafficLight.YELLOW);
+        when(storageService.openResultStream(report)).thenReturn(new ByteArrayInputStream(report.getResult().getBytes(StandardCharsets.UTF_8)));
+
+        /* execute */
+        String streamed = writeDownload(report);
+        String serialized = new ScanReportResult(report).toJSON();
+
+        /* test */
+        assertEquals(mapper.readTree(serialized), mapper.readTree(streamed));
+    }
+
+    private String writeDownload(ScanReport report) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new ScanReportJSONDownload(report, storageService).writeTo(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
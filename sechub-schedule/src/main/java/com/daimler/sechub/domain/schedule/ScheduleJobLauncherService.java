@@ -54,6 +54,9 @@ public class ScheduleJobLauncherService {
     @Autowired
     SecHubBatchJobParameterBuilder parameterBuilder;
 
+    @Autowired
+    ScheduleRunningJobsCounter runningJobsCounter;
+
     @UseCaseSchedulerStartsJob(@Step(number = 2, next = { 3,
             4 }, name = "Execution", description = "Starts a spring boot batch job which does execute the scan asynchronous. If spring boot batch job cannot be started the next steps will not be executed."))
     public void executeJob(ScheduleSecHubJob secHubJob) {
@@ -65,8 +68,9 @@ public class ScheduleJobLauncherService {
             /* prepare batch job */
             JobParameters jobParameters = parameterBuilder.buildParams(secHubJobUUID);
 
-            /* launch batch job */
+            /* launch batch job - counter is decreased when batch job has finished */
             LOG.debug("Trigger batch job launch :{}", secHubJobUUID);
+            runningJobsCounter.jobStarted();
             JobExecution execution = jobLauncher.run(job, jobParameters);
 
             /* job is launched - inspect batch job internal id */
@@ -81,6 +85,7 @@ public class ScheduleJobLauncherService {
              * we do not need to send a "jobEnded" event, because in this case job was never
              * started
              */
+            runningJobsCounter.jobEnded();
             LOG.error("Not able to run batch job for sechhub :{}", secHubJobUUID);
             throw new ScheduleFailedException(e);
         }
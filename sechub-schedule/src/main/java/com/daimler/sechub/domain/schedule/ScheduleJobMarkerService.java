@@ -2,12 +2,13 @@
 package com.daimler.sechub.domain.schedule;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,8 +19,7 @@ import com.daimler.sechub.domain.schedule.strategy.SchedulerStrategyFactory;
 
 /**
  * This service is only responsible to mark next {@link ScheduleSecHubJob} to execute.
- * This is done inside a transaction. Doing this inside an own service will hold the
- * transaction only to this service and end it.
+ * Every job is marked inside its own transaction, see {@link ScheduleJobMarkerTransactionService}.
  * @author Albert Tregnaghi
  *
  */
@@ -33,13 +33,15 @@ public class ScheduleJobMarkerService {
 	
 	@Autowired
 	SchedulerStrategyFactory schedulerStrategyFactory;
+
+	@Autowired
+	ScheduleJobMarkerTransactionService transactionService;
 	
 	private SchedulerStrategy schedulerStrategy;
 
 	/**
 	 * @return either schedule job to execute, or <code>null</code> if no one has to be executed
 	 */
-	@Transactional
 	public ScheduleSecHubJob markNextJobToExecuteByThisInstance() {
 	    	
 	    schedulerStrategy = schedulerStrategyFactory.build();
@@ -48,22 +50,48 @@ public class ScheduleJobMarkerService {
 			/*NOSONAR*/LOG.trace("Trigger execution of next job started");
 		}
 		
-		UUID nextJobId = schedulerStrategy.nextJobId();
-		if (nextJobId == null) {
-		    return null;
-		}
+		return transactionService.markNextJob(schedulerStrategy);
+	}
 
-		Optional<ScheduleSecHubJob> secHubJobOptional = jobRepository.getJob(nextJobId);
-		if (!secHubJobOptional.isPresent()) {
-			if (LOG.isTraceEnabled()) {
-				/*NOSONAR*/LOG.trace("No job found.");
-			}
-			return null;
-		}
-		ScheduleSecHubJob secHubJob = secHubJobOptional.get();
-		secHubJob.setExecutionState(ExecutionState.STARTED);
-		secHubJob.setStarted(LocalDateTime.now());
-		return jobRepository.save(secHubJob);
+	/**
+	 * Marks up to given maximum of jobs to execute - every job inside its own
+	 * transaction. When another cluster member has marked a job in the meantime,
+	 * marking stops there: jobs marked before stay marked and are returned. Only
+	 * when the conflict happens for the first job, the
+	 * {@link OptimisticLockingFailureException} is thrown, so caller can retry.
+	 * 
+	 * @param maximum maximum amount of jobs to mark
+	 * @return list of marked jobs, never <code>null</code>
+	 * @throws OptimisticLockingFailureException when first job could not be marked
+	 */
+	public List<ScheduleSecHubJob> markNextJobsToExecuteByThisInstance(int maximum) {
+	    List<ScheduleSecHubJob> list = new ArrayList<>();
+	    if (maximum <= 0) {
+	        return list;
+	    }
+	    schedulerStrategy = schedulerStrategyFactory.build();
+
+	    if (LOG.isTraceEnabled()) {
+	        /*NOSONAR*/LOG.trace("Trigger execution of next {} jobs started", maximum);
+	    }
+	    for (int i = 0; i < maximum; i++) {
+	        ScheduleSecHubJob next = null;
+	        try {
+	            next = transactionService.markNextJob(schedulerStrategy);
+	        } catch (OptimisticLockingFailureException e) {
+	            if (list.isEmpty()) {
+	                throw e;
+	            }
+	            /* already committed marks are kept - remaining jobs are handled by next trigger */
+	            LOG.debug("Stopped marking after {} jobs, because another instance marked next job in meantime", list.size());
+	            break;
+	        }
+	        if (next == null) {
+	            break;
+	        }
+	        list.add(next);
+	    }
+	    return list;
 	}
 
 	@Transactional
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
+import com.daimler.sechub.domain.schedule.strategy.SchedulerStrategy;
+
+/**
+ * Marks ONE job as started - always inside a NEW transaction. So an optimistic
+ * locking conflict while marking a job does only roll back this job and not
+ * jobs marked before by same trigger execution.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScheduleJobMarkerTransactionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduleJobMarkerTransactionService.class);
+
+    @Autowired
+    SecHubJobRepository jobRepository;
+
+    /**
+     * Resolves next job by given strategy and marks it as started. Strategy query
+     * and update are done in the same (new) transaction.
+     * 
+     * @param schedulerStrategy
+     * @return marked job or <code>null</code> when there is no job to execute
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ScheduleSecHubJob markNextJob(SchedulerStrategy schedulerStrategy) {
+        UUID nextJobId = schedulerStrategy.nextJobId();
+        if (nextJobId == null) {
+            return null;
+        }
+
+        Optional<ScheduleSecHubJob> secHubJobOptional = jobRepository.getJob(nextJobId);
+        if (!secHubJobOptional.isPresent()) {
+            if (LOG.isTraceEnabled()) {
+                /*NOSONAR*/LOG.trace("No job found.");
+            }
+            return null;
+        }
+        ScheduleSecHubJob secHubJob = secHubJobOptional.get();
+        secHubJob.setExecutionState(ExecutionState.STARTED);
+        secHubJob.setStarted(LocalDateTime.now());
+        return jobRepository.save(secHubJob);
+    }
+}
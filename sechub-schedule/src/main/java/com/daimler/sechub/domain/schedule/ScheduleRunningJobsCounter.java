@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the sechub jobs launched by this cluster member which are still
+ * running. The count is only node local - the database is not touched, so it
+ * can be used cheaply by every scheduler trigger to calculate how many new jobs
+ * this instance is still able to handle.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScheduleRunningJobsCounter {
+
+    private AtomicInteger runningJobs = new AtomicInteger();
+
+    public void jobStarted() {
+        runningJobs.incrementAndGet();
+    }
+
+    public void jobEnded() {
+        /* never below zero - e.g. when a batch job was restarted by another instance */
+        runningJobs.updateAndGet(count -> count > 0 ? count - 1 : 0);
+    }
+
+    public int getRunningJobs() {
+        return runningJobs.get();
+    }
+}
@@ -29,6 +29,9 @@ public class SchedulerApproveJobService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	SchedulerJobBatchTriggerWakeUpService triggerWakeUpService;
+
 	@UseCaseUserApprovesJob(@Step(number = 2, name = "Try to find job annd update execution state", description = "When job is found and user has access job will be marked as ready for execution"))
 	public void approveJob(String projectId, UUID jobUUID) {
 		assertion.isValidProjectId(projectId);
@@ -45,6 +48,8 @@ public class SchedulerApproveJobService {
 		jobRepository.save(secHubJob);
 
 		LOG.info("job {} now approved", jobUUID);
+
+		triggerWakeUpService.wakeUp();
 	}
 
 
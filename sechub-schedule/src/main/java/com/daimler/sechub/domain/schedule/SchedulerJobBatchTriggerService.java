@@ -4,7 +4,9 @@ package com.daimler.sechub.domain.schedule;
 import static com.daimler.sechub.sharedkernel.logging.AlertLogReason.*;
 import static com.daimler.sechub.sharedkernel.logging.AlertLogType.*;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.PostConstruct;
 
@@ -34,6 +36,8 @@ public class SchedulerJobBatchTriggerService {
     private static final int DEFAULT_RETRY_MAX_MILLIS = 300;
     private static final int DEFAULT_INITIAL_DELAY_MILLIS = 5000;
     private static final int DEFAULT_FIXED_DELAY_MILLIS = 10000;
+    private static final int DEFAULT_MAX_JOBS_PER_TRIGGER = 1;
+    private static final int DEFAULT_MAX_RUNNING_JOBS = 0;
 
     private static final boolean DEFAULT_HEALTHCHECK_ENABLED = true;
 
@@ -64,6 +68,17 @@ public class SchedulerJobBatchTriggerService {
     @Value("${sechub.config.trigger.healthcheck.enabled:" + DEFAULT_HEALTHCHECK_ENABLED + "}")
     private boolean healthCheckEnabled = DEFAULT_HEALTHCHECK_ENABLED; 
 
+    @MustBeDocumented("Maximum amount of jobs marked and launched by one trigger execution. All jobs are marked inside one transaction. "
+            + "Default is " + DEFAULT_MAX_JOBS_PER_TRIGGER + ", which means only one job is started per trigger. "
+            + "Higher values reduce the waiting time of queued jobs when many jobs are created at the same time.")
+    @Value("${sechub.config.trigger.nextjob.maxjobs:" + DEFAULT_MAX_JOBS_PER_TRIGGER + "}")
+    int maxJobsPerTrigger = DEFAULT_MAX_JOBS_PER_TRIGGER;
+
+    @MustBeDocumented("Maximum amount of jobs running at the same time on this cluster member. When the limit is reached, the trigger will not start new jobs "
+            + "until running ones have finished. A value lower than 1 means there is no limit.")
+    @Value("${sechub.config.trigger.nextjob.maxrunning:" + DEFAULT_MAX_RUNNING_JOBS + "}")
+    int maxRunningJobs = DEFAULT_MAX_RUNNING_JOBS;
+
     @Autowired
     ScheduleJobMarkerService markerService;
 
@@ -82,10 +97,17 @@ public class SchedulerJobBatchTriggerService {
     @Autowired
     AlertLogService alertLogService;
 
+    @Autowired
+    ScheduleRunningJobsCounter runningJobsCounter;
+
+    /* scheduled execution and wake up execution shall not run at same time */
+    private final ReentrantLock triggerLock = new ReentrantLock();
+
     @PostConstruct
     protected void postConstruct() {
         // show info about delay values in log (once)
         LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay", infoInitialDelay, infoFixedDelay);
+        LOG.info("Scheduler service marks maximum {} jobs per trigger, maximum running jobs: {}", maxJobsPerTrigger, maxRunningJobs > 0 ? maxRunningJobs : "unlimited");
     }
 
     // default 10 seconds delay and 5 seconds initial
@@ -96,6 +118,15 @@ public class SchedulerJobBatchTriggerService {
             + "}", fixedDelayString = "${sechub.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
     @UseCaseSchedulerStartsJob(@Step(number = 1, name = "Scheduling", description = "Fetches next schedule job from queue and trigger execution."))
     public void triggerExecutionOfNextJob() {
+        triggerLock.lock();
+        try {
+            triggerExecutionOfNextJobLocked();
+        } finally {
+            triggerLock.unlock();
+        }
+    }
+
+    private void triggerExecutionOfNextJobLocked() {
         if (LOG.isTraceEnabled()) {
             /* NOSONAR */LOG.trace("Trigger execution of next job started. Environment: {}", environmentService.getEnvironment());
         }
@@ -114,21 +145,27 @@ public class SchedulerJobBatchTriggerService {
                 return;
             }
         }
+        int maximumJobsToMark = calculateMaximumJobsToMark();
+        if (maximumJobsToMark <= 0) {
+            LOG.debug("Maximum of running jobs ({}) reached, so cancel scheduling. Environment: {}", maxRunningJobs, environmentService.getEnvironment());
+            return;
+        }
         RetryContext retryContext = new RetryContext(markNextJobRetries);
         do {
             try {
-                ScheduleSecHubJob next = markerService.markNextJobToExecuteByThisInstance();
+                List<ScheduleSecHubJob> nextJobs = markerService.markNextJobsToExecuteByThisInstance(maximumJobsToMark);
                 retryContext.executionDone();
-                if (next == null) {
-                    return;
-                }
-                try {
-                    launcherService.executeJob(next);
-                } catch (Exception e) {
-                    /* fatal failure happened, job launch was not executable */
-                    LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
-                    markerService.markJobExecutionFailed(next);
-                    retryContext.markAsFatalFailure();
+
+                /* all jobs are marked as started now - so we must try to launch every one of them */
+                for (ScheduleSecHubJob next : nextJobs) {
+                    try {
+                        launcherService.executeJob(next);
+                    } catch (Exception e) {
+                        /* fatal failure happened, job launch was not executable */
+                        LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
+                        markerService.markJobExecutionFailed(next);
+                        retryContext.markAsFatalFailure();
+                    }
                 }
 
             } catch (OptimisticLockingFailureException e) {
@@ -148,6 +185,19 @@ public class SchedulerJobBatchTriggerService {
         }
     }
 
+    /**
+     * @return amount of jobs which can be marked by this trigger execution, 0 when
+     *         no more jobs may be started
+     */
+    int calculateMaximumJobsToMark() {
+        int maximum = Math.max(1, maxJobsPerTrigger);
+        if (maxRunningJobs <= 0) {
+            return maximum;
+        }
+        int free = maxRunningJobs - runningJobsCounter.getRunningJobs();
+        return Math.max(0, Math.min(maximum, free));
+    }
+
     private int createRandomTimeMillisToWait() {
         /* fallback on wrong setup */
         if (markNextJobWaitBeforeRetryMillis < MINIMUM_RETRY_TIME_MS_TO_WAIT) {
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * In process wake up signal for {@link SchedulerJobBatchTriggerService}. When a
+ * job becomes ready to start or a running job has ended, the trigger is
+ * executed immediately instead of waiting for the next scheduled execution.
+ * Multiple wake ups while a trigger execution is pending are collapsed to one.
+ * <br>
+ * <br>
+ * Remark: The wake up is only done on this cluster member. Other members still
+ * rely on their scheduled trigger execution.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class SchedulerJobBatchTriggerWakeUpService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchedulerJobBatchTriggerWakeUpService.class);
+
+    private static final boolean DEFAULT_WAKEUP_ENABLED = true;
+
+    @MustBeDocumented("When enabled, the next job trigger is executed immediately when a job has been approved or a running job has ended. "
+            + "The scheduled trigger (see `sechub.config.trigger.nextjob.delay`) is still done as safety net, so its delay can be increased.")
+    @Value("${sechub.config.trigger.nextjob.wakeup.enabled:" + DEFAULT_WAKEUP_ENABLED + "}")
+    boolean wakeUpEnabled = DEFAULT_WAKEUP_ENABLED;
+
+    @Autowired
+    @Lazy
+    SchedulerJobBatchTriggerService triggerService;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Wakes up the job trigger. When called inside a transaction, the wake up is
+     * done after the transaction has been committed - so the trigger will see the
+     * changes.
+     */
+    public void wakeUp() {
+        if (!wakeUpEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUpNow();
+                }
+            });
+            return;
+        }
+        wakeUpNow();
+    }
+
+    private void wakeUpNow() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            LOG.trace("Wake up already pending");
+            return;
+        }
+        executor.execute(this::triggerAfterWakeUp);
+    }
+
+    void triggerAfterWakeUp() {
+        wakeUpPending.set(false);
+        try {
+            triggerService.triggerExecutionOfNextJob();
+        } catch (RuntimeException e) {
+            LOG.error("Job trigger after wake up failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -4,9 +4,8 @@ package com.daimler.sechub.domain.schedule;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,12 +28,19 @@ import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
 import com.daimler.sechub.storage.core.JobStorage;
 import com.daimler.sechub.storage.core.StorageService;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class SchedulerUploadService {
 
 	static final String SOURCECODE_ZIP = "sourcecode.zip";
 	static final String SOURCECODE_ZIP_CHECKSUM = SOURCECODE_ZIP+".checksum";
 
+	static final String METRIC_UPLOAD_DURATION = "sechub.upload.sourcecode.duration";
+	static final String METRIC_UPLOAD_SIZE = "sechub.upload.sourcecode.size";
+
 	private static final Logger LOG = LoggerFactory.getLogger(SchedulerUploadService.class);
 
 	@Autowired
@@ -57,6 +63,9 @@ public class SchedulerUploadService {
 
 	@Autowired
 	UserInputAssertion assertion;
+
+	@Autowired
+	MeterRegistry meterRegistry;
 	
 	@UseCaseUserUploadsSourceCode(@Step(number = 2, name = "Try to find project and upload sourcecode as zipfile", description = "When project is found and user has access and job is initializing the sourcecode file will be uploaded"))
 	public void uploadSourceCode(String projectId, UUID jobUUID, MultipartFile file, String checkSum) {
@@ -73,56 +82,84 @@ public class SchedulerUploadService {
 		assertJobFoundAndStillInitializing(projectId, jobUUID);
 
 		JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
-		Path tmpFile = null;
+		long started = System.currentTimeMillis();
+
+		/* 
+		 * we read the upload only one time: while storing, checksum is calculated and
+		 * zip structure is validated. When validation fails, stored data is removed
+		 */
+		SourceCodeUploadInputStream uploadStream = null;
+		try {
+			uploadStream = new SourceCodeUploadInputStream(file.getInputStream(), checksumSHA256Service.createSHA256MessageDigest(),
+					zipSupport.createStreamStructureValidator());
+			jobStorage.store(SOURCECODE_ZIP, uploadStream);
+		} catch (IOException e) {
+			LOG.error("Was not able to store zipped sources! {}", traceLogID, e);
+			deleteUploadedSourceCode(jobStorage, traceLogID);
+			throw new SecHubRuntimeException("Was not able to upload sources");
+		}
+		if (!uploadStream.isEndReached()) {
+			LOG.error("Storage did not read complete upload of zipped sources! {}", traceLogID);
+			deleteUploadedSourceCode(jobStorage, traceLogID);
+			throw new SecHubRuntimeException("Was not able to upload sources");
+		}
+
+		/* validate */
+		assertValidZipFile(uploadStream, jobStorage, traceLogID);
+		assertCheckSumCorrect(checkSum, uploadStream, jobStorage, traceLogID);
+
 		try {
-			/* prepare a tmp file for validation */
-			try {
-				tmpFile = Files.createTempFile("sechub_schedule_upload_tmp", null);
-				file.transferTo(tmpFile);
-			} catch (IOException e) {
-				LOG.error("Was not able to create temp file of zipped sources!", e);
-				throw new SecHubRuntimeException("Was not able to create temp file");
-			}
-			/* validate */
-			assertValidZipFile(tmpFile);
-			assertCheckSumCorrect(checkSum, tmpFile);
-
-			/* now store */
-			try {
-				jobStorage.store(SOURCECODE_ZIP, file.getInputStream());
-				// we also store new checksum - so not necessary to calculate at adapters again!
-				jobStorage.store(SOURCECODE_ZIP_CHECKSUM, new StringInputStream(checkSum));
-			} catch (IOException e) {
-				LOG.error("Was not able to store zipped sources! {}", traceLogID, e);
-				throw new SecHubRuntimeException("Was not able to upload sources");
-			}
-			LOG.info("uploaded sourcecode for {}", traceLogID);
-		} finally {
-			if (tmpFile != null && Files.exists(tmpFile)) {
-				try {
-					Files.delete(tmpFile);
-				} catch (IOException e) {
-					LOG.error("Was not able delete former temp file for zipped sources! {}",traceLogID, e);
-				}
-			}
+			// we also store new checksum - so not necessary to calculate at adapters again!
+			jobStorage.store(SOURCECODE_ZIP_CHECKSUM, new StringInputStream(checkSum));
+		} catch (IOException e) {
+			LOG.error("Was not able to store checksum of zipped sources! {}", traceLogID, e);
+			deleteUploadedSourceCode(jobStorage, traceLogID);
+			throw new SecHubRuntimeException("Was not able to upload sources");
 		}
+		recordUploadMetrics(traceLogID, uploadStream.getBytesRead(), System.currentTimeMillis() - started);
+
+	}
 
+	/*
+	 * throughput can be calculated by monitoring as rate of size sum divided by
+	 * rate of duration sum
+	 */
+	private void recordUploadMetrics(String traceLogID, long bytes, long millis) {
+		Timer.builder(METRIC_UPLOAD_DURATION).description("Duration of source code uploads (store, checksum and zip validation)").register(meterRegistry)
+				.record(millis, TimeUnit.MILLISECONDS);
+		DistributionSummary.builder(METRIC_UPLOAD_SIZE).description("Size of uploaded source code zip files").baseUnit("bytes").register(meterRegistry)
+				.record(bytes);
+
+		long kiloBytesPerSecond = millis <= 0 ? bytes / 1024 : (bytes * 1000 / 1024) / millis;
+		LOG.info("uploaded sourcecode for {}, size:{} bytes, duration:{} ms, throughput:{} KB/s", traceLogID, bytes, millis, kiloBytesPerSecond);
 	}
 
-	private void assertCheckSumCorrect(String checkSum, Path path) {
-		if (!checksumSHA256Service.hasCorrectChecksum(checkSum, path.toAbsolutePath().toString())) {
-			LOG.error("uploaded file has not correct checksum! Something must have happened during the upload!");
+	private void assertCheckSumCorrect(String checkSum, SourceCodeUploadInputStream uploadStream, JobStorage jobStorage, String traceLogID) {
+		String calculated = checksumSHA256Service.convertToHexString(uploadStream.digest());
+		if (!calculated.equals(checkSum)) {
+			LOG.error("uploaded file has not correct checksum! Something must have happened during the upload! {}", traceLogID);
+			deleteUploadedSourceCode(jobStorage, traceLogID);
 			throw new NotAcceptableException("Sourcecode checksum check failed");
 		}
 	}
 
-	private void assertValidZipFile(Path path) {
-		if (!zipSupport.isZipFile(path)) {
-			LOG.error("uploaded file is NOT a valid ZIP file!");
+	private void assertValidZipFile(SourceCodeUploadInputStream uploadStream, JobStorage jobStorage, String traceLogID) {
+		if (!uploadStream.isValidZipStructure()) {
+			LOG.error("uploaded file is NOT a valid ZIP file! {}", traceLogID);
+			deleteUploadedSourceCode(jobStorage, traceLogID);
 			throw new NotAcceptableException("Sourcecode is not wrapped inside a valid zip file");
 		}
 	}
 
+	private void deleteUploadedSourceCode(JobStorage jobStorage, String traceLogID) {
+		/* job is still initializing, so job storage contains only upload data */
+		try {
+			jobStorage.deleteAll();
+		} catch (IOException e) {
+			LOG.error("Was not able to delete uploaded sources! {}", traceLogID, e);
+		}
+	}
+
 	private void assertJobFoundAndStillInitializing(String projectId, UUID jobUUID) {
 		ScheduleSecHubJob secHubJob = assertService.assertJob(projectId, jobUUID);
 		ExecutionState state = secHubJob.getExecutionState();
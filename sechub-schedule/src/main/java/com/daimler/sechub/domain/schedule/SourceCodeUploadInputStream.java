@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
+import com.daimler.sechub.sharedkernel.util.ZipStreamStructureValidator;
+
+/**
+ * Input stream for source code uploads. While the upload is read (e.g. by job
+ * storage), the checksum is calculated and the ZIP structure is validated - so
+ * the upload must be read only one time.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class SourceCodeUploadInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private MessageDigest messageDigest;
+    private ZipStreamStructureValidator zipValidator;
+    private boolean endReached;
+
+    SourceCodeUploadInputStream(InputStream in, MessageDigest messageDigest, ZipStreamStructureValidator zipValidator) {
+        super(in);
+        this.messageDigest = messageDigest;
+        this.zipValidator = zipValidator;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b == -1) {
+            endReached = true;
+        } else {
+            messageDigest.update((byte) b);
+            zipValidator.update(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int amount = super.read(b, off, len);
+        if (amount == -1) {
+            endReached = true;
+        } else if (amount > 0) {
+            messageDigest.update(b, off, amount);
+            zipValidator.update(b, off, amount);
+        }
+        return amount;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        /* skipped bytes must be inspected as well */
+        byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+        long skipped = 0;
+        while (skipped < n) {
+            int amount = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (amount == -1) {
+                break;
+            }
+            skipped += amount;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        /* not supported */
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("reset not supported");
+    }
+
+    /**
+     * @return <code>true</code> when the complete upload has been read
+     */
+    public boolean isEndReached() {
+        return endReached;
+    }
+
+    public long getBytesRead() {
+        return zipValidator.getLength();
+    }
+
+    public boolean isValidZipStructure() {
+        return zipValidator.isValidZipStructure();
+    }
+
+    /**
+     * @return digest of all read bytes - may only be called one time, after the
+     *         upload has been read completely
+     */
+    public byte[] digest() {
+        return messageDigest.digest();
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
+import com.daimler.sechub.domain.schedule.ScheduleRunningJobsCounter;
+import com.daimler.sechub.domain.schedule.SchedulerJobBatchTriggerWakeUpService;
 import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
 
@@ -45,6 +47,13 @@ public class BatchConfiguration {
 	@Autowired
 	private SecHubJobSafeUpdater secHubJobUpdater;
 
+	@Autowired
+	private ScheduleRunningJobsCounter runningJobsCounter;
+
+	@Autowired
+	@Lazy
+	private SchedulerJobBatchTriggerWakeUpService triggerWakeUpService;
+
 	@Bean
 	public AsyncJobLauncher createJobLauncher() {
 		AsyncJobLauncher launcher = new AsyncJobLauncher();
@@ -98,6 +107,9 @@ public class BatchConfiguration {
 
 		@Override
 		public void afterJob(JobExecution jobExecution) {
+			runningJobsCounter.jobEnded();
+			/* job has ended, so there is space for next one */
+			triggerWakeUpService.wakeUp();
 		}
 
 		public DomainMessageService getEventBusService() {
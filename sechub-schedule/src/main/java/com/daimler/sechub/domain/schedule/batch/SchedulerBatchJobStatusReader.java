@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads status of multiple spring batch job executions with one query per
+ * chunk - {@link org.springframework.batch.core.explore.JobExplorer} can only
+ * fetch executions one by one and does always load job parameters and
+ * execution context as well, which is not necessary for a status check.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SchedulerBatchJobStatusReader {
+
+    static final int MAX_IDS_PER_QUERY = 500;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${spring.batch.jdbc.table-prefix:BATCH_}")
+    String tablePrefix = "BATCH_";
+
+    /**
+     * Fetch batch status for given batch job execution ids
+     *
+     * @param batchJobIds
+     * @return map containing batch status for every existing execution - not
+     *         existing executions are not contained
+     */
+    public Map<Long, BatchStatus> fetchStatus(Collection<Long> batchJobIds) {
+        Map<Long, BatchStatus> result = new HashMap<>();
+        if (batchJobIds == null || batchJobIds.isEmpty()) {
+            return result;
+        }
+        String sql = "select JOB_EXECUTION_ID, STATUS from " + tablePrefix + "JOB_EXECUTION where JOB_EXECUTION_ID in (:ids)";
+
+        List<Long> ids = new ArrayList<>(batchJobIds);
+        for (int start = 0; start < ids.size(); start += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + MAX_IDS_PER_QUERY, ids.size()));
+            jdbcTemplate.query(sql, new MapSqlParameterSource("ids", chunk), rs -> {
+                result.put(rs.getLong(1), BatchStatus.valueOf(rs.getString(2)));
+            });
+        }
+        return result;
+    }
+}
@@ -3,15 +3,17 @@ package com.daimler.sechub.domain.schedule.batch;
 
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.batch.core.BatchStatus;
-import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sharedkernel.messaging.BatchJobMessage;
+import com.daimler.sechub.sharedkernel.messaging.BatchJobStatusListMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
 import com.daimler.sechub.sharedkernel.messaging.IsRecevingSyncMessage;
@@ -24,18 +26,22 @@ import com.daimler.sechub.sharedkernel.messaging.SynchronMessageHandler;
 public class SchedulerBatchJobStatusRequestHandler implements SynchronMessageHandler {
 
     @Autowired
-    JobExplorer explorer;
+    SchedulerBatchJobStatusReader statusReader;
 
     @Override
     @IsRecevingSyncMessage(MessageID.REQUEST_BATCH_JOB_STATUS)
+    @IsRecevingSyncMessage(MessageID.REQUEST_BATCH_JOB_STATUS_LIST)
     public DomainMessageSynchronousResult receiveSynchronMessage(DomainMessage request) {
         notNull(request, "Request may not be null!");
 
-        if (!request.hasID(MessageID.REQUEST_BATCH_JOB_STATUS)) {
-            return new DomainMessageSynchronousResult(MessageID.UNSUPPORTED_OPERATION,
-                    new UnsupportedOperationException("Can only handle " + MessageID.REQUEST_BATCH_JOB_STATUS));
+        if (request.hasID(MessageID.REQUEST_BATCH_JOB_STATUS)) {
+            return returnStatus(request);
         }
-        return returnStatus(request);
+        if (request.hasID(MessageID.REQUEST_BATCH_JOB_STATUS_LIST)) {
+            return returnStatusList(request);
+        }
+        return new DomainMessageSynchronousResult(MessageID.UNSUPPORTED_OPERATION,
+                new UnsupportedOperationException("Can only handle " + MessageID.REQUEST_BATCH_JOB_STATUS + " or " + MessageID.REQUEST_BATCH_JOB_STATUS_LIST));
     }
 
     @IsSendingSyncMessageAnswer(value = MessageID.BATCH_JOB_STATUS, answeringTo = MessageID.REQUEST_BATCH_JOB_STATUS, branchName = "success")
@@ -43,26 +49,50 @@ public class SchedulerBatchJobStatusRequestHandler implements SynchronMessageHan
         DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.BATCH_JOB_STATUS);
         BatchJobMessage batchJobMessage = request.get(MessageDataKeys.BATCH_JOB_STATUS);
 
-        UUID sechubBatchJobUUID = batchJobMessage.getSechubJobUUID();
+        Map<Long, BatchStatus> found = statusReader.fetchStatus(Collections.singletonList(batchJobMessage.getBatchJobId()));
+
+        result.set(MessageDataKeys.BATCH_JOB_STATUS, createStatus(batchJobMessage, found));
+
+        return result;
+    }
+
+    @IsSendingSyncMessageAnswer(value = MessageID.BATCH_JOB_STATUS_LIST, answeringTo = MessageID.REQUEST_BATCH_JOB_STATUS_LIST, branchName = "success")
+    private DomainMessageSynchronousResult returnStatusList(DomainMessage request) {
+        DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.BATCH_JOB_STATUS_LIST);
+        BatchJobStatusListMessage listMessage = request.get(MessageDataKeys.BATCH_JOB_STATUS_LIST);
+
+        List<Long> batchJobIds = new ArrayList<>();
+        for (BatchJobMessage batchJobMessage : listMessage.getBatchJobs()) {
+            batchJobIds.add(batchJobMessage.getBatchJobId());
+        }
+        /* one query for all - instead of one query per batch job */
+        Map<Long, BatchStatus> found = statusReader.fetchStatus(batchJobIds);
+
+        BatchJobStatusListMessage statusList = new BatchJobStatusListMessage();
+        for (BatchJobMessage batchJobMessage : listMessage.getBatchJobs()) {
+            statusList.getBatchJobs().add(createStatus(batchJobMessage, found));
+        }
+        result.set(MessageDataKeys.BATCH_JOB_STATUS_LIST, statusList);
+
+        return result;
+    }
+
+    private BatchJobMessage createStatus(BatchJobMessage batchJobMessage, Map<Long, BatchStatus> found) {
         long batchJobId = batchJobMessage.getBatchJobId();
 
         BatchJobMessage status = new BatchJobMessage();
         status.setBatchJobId(batchJobId);
-        status.setSechubJobUUID(sechubBatchJobUUID);
+        status.setSechubJobUUID(batchJobMessage.getSechubJobUUID());
 
-        /* find */
-        JobExecution jobExecution = explorer.getJobExecution(batchJobId);
-        if (jobExecution == null) {
+        BatchStatus batchStatus = found.get(batchJobId);
+        if (batchStatus == null) {
             status.setExisting(false);
         } else {
-            BatchStatus batchStatus = jobExecution.getStatus();
             status.setCanceled(checkRepresentsCancel(batchStatus));
             status.setAbandoned(checkRepresentsAbandoned(batchStatus));
             status.setExisting(true);
         }
-        result.set(MessageDataKeys.BATCH_JOB_STATUS, status);
-
-        return result;
+        return status;
     }
 
     private boolean checkRepresentsAbandoned(BatchStatus batchStatus) {
@@ -17,4 +17,30 @@ public interface SecHubJobRepositoryCustom {
     Optional<UUID> nextJobIdToExecuteFirstInFirstOut();
 
     Optional<UUID> nextJobIdToExecuteForProjectNotYetExecuted();
+
+    /**
+     * Resolves next job in first in first out order. When database supports
+     * <code>SKIP LOCKED</code> (PostgreSQL), the job row will be locked until end
+     * of current transaction and rows already locked by other cluster members are
+     * skipped - so every member gets another job. For databases without this
+     * feature (e.g. H2) the same as {@link #nextJobIdToExecuteFirstInFirstOut()}
+     * is done.
+     * 
+     * @return next job id as optional - check if present or not is necessary
+     */
+    Optional<UUID> nextJobIdToExecuteFirstInFirstOutSkipLocked();
+
+    /**
+     * Resolves next job of a project which has currently no running job. When
+     * database supports <code>SKIP LOCKED</code> (PostgreSQL), the job row will be
+     * locked until end of current transaction and rows already locked by other
+     * cluster members are skipped. Additionally an advisory transaction lock for
+     * the project is acquired, so other cluster members skip all jobs of this
+     * project until the job is marked as started. For databases without this
+     * feature (e.g. H2) the same as
+     * {@link #nextJobIdToExecuteForProjectNotYetExecuted()} is done.
+     * 
+     * @return next job id as optional - check if present or not is necessary
+     */
+    Optional<UUID> nextJobIdToExecuteForProjectNotYetExecutedSkipLocked();
 }
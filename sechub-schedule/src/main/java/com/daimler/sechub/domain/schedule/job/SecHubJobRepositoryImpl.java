@@ -12,9 +12,17 @@ import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.daimler.sechub.sharedkernel.jpa.TypedQuerySupport;
 
 public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SecHubJobRepositoryImpl.class);
+
+    private static final String DATABASE_PRODUCT_POSTGRESQL = "PostgreSQL";
     /* @formatter:off */
 	static final String JPQL_STRING_SELECT_BY_EXECUTION_STATE = 
 			"select j from " + CLASS_NAME + " j" +
@@ -38,13 +46,37 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
             " not in ( " + SUB_JPQL_STRING_SELECT_PROJECTS_WITH_RUNNING_JOBS + " )" +
             " order by " + PROPERTY_CREATED;
 	
+	/* native SQL - only usable for databases supporting SKIP LOCKED (PostgreSQL 9.5+) */
+	static final String SQL_STRING_SELECT_NEXT_JOB_SKIP_LOCKED = 
+	        "select * from " + TABLE_NAME +
+	        " where " + COLUMN_STATE + " = :" + PROPERTY_EXECUTION_STATE +
+	        " order by " + COLUMN_CREATED +
+	        " limit 1 for update skip locked";
+	
+	/*
+	 * native SQL - only usable for PostgreSQL: SKIP LOCKED for the job row and an
+	 * advisory transaction lock for the project. A job of a project where another
+	 * cluster member has just locked a job (but not yet marked it as started) is
+	 * skipped as well - so two members never start jobs of same project at the
+	 * same time.
+	 */
+	static final String SQL_STRING_SELECT_NEXT_JOB_NOT_YET_RUNNING_SAME_PROJECT_SKIP_LOCKED = 
+	        "select * from " + TABLE_NAME + " j" +
+	        " where j." + COLUMN_STATE + " = :" + PROPERTY_EXECUTION_STATE +
+	        " and j." + COLUMN_PROJECT_ID + " not in ( select p." + COLUMN_PROJECT_ID + " from " + TABLE_NAME + " p where p." + COLUMN_STATE + " = :started_param )" +
+	        " and pg_try_advisory_xact_lock(hashtext(j." + COLUMN_PROJECT_ID + "))" +
+	        " order by j." + COLUMN_CREATED +
+	        " limit 1 for update skip locked";
 	
     /* @formatter:on */
 
     private final TypedQuerySupport<ScheduleSecHubJob> typedQuerySupport = new TypedQuerySupport<>(ScheduleSecHubJob.class);
 
     @PersistenceContext
-    private EntityManager em;
+    EntityManager em;
+
+    /* computed lazily, but may be accessed by different scheduler threads */
+    private volatile Boolean skipLockedSupported;
 
     @Override
     public Optional<ScheduleSecHubJob> findNextJobToExecute() {
@@ -93,6 +125,42 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
         return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
     }
     
+    @Override
+    public Optional<UUID> nextJobIdToExecuteFirstInFirstOutSkipLocked() {
+        if (!isSkipLockedSupported()) {
+            return nextJobIdToExecuteFirstInFirstOut();
+        }
+        Query query = em.createNativeQuery(SQL_STRING_SELECT_NEXT_JOB_SKIP_LOCKED, ScheduleSecHubJob.class);
+        query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START.name());
+
+        return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
+    }
+
+    @Override
+    public Optional<UUID> nextJobIdToExecuteForProjectNotYetExecutedSkipLocked() {
+        if (!isSkipLockedSupported()) {
+            return nextJobIdToExecuteForProjectNotYetExecuted();
+        }
+        Query query = em.createNativeQuery(SQL_STRING_SELECT_NEXT_JOB_NOT_YET_RUNNING_SAME_PROJECT_SKIP_LOCKED, ScheduleSecHubJob.class);
+        query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START.name());
+        query.setParameter("started_param", STARTED.name());
+
+        return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
+    }
+
+    boolean isSkipLockedSupported() {
+        Boolean supported = skipLockedSupported;
+        if (supported == null) {
+            /* no lock necessary - concurrent first calls compute the same value */
+            String databaseProductName = em.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            supported = DATABASE_PRODUCT_POSTGRESQL.equalsIgnoreCase(databaseProductName);
+            skipLockedSupported = supported;
+
+            LOG.info("Database '{}' does {}support SKIP LOCKED for job queue", databaseProductName, supported ? "" : "NOT ");
+        }
+        return supported;
+    }
+
     private Optional<UUID> getUUIDFromJob(Optional<ScheduleSecHubJob> job) {
         if (job.isPresent() && job.get().getUUID() != null) {
             return Optional.of(job.get().getUUID());
@@ -9,6 +9,15 @@ import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
 
+/**
+ * Starts only one scan per project at the same time. When the database supports
+ * <code>SKIP LOCKED</code> (PostgreSQL), job rows and projects already locked
+ * by other cluster members are skipped - so members do not collide on the same
+ * job. Otherwise optimistic locking is used.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
 @Component
 public class OnlyOneScanPerProjectAtSameTimeStrategy implements SchedulerStrategy {
 
@@ -22,7 +31,7 @@ public class OnlyOneScanPerProjectAtSameTimeStrategy implements SchedulerStrateg
 
     @Override
     public UUID nextJobId() {
-        Optional<UUID> nextJob = jobRepository.nextJobIdToExecuteForProjectNotYetExecuted();
+        Optional<UUID> nextJob = jobRepository.nextJobIdToExecuteForProjectNotYetExecutedSkipLocked();
         if (!nextJob.isPresent()) {
             return null;
         }
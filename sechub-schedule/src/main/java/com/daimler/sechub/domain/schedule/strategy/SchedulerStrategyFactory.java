@@ -18,6 +18,9 @@ public class SchedulerStrategyFactory {
     @Autowired
     OnlyOneScanPerProjectAtSameTimeStrategy oosppStrategy;
 
+    @Autowired
+    SkipLockedFirstComeFirstServeSchedulerStrategy fifoSkipLockedStrategy;
+
     @Value("${sechub.scheduler.strategy.id:}")
     private String strategyId;
     
@@ -54,6 +57,8 @@ public class SchedulerStrategyFactory {
             return fifoStrategy;
         case OnlyOneScanPerProjectAtATime:
             return oosppStrategy;
+        case FirstComeFirstServeSkipLocked:
+            return fifoSkipLockedStrategy;
         default:
             return fifoStrategy;
         }
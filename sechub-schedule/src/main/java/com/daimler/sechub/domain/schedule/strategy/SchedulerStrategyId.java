@@ -3,7 +3,8 @@ package com.daimler.sechub.domain.schedule.strategy;
 
 public enum SchedulerStrategyId {
     FirstComeFirstServe("first-come-first-serve"),
-    OnlyOneScanPerProjectAtATime("only-one-scan-per-project-at-a-time");
+    OnlyOneScanPerProjectAtATime("only-one-scan-per-project-at-a-time"),
+    FirstComeFirstServeSkipLocked("first-come-first-serve-skip-locked");
 
     private String strategy;
 
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.strategy;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
+
+/**
+ * First come first serve strategy using a <code>SKIP LOCKED</code> queue. The
+ * row of the next job is locked until the marking transaction ends, rows locked
+ * by other cluster members are skipped. So every cluster member gets a
+ * different job and there are no optimistic locking collisions. On databases
+ * without <code>SKIP LOCKED</code> support this behaves exactly like
+ * {@link FirstComeFirstServeSchedulerStrategy}.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SkipLockedFirstComeFirstServeSchedulerStrategy implements SchedulerStrategy {
+
+    @Autowired
+    public SecHubJobRepository jobRepository;
+
+    @Override
+    public SchedulerStrategyId getSchedulerId() {
+        return SchedulerStrategyId.FirstComeFirstServeSkipLocked;
+    }
+
+    @Override
+    public UUID nextJobId() {
+
+        Optional<UUID> nextJob = jobRepository.nextJobIdToExecuteFirstInFirstOutSkipLocked();
+        if (!nextJob.isPresent()) {
+            return null;
+        }
+
+        return nextJob.get();
+    }
+
+}
@@ -13,6 +13,7 @@ import com.daimler.sechub.domain.schedule.access.ScheduleDeleteAllProjectAcessSe
 import com.daimler.sechub.domain.schedule.access.ScheduleGrantUserAccessToProjectService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessAtAllService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessFromProjectService;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutors;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
@@ -129,6 +130,7 @@ public class ScheduleMessageHandlerTest {
 			super(injectedSynchronousHandlers, injectedAsynchronousHandlers);
 			this.taskExecutor=new TestTaskExecutor();
 			this.eventInspector=new DummyEventInspector();
+			this.asynchronExecutors = new AsynchronMessageExecutors(); // disabled by default
 		}
 
 	}
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerJobBatchTriggerWakeUpServiceTest {
+
+    private SchedulerJobBatchTriggerWakeUpService serviceToTest;
+    private SchedulerJobBatchTriggerService triggerService;
+
+    @Before
+    public void before() throws Exception {
+        triggerService = mock(SchedulerJobBatchTriggerService.class);
+
+        serviceToTest = new SchedulerJobBatchTriggerWakeUpService();
+        serviceToTest.triggerService = triggerService;
+    }
+
+    @After
+    public void after() {
+        serviceToTest.shutdown();
+    }
+
+    @Test
+    public void wakeUp_executes_trigger() throws Exception {
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(triggerService, timeout(2000)).triggerExecutionOfNextJob();
+    }
+
+    @Test
+    public void wakeUp_disabled_does_not_execute_trigger() throws Exception {
+        /* prepare */
+        serviceToTest.wakeUpEnabled = false;
+
+        /* execute */
+        serviceToTest.wakeUp();
+
+        /* test */
+        Thread.sleep(100);
+        verify(triggerService, never()).triggerExecutionOfNextJob();
+    }
+
+    @Test
+    public void trigger_failure_after_wake_up_does_not_prevent_next_wake_up() throws Exception {
+        /* prepare */
+        doThrow(new IllegalStateException("test")).doNothing().when(triggerService).triggerExecutionOfNextJob();
+
+        /* execute */
+        serviceToTest.triggerAfterWakeUp();
+        serviceToTest.wakeUp();
+
+        /* test */
+        verify(triggerService, timeout(2000).times(2)).triggerExecutionOfNextJob();
+    }
+
+}
@@ -1,17 +1,27 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.daimler.sechub.commons.model.SecHubRuntimeException;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
@@ -23,26 +33,30 @@ import com.daimler.sechub.storage.core.JobStorage;
 import com.daimler.sechub.storage.core.StorageService;
 import com.daimler.sechub.test.junit4.ExpectedExceptionFactory;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 public class SchedulerUploadServiceTest {
 
 	private static final String PROJECT1 = "project1";
 	private SchedulerUploadService serviceToTest;
-	private FileChecksumSHA256Service mockedChecksumService;
+	private FileChecksumSHA256Service checksumService;
 	private StorageService mockedStorageService;
 	private UUID randomUuid;
 	private ScheduleAssertService mockedAssertService;
 	private MultipartFile file;
+	private SimpleMeterRegistry meterRegistry;
 
 	@Rule
 	public ExpectedException expectedException = ExpectedExceptionFactory.none();
 	private JobStorage storage;
-	private ZipSupport mockedZipSupport;
 
 	@Before
-	public void before() {
+	public void before() throws Exception {
 		randomUuid = UUID.randomUUID();
 
-		mockedChecksumService=mock(FileChecksumSHA256Service.class);
+		checksumService=new FileChecksumSHA256Service();
 		mockedStorageService=mock(StorageService.class);
 		mockedAssertService=mock(ScheduleAssertService.class);
 
@@ -50,52 +64,145 @@ public class SchedulerUploadServiceTest {
 		when(mockedAssertService.assertJob(PROJECT1, randomUuid)).thenReturn(job);
 		storage = mock(JobStorage.class);
 		when(mockedStorageService.getJobStorage(PROJECT1, randomUuid)).thenReturn(storage);
+		/* storage reads stream completely - as real storage implementations do */
+		doAnswer(invocation -> {
+			try (InputStream inputStream = invocation.getArgument(1)) {
+				StreamUtils.drain(inputStream);
+			}
+			return null;
+		}).when(storage).store(any(), any());
 
 		file = mock(MultipartFile.class);
-		mockedZipSupport = mock(ZipSupport.class);
 
 		/* attach at service to test */
 		serviceToTest = new SchedulerUploadService();
-		serviceToTest.checksumSHA256Service=mockedChecksumService;
+		serviceToTest.checksumSHA256Service=checksumService;
 		serviceToTest.storageService=mockedStorageService;
 		serviceToTest.assertService=mockedAssertService;
-		serviceToTest.zipSupport=mockedZipSupport;
+		serviceToTest.zipSupport=new ZipSupport();
 		serviceToTest.logSanitizer=mock(LogSanitizer.class);
 		serviceToTest.assertion=mock(UserInputAssertion.class);
 		serviceToTest.auditLogService=mock(AuditLogService.class);
 
+		meterRegistry = new SimpleMeterRegistry();
+		serviceToTest.meterRegistry=meterRegistry;
+
+	}
+
+	@Test
+	public void when_checksum_correct_and_is_zip__correct_no_failure() throws Exception {
+		/* prepare */
+		byte[] zip = createZipBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+
+		/* execute */
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+
+		/* test */
+		verify(storage).store(eq(SchedulerUploadService.SOURCECODE_ZIP), any());
+		verify(storage).store(eq(SchedulerUploadService.SOURCECODE_ZIP_CHECKSUM), any());
+		verify(storage, never()).deleteAll();
+		verify(file, times(1)).getInputStream();
+	}
+
+	@Test
+	public void successful_upload_records_duration_and_size_metrics() throws Exception {
+		/* prepare */
+		byte[] zip = createZipBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+
+		/* execute */
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+
+		/* test */
+		Timer timer = meterRegistry.find(SchedulerUploadService.METRIC_UPLOAD_DURATION).timer();
+		assertNotNull(timer);
+		assertEquals(1, timer.count());
+
+		DistributionSummary size = meterRegistry.find(SchedulerUploadService.METRIC_UPLOAD_SIZE).summary();
+		assertNotNull(size);
+		assertEquals(1, size.count());
+		assertEquals(zip.length, size.totalAmount(), 0.0);
 	}
 
 	@Test
-	public void when_checksum_correct_and_is_zip__correct_no_failure() {
+	public void failed_upload_records_no_metrics() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(true);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(true);
+		byte[] zip = createZipBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		expectedException.expect(NotAcceptableException.class);
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		} finally {
+			/* test */
+			assertNull(meterRegistry.find(SchedulerUploadService.METRIC_UPLOAD_DURATION).timer());
+		}
 	}
 
 	@Test
-	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() {
+	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404_and_deletes_upload() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(false);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(true);
+		byte[] zip = createZipBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
 		expectedException.expect(NotAcceptableException.class);
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		} finally {
+			/* test */
+			verify(storage).deleteAll();
+			verify(storage, never()).store(eq(SchedulerUploadService.SOURCECODE_ZIP_CHECKSUM), any());
+		}
 	}
 
 	@Test
-	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404() {
+	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404_and_deletes_upload() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(true);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(false);
+		byte[] noZip = "i am not a zip file, but a simple text...".getBytes(StandardCharsets.UTF_8);
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(noZip));
 		expectedException.expect(NotAcceptableException.class);
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(noZip));
+		} finally {
+			/* test */
+			verify(storage).deleteAll();
+		}
+	}
+
+	@Test
+	public void when_storage_fails_upload_fails_and_storage_is_cleaned() throws Exception {
+		/* prepare */
+		byte[] zip = createZipBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		doThrow(new IOException("storage failure")).when(storage).store(eq(SchedulerUploadService.SOURCECODE_ZIP), any());
+		expectedException.expect(SecHubRuntimeException.class);
+
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+		} finally {
+			/* test */
+			verify(storage).deleteAll();
+		}
+	}
+
+	private String checksumOf(byte[] bytes) {
+		return checksumService.convertToHexString(checksumService.createSHA256MessageDigest().digest(bytes));
+	}
+
+	private byte[] createZipBytes() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+			zipOut.putNextEntry(new ZipEntry("src/Example.java"));
+			zipOut.write("class Example{}".getBytes(StandardCharsets.UTF_8));
+			zipOut.closeEntry();
+		}
+		return out.toByteArray();
 	}
 
 }
@@ -8,6 +8,7 @@ import static org.junit.Assert.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -122,6 +123,60 @@ public class SecHubJobRepositoryDBTest {
 		assertEquals(expectedNextJob.getUUID(), job.getUUID());
 	}
 
+	@Test
+	public void nextJobIdToExecuteFirstInFirstOutSkipLocked__on_h2_the_first_job_in_state_READY_TO_START_is_returned() {
+		/* prepare @formatter:off*/
+		jobCreator.newJob().being(STARTED).createAnd().
+				   newJob().being(ENDED).create();
+
+		ScheduleSecHubJob expectedNextJob =
+		jobCreator.newJob().being(READY_TO_START).create();
+
+		TestUtil.waitMilliseconds(1); // just enough time to make the next job "older" than former one
+
+		jobCreator.newJob().being(READY_TO_START).create();
+
+		/* execute */
+		Optional<UUID> uuid = jobRepository.nextJobIdToExecuteFirstInFirstOutSkipLocked();
+
+		/* test @formatter:on*/
+		assertTrue(uuid.isPresent());
+		assertEquals(expectedNextJob.getUUID(), uuid.get());
+	}
+
+	@Test
+	public void nextJobIdToExecuteFirstInFirstOutSkipLocked__no_executable_job_available_empty_is_returned() {
+		/* prepare */
+		jobCreator.newJob().being(STARTED).create();
+
+		/* execute + test */
+		assertFalse(jobRepository.nextJobIdToExecuteFirstInFirstOutSkipLocked().isPresent());
+	}
+
+	@Test
+	public void nextJobIdToExecuteForProjectNotYetExecutedSkipLocked__on_h2_no_job_returned_when_project_has_running_job() {
+		/* prepare */
+		jobCreator.newJob().being(STARTED).createAnd().
+				   newJob().being(READY_TO_START).create();
+
+		/* execute + test */
+		assertFalse(jobRepository.nextJobIdToExecuteForProjectNotYetExecutedSkipLocked().isPresent());
+	}
+
+	@Test
+	public void nextJobIdToExecuteForProjectNotYetExecutedSkipLocked__on_h2_ready_job_returned_when_project_has_no_running_job() {
+		/* prepare */
+		jobCreator.newJob().being(ENDED).create();
+		ScheduleSecHubJob expectedNextJob = jobCreator.newJob().being(READY_TO_START).create();
+
+		/* execute */
+		Optional<UUID> uuid = jobRepository.nextJobIdToExecuteForProjectNotYetExecutedSkipLocked();
+
+		/* test */
+		assertTrue(uuid.isPresent());
+		assertEquals(expectedNextJob.getUUID(), uuid.get());
+	}
+
 	@TestConfiguration
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration{
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.job;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.hibernate.Session;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.domain.schedule.ExecutionState;
+
+public class SecHubJobRepositoryImplTest {
+
+    private SecHubJobRepositoryImpl repositoryToTest;
+    private EntityManager em;
+    private Session session;
+    private Query query;
+
+    @Before
+    public void before() {
+        em = mock(EntityManager.class);
+        session = mock(Session.class);
+        query = mock(Query.class);
+
+        when(em.unwrap(Session.class)).thenReturn(session);
+        when(em.createNativeQuery(any(), eq(ScheduleSecHubJob.class))).thenReturn(query);
+        when(em.createQuery(any(String.class))).thenReturn(query);
+
+        repositoryToTest = new SecHubJobRepositoryImpl();
+        repositoryToTest.em = em;
+    }
+
+    @Test
+    public void skip_locked_sql_selects_oldest_ready_job_with_skip_locked_row_lock() {
+        /* test */
+        String sql = SecHubJobRepositoryImpl.SQL_STRING_SELECT_NEXT_JOB_SKIP_LOCKED;
+        assertEquals("select * from SCHEDULE_SECHUB_JOB where STATE = :executionState order by CREATED limit 1 for update skip locked", sql);
+    }
+
+    @Test
+    public void postgres_uses_native_skip_locked_query_with_execution_state_as_string() {
+        /* prepare */
+        doReturn("PostgreSQL").when(session).doReturningWork(any());
+        UUID uuid = UUID.randomUUID();
+        ScheduleSecHubJob job = new ScheduleSecHubJob();
+        job.uUID = uuid;
+        when(query.getSingleResult()).thenReturn(job);
+
+        /* execute */
+        Optional<UUID> result = repositoryToTest.nextJobIdToExecuteFirstInFirstOutSkipLocked();
+
+        /* test */
+        assertEquals(uuid, result.get());
+        verify(em).createNativeQuery(SecHubJobRepositoryImpl.SQL_STRING_SELECT_NEXT_JOB_SKIP_LOCKED, ScheduleSecHubJob.class);
+        verify(query).setParameter(ScheduleSecHubJob.PROPERTY_EXECUTION_STATE, ExecutionState.READY_TO_START.name());
+        verify(em, never()).createQuery(any(String.class));
+    }
+
+    @Test
+    public void other_databases_use_jpql_fallback() {
+        /* prepare */
+        doReturn("H2").when(session).doReturningWork(any());
+
+        /* execute */
+        Optional<UUID> result = repositoryToTest.nextJobIdToExecuteFirstInFirstOutSkipLocked();
+
+        /* test */
+        assertFalse(result.isPresent());
+        verify(em).createQuery(SecHubJobRepositoryImpl.JPQL_STRING_SELECT_BY_EXECUTION_STATE);
+        verify(em, never()).createNativeQuery(any(), eq(ScheduleSecHubJob.class));
+    }
+
+    @Test
+    public void project_skip_locked_sql_skips_locked_rows_and_locked_projects() {
+        /* test */
+        String sql = SecHubJobRepositoryImpl.SQL_STRING_SELECT_NEXT_JOB_NOT_YET_RUNNING_SAME_PROJECT_SKIP_LOCKED;
+        assertEquals("select * from SCHEDULE_SECHUB_JOB j where j.STATE = :executionState"
+                + " and j.PROJECT_ID not in ( select p.PROJECT_ID from SCHEDULE_SECHUB_JOB p where p.STATE = :started_param )"
+                + " and pg_try_advisory_xact_lock(hashtext(j.PROJECT_ID)) order by j.CREATED limit 1 for update skip locked", sql);
+    }
+
+    @Test
+    public void postgres_uses_native_project_skip_locked_query_with_states_as_string() {
+        /* prepare */
+        doReturn("PostgreSQL").when(session).doReturningWork(any());
+        UUID uuid = UUID.randomUUID();
+        ScheduleSecHubJob job = new ScheduleSecHubJob();
+        job.uUID = uuid;
+        when(query.getSingleResult()).thenReturn(job);
+
+        /* execute */
+        Optional<UUID> result = repositoryToTest.nextJobIdToExecuteForProjectNotYetExecutedSkipLocked();
+
+        /* test */
+        assertEquals(uuid, result.get());
+        verify(em).createNativeQuery(SecHubJobRepositoryImpl.SQL_STRING_SELECT_NEXT_JOB_NOT_YET_RUNNING_SAME_PROJECT_SKIP_LOCKED, ScheduleSecHubJob.class);
+        verify(query).setParameter(ScheduleSecHubJob.PROPERTY_EXECUTION_STATE, ExecutionState.READY_TO_START.name());
+        verify(query).setParameter("started_param", ExecutionState.STARTED.name());
+        verify(em, never()).createQuery(any(String.class));
+    }
+
+    @Test
+    public void other_databases_use_jpql_fallback_for_project_query() {
+        /* prepare */
+        doReturn("H2").when(session).doReturningWork(any());
+
+        /* execute */
+        Optional<UUID> result = repositoryToTest.nextJobIdToExecuteForProjectNotYetExecutedSkipLocked();
+
+        /* test */
+        assertFalse(result.isPresent());
+        verify(em).createQuery(SecHubJobRepositoryImpl.JPQL_STRING_SELECT_JOB_WHERE_NOT_YET_RUNNING_SAME_PROJECT);
+        verify(em, never()).createNativeQuery(any(), eq(ScheduleSecHubJob.class));
+    }
+
+    @Test
+    public void database_product_is_resolved_only_once() {
+        /* prepare */
+        doReturn("PostgreSQL").when(session).doReturningWork(any());
+
+        /* execute */
+        repositoryToTest.isSkipLockedSupported();
+        repositoryToTest.isSkipLockedSupported();
+
+        /* test */
+        verify(session, times(1)).doReturningWork(any());
+    }
+
+}
@@ -12,21 +12,25 @@ class SchedulerStrategyFactoryTest {
 
     private static final String FIFO_STRATEGY_ID = "first-come-first-serve";
     private static final String OOSP_STRATEGY_ID = "only-one-scan-per-project-at-a-time";
+    private static final String FIFO_SKIP_LOCKED_STRATEGY_ID = "first-come-first-serve-skip-locked";
 
     private SchedulerStrategyFactory factoryToTest;
     private FirstComeFirstServeSchedulerStrategy fifoStrategy;
     private OnlyOneScanPerProjectAtSameTimeStrategy oosppStrategy;
+    private SkipLockedFirstComeFirstServeSchedulerStrategy fifoSkipLockedStrategy;
 
     @BeforeEach
     void beforeEach() {
 
         fifoStrategy = mock(FirstComeFirstServeSchedulerStrategy.class);
         oosppStrategy = mock(OnlyOneScanPerProjectAtSameTimeStrategy.class);
+        fifoSkipLockedStrategy = mock(SkipLockedFirstComeFirstServeSchedulerStrategy.class);
 
         factoryToTest = new SchedulerStrategyFactory();
 
         factoryToTest.fifoStrategy = fifoStrategy;
         factoryToTest.oosppStrategy = oosppStrategy;
+        factoryToTest.fifoSkipLockedStrategy = fifoSkipLockedStrategy;
     }
 
     @Test
@@ -114,4 +118,16 @@ class SchedulerStrategyFactoryTest {
         assertEquals(result, oosppStrategy);
     }
 
+    @Test
+    void test_strategy_id_set_to_known_value_fifo_skip_locked() {
+        /* prepare */
+        factoryToTest.setStrategyId(FIFO_SKIP_LOCKED_STRATEGY_ID);
+
+        /* execute */
+        SchedulerStrategy strategy = factoryToTest.build();
+
+        /* test */
+        assertEquals(strategy, fifoSkipLockedStrategy);
+    }
+
 }
@@ -13,10 +13,12 @@ class SchedulerStrategyIdTest {
         /* execute */
         SchedulerStrategyId fifoServe = SchedulerStrategyId.getId("first-come-first-serve");
         SchedulerStrategyId onlyOneScanAtATime = SchedulerStrategyId.getId("only-one-scan-per-project-at-a-time");
+        SchedulerStrategyId fifoServeSkipLocked = SchedulerStrategyId.getId("first-come-first-serve-skip-locked");
 
         /* test */
         assertEquals(SchedulerStrategyId.FirstComeFirstServe, fifoServe);
         assertEquals(SchedulerStrategyId.OnlyOneScanPerProjectAtATime, onlyOneScanAtATime);
+        assertEquals(SchedulerStrategyId.FirstComeFirstServeSkipLocked, fifoServeSkipLocked);
     }
 
     @Test
@@ -1,11 +1,41 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 public class ImportParameter {
+
+	/**
+	 * Amount of characters used to identify streamed import data. Importers
+	 * identify content by the root element or first JSON keys, so this is enough.
+	 */
+	static final int IMPORT_DATA_HEAD_LENGTH = 64 * 1024;
+
 	private String productId;
 	private String importData;
+	private String importDataHead;
+	private ImportDataInputStreamProvider importDataProvider;
 	private String importId;
 
+	/**
+	 * Provides import data as stream - e.g. from result storage - so import data
+	 * must not be kept inside memory.
+	 */
+	public interface ImportDataInputStreamProvider {
+
+		/**
+		 * @return new input stream to import data (UTF-8), caller must close it
+		 * @throws IOException
+		 */
+		InputStream openInputStream() throws IOException;
+	}
+
 	public static ImportParamBuilder builder() {
 		return new ImportParamBuilder();
 	}
@@ -14,14 +44,87 @@ public class ImportParameter {
 		return productId;
 	}
 
+	/**
+	 * Resolves import data as string. When import data is provided as stream, the
+	 * complete data is read into memory - so streaming importers should use
+	 * {@link #openImportDataStream()} instead.
+	 *
+	 * @return import data or <code>null</code>
+	 * @throws UncheckedIOException when streamed import data cannot be read
+	 */
 	public String getImportData() {
+		if (importData == null && importDataProvider != null) {
+			importData = readImportData(Integer.MAX_VALUE);
+		}
 		return importData;
 	}
 
+	/**
+	 * Resolves the beginning of import data - used to check if an importer is able
+	 * to import. When import data is available as string, the complete string is
+	 * returned.
+	 *
+	 * @return import data head or <code>null</code>
+	 * @throws UncheckedIOException when streamed import data cannot be read
+	 */
+	public String getImportDataHead() {
+		if (importData != null) {
+			return importData;
+		}
+		if (importDataHead == null && importDataProvider != null) {
+			importDataHead = readImportData(IMPORT_DATA_HEAD_LENGTH);
+		}
+		return importDataHead;
+	}
+
+	/**
+	 * @return <code>true</code> when import data is available - as string or as
+	 *         stream
+	 */
+	public boolean hasImportData() {
+		return importData != null || importDataProvider != null;
+	}
+
+	/**
+	 * @return <code>true</code> when import data is provided as stream and not
+	 *         yet read into memory
+	 */
+	public boolean isImportDataStreamed() {
+		return importData == null && importDataProvider != null;
+	}
+
+	/**
+	 * Opens a new stream to import data - caller must close the stream.
+	 *
+	 * @return input stream (UTF-8)
+	 * @throws IOException
+	 */
+	public InputStream openImportDataStream() throws IOException {
+		if (isImportDataStreamed()) {
+			return importDataProvider.openInputStream();
+		}
+		String data = importData == null ? "" : importData;
+		return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+	}
+
 	public String getImportId() {
 		return importId;
 	}
 
+	private String readImportData(int maxLength) {
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[8192];
+		try (Reader reader = new InputStreamReader(importDataProvider.openInputStream(), StandardCharsets.UTF_8)) {
+			int read;
+			while (sb.length() < maxLength && (read = reader.read(buffer, 0, Math.min(buffer.length, maxLength - sb.length()))) != -1) {
+				sb.append(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Was not able to read import data for " + importId, e);
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Builder for input parameters
 	 * @author Albert Tregnaghi
@@ -49,6 +152,18 @@ public class ImportParameter {
 			return this;
 		}
 
+		/**
+		 * Import data shall be read from streams created by given provider. Only
+		 * used when no import data string is set.
+		 *
+		 * @param importDataProvider
+		 * @return builder
+		 */
+		public ImportParamBuilder importDataProvider(ImportDataInputStreamProvider importDataProvider) {
+			param.importDataProvider = importDataProvider;
+			return this;
+		}
+
 		public ImportParamBuilder importId(String importId) {
 			param.importId = importId;
 			return this;
@@ -61,4 +176,4 @@ public class ImportParameter {
 		}
 
 	}
-}
\ No newline at end of file
+}
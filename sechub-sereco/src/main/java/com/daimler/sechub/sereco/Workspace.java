@@ -1,12 +1,18 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco;
 
+import static com.daimler.sechub.commons.core.util.SimpleStringUtils.*;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -14,8 +20,13 @@ import org.springframework.stereotype.Component;
 import com.daimler.sechub.sereco.importer.ProductFailureMetaDataBuilder;
 import com.daimler.sechub.sereco.importer.ProductImportAbility;
 import com.daimler.sechub.sereco.importer.ProductResultImporter;
+import com.daimler.sechub.sereco.importer.StreamingProductResultImporter;
+import com.daimler.sechub.sereco.metadata.SerecoClassification;
+import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.daimler.sechub.sereco.metadata.SerecoDetection;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,10 +37,19 @@ public class Workspace {
 
     private static final Logger LOG = LoggerFactory.getLogger(Workspace.class);
 
+    private static final boolean DEFAULT_DEDUPLICATION_ENABLED = false;
+
+    @MustBeDocumented("When enabled, same code scan vulnerabilities found by different products (same scan type, CWE and complete call stack) are merged into one. "
+            + "Products having found a merged vulnerability are listed as detections. A merged vulnerability is only a false positive when marked so by every product.")
+    @Value("${sechub.config.report.sereco.deduplication.enabled:" + DEFAULT_DEDUPLICATION_ENABLED + "}")
+    boolean deduplicationEnabled = DEFAULT_DEDUPLICATION_ENABLED;
+
     private SerecoMetaData workspaceMetaData = new SerecoMetaData();
 
+    private WorkspaceVulnerabilityDeduplicator deduplicator = new WorkspaceVulnerabilityDeduplicator();
+
     @Autowired
-    private ImporterRegistry registry;
+    ImporterRegistry registry;
 
     private String id;
 
@@ -56,7 +76,7 @@ public class Workspace {
         if (param == null) {
             throw new IllegalArgumentException("param may not be null!");
         }
-        if (param.getImportData() == null) {
+        if (!param.hasImportData()) {
             LOG.error("Import data was null for docId:{}, so unable to import.", param.getImportId());
             return;
         }
@@ -76,19 +96,24 @@ public class Workspace {
                  */
                 ProductFailureMetaDataBuilder builder = new ProductFailureMetaDataBuilder();
                 SerecoMetaData metaData = builder.forParam(param).build();
-                mergeWithWorkspaceData(metaData);
+                mergeWithWorkspaceData(metaData, param);
                 atLeastOneImporterWasAbleToImport = true;
                 break;
             }
             if (ProductImportAbility.ABLE_TO_IMPORT.equals(ableToImportForProduct)) {
                 LOG.debug("Importer {} is able to import {}", importer.getName(), param.getImportId());
+                if (isStreamingImportPossible(importer)) {
+                    importStreamed((StreamingProductResultImporter) importer, param);
+                    atLeastOneImporterWasAbleToImport = true;
+                    continue;
+                }
                 SerecoMetaData metaData = importer.importResult(param.getImportData());
                 if (metaData == null) {
                     LOG.error("Meta data was null for product={}, importer={}, importId={}", param.getProductId(), importer.getClass().getSimpleName(),
                             param.getImportId());
                     return;
                 }
-                mergeWithWorkspaceData(metaData);
+                mergeWithWorkspaceData(metaData, param);
                 atLeastOneImporterWasAbleToImport = true;
             } else {
                 LOG.debug("Importer {} is NOT able to import {}", importer.getName(), param.getImportId());
@@ -110,9 +135,57 @@ public class Workspace {
 
     }
 
-    private void mergeWithWorkspaceData(SerecoMetaData metaData) {
-        /* currently a very simple,stupid approach: */
-        this.workspaceMetaData.getVulnerabilities().addAll(metaData.getVulnerabilities());
+    private void importStreamed(StreamingProductResultImporter importer, ImportParameter param) throws IOException {
+        /*
+         * vulnerabilities are collected first and added to workspace only after
+         * complete product result was parsed - so a failing import does not leave
+         * parts of the result inside workspace
+         */
+        List<SerecoVulnerability> imported = new ArrayList<>();
+        if (param.isImportDataStreamed()) {
+            try (InputStream inputStream = param.openImportDataStream()) {
+                importer.importResult(inputStream, imported::add);
+            }
+        } else {
+            importer.importResult(new StringReader(param.getImportData()), imported::add);
+        }
+        for (SerecoVulnerability vulnerability : imported) {
+            addVulnerability(vulnerability, param);
+        }
+    }
+
+    private boolean isStreamingImportPossible(ProductResultImporter importer) {
+        if (!(importer instanceof StreamingProductResultImporter)) {
+            return false;
+        }
+        return ((StreamingProductResultImporter) importer).isStreamingEnabled();
+    }
+
+    private void mergeWithWorkspaceData(SerecoMetaData metaData, ImportParameter param) {
+        for (SerecoVulnerability vulnerability : metaData.getVulnerabilities()) {
+            addVulnerability(vulnerability, param);
+        }
+    }
+
+    private void addVulnerability(SerecoVulnerability vulnerability, ImportParameter param) {
+        List<SerecoVulnerability> vulnerabilities = workspaceMetaData.getVulnerabilities();
+        if (!deduplicationEnabled) {
+            vulnerabilities.add(vulnerability);
+            return;
+        }
+        /* keep provenance - necessary to know all products having found a merged vulnerability */
+        SerecoDetection detection = new SerecoDetection();
+        detection.setProductID(param.getProductId());
+        detection.setProductScanId(param.getImportId());
+        if (vulnerability.getList() == null) {
+            vulnerability.setList(new ArrayList<>());
+        }
+        vulnerability.getList().add(detection);
+
+        if (!deduplicator.add(vulnerability, param.getImportId(), vulnerabilities)) {
+            LOG.debug("Vulnerability from product={}, importId={} was already found by another product, so merged", param.getProductId(),
+                    param.getImportId());
+        }
     }
 
     public String createReport() {
@@ -123,4 +196,59 @@ public class Workspace {
         }
     }
 
+    /**
+     * Creates report as meta data object - so it can be used directly without
+     * parsing the JSON report. Content is same as when reading the JSON from
+     * {@link #createReport()}: empty values are not contained inside JSON, so
+     * they are normalized here the same way.
+     * 
+     * @return report meta data
+     */
+    public SerecoMetaData createReportMetaData() {
+        for (SerecoVulnerability vulnerability : workspaceMetaData.getVulnerabilities()) {
+            normalize(vulnerability);
+        }
+        return workspaceMetaData;
+    }
+
+    private void normalize(SerecoVulnerability vulnerability) {
+        vulnerability.setUrl(emptyToNull(vulnerability.getUrl()));
+        vulnerability.setType(emptyToNull(vulnerability.getType()));
+        vulnerability.setProductResultLink(emptyToNull(vulnerability.getProductResultLink()));
+        vulnerability.setFalsePositiveReason(emptyToNull(vulnerability.getFalsePositiveReason()));
+        if (vulnerability.getDescription() == null) {
+            /* missing inside JSON - so default value is used on read */
+            vulnerability.setDescription("");
+        }
+        if (vulnerability.getList() == null) {
+            vulnerability.setList(new ArrayList<>());
+        }
+        if (vulnerability.getClassification() == null) {
+            vulnerability.setClassification(new SerecoClassification());
+        }
+        normalize(vulnerability.getClassification());
+
+        SerecoCodeCallStackElement code = vulnerability.getCode();
+        while (code != null) {
+            code.setLocation(emptyToNull(code.getLocation()));
+            code.setSource(emptyToNull(code.getSource()));
+            code.setRelevantPart(emptyToNull(code.getRelevantPart()));
+            code = code.getCalls();
+        }
+    }
+
+    private void normalize(SerecoClassification classification) {
+        classification.setOwasp(emptyToNull(classification.getOwasp()));
+        classification.setWasc(emptyToNull(classification.getWasc()));
+        classification.setCwe(emptyToNull(classification.getCwe()));
+        classification.setCapec(emptyToNull(classification.getCapec()));
+        classification.setPci31(emptyToNull(classification.getPci31()));
+        classification.setPci32(emptyToNull(classification.getPci32()));
+        classification.setHipaa(emptyToNull(classification.getHipaa()));
+        classification.setNist(emptyToNull(classification.getNist()));
+        classification.setFisma(emptyToNull(classification.getFisma()));
+        classification.setCve(emptyToNull(classification.getCve()));
+        classification.setOwaspProactiveControls(emptyToNull(classification.getOwaspProactiveControls()));
+    }
+
 }
@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.daimler.sechub.commons.model.ScanType;
+import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * Removes duplicated vulnerabilities found by different products (e.g. two
+ * code scanners reporting same data flow). Vulnerabilities are identified by
+ * scan type, CWE and a fingerprint of the call stack - means normalized
+ * location and line of every call stack element, so only same data flows are
+ * merged.<br>
+ * <br>
+ * Only vulnerabilities from different imports are merged - duplicates reported
+ * by one product are kept as they are. When a duplicate is found, its
+ * detections are added to the already existing vulnerability (so provenance is
+ * kept) and the higher severity wins. A merged vulnerability is only a false
+ * positive when every product has marked it as false positive. Vulnerabilities
+ * without code, CWE or scan type are never merged.<br>
+ * <br>
+ * Identification is done by hashing, so deduplication runs in linear time.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class WorkspaceVulnerabilityDeduplicator {
+
+    private Map<VulnerabilityKey, KnownVulnerability> knownVulnerabilities = new HashMap<>();
+
+    /**
+     * Adds given vulnerability to target list - or merges it into an already
+     * contained vulnerability from another import
+     *
+     * @param vulnerability
+     * @param importId
+     * @param target
+     * @return <code>true</code> when added, <code>false</code> when merged
+     */
+    boolean add(SerecoVulnerability vulnerability, String importId, List<SerecoVulnerability> target) {
+        VulnerabilityKey key = VulnerabilityKey.createOrNull(vulnerability);
+        if (key == null) {
+            target.add(vulnerability);
+            return true;
+        }
+        KnownVulnerability known = knownVulnerabilities.get(key);
+        if (known == null || Objects.equals(known.importId, importId)) {
+            target.add(vulnerability);
+            knownVulnerabilities.putIfAbsent(key, new KnownVulnerability(vulnerability, importId));
+            return true;
+        }
+        merge(vulnerability, known.vulnerability);
+        return false;
+    }
+
+    private void merge(SerecoVulnerability duplicate, SerecoVulnerability existing) {
+        if (duplicate.getList() != null) {
+            if (existing.getList() == null) {
+                existing.setList(new ArrayList<>());
+            }
+            existing.getList().addAll(duplicate.getList());
+        }
+
+        if (duplicate.getSeverity() != null && (existing.getSeverity() == null || duplicate.getSeverity().compareTo(existing.getSeverity()) > 0)) {
+            existing.setSeverity(duplicate.getSeverity());
+        }
+        mergeFalsePositive(duplicate, existing);
+    }
+
+    private void mergeFalsePositive(SerecoVulnerability duplicate, SerecoVulnerability existing) {
+        if (!existing.isFalsePositive() || !duplicate.isFalsePositive()) {
+            /* at least one product has NOT marked it as false positive - so it is a finding */
+            existing.setFalsePositive(false);
+            existing.setFalsePositiveReason(null);
+            return;
+        }
+        String existingReason = existing.getFalsePositiveReason();
+        String duplicateReason = duplicate.getFalsePositiveReason();
+        if (existingReason == null || existingReason.isEmpty()) {
+            existing.setFalsePositiveReason(duplicateReason);
+        } else if (duplicateReason != null && !duplicateReason.isEmpty() && !existingReason.equals(duplicateReason)) {
+            existing.setFalsePositiveReason(existingReason + "\n" + duplicateReason);
+        }
+    }
+
+    private static class KnownVulnerability {
+        private SerecoVulnerability vulnerability;
+        private String importId;
+
+        private KnownVulnerability(SerecoVulnerability vulnerability, String importId) {
+            this.vulnerability = vulnerability;
+            this.importId = importId;
+        }
+    }
+
+    private static class VulnerabilityKey {
+        private ScanType scanType;
+        private String cwe;
+        private List<String> locations = new ArrayList<>();
+        private List<Integer> lines = new ArrayList<>();
+
+        private static VulnerabilityKey createOrNull(SerecoVulnerability vulnerability) {
+            SerecoCodeCallStackElement code = vulnerability.getCode();
+            if (code == null || vulnerability.getScanType() == null || vulnerability.getClassification() == null) {
+                return null;
+            }
+            String cwe = vulnerability.getClassification().getCwe();
+            if (cwe == null) {
+                return null;
+            }
+            VulnerabilityKey key = new VulnerabilityKey();
+            key.scanType = vulnerability.getScanType();
+            key.cwe = cwe.trim();
+
+            SerecoCodeCallStackElement element = code;
+            while (element != null) {
+                key.locations.add(normalize(element.getLocation()));
+                key.lines.add(element.getLine());
+                element = element.getCalls();
+            }
+            return key;
+        }
+
+        private static String normalize(String location) {
+            if (location == null) {
+                return null;
+            }
+            String normalized = location.trim().replace('\\', '/');
+            while (normalized.startsWith("./")) {
+                normalized = normalized.substring(2);
+            }
+            while (normalized.startsWith("/")) {
+                normalized = normalized.substring(1);
+            }
+            return normalized;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scanType, cwe, locations, lines);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof VulnerabilityKey)) {
+                return false;
+            }
+            VulnerabilityKey other = (VulnerabilityKey) obj;
+            /* @formatter:off */
+            return scanType == other.scanType &&
+                    Objects.equals(cwe, other.cwe) &&
+                    Objects.equals(locations, other.locations) &&
+                    Objects.equals(lines, other.lines);
+            /* @formatter:on */
+        }
+    }
+}
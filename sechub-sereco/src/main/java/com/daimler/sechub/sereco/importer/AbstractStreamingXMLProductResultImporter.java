@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * Base class for XML importers supporting a streaming (StAX) import and a
+ * document (DOM) based import. Which one is used can be defined per importer.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public abstract class AbstractStreamingXMLProductResultImporter extends AbstractProductResultImporter implements StreamingProductResultImporter {
+
+    private XMLStreamImportSupport xmlStreamImportSupport = new XMLStreamImportSupport();
+
+    protected XMLStreamImportSupport getXMLStreamImportSupport() {
+        return xmlStreamImportSupport;
+    }
+
+    @Override
+    public SerecoMetaData importResult(String xml) throws IOException {
+        if (xml == null) {
+            xml = "";
+        }
+        if (!isStreamingEnabled()) {
+            return importResultByDocument(xml);
+        }
+        SerecoMetaData metaData = new SerecoMetaData();
+        importResult(new StringReader(xml), metaData.getVulnerabilities()::add);
+        return metaData;
+    }
+
+    @Override
+    public void importResult(InputStream inputStream, Consumer<SerecoVulnerability> consumer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlStreamImportSupport.createReader(inputStream);
+            importResult(reader, consumer);
+        } catch (XMLStreamException e) {
+            throw new IOException("Import cannot parse xml", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    @Override
+    public void importResult(Reader input, Consumer<SerecoVulnerability> consumer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlStreamImportSupport.createReader(input);
+            importResult(reader, consumer);
+        } catch (XMLStreamException e) {
+            throw new IOException("Import cannot parse xml", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    private void importResult(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+        xmlStreamImportSupport.moveToRootElement(reader);
+        importRootElement(reader, consumer);
+    }
+
+    private void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            /* ignore - underlying stream or reader is not closed by XML stream reader */
+        }
+    }
+
+    /**
+     * Imports vulnerabilities by reading given XML stream.
+     *
+     * @param reader   reader positioned at start element of root element
+     * @param consumer consumer for every imported vulnerability
+     * @throws XMLStreamException
+     */
+    protected abstract void importRootElement(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException;
+
+    /**
+     * Imports given XML by building a document first (DOM). Used when streaming
+     * is not enabled.
+     *
+     * @param xml XML content, never <code>null</code>
+     * @return SERECO meta data, never <code>null</code>
+     * @throws IOException
+     */
+    protected abstract SerecoMetaData importResultByDocument(String xml) throws IOException;
+
+}
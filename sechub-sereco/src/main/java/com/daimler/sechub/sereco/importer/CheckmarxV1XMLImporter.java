@@ -3,12 +3,17 @@ package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.commons.model.ScanType;
@@ -16,16 +21,161 @@ import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 
 @Component
-public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
+public class CheckmarxV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	public SerecoMetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
+	private static final boolean DEFAULT_STREAMING_ENABLED = true;
+
+	@MustBeDocumented("When enabled, Checkmarx XML results are imported by a streaming parser, so the complete XML document is never held in memory. When disabled, a document based import is done.")
+	@Value("${sechub.config.sereco.import.checkmarx.streaming.enabled:" + DEFAULT_STREAMING_ENABLED + "}")
+	boolean streamingEnabled = DEFAULT_STREAMING_ENABLED;
+
+	@Override
+	public boolean isStreamingEnabled() {
+		return streamingEnabled;
+	}
+
+	@Override
+	protected void importRootElement(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		CheckmarxCategoriesToClassificationConverter categoryConverter = new CheckmarxCategoriesToClassificationConverter();
+
+		while (support.nextChildElement(reader)) {
+			if (!"Query".equals(reader.getLocalName())) {
+				support.skipElement(reader);
+				continue;
+			}
+			String name = reader.getAttributeValue(null, "name");
+			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
+			String categories = reader.getAttributeValue(null, "categories");
+			String cweId = reader.getAttributeValue(null, "cweId");
+
+			while (support.nextChildElement(reader)) {
+				if (!"Result".equals(reader.getLocalName())) {
+					support.skipElement(reader);
+					continue;
+				}
+				SerecoVulnerability vulnerability = createVulnerability(type, cweId, reader.getAttributeValue(null, "FalsePositive"),
+						reader.getAttributeValue(null, "DeepLink"), reader.getAttributeValue(null, "Severity"));
+				categoryConverter.convert(categories, vulnerability.getClassification());
+
+				vulnerability.setCode(readCodeInfoFromResult(reader));
+
+				consumer.accept(vulnerability);
+			}
+		}
+	}
+
+	private SerecoCodeCallStackElement readCodeInfoFromResult(XMLStreamReader reader) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		SerecoCodeCallStackElement initialCodeInfo = null;
+		boolean pathHandled = false;
+		while (support.nextChildElement(reader)) {
+			if (pathHandled || !"Path".equals(reader.getLocalName())) {
+				support.skipElement(reader);
+				continue;
+			}
+			pathHandled = true;
+			SerecoCodeCallStackElement infoBefore = null;
+			while (support.nextChildElement(reader)) {
+				if (!"PathNode".equals(reader.getLocalName())) {
+					support.skipElement(reader);
+					continue;
+				}
+				SerecoCodeCallStackElement info = readPathNode(reader);
+				if (initialCodeInfo == null) {
+					initialCodeInfo = info;
+				}
+				if (infoBefore != null) {
+					infoBefore.setCalls(info);
+				}
+				infoBefore = info;
+			}
 		}
+		return initialCodeInfo;
+	}
+
+	private SerecoCodeCallStackElement readPathNode(XMLStreamReader reader) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		SerecoCodeCallStackElement info = new SerecoCodeCallStackElement();
+		/* only first element of a kind is used - same as for document based import */
+		boolean fileNameHandled = false;
+		boolean lineHandled = false;
+		boolean columnHandled = false;
+		boolean nameHandled = false;
+		boolean snippetHandled = false;
+
+		while (support.nextChildElement(reader)) {
+			String localName = reader.getLocalName();
+			if (!fileNameHandled && "FileName".equals(localName)) {
+				info.setLocation(support.readStringValue(reader));
+				fileNameHandled = true;
+			} else if (!lineHandled && "Line".equals(localName)) {
+				info.setLine(support.safeGetInteger(support.readStringValue(reader)));
+				lineHandled = true;
+			} else if (!columnHandled && "Column".equals(localName)) {
+				info.setColumn(support.safeGetInteger(support.readStringValue(reader)));
+				columnHandled = true;
+			} else if (!nameHandled && "Name".equals(localName)) {
+				info.setRelevantPart(support.readStringValue(reader));
+				nameHandled = true;
+			} else if (!snippetHandled && "Snippet".equals(localName)) {
+				info.setSource(readSnippetCode(reader));
+				snippetHandled = true;
+			} else {
+				support.skipElement(reader);
+			}
+		}
+		return info;
+	}
+
+	private String readSnippetCode(XMLStreamReader reader) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		String code = null;
+		boolean lineHandled = false;
+		while (support.nextChildElement(reader)) {
+			if (lineHandled || !"Line".equals(reader.getLocalName())) {
+				support.skipElement(reader);
+				continue;
+			}
+			lineHandled = true;
+			boolean codeHandled = false;
+			while (support.nextChildElement(reader)) {
+				if (codeHandled || !"Code".equals(reader.getLocalName())) {
+					support.skipElement(reader);
+					continue;
+				}
+				code = support.readStringValue(reader);
+				codeHandled = true;
+			}
+		}
+		return code;
+	}
+
+	private SerecoVulnerability createVulnerability(String type, String cweId, String falsePositive, String deeplink, String severity) {
+		SerecoVulnerability vulnerability = new SerecoVulnerability();
+		vulnerability.setFalsePositive(Boolean.parseBoolean(falsePositive));
+		if (vulnerability.isFalsePositive()) {
+			vulnerability.setFalsePositiveReason("marked directly in security product");
+		}
+		vulnerability.setType(type);
+		if ("Information".equalsIgnoreCase(severity)) {
+			severity = "info";
+		}
+		vulnerability.setSeverity(SerecoSeverity.fromString(severity));
+		vulnerability.setProductResultLink(deeplink);
+		vulnerability.setDescription(""); // at least at the moment we set no description any more
+		vulnerability.getClassification().setCwe(cweId);
+		vulnerability.setScanType(ScanType.CODE_SCAN);
+		return vulnerability;
+	}
+
+	@Override
+	protected SerecoMetaData importResultByDocument(String xml) throws IOException {
 		Document document;
 		try {
 			document = DocumentHelper.parseText(xml);
@@ -49,28 +199,9 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 			List<Element> resultElements = queryElement.elements("Result");
 			for (Element resultElement : resultElements) {
 
-				String falsePositive = resultElement.attributeValue("FalsePositive");
-				String deeplink = resultElement.attributeValue("DeepLink");
-				String severity = resultElement.attributeValue("Severity");
-
-				SerecoVulnerability vulnerability = new SerecoVulnerability();
-				vulnerability.setFalsePositive(Boolean.parseBoolean(falsePositive));
-				if (vulnerability.isFalsePositive()) {
-				    vulnerability.setFalsePositiveReason("marked directly in security product");
-				}
-				vulnerability.setType(type);
-				if ("Information".equalsIgnoreCase(severity)) {
-					severity = "info";
-				}
-				vulnerability.setSeverity(SerecoSeverity.fromString(severity));
-
-				SerecoCodeCallStackElement codeInfo = resolveCodeInfoFromElement(resultElement);
-
-				vulnerability.setCode(codeInfo);
-				vulnerability.setProductResultLink(deeplink);
-				vulnerability.setDescription(""); // at least at the moment we set no description any more
-				vulnerability.getClassification().setCwe(cweId);
-				vulnerability.setScanType(ScanType.CODE_SCAN);
+				SerecoVulnerability vulnerability = createVulnerability(type, cweId, resultElement.attributeValue("FalsePositive"),
+						resultElement.attributeValue("DeepLink"), resultElement.attributeValue("Severity"));
+				vulnerability.setCode(resolveCodeInfoFromElement(resultElement));
 
 				categoryConverter.convert(categories, vulnerability.getClassification());
 
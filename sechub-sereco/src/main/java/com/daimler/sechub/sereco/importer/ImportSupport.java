@@ -110,16 +110,18 @@ public class ImportSupport {
 		if (!isProductIdentified(parameter.getProductId())) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (isEmpty(parameter.getImportData())) {
+		/* streamed import data is not read completely - content identifier must be inside head */
+		String data = parameter.getImportDataHead();
+		if (isEmpty(data)) {
 			return ProductImportAbility.PRODUCT_FAILED;
 		}
-		if (!isContentIdentified(parameter.getImportData())) {
+		if (!isContentIdentified(data)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (checkXML && !isXML(parameter.getImportData())) {
+		if (checkXML && !isXML(data)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (checkJSON && !isJSON(parameter.getImportData())) {
+		if (checkJSON && !isJSON(data)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
 		return ProductImportAbility.ABLE_TO_IMPORT;
@@ -3,28 +3,114 @@ package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.commons.model.ScanType;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 
 @Component
-public class NessusV1XMLImporter extends AbstractProductResultImporter {
+public class NessusV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	public SerecoMetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
+	private static final boolean DEFAULT_STREAMING_ENABLED = true;
+
+	@MustBeDocumented("When enabled, Nessus XML results are imported by a streaming parser, so the complete XML document is never held in memory. When disabled, a document based import is done.")
+	@Value("${sechub.config.sereco.import.nessus.streaming.enabled:" + DEFAULT_STREAMING_ENABLED + "}")
+	boolean streamingEnabled = DEFAULT_STREAMING_ENABLED;
+
+	@Override
+	public boolean isStreamingEnabled() {
+		return streamingEnabled;
+	}
+
+	@Override
+	protected void importRootElement(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		/* only first report and first report host are used - same as for document based import */
+		boolean reportHandled = false;
+		while (support.nextChildElement(reader)) {
+			if (reportHandled || !"Report".equals(reader.getLocalName())) {
+				support.skipElement(reader);
+				continue;
+			}
+			reportHandled = true;
+			boolean reportHostHandled = false;
+			while (support.nextChildElement(reader)) {
+				if (reportHostHandled || !"ReportHost".equals(reader.getLocalName())) {
+					support.skipElement(reader);
+					continue;
+				}
+				reportHostHandled = true;
+				while (support.nextChildElement(reader)) {
+					if (!"ReportItem".equals(reader.getLocalName())) {
+						support.skipElement(reader);
+						continue;
+					}
+					consumer.accept(readReportItem(reader));
+				}
+			}
+		}
+	}
+
+	private SerecoVulnerability readReportItem(XMLStreamReader reader) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		String name = reader.getAttributeValue(null, "svc_name");
+		String severity = reader.getAttributeValue(null, "severity");
+		String output = null;
+		String cve = null;
+		while (support.nextChildElement(reader)) {
+			String localName = reader.getLocalName();
+			if (output == null && "plugin_output".equals(localName)) {
+				output = support.readElementText(reader);
+			} else if (cve == null && "cve".equals(localName)) {
+				cve = support.readElementText(reader);
+			} else {
+				support.skipElement(reader);
+			}
+		}
+		return createVulnerability(name, severity, output, cve);
+	}
+
+	private SerecoVulnerability createVulnerability(String name, String severityAttribute, String output, String cve) {
+		String type = NAME_PATTERN.matcher(name).replaceAll(" ");
+
+		SerecoVulnerability vulnerability = new SerecoVulnerability();
+		SerecoSeverity severity = null;
+		int severityLevel = Integer.parseInt(severityAttribute);
+		if (severityLevel == 0) {
+			severity = SerecoSeverity.INFO;
+		}else if (severityLevel==1) {
+			severity = SerecoSeverity.LOW;
+		}else if (severityLevel==2){
+			severity = SerecoSeverity.MEDIUM;
+		}else {
+			severity = SerecoSeverity.HIGH;
 		}
+		vulnerability.setSeverity(severity);
+		vulnerability.setType(type);
+		vulnerability.setDescription(output);
+		vulnerability.setScanType(ScanType.INFRA_SCAN);
+		vulnerability.getClassification().setCve(cve);
+		return vulnerability;
+	}
+
+	@Override
+	protected SerecoMetaData importResultByDocument(String xml) throws IOException {
 		Document document;
 		try {
 			document = DocumentHelper.parseText(xml);
@@ -40,27 +126,10 @@ public class NessusV1XMLImporter extends AbstractProductResultImporter {
 
 		for (Element reportItem : reportItems) {
 			String name = reportItem.attributeValue("svc_name");
-			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
 			String output = reportItem.elementText("plugin_output");
 			String cve = reportItem.elementText("cve");
-			
-			SerecoVulnerability vulnerability = new SerecoVulnerability();
-			SerecoSeverity severity = null;
-			int severityLevel = Integer.parseInt(reportItem.attributeValue("severity"));
-			if (severityLevel == 0) {
-				severity = SerecoSeverity.INFO;
-			}else if (severityLevel==1) {
-				severity = SerecoSeverity.LOW;
-			}else if (severityLevel==2){
-				severity = SerecoSeverity.MEDIUM;
-			}else {
-				severity = SerecoSeverity.HIGH;
-			}
-			vulnerability.setSeverity(severity);
-			vulnerability.setType(type);
-			vulnerability.setDescription(output);
-			vulnerability.setScanType(ScanType.INFRA_SCAN);
-			vulnerability.getClassification().setCve(cve);
+
+			SerecoVulnerability vulnerability = createVulnerability(name, reportItem.attributeValue("severity"), output, cve);
 			metaData.getVulnerabilities().add(vulnerability);
 		}
 		return metaData;
@@ -2,27 +2,123 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.commons.model.ScanType;
 import com.daimler.sechub.sereco.metadata.SerecoClassification;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 
 @Component
-public class NetsparkerV1XMLImporter extends AbstractProductResultImporter {
+public class NetsparkerV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
-	public SerecoMetaData importResult(String xml) throws IOException{
-		SerecoMetaData metaData = new SerecoMetaData();
-		if (xml==null) {
-			xml="";
+	private static final boolean DEFAULT_STREAMING_ENABLED = true;
+
+	@MustBeDocumented("When enabled, Netsparker XML results are imported by a streaming parser, so the complete XML document is never held in memory. When disabled, a document based import is done.")
+	@Value("${sechub.config.sereco.import.netsparker.streaming.enabled:" + DEFAULT_STREAMING_ENABLED + "}")
+	boolean streamingEnabled = DEFAULT_STREAMING_ENABLED;
+
+	@Override
+	public boolean isStreamingEnabled() {
+		return streamingEnabled;
+	}
+
+	@Override
+	protected void importRootElement(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		/* only first vulnerabilities element is used - same as for document based import */
+		boolean vulnerabilitiesFound = false;
+		while (support.nextChildElement(reader)) {
+			if (vulnerabilitiesFound || !"vulnerabilities".equals(reader.getLocalName())) {
+				support.skipElement(reader);
+				continue;
+			}
+			vulnerabilitiesFound = true;
+			while (support.nextChildElement(reader)) {
+				consumer.accept(readVulnerability(reader));
+			}
+		}
+		if (!vulnerabilitiesFound) {
+			throw new IllegalStateException("no vulnerabilities element found!");
+		}
+	}
+
+	private SerecoVulnerability readVulnerability(XMLStreamReader reader) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		SerecoVulnerability vulnerability = new SerecoVulnerability();
+		vulnerability.setScanType(ScanType.WEB_SCAN);
+
+		String severity = null;
+		String url = null;
+		String type = null;
+		String description = null;
+		boolean classificationFound = false;
+		while (support.nextChildElement(reader)) {
+			String localName = reader.getLocalName();
+			if (severity == null && "severity".equals(localName)) {
+				severity = support.readElementText(reader);
+			} else if (url == null && "url".equals(localName)) {
+				url = support.readElementText(reader);
+			} else if (type == null && "type".equals(localName)) {
+				type = support.readElementText(reader);
+			} else if (description == null && "description".equals(localName)) {
+				description = support.readElementText(reader);
+			} else if (!classificationFound && "classification".equals(localName)) {
+				readClassification(reader, vulnerability.getClassification());
+				classificationFound = true;
+			} else {
+				support.skipElement(reader);
+			}
 		}
+		if (!classificationFound) {
+			throw new IllegalStateException("no classificaton element found!");
+		}
+		vulnerability.setSeverity(NetsparkerServerityConverter.convert(severity));
+		vulnerability.setUrl(url);
+		vulnerability.setType(type);
+		vulnerability.setDescription(NetsparkerHtmlToAsciiDocConverter.convert(description));
+		return vulnerability;
+	}
+
+	private void readClassification(XMLStreamReader reader, SerecoClassification classification) throws XMLStreamException {
+		XMLStreamImportSupport support = getXMLStreamImportSupport();
+		/* only first element of a kind is used - same as for document based import */
+		Map<String, String> texts = new HashMap<>();
+		while (support.nextChildElement(reader)) {
+			String localName = reader.getLocalName();
+			if (texts.containsKey(localName)) {
+				support.skipElement(reader);
+			} else {
+				texts.put(localName, support.readElementText(reader));
+			}
+		}
+		classification.setOwasp(texts.get("owasp"));
+		classification.setWasc(texts.get("wasc"));
+		classification.setCwe(texts.get("cwe"));
+		classification.setCapec(texts.get("capec"));
+		classification.setPci31(texts.get("pci31"));
+		classification.setPci32(texts.get("pci32"));
+		classification.setHipaa(texts.get("hipaa"));
+		classification.setOwaspProactiveControls(texts.get("owasppc"));
+	}
+
+	@Override
+	protected SerecoMetaData importResultByDocument(String xml) throws IOException{
+		SerecoMetaData metaData = new SerecoMetaData();
 		Document document;
 		try {
 			document = DocumentHelper.parseText(xml);
@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * A product result importer which is able to import product results
+ * incrementally. Every vulnerability is given to the consumer as soon as it has
+ * been read, so memory usage is bounded by a single vulnerability of the
+ * product result and not by the complete product result.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public interface StreamingProductResultImporter extends ProductResultImporter {
+
+    /**
+     * @return <code>true</code> when streaming import is enabled for this
+     *         importer. If not enabled, {@link #importResult(String)} must be
+     *         used.
+     */
+    public boolean isStreamingEnabled();
+
+    /**
+     * Imports product result from given input stream
+     *
+     * @param inputStream stream containing product result, will not be closed
+     * @param consumer    consumer for every imported vulnerability
+     * @throws IOException if this import fails.
+     */
+    public void importResult(InputStream inputStream, Consumer<SerecoVulnerability> consumer) throws IOException;
+
+    /**
+     * Imports product result from given reader
+     *
+     * @param reader   reader for product result, will not be closed
+     * @param consumer consumer for every imported vulnerability
+     * @throws IOException if this import fails.
+     */
+    public void importResult(Reader reader, Consumer<SerecoVulnerability> consumer) throws IOException;
+}
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco.importer;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Support for pull parser (StAX) based XML imports. Elements are handled one
+ * after another, so the memory usage does not depend on the size of the
+ * product result.<br>
+ * <br>
+ * All element methods expect the reader to be positioned at a start element
+ * and leave it positioned at the corresponding end element.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class XMLStreamImportSupport {
+
+    private XMLInputFactory factory;
+
+    public XMLStreamImportSupport() {
+        factory = XMLInputFactory.newInstance();
+        /* product results are never allowed to use DTDs or external entities */
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public XMLStreamReader createReader(InputStream inputStream) throws XMLStreamException {
+        return factory.createXMLStreamReader(inputStream);
+    }
+
+    public XMLStreamReader createReader(Reader reader) throws XMLStreamException {
+        return factory.createXMLStreamReader(reader);
+    }
+
+    /**
+     * Moves reader to start element of root element
+     *
+     * @param reader
+     * @throws XMLStreamException when no root element exists
+     */
+    public void moveToRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+            if (!reader.hasNext()) {
+                throw new XMLStreamException("No root element found");
+            }
+            reader.next();
+        }
+    }
+
+    /**
+     * Moves reader to start element of next child element. Reader must be
+     * positioned at start element of parent or at end element of previous child.
+     *
+     * @param reader
+     * @return <code>true</code> when reader is positioned at start element of
+     *         next child, <code>false</code> when reader is positioned at end
+     *         element of parent (no more children)
+     * @throws XMLStreamException
+     */
+    public boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips current element including all its children
+     *
+     * @param reader
+     * @throws XMLStreamException
+     */
+    public void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        readText(reader, false);
+    }
+
+    /**
+     * Reads text content of current element - only direct text is returned, text
+     * of child elements is ignored.
+     *
+     * @param reader
+     * @return text, never <code>null</code>
+     * @throws XMLStreamException
+     */
+    public String readElementText(XMLStreamReader reader) throws XMLStreamException {
+        return readText(reader, false);
+    }
+
+    /**
+     * Reads string value of current element - text of all descendant elements is
+     * returned as well
+     *
+     * @param reader
+     * @return string value, never <code>null</code>
+     * @throws XMLStreamException
+     */
+    public String readStringValue(XMLStreamReader reader) throws XMLStreamException {
+        return readText(reader, true);
+    }
+
+    /**
+     * Parses string and tries to resolve as integer
+     *
+     * @param string
+     * @return integer value or <code>null</code>
+     */
+    public Integer safeGetInteger(String string) {
+        if (string == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(string);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String readText(XMLStreamReader reader, boolean includeDescendants) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                if (depth == 0) {
+                    return sb.toString();
+                }
+                depth--;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                if (depth == 0 || includeDescendants) {
+                    sb.append(reader.getText());
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document");
+    }
+}
@@ -1,10 +1,41 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.metadata;
 
+/**
+ * Detection of a vulnerability by a product - so its clear which products
+ * have found a vulnerability.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
 public class SerecoDetection {
 
 	String sechubJobUUID;
 	String productID;
 	String productScanId;
 
+	public String getSechubJobUUID() {
+		return sechubJobUUID;
+	}
+
+	public void setSechubJobUUID(String sechubJobUUID) {
+		this.sechubJobUUID = sechubJobUUID;
+	}
+
+	public String getProductID() {
+		return productID;
+	}
+
+	public void setProductID(String productID) {
+		this.productID = productID;
+	}
+
+	public String getProductScanId() {
+		return productScanId;
+	}
+
+	public void setProductScanId(String productScanId) {
+		this.productScanId = productScanId;
+	}
+
 }
@@ -93,6 +93,10 @@ public class SerecoVulnerability {
         return classification;
     }
 
+    public void setClassification(SerecoClassification classification) {
+        this.classification = classification;
+    }
+
     public void setDescription(String description) {
         this.description = description;
     }
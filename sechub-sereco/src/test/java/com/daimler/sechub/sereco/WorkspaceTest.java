@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.commons.model.JSONConverter;
+import com.daimler.sechub.sereco.importer.ProductImportAbility;
+import com.daimler.sechub.sereco.importer.StreamingProductResultImporter;
+import com.daimler.sechub.sereco.metadata.SerecoClassification;
+import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.daimler.sechub.sereco.metadata.SerecoDetection;
+import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoSeverity;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+public class WorkspaceTest {
+
+    private Workspace workspaceToTest;
+    private StreamingProductResultImporter importer;
+
+    @Before
+    public void before() {
+        importer = mock(StreamingProductResultImporter.class);
+        when(importer.isStreamingEnabled()).thenReturn(true);
+        when(importer.isAbleToImportForProduct(any())).thenReturn(ProductImportAbility.ABLE_TO_IMPORT);
+
+        workspaceToTest = new Workspace("project1");
+        workspaceToTest.registry = new ImporterRegistry();
+        workspaceToTest.registry.importers = Collections.singletonList(importer);
+    }
+
+    @Test
+    public void streamed_import_data_is_given_as_input_stream_to_streaming_importer() throws Exception {
+        /* prepare */
+        doAnswer(invocation -> {
+            InputStream inputStream = invocation.getArgument(0);
+            Consumer<SerecoVulnerability> consumer = invocation.getArgument(1);
+            SerecoVulnerability vulnerability = new SerecoVulnerability();
+            vulnerability.setType(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+            consumer.accept(vulnerability);
+            return null;
+        }).when(importer).importResult(any(InputStream.class), any());
+
+        ImportParameter param = ImportParameter.builder().productId("product1").importId("id1")
+                .importDataProvider(() -> new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8))).build();
+
+        /* execute */
+        workspaceToTest.doImport(param);
+
+        /* test */
+        verify(importer, never()).importResult(any(Reader.class), any());
+        assertEquals(1, workspaceToTest.getVulnerabilties().size());
+        assertEquals("streamed", workspaceToTest.getVulnerabilties().get(0).getType());
+    }
+
+    @Test
+    public void deduplication_is_disabled_by_default_and_no_detection_is_added() throws Exception {
+        /* prepare */
+        prepareImporterProvidingOneVulnerability();
+
+        /* execute */
+        workspaceToTest.doImport(createStreamedParam());
+
+        /* test */
+        assertFalse(workspaceToTest.deduplicationEnabled);
+        assertTrue(workspaceToTest.getVulnerabilties().get(0).getList().isEmpty());
+    }
+
+    @Test
+    public void deduplication_enabled_adds_detection_of_product() throws Exception {
+        /* prepare */
+        workspaceToTest.deduplicationEnabled = true;
+        prepareImporterProvidingOneVulnerability();
+
+        /* execute */
+        workspaceToTest.doImport(createStreamedParam());
+
+        /* test */
+        List<SerecoDetection> detections = workspaceToTest.getVulnerabilties().get(0).getList();
+        assertEquals(1, detections.size());
+        assertEquals("product1", detections.get(0).getProductID());
+        assertEquals("id1", detections.get(0).getProductScanId());
+    }
+
+    @Test
+    public void streaming_import_failing_partway_adds_no_vulnerabilities_to_workspace() throws Exception {
+        /* prepare */
+        doAnswer(invocation -> {
+            Consumer<SerecoVulnerability> consumer = invocation.getArgument(1);
+            consumer.accept(new SerecoVulnerability());
+            throw new IOException("parse failed");
+        }).when(importer).importResult(any(InputStream.class), any());
+
+        ImportParameter param = ImportParameter.builder().productId("product1").importId("id1")
+                .importDataProvider(() -> new ByteArrayInputStream("broken".getBytes(StandardCharsets.UTF_8))).build();
+
+        /* execute */
+        try {
+            workspaceToTest.doImport(param);
+            fail("import should fail");
+        } catch (IOException e) {
+            /* expected */
+        }
+
+        /* test */
+        assertTrue(workspaceToTest.getVulnerabilties().isEmpty());
+    }
+
+    private void prepareImporterProvidingOneVulnerability() throws IOException {
+        doAnswer(invocation -> {
+            Consumer<SerecoVulnerability> consumer = invocation.getArgument(1);
+            consumer.accept(new SerecoVulnerability());
+            return null;
+        }).when(importer).importResult(any(InputStream.class), any());
+    }
+
+    private ImportParameter createStreamedParam() {
+        return ImportParameter.builder().productId("product1").importId("id1")
+                .importDataProvider(() -> new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8))).build();
+    }
+
+    @Test
+    public void report_meta_data_has_same_content_as_json_report() throws Exception {
+        /* prepare */
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setSeverity(SerecoSeverity.HIGH);
+        vulnerability.setType("type1");
+        vulnerability.setUrl("");
+        vulnerability.setDescription(null);
+        vulnerability.setClassification(null);
+        vulnerability.setList(null);
+
+        SerecoCodeCallStackElement code1 = new SerecoCodeCallStackElement();
+        code1.setLocation("location1");
+        code1.setSource("");
+        SerecoCodeCallStackElement code2 = new SerecoCodeCallStackElement();
+        code2.setLocation("");
+        code2.setRelevantPart("relevant2");
+        code1.setCalls(code2);
+        vulnerability.setCode(code1);
+
+        workspaceToTest.getVulnerabilties().add(vulnerability);
+
+        SerecoVulnerability classifiedVulnerability = new SerecoVulnerability();
+        classifiedVulnerability.setSeverity(SerecoSeverity.MEDIUM);
+        classifiedVulnerability.setType("type2");
+        SerecoClassification classification = new SerecoClassification();
+        classification.setCwe("79");
+        classification.setCapec("");
+        classification.setOwasp("A7");
+        classification.setWasc("");
+        classification.setPci31("6.5.7");
+        classification.setPci32("");
+        classification.setHipaa("");
+        classification.setNist("SI-10");
+        classification.setFisma("");
+        classification.setCve("");
+        classification.setOwaspProactiveControls("C5");
+        classifiedVulnerability.setClassification(classification);
+
+        workspaceToTest.getVulnerabilties().add(classifiedVulnerability);
+
+        /* execute */
+        SerecoMetaData readFromJSON = JSONConverter.get().fromJSON(SerecoMetaData.class, workspaceToTest.createReport());
+        SerecoMetaData metaData = workspaceToTest.createReportMetaData();
+
+        /* test */
+        assertEquals(JSONConverter.get().toJSON(readFromJSON), JSONConverter.get().toJSON(metaData));
+        assertEquals("", metaData.getVulnerabilities().get(0).getDescription());
+        assertNotNull(metaData.getVulnerabilities().get(0).getClassification());
+
+        SerecoClassification metaDataClassification = metaData.getVulnerabilities().get(1).getClassification();
+        assertEquals(readFromJSON.getVulnerabilities().get(1).getClassification(), metaDataClassification);
+        assertEquals("79", metaDataClassification.getCwe());
+        assertNull(metaDataClassification.getCapec());
+        assertNull(metaDataClassification.getCve());
+    }
+}
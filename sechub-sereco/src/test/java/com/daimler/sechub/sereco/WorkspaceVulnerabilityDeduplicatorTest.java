@@ -0,0 +1,220 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.commons.model.ScanType;
+import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.daimler.sechub.sereco.metadata.SerecoDetection;
+import com.daimler.sechub.sereco.metadata.SerecoSeverity;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+public class WorkspaceVulnerabilityDeduplicatorTest {
+
+    private WorkspaceVulnerabilityDeduplicator deduplicatorToTest;
+    private List<SerecoVulnerability> target;
+
+    @Before
+    public void before() {
+        deduplicatorToTest = new WorkspaceVulnerabilityDeduplicator();
+        target = new ArrayList<>();
+    }
+
+    @Test
+    public void same_vulnerability_from_two_imports_is_merged_with_provenance_and_higher_severity() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.HIGH, "79", "src/Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        boolean added1 = deduplicatorToTest.add(v1, "import1", target);
+        boolean added2 = deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertTrue(added1);
+        assertFalse(added2);
+        assertEquals(1, target.size());
+        SerecoVulnerability merged = target.get(0);
+        assertEquals(SerecoSeverity.HIGH, merged.getSeverity());
+        assertEquals(2, merged.getList().size());
+        assertEquals("CHECKMARX", merged.getList().get(0).getProductID());
+        assertEquals("PDS_CODESCAN", merged.getList().get(1).getProductID());
+    }
+
+    @Test
+    public void same_vulnerability_twice_from_one_import_is_kept() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import1", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void locations_are_normalized() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "89", "./src/Source.java", 10, "/src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "89", "src\\Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    public void different_sink_line_is_not_merged() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 21);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void different_cwe_is_not_merged() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "89", "src/Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void vulnerabilities_without_cwe_are_never_merged() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, null, "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, null, "src/Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void vulnerabilities_without_code_are_never_merged() {
+        /* prepare */
+        SerecoVulnerability v1 = new SerecoVulnerability();
+        v1.setScanType(ScanType.WEB_SCAN);
+        v1.getClassification().setCwe("79");
+        SerecoVulnerability v2 = new SerecoVulnerability();
+        v2.setScanType(ScanType.WEB_SCAN);
+        v2.getClassification().setCwe("79");
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void different_intermediate_call_stack_element_is_not_merged() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        v2.getCode().getCalls().setLocation("src/OtherBetween.java");
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void merged_vulnerability_is_no_false_positive_when_only_one_product_marked_it() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        v1.setFalsePositive(true);
+        v1.setFalsePositiveReason("not exploitable");
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(1, target.size());
+        assertFalse(target.get(0).isFalsePositive());
+        assertNull(target.get(0).getFalsePositiveReason());
+    }
+
+    @Test
+    public void merged_vulnerability_is_false_positive_when_every_product_marked_it() {
+        /* prepare */
+        SerecoVulnerability v1 = createCodeVulnerability("CHECKMARX", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        v1.setFalsePositive(true);
+        v1.setFalsePositiveReason("reason1");
+        SerecoVulnerability v2 = createCodeVulnerability("PDS_CODESCAN", SerecoSeverity.MEDIUM, "79", "src/Source.java", 10, "src/Sink.java", 20);
+        v2.setFalsePositive(true);
+        v2.setFalsePositiveReason("reason2");
+
+        /* execute */
+        deduplicatorToTest.add(v1, "import1", target);
+        deduplicatorToTest.add(v2, "import2", target);
+
+        /* test */
+        assertEquals(1, target.size());
+        assertTrue(target.get(0).isFalsePositive());
+        assertEquals("reason1\nreason2", target.get(0).getFalsePositiveReason());
+    }
+
+    private SerecoVulnerability createCodeVulnerability(String productId, SerecoSeverity severity, String cwe, String sourceLocation, int sourceLine,
+            String sinkLocation, int sinkLine) {
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setScanType(ScanType.CODE_SCAN);
+        vulnerability.setSeverity(severity);
+        vulnerability.getClassification().setCwe(cwe);
+
+        SerecoCodeCallStackElement source = new SerecoCodeCallStackElement();
+        source.setLocation(sourceLocation);
+        source.setLine(sourceLine);
+
+        SerecoCodeCallStackElement between = new SerecoCodeCallStackElement();
+        between.setLocation("src/Between.java");
+        between.setLine(sourceLine + 1);
+        source.setCalls(between);
+
+        SerecoCodeCallStackElement sink = new SerecoCodeCallStackElement();
+        sink.setLocation(sinkLocation);
+        sink.setLine(sinkLine);
+        between.setCalls(sink);
+
+        vulnerability.setCode(source);
+
+        SerecoDetection detection = new SerecoDetection();
+        detection.setProductID(productId);
+        vulnerability.getList().add(detection);
+
+        return vulnerability;
+    }
+}
@@ -5,6 +5,8 @@ import static com.daimler.sechub.sereco.test.AssertVulnerabilities.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -195,4 +197,29 @@ public class CheckmarxV1XMLImporterTest {
 	        }
 	        return v1;
 	    }
+
+	@Test
+	public void checkmarx_with_false_positives_streaming_import_has_same_result_as_document_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/sechub-continous-integration-with-false-positive.xml");
+		CheckmarxV1XMLImporter streamingImporter = new CheckmarxV1XMLImporter();
+		CheckmarxV1XMLImporter documentImporter = new CheckmarxV1XMLImporter();
+		documentImporter.streamingEnabled = false;
+
+		/* execute */
+		List<SerecoVulnerability> streamed = new ArrayList<>();
+		streamingImporter.importResult(new StringReader(xml), streamed::add);
+		SerecoMetaData documentResult = documentImporter.importResult(xml);
+
+		/* test */
+		assertFalse(streamed.isEmpty());
+		assertEquals(documentResult.getVulnerabilities(), streamed);
+	}
+
+	@Test(expected = IOException.class)
+	public void streaming_import_of_invalid_xml_fails_with_io_exception() throws Exception {
+		/* execute */
+		importerToTest.importResult("<?xml version='1.0'?><CxXMLResults><Query name='x'>");
+	}
+
 }
@@ -3,10 +3,16 @@ package com.daimler.sechub.sereco.importer;
 
 import static org.junit.Assert.*;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import com.daimler.sechub.sereco.ImportParameter;
+import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
 
 public class NessusV1XMLImporterTest {
@@ -32,4 +38,22 @@ public class NessusV1XMLImporterTest {
 		assertEquals("Was not able to import xml!", ProductImportAbility.ABLE_TO_IMPORT, ableToImport);
 	}
 
+	@Test
+	public void nessus_7_streaming_import_has_same_result_as_document_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("nessus/nessus_7.0.2.result.xml");
+		NessusV1XMLImporter streamingImporter = new NessusV1XMLImporter();
+		NessusV1XMLImporter documentImporter = new NessusV1XMLImporter();
+		documentImporter.streamingEnabled = false;
+
+		/* execute */
+		List<SerecoVulnerability> streamed = new ArrayList<>();
+		streamingImporter.importResult(new StringReader(xml), streamed::add);
+		SerecoMetaData documentResult = documentImporter.importResult(xml);
+
+		/* test */
+		assertFalse(streamed.isEmpty());
+		assertEquals(documentResult.getVulnerabilities(), streamed);
+	}
+
 }
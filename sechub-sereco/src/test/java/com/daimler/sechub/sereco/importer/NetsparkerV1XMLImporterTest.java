@@ -4,6 +4,8 @@ package com.daimler.sechub.sereco.importer;
 import static com.daimler.sechub.sereco.test.AssertVulnerabilities.*;
 import static org.junit.Assert.*;
 
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
@@ -15,6 +17,7 @@ import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
+
 public class NetsparkerV1XMLImporterTest {
 
 	private SerecoTestFileSupport support = SerecoTestFileSupport.INSTANCE;
@@ -209,4 +212,41 @@ public class NetsparkerV1XMLImporterTest {
         /* @formatter:on */
 
     }
+
+	@Test
+	public void netsparker_testfile1_streaming_import_has_same_result_as_document_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("netsparker/netsparker_v1.0.40.109_scan_result_output_vulnerabilities.xml");
+		NetsparkerV1XMLImporter streamingImporter = new NetsparkerV1XMLImporter();
+		NetsparkerV1XMLImporter documentImporter = new NetsparkerV1XMLImporter();
+		documentImporter.streamingEnabled = false;
+
+		/* execute */
+		List<SerecoVulnerability> streamed = new ArrayList<>();
+		streamingImporter.importResult(new StringReader(xml), streamed::add);
+		SerecoMetaData documentResult = documentImporter.importResult(xml);
+
+		/* test */
+		assertFalse(streamed.isEmpty());
+		assertEquals(documentResult.getVulnerabilities(), streamed);
+	}
+
+	@Test
+	public void netsparker_v1_9_1_977_streaming_import_has_same_result_as_document_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("netsparker/netsparker_v1.9.1.977_scan_result_output_vulnerabilities.xml");
+		NetsparkerV1XMLImporter streamingImporter = new NetsparkerV1XMLImporter();
+		NetsparkerV1XMLImporter documentImporter = new NetsparkerV1XMLImporter();
+		documentImporter.streamingEnabled = false;
+
+		/* execute */
+		List<SerecoVulnerability> streamed = new ArrayList<>();
+		streamingImporter.importResult(new StringReader(xml), streamed::add);
+		SerecoMetaData documentResult = documentImporter.importResult(xml);
+
+		/* test */
+		assertFalse(streamed.isEmpty());
+		assertEquals(documentResult.getVulnerabilities(), streamed);
+	}
+
 }
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.server.core;
 
+import java.util.List;
+
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +18,10 @@ import com.daimler.sechub.sharedkernel.APIConstants;
 import com.daimler.sechub.sharedkernel.Profiles;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutionStatistic;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageExecutors;
 import com.daimler.sechub.sharedkernel.usecases.admin.status.UseCaseAdministratorChecksServerVersion;
+import com.daimler.sechub.sharedkernel.usecases.admin.status.UseCaseAdministratorFetchesMessagingStatistics;
 
 @RestController
 @EnableAutoConfiguration
@@ -27,6 +32,9 @@ public class ServerInfoAdministrationRestController {
 	@Autowired
 	private InfoService serverInfoService;
 
+	@Autowired
+	private AsynchronMessageExecutors asynchronMessageExecutors;
+
 	/* @formatter:off */
 	@UseCaseAdministratorChecksServerVersion(
 			@Step(
@@ -40,4 +48,18 @@ public class ServerInfoAdministrationRestController {
 		/* @formatter:on */
 		return serverInfoService.getVersionAsString();
 	}
+
+	/* @formatter:off */
+	@UseCaseAdministratorFetchesMessagingStatistics(
+			@Step(
+					number=1,
+					name="REST API Call",
+					description="Administrator wants to get statistics about asynchronous message handling of the cluster member",
+					needsRestDoc=true))
+	@RequestMapping(path = APIConstants.API_ADMINISTRATION+ "info/messaging", method = RequestMethod.GET, produces = { MediaType.APPLICATION_JSON_VALUE })
+	@ResponseBody
+	public List<AsynchronMessageExecutionStatistic> getMessagingStatistics() {
+		/* @formatter:on */
+		return asynchronMessageExecutors.createStatistics();
+	}
 }
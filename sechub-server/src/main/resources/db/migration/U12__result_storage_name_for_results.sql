@@ -0,0 +1,2 @@
+ALTER TABLE scan_product_result DROP COLUMN result_storage_name;
+ALTER TABLE scan_report DROP COLUMN result_storage_name;
@@ -0,0 +1 @@
+DROP TABLE IF EXISTS scan_mapping_change_stamp;
@@ -0,0 +1,2 @@
+ALTER TABLE scan_product_result ADD COLUMN result_storage_name varchar(255);
+ALTER TABLE scan_report ADD COLUMN result_storage_name varchar(255);
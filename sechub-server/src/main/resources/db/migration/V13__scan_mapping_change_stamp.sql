@@ -0,0 +1,9 @@
+CREATE TABLE scan_mapping_change_stamp
+(
+   stamp_id integer not null, -- only one row, see ScanMappingChangeStamp
+   stamp_value bigint not null,
+   version integer,
+   PRIMARY KEY (stamp_id)
+);
+
+INSERT INTO scan_mapping_change_stamp (stamp_id, stamp_value, version) VALUES (0, 0, 0);
@@ -61,6 +61,7 @@ public class ScheduleJobLauncherServiceTest {
 		serviceToTest.job=job;
 		serviceToTest.eventBus= eventBus;
 		serviceToTest.parameterBuilder= parametersbuilder;
+		serviceToTest.runningJobsCounter= mock(ScheduleRunningJobsCounter.class);
 
 		secHubJob = mock(ScheduleSecHubJob.class);
 
@@ -5,11 +5,13 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
@@ -39,6 +41,8 @@ public class ScheduleJobMarkerServiceTest {
 
         serviceToTest.jobRepository = jobRepository;
         serviceToTest.schedulerStrategyFactory = factory;
+        serviceToTest.transactionService = new ScheduleJobMarkerTransactionService();
+        serviceToTest.transactionService.jobRepository = jobRepository;
         strategy.jobRepository = jobRepository;
 
         secHubJob = mock(ScheduleSecHubJob.class);
@@ -73,4 +77,66 @@ public class ScheduleJobMarkerServiceTest {
         assertEquals(secHubJob, result);
     }
 
+    @Test
+    public void markNextJobsToExecuteByThisInstance__marks_until_strategy_returns_no_more_job() throws Exception {
+        /* prepare */
+        UUID uuid2 = UUID.randomUUID();
+        ScheduleSecHubJob secHubJob2 = mock(ScheduleSecHubJob.class);
+        when(strategy.nextJobId()).thenReturn(uuid, uuid2, null);
+        when(jobRepository.getJob(uuid2)).thenReturn(Optional.of(secHubJob2));
+        when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
+        when(jobRepository.save(secHubJob2)).thenReturn(secHubJob2);
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(5);
+
+        /* test */
+        assertEquals(2, result.size());
+        assertTrue(result.contains(secHubJob));
+        assertTrue(result.contains(secHubJob2));
+        verify(secHubJob2).setExecutionState(eq(ExecutionState.STARTED));
+    }
+
+    @Test
+    public void markNextJobsToExecuteByThisInstance__marks_not_more_than_maximum() throws Exception {
+        /* prepare */
+        when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(3);
+
+        /* test */
+        assertEquals(3, result.size());
+        verify(strategy, times(3)).nextJobId();
+    }
+
+    @Test
+    public void markNextJobsToExecuteByThisInstance__conflict_after_first_job_keeps_marked_jobs_and_stops() throws Exception {
+        /* prepare */
+        UUID uuid2 = UUID.randomUUID();
+        UUID uuid3 = UUID.randomUUID();
+        ScheduleSecHubJob secHubJob2 = mock(ScheduleSecHubJob.class);
+        when(strategy.nextJobId()).thenReturn(uuid, uuid2, uuid3);
+        when(jobRepository.getJob(uuid2)).thenReturn(Optional.of(secHubJob2));
+        when(jobRepository.save(secHubJob)).thenReturn(secHubJob);
+        when(jobRepository.save(secHubJob2)).thenThrow(new OptimisticLockingFailureException("marked by other instance"));
+
+        /* execute */
+        List<ScheduleSecHubJob> result = serviceToTest.markNextJobsToExecuteByThisInstance(5);
+
+        /* test */
+        assertEquals(1, result.size());
+        assertTrue(result.contains(secHubJob));
+        verify(strategy, times(2)).nextJobId();
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void markNextJobsToExecuteByThisInstance__conflict_at_first_job_is_thrown() throws Exception {
+        /* prepare */
+        when(jobRepository.save(secHubJob)).thenThrow(new OptimisticLockingFailureException("marked by other instance"));
+
+        /* execute */
+        serviceToTest.markNextJobsToExecuteByThisInstance(5);
+    }
+
 }
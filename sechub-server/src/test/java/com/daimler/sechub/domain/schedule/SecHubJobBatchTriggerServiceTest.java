@@ -1,9 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -24,6 +28,8 @@ public class SecHubJobBatchTriggerServiceTest {
 
     private SystemMonitorService monitoringService;
 
+    private ScheduleRunningJobsCounter runningJobsCounter;
+
 	@Before
 	public void before() throws Exception {
 		serviceToTest = new SchedulerJobBatchTriggerService();
@@ -33,12 +39,14 @@ public class SecHubJobBatchTriggerServiceTest {
 		environmentService = mock(ClusterEnvironmentService.class);
 		configService=mock(SchedulerConfigService.class);
 		monitoringService=mock(SystemMonitorService.class);
+		runningJobsCounter=mock(ScheduleRunningJobsCounter.class);
 		
 		serviceToTest.launcherService=launcherService;
 		serviceToTest.markerService=markerService;
 		serviceToTest.environmentService=environmentService;
 		serviceToTest.configService=configService;
 		serviceToTest.monitorService=monitoringService;
+		serviceToTest.runningJobsCounter=runningJobsCounter;
 
 
 	}
@@ -53,7 +61,7 @@ public class SecHubJobBatchTriggerServiceTest {
 		serviceToTest.triggerExecutionOfNextJob();
 
 		/* test */
-		verify(markerService).markNextJobToExecuteByThisInstance();
+		verify(markerService).markNextJobsToExecuteByThisInstance(1);
 	}
 
 	@Test
@@ -61,7 +69,7 @@ public class SecHubJobBatchTriggerServiceTest {
 			throws Exception {
 		/* prepare */
 		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-		when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+		when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Collections.singletonList(job));
 		when(configService.isJobProcessingEnabled()).thenReturn(false);
 
 		/* execute */
@@ -76,7 +84,7 @@ public class SecHubJobBatchTriggerServiceTest {
 			throws Exception {
 		/* prepare */
 		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-		when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+		when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Collections.singletonList(job));
 		when(configService.isJobProcessingEnabled()).thenReturn(true);
 
 		/* execute */
@@ -91,7 +99,7 @@ public class SecHubJobBatchTriggerServiceTest {
 			throws Exception {
 		/* prepare */
 		when(configService.isJobProcessingEnabled()).thenReturn(true);
-		when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(null);
+		when(markerService.markNextJobsToExecuteByThisInstance(anyInt())).thenReturn(Collections.emptyList());
 
 		/* execute */
 		serviceToTest.triggerExecutionOfNextJob();
@@ -100,4 +108,78 @@ public class SecHubJobBatchTriggerServiceTest {
 		verify(launcherService,never()).executeJob(any());
 	}
 
+	@Test
+	public void when_marker_service_returns_multiple_jobs_launcher_service_is_called_for_all()
+			throws Exception {
+		/* prepare */
+		serviceToTest.maxJobsPerTrigger=2;
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsToExecuteByThisInstance(2)).thenReturn(Arrays.asList(job1, job2));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(launcherService).executeJob(job1);
+		verify(launcherService).executeJob(job2);
+	}
+
+	@Test
+	public void when_launch_of_first_job_fails_second_job_is_still_launched_and_first_marked_as_failed()
+			throws Exception {
+		/* prepare */
+		serviceToTest.maxJobsPerTrigger=2;
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsToExecuteByThisInstance(2)).thenReturn(Arrays.asList(job1, job2));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		doThrow(new ScheduleFailedException(new RuntimeException())).when(launcherService).executeJob(job1);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService).markJobExecutionFailed(job1);
+		verify(launcherService).executeJob(job2);
+	}
+
+	@Test
+	public void when_max_running_jobs_reached_marker_service_is_NOT_called()
+			throws Exception {
+		/* prepare */
+		serviceToTest.maxRunningJobs=3;
+		when(runningJobsCounter.getRunningJobs()).thenReturn(3);
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService,never()).markNextJobsToExecuteByThisInstance(anyInt());
+	}
+
+	@Test
+	public void calculateMaximumJobsToMark_is_limited_by_free_running_slots() {
+		/* prepare */
+		serviceToTest.maxJobsPerTrigger=10;
+		serviceToTest.maxRunningJobs=5;
+		when(runningJobsCounter.getRunningJobs()).thenReturn(2);
+
+		/* execute + test */
+		assertEquals(3, serviceToTest.calculateMaximumJobsToMark());
+	}
+
+	@Test
+	public void calculateMaximumJobsToMark_no_running_limit_returns_max_jobs_per_trigger() {
+		/* prepare */
+		serviceToTest.maxJobsPerTrigger=10;
+		serviceToTest.maxRunningJobs=0;
+		when(runningJobsCounter.getRunningJobs()).thenReturn(200);
+
+		/* execute + test */
+		assertEquals(10, serviceToTest.calculateMaximumJobsToMark());
+	}
+
 }
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.adapter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.adapter.support.SharedHttpClientRegistry;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Configures the {@link SharedHttpClientRegistry} when running inside a spring
+ * application context.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SharedHttpClientRegistrySetup {
+
+    @MustBeDocumented("Maximum amount of pooled http connections for one product endpoint. Connections are shared by all adapter executions for this endpoint.")
+    @Value("${sechub.adapter.http.client.max.connections:" + SharedHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT + "}")
+    int maxConnectionsPerEndpoint = SharedHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT;
+
+    @MustBeDocumented("Pooled http connections to products being idle for this time (in seconds) are evicted.")
+    @Value("${sechub.adapter.http.client.idle.eviction.seconds:" + SharedHttpClientRegistry.DEFAULT_IDLE_CONNECTION_EVICTION_SECONDS + "}")
+    int idleConnectionEvictionSeconds = SharedHttpClientRegistry.DEFAULT_IDLE_CONNECTION_EVICTION_SECONDS;
+
+    @MustBeDocumented("Maximum time (in seconds) an adapter waits for a free pooled http connection. When all connections to a product are in use for a longer time, the call fails.")
+    @Value("${sechub.adapter.http.client.connection.request.timeout.seconds:" + SharedHttpClientRegistry.DEFAULT_CONNECTION_REQUEST_TIMEOUT_SECONDS + "}")
+    int connectionRequestTimeoutSeconds = SharedHttpClientRegistry.DEFAULT_CONNECTION_REQUEST_TIMEOUT_SECONDS;
+
+    @MustBeDocumented("Maximum time (in seconds) an adapter waits for data from a product http connection before the call fails.")
+    @Value("${sechub.adapter.http.client.socket.timeout.seconds:" + SharedHttpClientRegistry.DEFAULT_SOCKET_TIMEOUT_SECONDS + "}")
+    int socketTimeoutSeconds = SharedHttpClientRegistry.DEFAULT_SOCKET_TIMEOUT_SECONDS;
+
+    @PostConstruct
+    void configure() {
+        SharedHttpClientRegistry.getShared().configure(maxConnectionsPerEndpoint, idleConnectionEvictionSeconds, connectionRequestTimeoutSeconds, socketTimeoutSeconds);
+    }
+
+    @PreDestroy
+    void close() {
+        SharedHttpClientRegistry.getShared().closeAll();
+    }
+}
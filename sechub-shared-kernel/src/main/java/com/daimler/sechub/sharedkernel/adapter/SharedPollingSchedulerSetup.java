@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.adapter;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.adapter.support.SharedPollingScheduler;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Configures the {@link SharedPollingScheduler} when running inside a spring
+ * application context.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SharedPollingSchedulerSetup {
+
+    @MustBeDocumented("When enabled, adapters register their status checks as timed tasks on a shared scheduler and resume when the product job has ended, instead of sleeping inside their own thread between two checks.")
+    @Value("${sechub.adapter.polling.scheduled.enabled:" + SharedPollingScheduler.DEFAULT_ENABLED + "}")
+    boolean enabled = SharedPollingScheduler.DEFAULT_ENABLED;
+
+    @MustBeDocumented("Amount of threads used by the shared scheduler to check the status of all running product scans. Every status check is a blocking http call limited by the adapter http client timeouts.")
+    @Value("${sechub.adapter.polling.threads:" + SharedPollingScheduler.DEFAULT_AMOUNT_OF_THREADS + "}")
+    int amountOfThreads = SharedPollingScheduler.DEFAULT_AMOUNT_OF_THREADS;
+
+    @PostConstruct
+    void configure() {
+        SharedPollingScheduler.getShared().configure(enabled, amountOfThreads);
+    }
+}
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.execution;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -27,11 +28,12 @@ public class SecHubExecutionContext {
     private SecHubConfiguration configuration;
     private UUIDTraceLogID traceLogId;
     private String executedBy;
-    private Map<String, Object> dataMap = new HashMap<>();
+    /* synchronized + volatile: context can be used by multiple threads when products are executed in parallel */
+    private Map<String, Object> dataMap = Collections.synchronizedMap(new HashMap<>());
 
-    private boolean abandonded;
+    private volatile boolean abandonded;
 
-    private boolean canceled;
+    private volatile boolean canceled;
 
     public SecHubExecutionContext(UUID sechubJobUUID, SecHubConfiguration configuration, String executedBy) {
         this.sechubJobUUID = sechubJobUUID;
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+/**
+ * Statistic data about asynchronous message handling for one message id on
+ * this cluster member.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AsynchronMessageExecutionStatistic {
+
+    public static final String PROPERTY_MESSAGE_ID = "messageId";
+    public static final String PROPERTY_POOL_SIZE = "poolSize";
+    public static final String PROPERTY_ACTIVE_THREADS = "activeThreads";
+    public static final String PROPERTY_QUEUE_SIZE = "queueSize";
+    public static final String PROPERTY_EXECUTED = "executed";
+    public static final String PROPERTY_REJECTED = "rejected";
+    public static final String PROPERTY_AVERAGE_WAIT_MILLIS = "averageWaitMillis";
+    public static final String PROPERTY_MAX_WAIT_MILLIS = "maxWaitMillis";
+    public static final String PROPERTY_AVERAGE_EXECUTION_MILLIS = "averageExecutionMillis";
+    public static final String PROPERTY_MAX_EXECUTION_MILLIS = "maxExecutionMillis";
+
+    private String messageId;
+    private int poolSize;
+    private int activeThreads;
+    private int queueSize;
+    private long executed;
+    private long rejected;
+    private long averageWaitMillis;
+    private long maxWaitMillis;
+    private long averageExecutionMillis;
+    private long maxExecutionMillis;
+
+    public String getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(String messageId) {
+        this.messageId = messageId;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    public void setActiveThreads(int activeThreads) {
+        this.activeThreads = activeThreads;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getExecuted() {
+        return executed;
+    }
+
+    public void setExecuted(long executed) {
+        this.executed = executed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    public void setAverageWaitMillis(long averageWaitMillis) {
+        this.averageWaitMillis = averageWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getAverageExecutionMillis() {
+        return averageExecutionMillis;
+    }
+
+    public void setAverageExecutionMillis(long averageExecutionMillis) {
+        this.averageExecutionMillis = averageExecutionMillis;
+    }
+
+    public long getMaxExecutionMillis() {
+        return maxExecutionMillis;
+    }
+
+    public void setMaxExecutionMillis(long maxExecutionMillis) {
+        this.maxExecutionMillis = maxExecutionMillis;
+    }
+
+}
@@ -0,0 +1,256 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Bounded executors for asynchronous domain messages - one executor per
+ * {@link MessageID}. So a slow handler for one message type cannot starve
+ * handlers of other message types. For every message ID the queue length, the
+ * wait time inside the queue and the handler execution time are measured.
+ * <br>
+ * <br>
+ * Disabled by default - then the shared task executor is used for all
+ * messages, as before.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class AsynchronMessageExecutors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsynchronMessageExecutors.class);
+
+    static final String STRATEGY_CALLER_RUNS = "caller-runs";
+    static final String STRATEGY_DISCARD = "discard";
+
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    @MustBeDocumented("When enabled, asynchronous domain messages are handled by one bounded executor per message id. When disabled (default), one shared task executor is used for all messages.")
+    @Value("${sechub.config.messaging.async.executors.enabled:" + DEFAULT_ENABLED + "}")
+    boolean enabled = DEFAULT_ENABLED;
+
+    @MustBeDocumented("Maximum amount of threads handling asynchronous domain messages of same message id.")
+    @Value("${sechub.config.messaging.async.pool.size:" + DEFAULT_POOL_SIZE + "}")
+    int poolSize = DEFAULT_POOL_SIZE;
+
+    @MustBeDocumented("Special pool sizes for dedicated message ids, comma separated - e.g. `JOB_DONE=4,JOB_FAILED=4`. Message ids not defined here use `sechub.config.messaging.async.pool.size`.")
+    @Value("${sechub.config.messaging.async.pool.size.special:}")
+    String specialPoolSizes;
+
+    @MustBeDocumented("Maximum amount of asynchronous messages waiting for execution - per message id.")
+    @Value("${sechub.config.messaging.async.queue.capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+    int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    @MustBeDocumented("Strategy when the queue for a message id is full. `" + STRATEGY_CALLER_RUNS + "` (default) lets the sender thread handle the message, so senders are slowed down. `"
+            + STRATEGY_DISCARD + "` drops the message and writes an error log entry.")
+    @Value("${sechub.config.messaging.async.queue.full.strategy:" + STRATEGY_CALLER_RUNS + "}")
+    String queueFullStrategy = STRATEGY_CALLER_RUNS;
+
+    private Map<MessageID, Integer> poolSizes = new EnumMap<>(MessageID.class);
+    private Map<MessageID, MessageExecutor> executors = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    protected void postConstruct() {
+        poolSizes = parseSpecialPoolSizes(specialPoolSizes);
+        LOG.info("Asynchronous message executors enabled:{}, pool size:{}, special pool sizes:{}, queue capacity:{}, queue full strategy:{}", enabled, poolSize,
+                poolSizes, queueCapacity, queueFullStrategy);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        for (MessageExecutor executor : executors.values()) {
+            executor.threadPool.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Executes given task by executor for given message id
+     *
+     * @param messageId message id
+     * @param task      task to execute
+     */
+    public void execute(MessageID messageId, Runnable task) {
+        MessageExecutor executor = executors.computeIfAbsent(messageId, this::createExecutor);
+        MeasuredTask measuredTask = new MeasuredTask(executor, task);
+        try {
+            executor.threadPool.execute(measuredTask);
+        } catch (RejectedExecutionException e) {
+            executor.rejected.increment();
+            if (executor.threadPool.isShutdown()) {
+                LOG.warn("Executor for message:{} is shut down, so message is not handled", messageId);
+                return;
+            }
+            if (STRATEGY_DISCARD.equalsIgnoreCase(queueFullStrategy)) {
+                LOG.error("Queue for message:{} is full (capacity:{}), so message is discarded!", messageId, queueCapacity);
+                return;
+            }
+            LOG.warn("Queue for message:{} is full (capacity:{}), so message is handled by caller thread", messageId, queueCapacity);
+            measuredTask.run();
+        }
+    }
+
+    /**
+     * @return statistic data for all message ids already sent asynchronous
+     */
+    public List<AsynchronMessageExecutionStatistic> createStatistics() {
+        List<AsynchronMessageExecutionStatistic> result = new ArrayList<>();
+        for (MessageID messageId : MessageID.values()) {
+            MessageExecutor executor = executors.get(messageId);
+            if (executor == null) {
+                continue;
+            }
+            result.add(executor.createStatistic(messageId));
+        }
+        return result;
+    }
+
+    private MessageExecutor createExecutor(MessageID messageId) {
+        int size = Math.max(1, poolSizes.getOrDefault(messageId, poolSize));
+        int capacity = Math.max(1, queueCapacity);
+
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity),
+                new MessageThreadFactory(messageId));
+        /* unused message ids shall not keep threads */
+        threadPool.allowCoreThreadTimeOut(true);
+
+        LOG.debug("Created executor for message:{} with pool size:{}, queue capacity:{}", messageId, size, capacity);
+        return new MessageExecutor(threadPool);
+    }
+
+    Map<MessageID, Integer> parseSpecialPoolSizes(String definition) {
+        Map<MessageID, Integer> result = new EnumMap<>(MessageID.class);
+        if (definition == null) {
+            return result;
+        }
+        for (String entry : definition.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] keyValue = trimmed.split("=");
+            if (keyValue.length != 2) {
+                LOG.warn("Ignore invalid special pool size definition:{}", trimmed);
+                continue;
+            }
+            try {
+                MessageID messageId = MessageID.valueOf(keyValue[0].trim());
+                result.put(messageId, Integer.valueOf(keyValue[1].trim()));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Ignore invalid special pool size definition:{}", trimmed);
+            }
+        }
+        return result;
+    }
+
+    private static class MessageExecutor {
+
+        private final ThreadPoolExecutor threadPool;
+
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder waitMillisTotal = new LongAdder();
+        private final LongAdder executionMillisTotal = new LongAdder();
+        private final AtomicLong waitMillisMax = new AtomicLong();
+        private final AtomicLong executionMillisMax = new AtomicLong();
+
+        private MessageExecutor(ThreadPoolExecutor threadPool) {
+            this.threadPool = threadPool;
+        }
+
+        private void record(long waitMillis, long executionMillis) {
+            executed.increment();
+            waitMillisTotal.add(waitMillis);
+            executionMillisTotal.add(executionMillis);
+            waitMillisMax.accumulateAndGet(waitMillis, Math::max);
+            executionMillisMax.accumulateAndGet(executionMillis, Math::max);
+        }
+
+        private AsynchronMessageExecutionStatistic createStatistic(MessageID messageId) {
+            AsynchronMessageExecutionStatistic statistic = new AsynchronMessageExecutionStatistic();
+            statistic.setMessageId(messageId.name());
+            statistic.setPoolSize(threadPool.getMaximumPoolSize());
+            statistic.setActiveThreads(threadPool.getActiveCount());
+            statistic.setQueueSize(threadPool.getQueue().size());
+
+            long executedCount = executed.sum();
+            statistic.setExecuted(executedCount);
+            statistic.setRejected(rejected.sum());
+            statistic.setMaxWaitMillis(waitMillisMax.get());
+            statistic.setMaxExecutionMillis(executionMillisMax.get());
+            if (executedCount > 0) {
+                statistic.setAverageWaitMillis(waitMillisTotal.sum() / executedCount);
+                statistic.setAverageExecutionMillis(executionMillisTotal.sum() / executedCount);
+            }
+            return statistic;
+        }
+    }
+
+    private static class MeasuredTask implements Runnable {
+
+        private final MessageExecutor executor;
+        private final Runnable task;
+        private final long created;
+
+        private MeasuredTask(MessageExecutor executor, Runnable task) {
+            this.executor = executor;
+            this.task = task;
+            this.created = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            long started = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long ended = System.nanoTime();
+                executor.record(TimeUnit.NANOSECONDS.toMillis(started - created), TimeUnit.NANOSECONDS.toMillis(ended - started));
+            }
+        }
+    }
+
+    private static class MessageThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private MessageThreadFactory(MessageID messageId) {
+            this.prefix = "async-message-" + messageId.name().toLowerCase() + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, prefix + count.incrementAndGet());
+        }
+    }
+}
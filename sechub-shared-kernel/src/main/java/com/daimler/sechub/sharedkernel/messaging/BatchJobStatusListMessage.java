@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.daimler.sechub.commons.model.JSONable;
+import com.daimler.sechub.sharedkernel.MustBeKeptStable;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * This message data object contains a list of spring batch job information.
+ * Used to request (and return) status of multiple batch jobs in one step.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@JsonIgnoreProperties(ignoreUnknown = true) // we do ignore to avoid problems from wrong configured values!
+@MustBeKeptStable("This configuration is used by communication between (api) schedule domain and scan domain - and maybe others")
+public class BatchJobStatusListMessage implements JSONable<BatchJobStatusListMessage> {
+
+    private List<BatchJobMessage> batchJobs = new ArrayList<>();
+
+    @Override
+    public Class<BatchJobStatusListMessage> getJSONTargetClass() {
+        return BatchJobStatusListMessage.class;
+    }
+
+    public List<BatchJobMessage> getBatchJobs() {
+        return batchJobs;
+    }
+
+    public void setBatchJobs(List<BatchJobMessage> batchJobs) {
+        this.batchJobs = batchJobs;
+    }
+
+}
@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import com.daimler.sechub.commons.model.JSONConverterException;
+import com.daimler.sechub.commons.model.SecHubRuntimeException;
+
+public class BatchJobStatusListMessageDataProvider implements MessageDataProvider<BatchJobStatusListMessage>{
+
+	private static final BatchJobStatusListMessage OBJECT = new BatchJobStatusListMessage();
+
+	@Override
+	public BatchJobStatusListMessage get(String data) {
+		if (data==null) {
+			return null;
+		}
+		try {
+			return OBJECT.fromJSON(data);
+		} catch (JSONConverterException e) {
+			throw new SecHubRuntimeException("Cannot convert", e);
+		}
+
+	}
+
+	@Override
+	public String getString(BatchJobStatusListMessage message) {
+		if (message==null) {
+			return null;
+		}
+		try {
+			return message.toJSON();
+		} catch (JSONConverterException e) {
+			throw new SecHubRuntimeException("Cannot convert", e);
+		}
+	}
+
+
+}
@@ -4,14 +4,27 @@ package com.daimler.sechub.sharedkernel.messaging;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Base class for domain messages and results. Values are kept as typed objects
+ * inside the JVM - so no serialization is done when messages are sent between
+ * domains of same process. A string representation (created by
+ * {@link MessageDataProvider}) is only created on demand - e.g. for event
+ * inspection or logging - and is cached afterwards.<br>
+ * <br>
+ * Remark: Because receivers get the same instances as the sender, values must
+ * not be changed after they have been set.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 public abstract class DomainMessagePart {
 
 	private MessageID id;
-	protected Map<String, String> parameters;
+	private Map<String, TypedValue<?>> values;
 
 	DomainMessagePart(MessageID id) {
 		this.id=id;
-		this.parameters=new HashMap<>();
+		this.values=new HashMap<>();
 	}
 
 	public boolean hasID(MessageID messageId) {
@@ -20,45 +33,101 @@ public abstract class DomainMessagePart {
 		}
 		return messageId.equals(id);
 	}
-	
+
 	public MessageID getMessageId() {
 		return id;
 	}
-	
+
 	/**
 	 * Get parameter value by given key
-	 * 
+	 *
 	 * @param key
 	 * @return value or <code>null</code>
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T get(MessageDataKey<T> key) {
 		assertKeyNotNull(key);
-		String data = parameters.get(key.getId());
-		return key.getProvider().get(data);
+		TypedValue<?> value;
+		synchronized (values) {
+			value = values.get(key.getId());
+		}
+		if (value == null) {
+			return key.getProvider().get(null);
+		}
+		return (T) value.content;
 	}
 
 
 	@Override
 	public String toString() {
-		return getClass().getSimpleName()+" [id=" + id + ", parameters=" + parameters + "]";
+		return getClass().getSimpleName()+" [id=" + id + ", parameters=" + getParametersAsStrings() + "]";
 	}
-	
+
 	public <T> void set(MessageDataKey<T> key, T content) {
-		if (key==null) {
-			throw new IllegalArgumentException("key may not be null!");
+		assertKeyNotNull(key);
+		synchronized (values) {
+			values.put(key.getId(), new TypedValue<>(key.getProvider(), content));
 		}
-		String contentAsString = key.getProvider().getString(content);
-		parameters.put(key.getId(), contentAsString);
 	}
 
+	/**
+	 * Resolves string representation for given key - conversion is only done on
+	 * first call.
+	 *
+	 * @param key
+	 * @return string representation or <code>null</code>
+	 */
 	String getRaw(String key) {
-		return parameters.get(key);
+		TypedValue<?> value;
+		synchronized (values) {
+			value = values.get(key);
+		}
+		if (value == null) {
+			return null;
+		}
+		return value.getString();
 	}
-	
+
+	/**
+	 * @return a new map containing string representations of all parameters
+	 */
+	Map<String, String> getParametersAsStrings() {
+		Map<String, TypedValue<?>> copy;
+		synchronized (values) {
+			copy = new HashMap<>(values);
+		}
+		Map<String, String> result = new HashMap<>();
+		for (Map.Entry<String, TypedValue<?>> entry : copy.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().getString());
+		}
+		return result;
+	}
+
 	private <T> void assertKeyNotNull(MessageDataKey<T> key) {
 		if (key==null) {
 			throw new IllegalArgumentException("key may not be null!");
 		}
 	}
 
+	private static class TypedValue<T> {
+
+		private final MessageDataProvider<T> provider;
+		private final T content;
+		private volatile String contentAsString;
+		private volatile boolean converted;
+
+		private TypedValue(MessageDataProvider<T> provider, T content) {
+			this.provider = provider;
+			this.content = content;
+		}
+
+		private String getString() {
+			if (!converted) {
+				contentAsString = provider.getString(content);
+				converted = true;
+			}
+			return contentAsString;
+		}
+	}
+
 }
@@ -30,6 +30,9 @@ public class DomainMessageService {
     @Autowired
     protected EventInspector eventInspector;
 
+    @Autowired
+    protected AsynchronMessageExecutors asynchronExecutors;
+
     Map<MessageID, SynchronMessageHandler> synchronHandlers = new EnumMap<>(MessageID.class);
     Map<MessageID, List<AsynchronMessageHandler>> asynchronHandlers = new EnumMap<>(MessageID.class);
 
@@ -169,7 +172,12 @@ public class DomainMessageService {
         }
 
         for (AsynchronMessageHandler handler : handlersForThisMessageId) {
-            taskExecutor.execute(new AsynchronMessageHandlerTaskAdapter(handler, inspectionId, request));
+            AsynchronMessageHandlerTaskAdapter task = new AsynchronMessageHandlerTaskAdapter(handler, inspectionId, request);
+            if (asynchronExecutors.isEnabled()) {
+                asynchronExecutors.execute(messageID, task);
+            } else {
+                taskExecutor.execute(task);
+            }
         }
 
     }
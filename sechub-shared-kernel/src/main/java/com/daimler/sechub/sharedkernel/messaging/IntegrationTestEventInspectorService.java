@@ -99,8 +99,8 @@ public class IntegrationTestEventInspectorService implements EventInspector {
         debug.setSenderThread(Thread.currentThread().getName());
 
         Map<String, String> messageData = debug.getMessageData();
-        if (messageData != null && request.parameters != null) {
-            messageData.putAll(request.parameters);
+        if (messageData != null) {
+            messageData.putAll(request.getParametersAsStrings());
         }
     }
 
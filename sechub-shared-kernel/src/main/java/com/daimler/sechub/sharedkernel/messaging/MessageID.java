@@ -136,6 +136,11 @@ public enum MessageID {
     REQUEST_BATCH_JOB_STATUS(MessageDataKeys.BATCH_JOB_STATUS),
     
     BATCH_JOB_STATUS(MessageDataKeys.BATCH_JOB_STATUS), 
+
+    /* Request status of multiple batch jobs in one step */
+    REQUEST_BATCH_JOB_STATUS_LIST(MessageDataKeys.BATCH_JOB_STATUS_LIST),
+
+    BATCH_JOB_STATUS_LIST(MessageDataKeys.BATCH_JOB_STATUS_LIST),
     
     /**
      * Informs that a scheduler has been started
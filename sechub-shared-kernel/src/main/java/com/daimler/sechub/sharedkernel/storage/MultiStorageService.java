@@ -68,4 +68,31 @@ public class MultiStorageService implements StorageService {
 		return jobStorageFactory.createJobStorage(SecHubStorageUtil.createStoragePath(projectId), jobUUID);
 	}
 
+	/**
+	 * Resolves storage for product results of given job. Other than job storage,
+	 * the result storage is NOT deleted after job execution, so results can be
+	 * fetched later - e.g. on report creation. Content must be removed explicit
+	 * when results are deleted.
+	 * 
+	 * @param projectId
+	 * @param jobUUID
+	 * @return result storage for job
+	 */
+	public JobStorage getResultStorage(String projectId, UUID jobUUID) {
+		return jobStorageFactory.createJobStorage(SecHubStorageUtil.createResultStoragePath(projectId), jobUUID);
+	}
+
+	/**
+	 * Resolves storage for reports of given job. Same as
+	 * {@link #getResultStorage(String, UUID)} but separated, so product results
+	 * and reports can be deleted independently.
+	 * 
+	 * @param projectId
+	 * @param jobUUID
+	 * @return report storage for job
+	 */
+	public JobStorage getReportStorage(String projectId, UUID jobUUID) {
+		return jobStorageFactory.createJobStorage(SecHubStorageUtil.createReportStoragePath(projectId), jobUUID);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.usecases.admin.status;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseDefinition;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseGroup;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseIdentifier;
+
+/* @formatter:off */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@UseCaseDefinition(
+		id=UseCaseIdentifier.UC_ADMIN_FETCHES_MESSAGING_STATISTICS,
+		group=UseCaseGroup.OTHER,
+		title="Admin fetches messaging statistics",
+		description="An administrator fetches statistics about asynchronous domain message handling of the cluster member answering the request - e.g. queue size, wait time and execution time per message id.")
+public @interface UseCaseAdministratorFetchesMessagingStatistics {
+
+	Step value();
+}
+/* @formatter:on */
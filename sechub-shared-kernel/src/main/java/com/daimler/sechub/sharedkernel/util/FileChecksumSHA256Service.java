@@ -33,13 +33,7 @@ public class FileChecksumSHA256Service {
 	 */
 	public String createChecksum(String filepath){
 		notNull(filepath, "filepath may not be null");
-		MessageDigest md;
-		String algorithm = "SHA-256";
-		 try {
-			md = MessageDigest.getInstance(algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalStateException("Algorithm not supported:"+algorithm);
-		}
+		MessageDigest md = createSHA256MessageDigest();
         // file hashing with DigestInputStream
         try (DigestInputStream dis = new DigestInputStream(new FileInputStream(filepath), md)) {
             while (dis.read() != -1) ; //empty loop to clear the data
@@ -47,14 +41,36 @@ public class FileChecksumSHA256Service {
         }catch(IOException e) {
         	return null;
         }
-
-        // bytes to hex
-        StringBuilder result = new StringBuilder();
-        for (byte b : md.digest()) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
+        return convertToHexString(md.digest());
 
     }
 
+	/**
+	 * Creates a new message digest for SHA256 - can be used to calculate checksums
+	 * for streamed data, see {@link #convertToHexString(byte[])}
+	 * 
+	 * @return message digest, never <code>null</code>
+	 */
+	public MessageDigest createSHA256MessageDigest() {
+		String algorithm = "SHA-256";
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Algorithm not supported:"+algorithm);
+		}
+	}
+
+	/**
+	 * Converts given digest bytes to checksum string
+	 * @param digest
+	 * @return checksum as lower cased hex string
+	 */
+	public String convertToHexString(byte[] digest) {
+		StringBuilder result = new StringBuilder();
+		for (byte b : digest) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
 }
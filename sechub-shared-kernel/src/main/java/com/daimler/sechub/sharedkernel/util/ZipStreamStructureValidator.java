@@ -0,0 +1,233 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import java.util.Arrays;
+
+/**
+ * Validates the structure of a ZIP file while its content is streamed through
+ * - so no temporary file or second read is necessary. Only the first bytes, the
+ * last bytes (which contain the end of central directory record) and the
+ * positions and lengths of central directory records are kept inside
+ * memory.<br>
+ * <br>
+ * A ZIP structure is treated as valid when
+ * <ul>
+ * <li>content starts with a local file header (or end of central directory for
+ * an empty ZIP)</li>
+ * <li>a complete end of central directory record exists at the end</li>
+ * <li>the central directory referenced there (offset and size) ends exactly
+ * where the end of central directory record starts</li>
+ * <li>the central directory consists of exactly the announced amount of
+ * records, seen at the announced offset while streaming</li>
+ * <li>at least as many local file headers as announced entries were
+ * streamed</li>
+ * </ul>
+ * ZIP64 archives (marker values inside end of central directory record) are
+ * only checked for signatures - the real values are inside ZIP64 records.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ZipStreamStructureValidator {
+
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_MIN_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+    private static final int ZIP64_ENTRIES_MARKER = 0xFFFF;
+
+    /* central directory header: fixed part and position of name, extra and comment length fields */
+    private static final int CENTRAL_DIRECTORY_HEADER_FIXED_LENGTH = 46;
+    private static final int CENTRAL_DIRECTORY_HEADER_LENGTH_FIELDS_START = 28;
+    private static final int CENTRAL_DIRECTORY_HEADER_LENGTH_FIELDS_END = 34;
+
+    static final int MAX_TAIL_LENGTH = END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + MAX_COMMENT_LENGTH;
+    static final int MAX_CENTRAL_DIRECTORY_RECORDS = 1000000;
+
+    private byte[] head = new byte[4];
+    private byte[] tail = new byte[MAX_TAIL_LENGTH];
+    private int tailPos;
+    private long length;
+
+    /* last 4 bytes read, little endian - used to detect signatures */
+    private int lastFourBytes;
+    private long localFileHeaderCount;
+
+    /* central directory record candidates in stream order */
+    private long[] centralDirectoryPositions = new long[16];
+    private int[] centralDirectoryVariableLengths = new int[16];
+    private int centralDirectoryCount;
+    private int firstPendingCentralDirectory;
+    private boolean tooManyCentralDirectoryRecords;
+
+    public void update(int b) {
+        if (length < head.length) {
+            head[(int) length] = (byte) b;
+        }
+        tail[tailPos] = (byte) b;
+        tailPos = (tailPos + 1) % tail.length;
+        inspect((byte) b);
+    }
+
+    public void update(byte[] bytes, int offset, int len) {
+        for (int i = 0; i < len && length + i < head.length; i++) {
+            head[(int) length + i] = bytes[offset + i];
+        }
+        if (len >= tail.length) {
+            System.arraycopy(bytes, offset + len - tail.length, tail, 0, tail.length);
+            tailPos = 0;
+        } else {
+            int firstPart = Math.min(len, tail.length - tailPos);
+            System.arraycopy(bytes, offset, tail, tailPos, firstPart);
+            System.arraycopy(bytes, offset + firstPart, tail, 0, len - firstPart);
+            tailPos = (tailPos + len) % tail.length;
+        }
+        for (int i = 0; i < len; i++) {
+            inspect(bytes[offset + i]);
+        }
+    }
+
+    /**
+     * @return amount of bytes validated
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Validates structure - must be called after all content has been given to
+     * this validator.
+     *
+     * @return <code>true</code> when content has a valid ZIP structure
+     */
+    public boolean isValidZipStructure() {
+        if (length < END_OF_CENTRAL_DIRECTORY_MIN_LENGTH || tooManyCentralDirectoryRecords) {
+            return false;
+        }
+        int headSignature = readInt(head, 0);
+        if (headSignature != LOCAL_FILE_HEADER_SIGNATURE && headSignature != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            return false;
+        }
+        byte[] lastBytes = createLastBytes();
+        int lastPossiblePosition = lastBytes.length - END_OF_CENTRAL_DIRECTORY_MIN_LENGTH;
+        for (int pos = lastPossiblePosition; pos >= 0; pos--) {
+            if (readInt(lastBytes, pos) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                continue;
+            }
+            int commentLength = readShort(lastBytes, pos + 20);
+            if (pos + END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + commentLength != lastBytes.length) {
+                /* signature bytes inside other data - search on */
+                continue;
+            }
+            return isCentralDirectoryValid(lastBytes, pos);
+        }
+        return false;
+    }
+
+    private void inspect(byte b) {
+        /* length fields of central directory records not complete yet */
+        for (int i = firstPendingCentralDirectory; i < centralDirectoryCount; i++) {
+            long relativePos = length - centralDirectoryPositions[i];
+            if (relativePos >= CENTRAL_DIRECTORY_HEADER_LENGTH_FIELDS_START && relativePos < CENTRAL_DIRECTORY_HEADER_LENGTH_FIELDS_END) {
+                /* name, extra and comment length - all little endian shorts */
+                int shift = (relativePos % 2 == 0) ? 0 : 8;
+                centralDirectoryVariableLengths[i] += (b & 0xFF) << shift;
+            }
+        }
+        while (firstPendingCentralDirectory < centralDirectoryCount
+                && length - centralDirectoryPositions[firstPendingCentralDirectory] >= CENTRAL_DIRECTORY_HEADER_LENGTH_FIELDS_END - 1) {
+            firstPendingCentralDirectory++;
+        }
+
+        lastFourBytes = (lastFourBytes >>> 8) | ((b & 0xFF) << 24);
+        if (length >= 3) {
+            if (lastFourBytes == LOCAL_FILE_HEADER_SIGNATURE) {
+                localFileHeaderCount++;
+            } else if (lastFourBytes == CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                addCentralDirectoryCandidate(length - 3);
+            }
+        }
+        length++;
+    }
+
+    private void addCentralDirectoryCandidate(long position) {
+        if (centralDirectoryCount >= MAX_CENTRAL_DIRECTORY_RECORDS) {
+            tooManyCentralDirectoryRecords = true;
+            return;
+        }
+        if (centralDirectoryCount == centralDirectoryPositions.length) {
+            int newLength = Math.min(MAX_CENTRAL_DIRECTORY_RECORDS, centralDirectoryCount * 2);
+            centralDirectoryPositions = Arrays.copyOf(centralDirectoryPositions, newLength);
+            centralDirectoryVariableLengths = Arrays.copyOf(centralDirectoryVariableLengths, newLength);
+        }
+        centralDirectoryPositions[centralDirectoryCount] = position;
+        centralDirectoryVariableLengths[centralDirectoryCount] = 0;
+        centralDirectoryCount++;
+    }
+
+    private boolean isCentralDirectoryValid(byte[] lastBytes, int endOfCentralDirectoryPos) {
+        int diskNumber = readShort(lastBytes, endOfCentralDirectoryPos + 4);
+        int centralDirectoryDisk = readShort(lastBytes, endOfCentralDirectoryPos + 6);
+        int entriesOnDisk = readShort(lastBytes, endOfCentralDirectoryPos + 8);
+        int totalEntries = readShort(lastBytes, endOfCentralDirectoryPos + 10);
+        long centralDirectorySize = readInt(lastBytes, endOfCentralDirectoryPos + 12) & ZIP64_MARKER;
+        long centralDirectoryOffset = readInt(lastBytes, endOfCentralDirectoryPos + 16) & ZIP64_MARKER;
+
+        if (centralDirectorySize == ZIP64_MARKER || centralDirectoryOffset == ZIP64_MARKER || totalEntries == ZIP64_ENTRIES_MARKER) {
+            /* ZIP64 - real values are inside ZIP64 records, we accept */
+            return true;
+        }
+        if (diskNumber != 0 || centralDirectoryDisk != 0 || entriesOnDisk != totalEntries) {
+            /* multi disk archives are not supported */
+            return false;
+        }
+        if (totalEntries > localFileHeaderCount) {
+            return false;
+        }
+        long endOfCentralDirectoryOffset = length - lastBytes.length + endOfCentralDirectoryPos;
+        if (centralDirectoryOffset + centralDirectorySize != endOfCentralDirectoryOffset) {
+            /* truncated or central directory not at announced location */
+            return false;
+        }
+        return isCentralDirectoryWalkable(centralDirectoryOffset, endOfCentralDirectoryOffset, totalEntries);
+    }
+
+    private boolean isCentralDirectoryWalkable(long centralDirectoryOffset, long centralDirectoryEnd, int totalEntries) {
+        long pos = centralDirectoryOffset;
+        int index = Arrays.binarySearch(centralDirectoryPositions, 0, centralDirectoryCount, pos);
+        for (int entry = 0; entry < totalEntries; entry++) {
+            while (index >= 0 && index < centralDirectoryCount && centralDirectoryPositions[index] < pos) {
+                index++;
+            }
+            if (index < 0 || index >= centralDirectoryCount || centralDirectoryPositions[index] != pos) {
+                /* no central directory record seen at expected position */
+                return false;
+            }
+            pos += CENTRAL_DIRECTORY_HEADER_FIXED_LENGTH + centralDirectoryVariableLengths[index];
+            if (pos > centralDirectoryEnd) {
+                return false;
+            }
+        }
+        return pos == centralDirectoryEnd;
+    }
+
+    private byte[] createLastBytes() {
+        int size = (int) Math.min(length, tail.length);
+        byte[] result = new byte[size];
+        int start = (tailPos - size + tail.length) % tail.length;
+        for (int i = 0; i < size; i++) {
+            result[i] = tail[(start + i) % tail.length];
+        }
+        return result;
+    }
+
+    private int readShort(byte[] bytes, int pos) {
+        return (bytes[pos] & 0xFF) | ((bytes[pos + 1] & 0xFF) << 8);
+    }
+
+    private int readInt(byte[] bytes, int pos) {
+        return readShort(bytes, pos) | (readShort(bytes, pos + 2) << 16);
+    }
+}
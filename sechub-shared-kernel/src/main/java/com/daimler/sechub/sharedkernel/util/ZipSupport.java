@@ -18,4 +18,14 @@ public class ZipSupport {
 		}
 	}
 
+	/**
+	 * Creates a validator for ZIP structure of streamed content - useful when
+	 * content shall be validated without creating a temporary file.
+	 * 
+	 * @return new validator, never <code>null</code>
+	 */
+	public ZipStreamStructureValidator createStreamStructureValidator() {
+		return new ZipStreamStructureValidator();
+	}
+
 }
@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsynchronMessageExecutorsTest {
+
+    private AsynchronMessageExecutors executorsToTest;
+
+    @Before
+    public void before() throws Exception {
+        executorsToTest = new AsynchronMessageExecutors();
+        executorsToTest.poolSize = 1;
+        executorsToTest.queueCapacity = 1;
+        executorsToTest.postConstruct();
+    }
+
+    @After
+    public void after() throws Exception {
+        executorsToTest.shutdown();
+    }
+
+    @Test
+    public void special_pool_sizes_are_parsed_and_invalid_entries_ignored() {
+        /* execute */
+        Map<MessageID, Integer> result = executorsToTest.parseSpecialPoolSizes("JOB_DONE=4, JOB_FAILED = 3,UNKNOWN_ID=2,illegal,JOB_STARTED=x");
+
+        /* test */
+        assertEquals(2, result.size());
+        assertEquals(Integer.valueOf(4), result.get(MessageID.JOB_DONE));
+        assertEquals(Integer.valueOf(3), result.get(MessageID.JOB_FAILED));
+    }
+
+    @Test
+    public void statistics_contain_only_message_ids_already_executed() throws Exception {
+        /* prepare */
+        CountDownLatch latch = new CountDownLatch(1);
+
+        /* execute */
+        executorsToTest.execute(MessageID.JOB_DONE, latch::countDown);
+
+        /* test */
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        List<AsynchronMessageExecutionStatistic> statistics = waitForExecuted(1);
+        assertEquals(1, statistics.size());
+        assertEquals(MessageID.JOB_DONE.name(), statistics.get(0).getMessageId());
+        assertEquals(1, statistics.get(0).getPoolSize());
+    }
+
+    @Test
+    public void full_queue_with_caller_runs_strategy_executes_task_in_caller_thread() throws Exception {
+        /* prepare */
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executorsToTest.execute(MessageID.JOB_DONE, () -> {
+            started.countDown();
+            await(blocker);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executorsToTest.execute(MessageID.JOB_DONE, () -> {
+        }); // fills queue
+        Thread callerThread = Thread.currentThread();
+        AtomicInteger calledInCallerThread = new AtomicInteger();
+
+        /* execute */
+        executorsToTest.execute(MessageID.JOB_DONE, () -> {
+            if (Thread.currentThread() == callerThread) {
+                calledInCallerThread.incrementAndGet();
+            }
+        });
+
+        /* test */
+        blocker.countDown();
+        assertEquals(1, calledInCallerThread.get());
+        List<AsynchronMessageExecutionStatistic> statistics = waitForExecuted(3);
+        assertEquals(1, statistics.get(0).getRejected());
+    }
+
+    @Test
+    public void full_queue_with_discard_strategy_does_not_execute_task() throws Exception {
+        /* prepare */
+        executorsToTest.queueFullStrategy = AsynchronMessageExecutors.STRATEGY_DISCARD;
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executorsToTest.execute(MessageID.JOB_DONE, () -> {
+            started.countDown();
+            await(blocker);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executorsToTest.execute(MessageID.JOB_DONE, () -> {
+        }); // fills queue
+        AtomicInteger called = new AtomicInteger();
+
+        /* execute */
+        executorsToTest.execute(MessageID.JOB_DONE, called::incrementAndGet);
+
+        /* test */
+        blocker.countDown();
+        List<AsynchronMessageExecutionStatistic> statistics = waitForExecuted(2);
+        assertEquals(0, called.get());
+        assertEquals(1, statistics.get(0).getRejected());
+    }
+
+    private List<AsynchronMessageExecutionStatistic> waitForExecuted(long expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<AsynchronMessageExecutionStatistic> statistics = executorsToTest.createStatistics();
+            if (!statistics.isEmpty() && statistics.get(0).getExecuted() >= expected) {
+                return statistics;
+            }
+            Thread.sleep(50);
+        }
+        fail("Did not reach expected executions:" + expected);
+        return null;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class DomainMessageServiceTest {
 		
 		DomainMessageService service = new DomainMessageService(injectedSynchronousHandlers, injectedAsynchronousHandlers );
 		service.eventInspector=new DummyEventInspector();
+		service.asynchronExecutors=new AsynchronMessageExecutors();
 
 		DomainMessage request = new DomainMessage(MessageID.USER_REMOVED_FROM_PROJECT);
 		
@@ -47,36 +47,49 @@ public class DomainResponseTest {
 	}
 
 	@Test
-	public void response_contains_data_transfered_from_provider_to_string_and_back_again() {
-		when(mockedProvider.getString("v1")).thenReturn("xv1");
-		when(mockedProvider.get("xv1")).thenReturn("version-from-provider1");
-		when(mockedProvider.getString("v2")).thenReturn("xv2");
-		when(mockedProvider.get("xv2")).thenReturn("version-from-provider2");
+	public void response_contains_typed_data_without_provider_conversion() {
 		/* prepare */
+		DomainMessageSynchronousResult domainResponse = new DomainMessageSynchronousResult(null);
 
 		/* execute + test */
-		DomainMessageSynchronousResult domainResponse = new DomainMessageSynchronousResult(null);
 		domainResponse.set(mockedDataKey, "v1");
-		assertEquals("version-from-provider1", domainResponse.get(mockedDataKey));
+		assertEquals("v1", domainResponse.get(mockedDataKey));
 
 		domainResponse.set(mockedDataKey, "v2");
-		assertEquals("version-from-provider2", domainResponse.get(mockedDataKey));
+		assertEquals("v2", domainResponse.get(mockedDataKey));
 
 		domainResponse.set(mockedDataKey, null);
 		assertEquals(null, domainResponse.get(mockedDataKey));
+
+		verify(mockedProvider, never()).getString(any());
+		verify(mockedProvider, never()).get(any());
 	}
 
 	@Test
-	public void a_failed_response_with_added_keys_contains_still_data_from_provider() {
+	public void response_string_representation_is_created_by_provider_only_once_and_on_demand() {
 		/* prepare */
-		when(mockedProvider.get("xv1")).thenReturn("v1.0");
 		when(mockedProvider.getString("v1")).thenReturn("xv1");
+		DomainMessageSynchronousResult domainResponse = new DomainMessageSynchronousResult(null);
+		domainResponse.set(mockedDataKey, "v1");
 
+		/* execute */
+		String raw1 = domainResponse.getRaw("id");
+		String raw2 = domainResponse.getParametersAsStrings().get("id");
+
+		/* test */
+		assertEquals("xv1", raw1);
+		assertEquals("xv1", raw2);
+		verify(mockedProvider, times(1)).getString("v1");
+	}
+
+	@Test
+	public void a_failed_response_with_added_keys_contains_still_data_from_provider() {
+		/* prepare */
 		DomainMessageSynchronousResult response = new DomainMessageSynchronousResult(null, new RuntimeException());
 		response.set(mockedDataKey, "v1");
 
 		/* execute + test */
-		assertEquals("v1.0", response.get(mockedDataKey));
+		assertEquals("v1", response.get(mockedDataKey));
 		assertTrue(response.hasFailed());
 		;
 	}
@@ -0,0 +1,210 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ZipStreamStructureValidatorTest {
+
+    private ZipStreamStructureValidator validatorToTest;
+
+    @Before
+    public void before() {
+        validatorToTest = new ZipStreamStructureValidator();
+    }
+
+    @Test
+    public void zip_file_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8));
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertTrue(validatorToTest.isValidZipStructure());
+        assertEquals(zip.length, validatorToTest.getLength());
+    }
+
+    @Test
+    public void zip_file_with_comment_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip("a comment", "content".getBytes(StandardCharsets.UTF_8));
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertTrue(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void big_zip_file_given_in_chunks_and_single_bytes_is_valid() throws Exception {
+        /* prepare */
+        byte[] content = new byte[3 * ZipStreamStructureValidator.MAX_TAIL_LENGTH];
+        new Random(42).nextBytes(content);
+        byte[] zip = createZip(null, content);
+
+        /* execute */
+        int pos = 0;
+        while (pos < zip.length - 10) {
+            int len = Math.min(1000, zip.length - 10 - pos);
+            validatorToTest.update(zip, pos, len);
+            pos += len;
+        }
+        while (pos < zip.length) {
+            validatorToTest.update(zip[pos++]);
+        }
+
+        /* test */
+        assertTrue(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void text_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] text = "i am not a zip file, but a simple text...".getBytes(StandardCharsets.UTF_8);
+
+        /* execute */
+        validatorToTest.update(text, 0, text.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void truncated_zip_file_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8));
+        byte[] truncated = Arrays.copyOf(zip, zip.length - 5);
+
+        /* execute */
+        validatorToTest.update(truncated, 0, truncated.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void zip_file_with_many_entries_given_in_single_bytes_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8), 50);
+
+        /* execute */
+        for (byte b : zip) {
+            validatorToTest.update(b);
+        }
+
+        /* test */
+        assertTrue(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void empty_zip_file_is_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, null, 0);
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertTrue(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void zip_file_with_removed_data_but_valid_trailing_end_of_central_directory_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content-content-content".getBytes(StandardCharsets.UTF_8));
+        /* remove some bytes of first entry data - tail with central directory and end record stays intact */
+        byte[] shortened = new byte[zip.length - 5];
+        System.arraycopy(zip, 0, shortened, 0, 35);
+        System.arraycopy(zip, 40, shortened, 35, zip.length - 40);
+
+        /* execute */
+        validatorToTest.update(shortened, 0, shortened.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void zip_file_with_corrupted_central_directory_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8), 2);
+        int centralDirectoryOffset = readInt(zip, zip.length - 22 + 16);
+        /* break name length of first central directory record - record no longer ends where next one starts */
+        zip[centralDirectoryOffset + 28] = (byte) (zip[centralDirectoryOffset + 28] + 3);
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void zip_file_with_overwritten_central_directory_signature_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8), 2);
+        int centralDirectoryOffset = readInt(zip, zip.length - 22 + 16);
+        zip[centralDirectoryOffset] = 0;
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void zip_file_with_wrong_entry_count_in_end_of_central_directory_is_not_valid() throws Exception {
+        /* prepare */
+        byte[] zip = createZip(null, "content".getBytes(StandardCharsets.UTF_8), 2);
+        /* entries on disk and total entries */
+        zip[zip.length - 22 + 8] = 3;
+        zip[zip.length - 22 + 10] = 3;
+
+        /* execute */
+        validatorToTest.update(zip, 0, zip.length);
+
+        /* test */
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    @Test
+    public void nothing_is_not_valid() throws Exception {
+        assertFalse(validatorToTest.isValidZipStructure());
+    }
+
+    private byte[] createZip(String comment, byte[] content) throws Exception {
+        return createZip(comment, content, 1);
+    }
+
+    private byte[] createZip(String comment, byte[] content, int amountOfEntries) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            if (comment != null) {
+                zipOut.setComment(comment);
+            }
+            for (int i = 1; i <= amountOfEntries; i++) {
+                zipOut.putNextEntry(new ZipEntry("file" + i + ".txt"));
+                zipOut.write(content);
+                zipOut.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private int readInt(byte[] bytes, int pos) {
+        return (bytes[pos] & 0xFF) | ((bytes[pos + 1] & 0xFF) << 8) | ((bytes[pos + 2] & 0xFF) << 16) | ((bytes[pos + 3] & 0xFF) << 24);
+    }
+}
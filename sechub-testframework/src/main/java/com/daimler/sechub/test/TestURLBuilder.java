@@ -534,6 +534,10 @@ public class TestURLBuilder {
         return buildUrl(API_ADMIN, "info/version");
     }
 
+    public String buildGetServerMessagingStatisticsUrl() {
+        return buildUrl(API_ADMIN, "info/messaging");
+    }
+
     /* +-----------------------------------------------------------------------+ */
     /* +............................ integration test special (from user) .....+ */
     /* +-----------------------------------------------------------------------+ */